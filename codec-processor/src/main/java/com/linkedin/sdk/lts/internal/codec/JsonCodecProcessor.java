@@ -0,0 +1,582 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+
+
+/**
+ * Generates the streaming codec of every class annotated with {@code @JsonCodec}. The codec of
+ * {@code Model} is written to {@code ModelJsonCodec} in the same package, and implements
+ * {@code GeneratedCodec} with a Jackson serializer and deserializer that read and write the
+ * properties with the parser and generator directly.
+ *
+ * <p>Only models whose JSON form follows from their fields are accepted, so that the generated codec
+ * writes exactly what Jackson would. Anything else is reported as a compilation error rather than
+ * silently handled differently.</p>
+ */
+@SupportedAnnotationTypes(JsonCodecProcessor.JSON_CODEC)
+public class JsonCodecProcessor extends AbstractProcessor {
+
+  static final String JSON_CODEC = "com.linkedin.sdk.lts.internal.codec.JsonCodec";
+
+  private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+  private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+  private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+  private static final String LOMBOK_DATA = "lombok.Data";
+  private static final String LOMBOK_NO_ARGS_CONSTRUCTOR = "lombok.NoArgsConstructor";
+  private static final String LOMBOK_GETTER = "lombok.Getter";
+  private static final String LOMBOK_SETTER = "lombok.Setter";
+
+  /**
+   * How a property value is read and written.
+   */
+  private enum Kind {
+    STRING("String", "readString"),
+    INT("int", "readInt"),
+    INTEGER("Integer", "readInteger"),
+    LONG("long", "readLong"),
+    LONG_OBJECT("Long", "readLongObject"),
+    DOUBLE("double", "readDouble"),
+    DOUBLE_OBJECT("Double", "readDoubleObject"),
+    BOOLEAN("boolean", "readBoolean"),
+    BOOLEAN_OBJECT("Boolean", "readBooleanObject"),
+    /** Any other value, handed to Jackson. */
+    VALUE(null, null);
+
+    private final String typeName;
+    private final String reader;
+
+    Kind(String typeName, String reader) {
+      this.typeName = typeName;
+      this.reader = reader;
+    }
+
+    boolean isPrimitive() {
+      return this == INT || this == LONG || this == DOUBLE || this == BOOLEAN;
+    }
+  }
+
+  /**
+   * A property of a model.
+   */
+  private static final class Property {
+    private final String jsonName;
+    private final String fieldName;
+    private final String getter;
+    private final String setter;
+    private final Kind kind;
+    private final TypeMirror type;
+
+    Property(String jsonName, String fieldName, String getter, String setter, Kind kind, TypeMirror type) {
+      this.jsonName = jsonName;
+      this.fieldName = fieldName;
+      this.getter = getter;
+      this.setter = setter;
+      this.kind = kind;
+      this.type = type;
+    }
+
+    String constant() {
+      return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+  }
+
+  /**
+   * Thrown when a model cannot be given a generated codec.
+   */
+  private static final class InvalidModelException extends Exception {
+    private final Element element;
+
+    InvalidModelException(Element element, String message) {
+      super(message);
+      this.element = element;
+    }
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement jsonCodec = processingEnv.getElementUtils().getTypeElement(JSON_CODEC);
+    if (jsonCodec == null) {
+      return false;
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(jsonCodec)) {
+      try {
+        TypeElement model = validateModel(element);
+        writeCodec(model, collectProperties(model));
+      } catch (InvalidModelException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+            "@JsonCodec: " + e.getMessage(), e.element);
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+            "@JsonCodec: could not write the codec: " + e.getMessage(), element);
+      }
+    }
+    return true;
+  }
+
+  private TypeElement validateModel(Element element) throws InvalidModelException {
+    if (element.getKind() != ElementKind.CLASS) {
+      throw new InvalidModelException(element, "only classes can have a generated codec");
+    }
+    TypeElement model = (TypeElement) element;
+    Set<Modifier> modifiers = model.getModifiers();
+    if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)
+        || (model.getNestingKind() != NestingKind.TOP_LEVEL && !modifiers.contains(Modifier.STATIC))) {
+      throw new InvalidModelException(model, "the model must be a public concrete top-level or static nested class");
+    }
+    if (!model.getTypeParameters().isEmpty()) {
+      throw new InvalidModelException(model, "generic models are not supported");
+    }
+    if (!isObject(model.getSuperclass())) {
+      throw new InvalidModelException(model, "models extending another class are not supported");
+    }
+    if (!hasAnnotation(model, LOMBOK_NO_ARGS_CONSTRUCTOR) && !hasNoArgsConstructor(model)) {
+      throw new InvalidModelException(model, "the model needs a no-argument constructor");
+    }
+    rejectJacksonAnnotations(model);
+    return model;
+  }
+
+  private List<Property> collectProperties(TypeElement model) throws InvalidModelException {
+    List<Property> properties = new ArrayList<>();
+    Set<String> accessors = new HashSet<>();
+    for (Element member : model.getEnclosedElements()) {
+      if (member.getKind() != ElementKind.FIELD || member.getModifiers().contains(Modifier.STATIC)) {
+        continue;
+      }
+      VariableElement field = (VariableElement) member;
+      String fieldName = field.getSimpleName().toString();
+      String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+      String getter = (field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalized;
+      String setter = "set" + capitalized;
+      accessors.add(getter);
+      accessors.add(setter);
+      if (hasAnnotation(field, JSON_IGNORE)) {
+        continue;
+      }
+      if (field.getModifiers().contains(Modifier.TRANSIENT) || field.getModifiers().contains(Modifier.FINAL)) {
+        throw new InvalidModelException(field, "transient and final fields are not supported");
+      }
+      rejectJacksonAnnotations(field, JSON_PROPERTY);
+      if (hasAnnotation(field, LOMBOK_GETTER) || hasAnnotation(field, LOMBOK_SETTER)) {
+        // Jackson can still write a field whose setter is suppressed, the generated codec cannot
+        throw new InvalidModelException(field, "fields with their own @Getter or @Setter are not supported");
+      }
+
+      String jsonName = jsonPropertyName(field);
+      if (jsonName == null) {
+        // Jackson names properties after their getter, which only matches the field name when it
+        // does not start with two capitals
+        if (!Character.isLowerCase(fieldName.charAt(0))
+            || (fieldName.length() > 1 && Character.isUpperCase(fieldName.charAt(1)))) {
+          throw new InvalidModelException(field, "the property name of this field needs an explicit @JsonProperty");
+        }
+        jsonName = fieldName;
+      }
+      properties.add(new Property(jsonName, fieldName, getter, setter, kindOf(field), field.asType()));
+    }
+
+    // Hand-written accessors that do not belong to a field would add properties Jackson sees and
+    // the generated codec does not
+    Set<String> methods = new HashSet<>();
+    for (Element member : model.getEnclosedElements()) {
+      if (member.getKind() != ElementKind.METHOD || member.getModifiers().contains(Modifier.STATIC)) {
+        continue;
+      }
+      ExecutableElement method = (ExecutableElement) member;
+      String name = method.getSimpleName().toString();
+      methods.add(name);
+      if (accessors.contains(name)) {
+        // Lombok copies @JsonProperty onto the accessors it generates
+        rejectJacksonAnnotations(method, JSON_PROPERTY, JSON_IGNORE);
+        continue;
+      }
+      rejectJacksonAnnotations(method);
+      boolean accessor = (name.startsWith("get") && name.length() > 3 && method.getParameters().isEmpty())
+          || (name.startsWith("is") && name.length() > 2 && method.getParameters().isEmpty())
+          || (name.startsWith("set") && name.length() > 3 && method.getParameters().size() == 1);
+      if (accessor && method.getModifiers().contains(Modifier.PUBLIC)) {
+        throw new InvalidModelException(method, "accessors without a backing field are not supported");
+      }
+    }
+
+    // @Data may already have been replaced by the accessors it generates if Lombok ran first
+    if (!hasAnnotation(model, LOMBOK_DATA)) {
+      for (Property property : properties) {
+        if (!methods.contains(property.getter) || !methods.contains(property.setter)) {
+          throw new InvalidModelException(model, "the model must be annotated with @Data");
+        }
+      }
+    }
+    return properties;
+  }
+
+  private Kind kindOf(VariableElement field) throws InvalidModelException {
+    TypeMirror type = field.asType();
+    switch (type.getKind()) {
+      case INT:
+        return Kind.INT;
+      case LONG:
+        return Kind.LONG;
+      case DOUBLE:
+        return Kind.DOUBLE;
+      case BOOLEAN:
+        return Kind.BOOLEAN;
+      case DECLARED:
+        String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        switch (name) {
+          case "java.lang.String":
+            return Kind.STRING;
+          case "java.lang.Integer":
+            return Kind.INTEGER;
+          case "java.lang.Long":
+            return Kind.LONG_OBJECT;
+          case "java.lang.Double":
+            return Kind.DOUBLE_OBJECT;
+          case "java.lang.Boolean":
+            return Kind.BOOLEAN_OBJECT;
+          default:
+            return Kind.VALUE;
+        }
+      case ARRAY:
+        return Kind.VALUE;
+      default:
+        throw new InvalidModelException(field, "fields of type " + type + " are not supported");
+    }
+  }
+
+  private void writeCodec(TypeElement model, List<Property> properties) throws IOException, InvalidModelException {
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(model);
+    String packageName = packageElement.getQualifiedName().toString();
+    // The codec shares the package of the model, so the model is named relative to it
+    String modelName = model.getQualifiedName().toString().substring(packageName.length() + 1);
+    String codecName = modelName.replace('.', '_') + "JsonCodec";
+    List<Property> values = properties.stream().filter(p -> p.kind == Kind.VALUE).collect(Collectors.toList());
+    List<String> ignored = new ArrayList<>();
+    for (Element member : model.getEnclosedElements()) {
+      if (member.getKind() == ElementKind.FIELD && hasAnnotation(member, JSON_IGNORE)) {
+        ignored.add(member.getSimpleName().toString());
+      }
+    }
+    // Resolved before anything is written, so that a rejected type leaves no partial source behind
+    List<String> typeExpressions = new ArrayList<>();
+    for (Property property : values) {
+      typeExpressions.add(javaType(property.type, model));
+    }
+
+    try (PrintWriter out = new PrintWriter(
+        processingEnv.getFiler().createSourceFile(packageName + "." + codecName, model).openWriter())) {
+      out.println("package " + packageName + ";");
+      out.println();
+      out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+      out.println("import com.fasterxml.jackson.core.JsonParser;");
+      out.println("import com.fasterxml.jackson.core.JsonToken;");
+      out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+      out.println("import com.fasterxml.jackson.databind.DeserializationContext;");
+      out.println("import com.fasterxml.jackson.databind.JsonDeserializer;");
+      out.println("import com.fasterxml.jackson.databind.JsonMappingException;");
+      out.println("import com.fasterxml.jackson.databind.JsonSerializer;");
+      out.println("import com.fasterxml.jackson.databind.SerializerProvider;");
+      out.println("import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;");
+      out.println("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;");
+      out.println("import com.fasterxml.jackson.databind.ser.std.StdSerializer;");
+      out.println("import com.fasterxml.jackson.databind.type.TypeFactory;");
+      out.println("import com.linkedin.sdk.lts.internal.codec.GeneratedCodec;");
+      out.println("import com.linkedin.sdk.lts.internal.codec.JsonCodecSupport;");
+      out.println("import java.io.IOException;");
+      out.println();
+      out.println();
+      out.println("/**");
+      out.println(" * Streaming JSON codec of {@link " + modelName + "}, generated from its fields.");
+      out.println(" */");
+      out.println("public final class " + codecName + " implements GeneratedCodec<" + modelName + "> {");
+      out.println();
+      for (Property property : properties) {
+        out.println("  private static final SerializedString " + property.constant()
+            + " = new SerializedString(\"" + escape(property.jsonName) + "\");");
+      }
+      if (!properties.isEmpty()) {
+        out.println();
+      }
+      out.println("  @Override");
+      out.println("  public JsonSerializer<" + modelName + "> serializer() {");
+      out.println("    return new Serializer();");
+      out.println("  }");
+      out.println();
+      out.println("  @Override");
+      out.println("  public JsonDeserializer<" + modelName + "> deserializer() {");
+      out.println("    return new Deserializer();");
+      out.println("  }");
+      out.println();
+
+      out.println("  private static final class Serializer extends StdSerializer<" + modelName + "> {");
+      out.println();
+      out.println("    Serializer() {");
+      out.println("      super(" + modelName + ".class);");
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    public void serialize(" + modelName + " value, JsonGenerator gen, SerializerProvider provider)");
+      out.println("        throws IOException {");
+      out.println("      gen.writeStartObject(value);");
+      for (Property property : properties) {
+        writeSerialization(out, property);
+      }
+      out.println("      gen.writeEndObject();");
+      out.println("    }");
+      out.println("  }");
+      out.println();
+
+      out.println("  private static final class Deserializer extends StdDeserializer<" + modelName + ">");
+      out.println("      implements ResolvableDeserializer {");
+      out.println();
+      for (Property property : values) {
+        out.println("    private JsonDeserializer<Object> " + property.fieldName + "Deserializer;");
+      }
+      if (!values.isEmpty()) {
+        out.println();
+      }
+      out.println("    Deserializer() {");
+      out.println("      super(" + modelName + ".class);");
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    public boolean isCachable() {");
+      out.println("      return true;");
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    public void resolve(DeserializationContext ctxt) throws JsonMappingException {");
+      if (!values.isEmpty()) {
+        out.println("      TypeFactory tf = ctxt.getTypeFactory();");
+      }
+      for (int i = 0; i < values.size(); i++) {
+        out.println("      " + values.get(i).fieldName + "Deserializer = ctxt.findContextualValueDeserializer(");
+        out.println("          " + typeExpressions.get(i) + ", null);");
+      }
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    @SuppressWarnings(\"unchecked\")");
+      out.println("    public " + modelName + " deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {");
+      out.println("      JsonToken token = p.currentToken();");
+      out.println("      if (token == JsonToken.START_OBJECT) {");
+      out.println("        token = p.nextToken();");
+      out.println("      } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {");
+      out.println("        return (" + modelName + ") ctxt.handleUnexpectedToken(" + modelName + ".class, p);");
+      out.println("      }");
+      out.println("      " + modelName + " value = new " + modelName + "();");
+      out.println("      for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {");
+      out.println("        String name = p.currentName();");
+      out.println("        p.nextToken();");
+      out.println("        switch (name) {");
+      for (Property property : properties) {
+        out.println("          case \"" + escape(property.jsonName) + "\":");
+        if (property.kind == Kind.VALUE) {
+          out.println("            value." + property.setter + "((" + typeName(property.type) + ") JsonCodecSupport.readValue(p, ctxt, "
+              + property.fieldName + "Deserializer));");
+        } else {
+          out.println("            value." + property.setter + "(JsonCodecSupport." + property.kind.reader + "(p, ctxt));");
+        }
+        out.println("            break;");
+      }
+      for (String name : ignored) {
+        out.println("          case \"" + escape(name) + "\":");
+        out.println("            p.skipChildren();");
+        out.println("            break;");
+      }
+      out.println("          default:");
+      out.println("            ctxt.handleUnknownProperty(p, this, " + modelName + ".class, name);");
+      out.println("        }");
+      out.println("      }");
+      out.println("      return value;");
+      out.println("    }");
+      out.println("  }");
+      out.println("}");
+    }
+  }
+
+  private static void writeSerialization(PrintWriter out, Property property) {
+    String read = "value." + property.getter + "()";
+    if (property.kind.isPrimitive()) {
+      out.println("      gen.writeFieldName(" + property.constant() + ");");
+      out.println("      gen." + (property.kind == Kind.BOOLEAN ? "writeBoolean" : "writeNumber") + "(" + read + ");");
+      return;
+    }
+    String type = property.kind == Kind.VALUE ? typeName(property.type) : property.kind.typeName;
+    String local = property.fieldName + "Value";
+    String write;
+    switch (property.kind) {
+      case STRING:
+        write = "gen.writeString(" + local + ");";
+        break;
+      case INTEGER:
+        write = "gen.writeNumber(" + local + ".intValue());";
+        break;
+      case LONG_OBJECT:
+        write = "gen.writeNumber(" + local + ".longValue());";
+        break;
+      case DOUBLE_OBJECT:
+        write = "gen.writeNumber(" + local + ".doubleValue());";
+        break;
+      case BOOLEAN_OBJECT:
+        write = "gen.writeBoolean(" + local + ".booleanValue());";
+        break;
+      default:
+        write = "provider.defaultSerializeValue(" + local + ", gen);";
+    }
+    out.println("      " + type + " " + local + " = " + read + ";");
+    out.println("      if (" + local + " != null) {");
+    out.println("        gen.writeFieldName(" + property.constant() + ");");
+    out.println("        " + write);
+    out.println("      }");
+  }
+
+  /**
+   * @return an expression building the Jackson {@code JavaType} of a type with {@code tf}
+   */
+  private String javaType(TypeMirror type, Element owner) throws InvalidModelException {
+    switch (type.getKind()) {
+      case DECLARED:
+        DeclaredType declared = (DeclaredType) type;
+        String raw = ((TypeElement) declared.asElement()).getQualifiedName() + ".class";
+        if (declared.getTypeArguments().isEmpty()) {
+          return "tf.constructType(" + raw + ")";
+        }
+        List<String> arguments = new ArrayList<>();
+        for (TypeMirror argument : declared.getTypeArguments()) {
+          arguments.add(javaType(argument, owner));
+        }
+        return "tf.constructParametricType(" + raw + ", " + String.join(", ", arguments) + ")";
+      case WILDCARD:
+        TypeMirror bound = ((WildcardType) type).getExtendsBound();
+        return bound == null ? "tf.constructType(Object.class)" : javaType(bound, owner);
+      case ARRAY:
+        return "tf.constructArrayType(" + javaType(((ArrayType) type).getComponentType(), owner) + ")";
+      default:
+        if (type.getKind().isPrimitive()) {
+          return "tf.constructType(" + type.getKind().name().toLowerCase() + ".class)";
+        }
+        throw new InvalidModelException(owner, "properties of type " + type + " are not supported");
+    }
+  }
+
+  /**
+   * @return the source form of a type, without the type annotations {@code toString()} would keep
+   */
+  private static String typeName(TypeMirror type) {
+    switch (type.getKind()) {
+      case DECLARED:
+        DeclaredType declared = (DeclaredType) type;
+        String raw = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        if (declared.getTypeArguments().isEmpty()) {
+          return raw;
+        }
+        List<String> arguments = new ArrayList<>();
+        for (TypeMirror argument : declared.getTypeArguments()) {
+          arguments.add(typeName(argument));
+        }
+        return raw + "<" + String.join(", ", arguments) + ">";
+      case WILDCARD:
+        WildcardType wildcard = (WildcardType) type;
+        if (wildcard.getExtendsBound() != null) {
+          return "? extends " + typeName(wildcard.getExtendsBound());
+        }
+        return wildcard.getSuperBound() != null ? "? super " + typeName(wildcard.getSuperBound()) : "?";
+      case ARRAY:
+        return typeName(((ArrayType) type).getComponentType()) + "[]";
+      default:
+        return type.getKind().name().toLowerCase();
+    }
+  }
+
+  private static void rejectJacksonAnnotations(Element element, String... allowed) throws InvalidModelException {
+    List<String> allowedNames = Arrays.asList(allowed);
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      String name = annotationName(annotation);
+      if (name.startsWith(JACKSON_PACKAGE) && !allowedNames.contains(name)) {
+        throw new InvalidModelException(element, "@" + name + " is not supported by generated codecs");
+      }
+    }
+  }
+
+  private static String jsonPropertyName(Element field) {
+    for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+      if (annotationName(annotation).equals(JSON_PROPERTY)) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : annotation.getElementValues().entrySet()) {
+          if (entry.getKey().getSimpleName().contentEquals("value")) {
+            String name = entry.getValue().getValue().toString();
+            return name.isEmpty() ? null : name;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasAnnotation(Element element, String annotationName) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      if (annotationName(annotation).equals(annotationName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String annotationName(AnnotationMirror annotation) {
+    return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+  }
+
+  private static boolean hasNoArgsConstructor(TypeElement model) {
+    for (Element member : model.getEnclosedElements()) {
+      if (member.getKind() == ElementKind.CONSTRUCTOR
+          && ((ExecutableElement) member).getParameters().isEmpty()
+          && member.getModifiers().contains(Modifier.PUBLIC)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isObject(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED
+        && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.lang.Object");
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+}
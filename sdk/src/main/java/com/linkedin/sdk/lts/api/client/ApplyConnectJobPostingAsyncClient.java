@@ -0,0 +1,22 @@
+package com.linkedin.sdk.lts.api.client;
+
+import com.linkedin.sdk.lts.api.model.request.applyconnect.jobApplicationNotification.JobApplicationNotificationRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Asynchronous counterpart of {@link ApplyConnectJobPostingClient}.
+ * Futures complete exceptionally with the exceptions documented on {@link ApplyConnectJobPostingClient}.
+ */
+public interface ApplyConnectJobPostingAsyncClient extends JobPostingAsyncClient {
+
+  /**
+   * Synchronizes job application notifications with LinkedIn's ApplyConnect API.
+   *
+   * @param jobApplicationNotificationRequest the request containing job application notification data
+   * @return a future completing once the notification has been accepted
+   */
+  CompletableFuture<APIResponse<Void>> syncJobApplicationNotificationAsync(
+      JobApplicationNotificationRequest jobApplicationNotificationRequest);
+}
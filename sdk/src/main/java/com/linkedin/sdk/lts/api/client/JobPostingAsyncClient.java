@@ -0,0 +1,61 @@
+package com.linkedin.sdk.lts.api.client;
+
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobpostingstatus.JobPostingStatusResponse;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Asynchronous counterpart of {@link JobPostingClient}.
+ *
+ * <p>Every method returns immediately. The returned future completes with the API response, or
+ * exceptionally with the exception the matching {@link JobPostingClient} method would have thrown
+ * (for example {@link com.linkedin.sdk.lts.api.exception.LinkedInApiException} or
+ * {@link IllegalArgumentException}).</p>
+ */
+public interface JobPostingAsyncClient {
+
+  /**
+   * JobPosting Request of type Create, Update, Close, Renew
+   *
+   * @param jobPostingRequest the JobPostingRequest containing the job posting data
+   * @return a future completing with the API response
+   */
+  CompletableFuture<APIResponse<JobPostingResponse>> processJobPostingAsync(JobPostingRequest jobPostingRequest);
+
+  /**
+   * Get the status of a single job posting task.
+   *
+   * @param taskId the ID of the job posting task to check
+   * @return a future completing with the task status information
+   */
+  CompletableFuture<APIResponse<JobTaskStatusResponse>> getTaskStatusAsync(String taskId);
+
+  /**
+   * Get the status of multiple job posting tasks.
+   *
+   * @param taskIds a list of task IDs to check
+   * @return a future completing with the tasks status information
+   */
+  CompletableFuture<APIResponse<JobTaskStatusResponse>> getTaskStatusAsync(List<String> taskIds);
+
+  /**
+   * Get the status of a single job posting.
+   *
+   * @param jobPostingId the ID of the job posting to check
+   * @return a future completing with the job posting status information
+   */
+  CompletableFuture<APIResponse<JobPostingStatusResponse>> getJobPostingStatusAsync(String jobPostingId);
+
+  /**
+   * Get the status of multiple job postings.
+   *
+   * @param jobPostingIds a list of external job posting IDs to check
+   * @return a future completing with the job posting status information
+   */
+  CompletableFuture<APIResponse<JobPostingStatusResponse>> getJobPostingStatusAsync(List<String> jobPostingIds);
+}
@@ -0,0 +1,255 @@
+package com.linkedin.sdk.lts.api.client;
+
+import com.linkedin.sdk.lts.internal.auth.AuthConfig;
+import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
+import com.linkedin.sdk.lts.internal.client.P4PJobPostingClientImpl;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClientConfig;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpTransport;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.LinkedInHttpClient;
+import com.linkedin.sdk.lts.internal.client.ApplyConnectJobPostingClientImpl;
+import com.linkedin.sdk.lts.internal.client.JobPostingClientImpl;
+import com.linkedin.sdk.lts.internal.client.ProvisioningClientImpl;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RetryConfig;
+import java.util.logging.Logger;
+
+import static com.linkedin.sdk.lts.internal.constants.LinkedInApiConstants.*;
+
+/**
+ * Public Factory for creating and managing LinkedIn API client instances.
+ * Ensures only one client of each type exists per unique clientId/clientSecret pair.
+ */
+public class LinkedInClientFactory {
+
+  private static final Logger LOGGER = Logger.getLogger(LinkedInClientFactory.class.getName());
+  private static final String HTTP2_CLIENT_CLASS =
+      "com.linkedin.sdk.lts.internal.client.linkedinclient.Http2LinkedInHttpClient";
+
+  private static final LinkedInClientFactory INSTANCE = new LinkedInClientFactory();
+  private final HttpClient httpClient;
+  private final AuthConfig authConfig;
+  private final int maxUrlLength;
+
+
+  /**
+   * Private constructor to prevent instantiation.
+   * Use getInstance() to obtain the singleton instance.
+   */
+  private LinkedInClientFactory() {
+    this(HttpClientConfig.builder().retryConfig(RetryConfig.builder().build()).build());
+  }
+
+  /**
+   * Creates a factory whose clients share a transport built from the given configuration.
+   *
+   * @param httpClientConfig the transport configuration
+   */
+  private LinkedInClientFactory(HttpClientConfig httpClientConfig) {
+    this(httpClientConfig, AuthConfig.builder().build());
+  }
+
+  /**
+   * Creates a factory whose clients share a transport and manage their tokens as configured.
+   *
+   * @param httpClientConfig the transport configuration
+   * @param authConfig the token management configuration
+   */
+  private LinkedInClientFactory(HttpClientConfig httpClientConfig, AuthConfig authConfig) {
+    httpClient = createHttpClient(httpClientConfig);
+    this.authConfig = authConfig;
+    this.maxUrlLength = httpClientConfig.getMaxUrlLength();
+  }
+
+  /**
+   * Builds the transport for the configured {@link HttpTransport}. The HTTP/2 transport ships as a
+   * Java 11 class in the multi-release jar, so it is loaded reflectively and the HTTP/1.1 transport
+   * is used when the runtime cannot load it.
+   *
+   * @param httpClientConfig the transport configuration
+   * @return the transport shared by the clients of the factory
+   */
+  static HttpClient createHttpClient(HttpClientConfig httpClientConfig) {
+    if (httpClientConfig.getTransport() == HttpTransport.HTTP_2) {
+      try {
+        return (HttpClient) Class.forName(HTTP2_CLIENT_CLASS)
+            .getConstructor(HttpClientConfig.class)
+            .newInstance(httpClientConfig);
+      } catch (ReflectiveOperationException | LinkageError e) {
+        LOGGER.warning("HTTP/2 transport requires Java 11 or later, falling back to HTTP/1.1: " + e);
+      }
+    }
+    return new LinkedInHttpClient(httpClientConfig);
+  }
+
+  /**
+   * Gets the singleton instance of LinkedInClientFactory.
+   *
+   * @return the singleton instance
+   */
+  public static LinkedInClientFactory getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Creates a new LinkedInClientFactory with a custom transport configuration, for example to
+   * tune the connection pool size. Clients obtained from the returned factory share one transport,
+   * so the factory should be created once and reused.
+   *
+   * @param httpClientConfig the transport configuration
+   * @return a new factory instance
+   */
+  public static LinkedInClientFactory newInstance(HttpClientConfig httpClientConfig) {
+    if (httpClientConfig == null) {
+      throw new IllegalArgumentException("HttpClientConfig cannot be null");
+    }
+    return new LinkedInClientFactory(httpClientConfig);
+  }
+
+  /**
+   * Creates a new LinkedInClientFactory with a custom transport and token management
+   * configuration, for example to refresh access tokens in the background. The token management
+   * configuration applies to the credentials first used through the returned factory.
+   *
+   * @param httpClientConfig the transport configuration
+   * @param authConfig the token management configuration
+   * @return a new factory instance
+   */
+  public static LinkedInClientFactory newInstance(HttpClientConfig httpClientConfig, AuthConfig authConfig) {
+    if (httpClientConfig == null) {
+      throw new IllegalArgumentException("HttpClientConfig cannot be null");
+    }
+    if (authConfig == null) {
+      throw new IllegalArgumentException("AuthConfig cannot be null");
+    }
+    return new LinkedInClientFactory(httpClientConfig, authConfig);
+  }
+
+  /**
+   * Creates a JobPostingClient for the given credentials.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return JobPostingClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized JobPostingClient getJobPostingClient(String clientId, String clientSecret) {
+    return new JobPostingClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient, maxUrlLength);
+  }
+
+  /**
+   * Creates a P4PJobPostingClient for the given credentials.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return JobPostingClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized P4PJobPostingClient getP4PJobPostingClient(String clientId, String clientSecret) {
+    return new P4PJobPostingClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient, maxUrlLength);
+  }
+
+  /**
+   * Creates a ApplyConnectJobPostingClient for the given credentials.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return JobPostingClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized ApplyConnectJobPostingClient getApplyConnectJobPostingClient(String clientId, String clientSecret) {
+    return new ApplyConnectJobPostingClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient, maxUrlLength);
+  }
+
+  /**
+   * Creates a provisioning clients for the given credentials.
+   * Provisioning clients are used to manage LinkedIn applications and their configurations.
+   * Pass parent application credentials to this method to create a client that can manage applications.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return JobPostingClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized ProvisioningClient getProvisioningClient(String clientId, String clientSecret) {
+    return new ProvisioningClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient);
+  }
+
+  /**
+   * Creates a JobPostingAsyncClient for the given credentials.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return JobPostingAsyncClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  public synchronized JobPostingAsyncClient getJobPostingAsyncClient(String clientId, String clientSecret) {
+    return new JobPostingClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient, maxUrlLength);
+  }
+
+  /**
+   * Creates a P4PJobPostingAsyncClient for the given credentials.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return P4PJobPostingAsyncClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  public synchronized P4PJobPostingAsyncClient getP4PJobPostingAsyncClient(String clientId, String clientSecret) {
+    return new P4PJobPostingClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient, maxUrlLength);
+  }
+
+  /**
+   * Creates an ApplyConnectJobPostingAsyncClient for the given credentials.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return ApplyConnectJobPostingAsyncClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  public synchronized ApplyConnectJobPostingAsyncClient getApplyConnectJobPostingAsyncClient(String clientId,
+      String clientSecret) {
+    return new ApplyConnectJobPostingClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient, maxUrlLength);
+  }
+
+  /**
+   * Creates a ProvisioningAsyncClient for the given parent application credentials.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return ProvisioningAsyncClient instance for the given credentials
+   * @throws IllegalArgumentException if clientId or clientSecret is null or empty
+   */
+  public synchronized ProvisioningAsyncClient getProvisioningAsyncClient(String clientId, String clientSecret) {
+    return new ProvisioningClientImpl(buildOAuth2Config(clientId, clientSecret), httpClient);
+  }
+
+  /**
+   * Builds an OAuth2Config object with the provided client ID and client secret.
+   *
+   * @param clientId the OAuth 2.0 client ID
+   * @param clientSecret the OAuth 2.0 client secret
+   * @return an OAuth2Config instance configured with the provided credentials
+   * @throws IllegalArgumentException if either clientId or clientSecret is null or empty
+   */
+  private OAuth2Config buildOAuth2Config(String clientId, String clientSecret) {
+    if (clientId == null || clientId.isEmpty()) {
+      throw new IllegalArgumentException("Client ID cannot be null or empty");
+    }
+    if (clientSecret == null || clientSecret.isEmpty()) {
+      throw new IllegalArgumentException("Client Secret cannot be null or empty");
+    }
+
+    return OAuth2Config.builder()
+        .clientId(clientId)
+        .clientSecret(clientSecret)
+        .tokenUrl(LINKEDIN_ACCESS_TOKEN_URL)
+        .tokenRefreshConfig(authConfig.getTokenRefreshConfig())
+        .tokenManager(authConfig.getTokenManager())
+        .tokenStore(authConfig.getTokenStore())
+        .build();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.linkedin.sdk.lts.api.client;
+
+import com.linkedin.sdk.lts.api.model.request.p4pjobposting.P4PJobReportsRequestByDate;
+import com.linkedin.sdk.lts.api.model.request.p4pjobposting.P4PJobReportsRequestByIds;
+import com.linkedin.sdk.lts.api.model.request.p4pjobposting.P4PProvisionCustomerHiringContractsRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PBudgetReportResponse;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PProvisionCustomerHiringContractsResponse;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PReportResponseByDate;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PReportResponseByIds;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Asynchronous counterpart of {@link P4PJobPostingClient}.
+ * Futures complete exceptionally with the exceptions documented on {@link P4PJobPostingClient}.
+ */
+public interface P4PJobPostingAsyncClient extends JobPostingAsyncClient {
+
+  /**
+   * Provision customer hiring contracts for Pay for Performance (P4P).
+   *
+   * @param p4PProvisionCustomerHiringContractsRequest the request containing contract details
+   * @return a future completing with the result of the operation
+   */
+  CompletableFuture<APIResponse<P4PProvisionCustomerHiringContractsResponse>> provisionCustomerHiringContractsAsync(
+      P4PProvisionCustomerHiringContractsRequest p4PProvisionCustomerHiringContractsRequest);
+
+  /**
+   * Get the Pay for Performance (P4P) report for a job posting by IDs.
+   *
+   * @param p4PJobReportsRequestByIds the request containing contract ID and job posting IDs
+   * @return a future completing with the performance metrics
+   */
+  CompletableFuture<APIResponse<P4PReportResponseByIds>> getP4PReportByIdsAsync(
+      P4PJobReportsRequestByIds p4PJobReportsRequestByIds);
+
+  /**
+   * Get the Pay for Performance (P4P) report for a job posting by date.
+   *
+   * @param p4PJobPostingRequestByDate the request containing contract ID and date range
+   * @return a future completing with the performance metrics
+   */
+  CompletableFuture<APIResponse<P4PReportResponseByDate>> getP4PReportsByDateAsync(
+      P4PJobReportsRequestByDate p4PJobPostingRequestByDate);
+
+  /**
+   * Get the budget reports for a partner contract ID.
+   *
+   * @param partnerContractId the partner contract ID to fetch reports for
+   * @return a future completing with the budget information
+   */
+  CompletableFuture<APIResponse<P4PBudgetReportResponse>> getPartnerBudgetReportsAsync(Long partnerContractId);
+}
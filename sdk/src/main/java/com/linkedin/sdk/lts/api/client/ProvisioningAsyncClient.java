@@ -0,0 +1,42 @@
+package com.linkedin.sdk.lts.api.client;
+
+import com.linkedin.sdk.lts.api.model.request.provisioning.CreateApplicationRequest;
+import com.linkedin.sdk.lts.api.model.request.provisioning.GetApplicationRequest;
+import com.linkedin.sdk.lts.api.model.request.provisioning.UpdateApplicationRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.provisioning.CreateApplicationResponse;
+import com.linkedin.sdk.lts.api.model.response.provisioning.GetApplicationResponse;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Asynchronous counterpart of {@link ProvisioningClient}.
+ * Futures complete exceptionally with the exceptions documented on {@link ProvisioningClient}.
+ */
+public interface ProvisioningAsyncClient {
+
+  /**
+   * Creates a new child developer application using the provided request.
+   *
+   * @param createApplicationRequest the request containing application details
+   * @return a future completing with the created application's details
+   */
+  CompletableFuture<APIResponse<CreateApplicationResponse>> createApplicationAsync(
+      CreateApplicationRequest createApplicationRequest);
+
+  /**
+   * Updates an existing child developer application using the provided request.
+   *
+   * @param updateApplicationRequest the request containing updated application details
+   * @return a future completing once the update has been applied
+   */
+  CompletableFuture<APIResponse<Void>> updateApplicationAsync(UpdateApplicationRequest updateApplicationRequest);
+
+  /**
+   * Retrieves a child developer application by its unique foreign ID.
+   *
+   * @param getApplicationRequest the request containing the unique foreign ID
+   * @return a future completing with the application details
+   */
+  CompletableFuture<APIResponse<GetApplicationResponse>> getApplicationAsync(GetApplicationRequest getApplicationRequest);
+}
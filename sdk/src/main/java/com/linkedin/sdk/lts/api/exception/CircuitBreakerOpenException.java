@@ -0,0 +1,27 @@
+package com.linkedin.sdk.lts.api.exception;
+
+import java.util.HashMap;
+
+
+/**
+ * Exception thrown without contacting the LinkedIn API when the circuit breaker of the endpoint
+ * is open, because recent calls to it failed or were too slow. The request is not retried.
+ */
+public class CircuitBreakerOpenException extends LinkedInApiException {
+
+  private final String endpoint;
+
+  /**
+   * Constructs a new CircuitBreakerOpenException for the given endpoint.
+   *
+   * @param endpoint the endpoint whose circuit breaker rejected the request
+   */
+  public CircuitBreakerOpenException(String endpoint) {
+    super(503, new HashMap<>(), "Circuit breaker is open for " + endpoint);
+    this.endpoint = endpoint;
+  }
+
+  public String getEndpoint() {
+    return endpoint;
+  }
+}
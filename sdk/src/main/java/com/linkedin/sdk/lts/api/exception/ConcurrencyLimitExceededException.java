@@ -0,0 +1,21 @@
+package com.linkedin.sdk.lts.api.exception;
+
+import java.util.HashMap;
+
+
+/**
+ * Exception thrown without contacting the LinkedIn API when the adaptive concurrency limit is
+ * reached and the request cannot be queued, or waited in the queue for too long. The request is
+ * not retried.
+ */
+public class ConcurrencyLimitExceededException extends LinkedInApiException {
+
+  /**
+   * Constructs a new ConcurrencyLimitExceededException.
+   *
+   * @param message the detail message
+   */
+  public ConcurrencyLimitExceededException(String message) {
+    super(503, new HashMap<>(), message);
+  }
+}
@@ -39,12 +39,18 @@ public class LinkedInApiException extends Exception {
   }
 
   /**
-   * Verify http status code is a transient error and can be retried.
+   * HTTP status code of a throttled request.
+   */
+  public static final int TOO_MANY_REQUESTS = 429;
+
+  /**
+   * Verify http status code is a transient error and can be retried. Server errors and throttled
+   * requests are transient.
    *
    * @param statusCode the HTTP status code returned by the LinkedIn API
    */
   public static boolean isTransient(int statusCode) {
-    return HttpStatusCategory.SERVER_ERROR.matches(statusCode);
+    return HttpStatusCategory.SERVER_ERROR.matches(statusCode) || statusCode == TOO_MANY_REQUESTS;
   }
 
   public int getStatusCode() {
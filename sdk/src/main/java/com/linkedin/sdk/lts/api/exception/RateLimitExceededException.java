@@ -0,0 +1,21 @@
+package com.linkedin.sdk.lts.api.exception;
+
+import java.util.HashMap;
+
+
+/**
+ * Exception thrown without contacting the LinkedIn API when the client-side rate limit of the
+ * client and API family has no permit available within the allowed wait. The request is not
+ * retried.
+ */
+public class RateLimitExceededException extends LinkedInApiException {
+
+  /**
+   * Constructs a new RateLimitExceededException.
+   *
+   * @param message the detail message, naming the exhausted rate limit
+   */
+  public RateLimitExceededException(String message) {
+    super(TOO_MANY_REQUESTS, new HashMap<>(), message);
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.request.applyconnect.applyConfiguration;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +20,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/apply-connect/onsite-apply-config-schema?view=li-lts-2025-04">LinkedIn Apply Connect Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
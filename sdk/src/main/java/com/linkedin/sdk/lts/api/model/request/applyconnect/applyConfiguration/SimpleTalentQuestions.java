@@ -1,5 +1,7 @@
 package com.linkedin.sdk.lts.api.model.request.applyconnect.applyConfiguration;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
+import com.linkedin.sdk.lts.internal.codec.JsonFragment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +21,8 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/apply-connect/onsite-apply-config-schema?view=li-lts-2025-04">LinkedIn Apply Connect Documentation</a>
  */
+@JsonCodec
+@JsonFragment
 @Data
 @Builder
 @AllArgsConstructor
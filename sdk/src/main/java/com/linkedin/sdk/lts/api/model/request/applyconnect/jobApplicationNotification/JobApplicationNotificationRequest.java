@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.request.applyconnect.jobApplicationNotification;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/apply-connect/sync-job-application-feedback?view=li-lts-2025-04">LinkedIn Apply Connect Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
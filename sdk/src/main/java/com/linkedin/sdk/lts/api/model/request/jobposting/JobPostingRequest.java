@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.request.jobposting;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +21,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/job-postings/api/job-posting-api-schema?view=li-lts-2025-04">LinkedIn Job Posting Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
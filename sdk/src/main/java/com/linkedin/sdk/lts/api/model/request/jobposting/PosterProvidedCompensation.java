@@ -1,5 +1,7 @@
 package com.linkedin.sdk.lts.api.model.request.jobposting;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
+import com.linkedin.sdk.lts.internal.codec.JsonFragment;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +23,8 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/job-postings/api/job-posting-api-schema?view=li-lts-2025-04">LinkedIn Job Posting Documentation</a>
  */
+@JsonCodec
+@JsonFragment
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.linkedin.sdk.lts.api.model.request.p4pjobposting;
 
 import com.linkedin.sdk.lts.api.model.request.jobposting.MoneyAmount;
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import lombok.NoArgsConstructor;
  *
  * @see <a href="https://learn.microsoft.com/en-us/linkedin/talent/job-postings/api/job-posting-api-schema-p4p?context=linkedin%2Ftalent%2Fpay-for-performance%2Ffull_context%2Fcontext&view=li-lts-2025-04">LinkedIn P4P Reports Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.linkedin.sdk.lts.api.model.request.p4pjobposting;
 
 import com.linkedin.sdk.lts.api.model.response.common.DateRange;
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/pay-for-performance/p4p-reports?context=linkedin%2Ftalent%2Fpay-for-performance%2Ffull_context%2Fcontext&view=li-lts-2025-04#check-job-reports-by-date-range">LinkedIn P4P Reports Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.request.p4pjobposting;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/pay-for-performance/p4p-reports?context=linkedin%2Ftalent%2Fpay-for-performance%2Ffull_context%2Fcontext&view=li-lts-2025-04#pagination-specific-query-parameters">LinkedIn P4P Reports Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.request.provisioning;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import java.util.List;
  *
  * @see <a href="https://learn.microsoft.com/en-us/linkedin/talent/apply-with-linkedin/provisioning-api?view=li-lts-2025-04">LinkedIn Provisioning API Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
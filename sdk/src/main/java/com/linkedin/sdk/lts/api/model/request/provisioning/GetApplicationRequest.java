@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.request.provisioning;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
  *
  * <p>It contains a single field representing the unique foreign ID of the child application.</p>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.request.provisioning;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
  * This request includes the unique identifier of the application and
  * a list of authorized JavaScript SDK domain names.
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.linkedin.sdk.lts.api.model.request.provisioning;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 /**
  * Request object for updating an application's configuration.
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
@@ -19,6 +21,7 @@ public class UpdateApplicationRequestInternal {
   @JsonProperty("patch")
   private PatchOperations patch;
 
+  @JsonCodec
   @Data
   @Builder
   @AllArgsConstructor
@@ -28,6 +31,7 @@ public class UpdateApplicationRequestInternal {
     private ApplicationUpdate set;
   }
 
+  @JsonCodec
   @Data
   @Builder
   @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.response.common;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/limited-pay-for-performance/lp4p-reports?context=linkedin%2Ftalent%2Flimited-pay-for-performance%2Ffull_context%2Fcontext&view=li-lts-2025-04#shared-api-response-schema">LinkedIn Date Object Schema</a>
  */
+@JsonCodec
 @Data
 @Builder
 @NoArgsConstructor
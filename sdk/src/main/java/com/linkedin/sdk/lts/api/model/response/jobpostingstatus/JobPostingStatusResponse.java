@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.response.jobpostingstatus;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,7 @@ import lombok.NoArgsConstructor;
  *
  * @see <a href="https://learn.microsoft.com/en-us/linkedin/talent/job-postings/api/check-job-posting-status?view=li-lts-2025-04">LinkedIn Job Posting Status Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
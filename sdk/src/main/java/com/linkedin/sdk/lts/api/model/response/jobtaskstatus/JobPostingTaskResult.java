@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.response.jobtaskstatus;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +20,7 @@ import lombok.NoArgsConstructor;
  *
  * @see <a href = "https://learn.microsoft.com/en-us/linkedin/talent/job-postings/api/check-job-taskstatus?view=li-lts-2025-04">LinkedIn Job Task Status Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
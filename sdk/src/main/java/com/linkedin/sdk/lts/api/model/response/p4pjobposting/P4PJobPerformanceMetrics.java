@@ -2,6 +2,7 @@ package com.linkedin.sdk.lts.api.model.response.p4pjobposting;
 
 import com.linkedin.sdk.lts.api.model.request.jobposting.MoneyAmount;
 import com.linkedin.sdk.lts.api.model.response.common.Date;
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/pay-for-performance/p4p-reports?context=linkedin%2Ftalent%2Fpay-for-performance%2Ffull_context%2Fcontext&view=li-lts-2025-04">LinkedIn P4P Reports Documentation</a>
  */
+@JsonCodec
 @Data
 @NoArgsConstructor
 public class P4PJobPerformanceMetrics {
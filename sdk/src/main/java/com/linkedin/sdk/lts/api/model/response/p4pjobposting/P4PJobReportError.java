@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.api.model.response.p4pjobposting;
 
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
  *
  * @See <a href="https://learn.microsoft.com/en-us/linkedin/talent/pay-for-performance/p4p-reports?context=linkedin%2Ftalent%2Fpay-for-performance%2Ffull_context%2Fcontext&view=li-lts-2025-04">LinkedIn P4P Reports Documentation</a>
  */
+@JsonCodec
 @Data
 @NoArgsConstructor
 public class P4PJobReportError {
@@ -1,6 +1,7 @@
 package com.linkedin.sdk.lts.api.model.response.provisioning;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.linkedin.sdk.lts.internal.codec.JsonCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
  *
  * @see <a href="https://learn.microsoft.com/en-us/linkedin/talent/apply-with-linkedin/provisioning-api?view=li-lts-2025-04">LinkedIn Provisioning API Documentation</a>
  */
+@JsonCodec
 @Data
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,33 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Top level configuration of authentication.
+ * Groups the configuration of every token management feature so that a single object can be
+ * passed to {@link com.linkedin.sdk.lts.api.client.LinkedInClientFactory}.
+ */
+@Data
+@Builder
+public class AuthConfig {
+
+  /**
+   * Background refresh of access tokens before they expire.
+   */
+  @Builder.Default
+  private TokenRefreshConfig tokenRefreshConfig = TokenRefreshConfig.builder().build();
+
+  /**
+   * Bounded cache of tokens per credential. When not set, {@link TokenManager#getDefault()} is
+   * used. Keep a reference to it to invalidate credentials after rotating their secret.
+   */
+  private TokenManager tokenManager;
+
+  /**
+   * Persistent storage of tokens, so that tokens still valid after a restart are reused instead
+   * of authenticating every credential again. When not set, tokens are kept in memory only.
+   */
+  private TokenStore tokenStore;
+}
@@ -0,0 +1,184 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+
+/**
+ * {@link TokenStore} keeping each token in its own file of a local directory, encrypted with
+ * AES-GCM.
+ *
+ * <p>File names are a SHA-256 hash of the key, and the key is bound to the encrypted content, so
+ * a file copied under another name fails to decrypt instead of handing out the token of another
+ * credential. Files are written to a temporary file and moved into place, so a concurrent reader,
+ * possibly in another JVM sharing the directory, never sees a partial token. On POSIX file
+ * systems, files are readable by their owner only. Expired tokens are deleted when they are
+ * read.</p>
+ *
+ * <p>The encryption key must be 16, 24 or 32 bytes long and should come from a secret manager,
+ * not from the same disk as the directory.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class EncryptedFileTokenStore implements TokenStore {
+  private static final Logger LOGGER = Logger.getLogger(EncryptedFileTokenStore.class.getName());
+
+  private static final String CIPHER = "AES/GCM/NoPadding";
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final int FORMAT_VERSION = 1;
+  private static final String FILE_SUFFIX = ".token";
+
+  private final Path directory;
+  private final SecretKeySpec encryptionKey;
+  private final SecureRandom random = new SecureRandom();
+
+  /**
+   * @param directory the directory holding the token files, created if missing
+   * @param encryptionKey the AES key, 16, 24 or 32 bytes long
+   * @throws IllegalArgumentException if the key length is not a valid AES key length
+   * @throws IOException if the directory cannot be created
+   */
+  public EncryptedFileTokenStore(Path directory, byte[] encryptionKey) throws IOException {
+    if (encryptionKey == null
+        || (encryptionKey.length != 16 && encryptionKey.length != 24 && encryptionKey.length != 32)) {
+      throw new IllegalArgumentException("Encryption key must be 16, 24 or 32 bytes long");
+    }
+    this.directory = Files.createDirectories(directory);
+    this.encryptionKey = new SecretKeySpec(Arrays.copyOf(encryptionKey, encryptionKey.length), "AES");
+  }
+
+  @Override
+  public OAuth2Token load(String key) throws IOException {
+    Path file = fileOf(key);
+    byte[] content;
+    try {
+      content = Files.readAllBytes(file);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+
+    OAuth2Token token;
+    try {
+      token = decrypt(key, content);
+    } catch (GeneralSecurityException | IOException e) {
+      LOGGER.warning("Discarding unreadable token file " + file.getFileName() + ": " + e);
+      Files.deleteIfExists(file);
+      return null;
+    }
+    if (token.isExpired()) {
+      Files.deleteIfExists(file);
+      return null;
+    }
+    return token;
+  }
+
+  @Override
+  public void save(String key, OAuth2Token token) throws IOException {
+    byte[] content;
+    try {
+      content = encrypt(key, token);
+    } catch (GeneralSecurityException e) {
+      throw new IOException("Failed to encrypt token", e);
+    }
+
+    Path file = fileOf(key);
+    Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      restrictToOwner(temp);
+      Files.write(temp, content);
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  @Override
+  public void remove(String key) throws IOException {
+    Files.deleteIfExists(fileOf(key));
+  }
+
+  private byte[] encrypt(String key, OAuth2Token token) throws GeneralSecurityException, IOException {
+    ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(plain)) {
+      out.writeUTF(token.getAccessToken());
+      out.writeLong(token.getIssuedTime());
+      out.writeLong(token.getExpirationTime());
+    }
+
+    byte[] iv = new byte[IV_LENGTH];
+    random.nextBytes(iv);
+    Cipher cipher = Cipher.getInstance(CIPHER);
+    cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+    cipher.updateAAD(key.getBytes(StandardCharsets.UTF_8));
+    byte[] encrypted = cipher.doFinal(plain.toByteArray());
+
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    content.write(FORMAT_VERSION);
+    content.write(iv);
+    content.write(encrypted);
+    return content.toByteArray();
+  }
+
+  private OAuth2Token decrypt(String key, byte[] content) throws GeneralSecurityException, IOException {
+    if (content.length <= 1 + IV_LENGTH || content[0] != FORMAT_VERSION) {
+      throw new IOException("Unsupported token file format");
+    }
+    Cipher cipher = Cipher.getInstance(CIPHER);
+    cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, content, 1, IV_LENGTH));
+    cipher.updateAAD(key.getBytes(StandardCharsets.UTF_8));
+    byte[] plain = cipher.doFinal(content, 1 + IV_LENGTH, content.length - 1 - IV_LENGTH);
+
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(plain))) {
+      return new OAuth2Token(in.readUTF(), in.readLong(), in.readLong());
+    }
+  }
+
+  private Path fileOf(String key) {
+    return directory.resolve(sha256Hex(key) + FILE_SUFFIX);
+  }
+
+  private static void restrictToOwner(Path file) throws IOException {
+    try {
+      Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+    } catch (UnsupportedOperationException e) {
+      // Not a POSIX file system, the directory permissions apply
+    }
+  }
+
+  static String sha256Hex(String value) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
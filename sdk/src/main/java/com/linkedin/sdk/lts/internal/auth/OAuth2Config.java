@@ -3,7 +3,9 @@ package com.linkedin.sdk.lts.internal.auth;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.ToString;
 
 
 /**
@@ -42,4 +44,27 @@ public class OAuth2Config {
   @NonNull
   private final String tokenUrl;
 
+  /**
+   * Background refresh of the access token. Not part of the identity of the configuration, so that
+   * a credential always has a single token.
+   */
+  @Builder.Default
+  @EqualsAndHashCode.Exclude
+  private final TokenRefreshConfig tokenRefreshConfig = TokenRefreshConfig.builder().build();
+
+  /**
+   * Cache holding the provider of this credential. When not set, {@link TokenManager#getDefault()}
+   * is used.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final TokenManager tokenManager;
+
+  /**
+   * Persistent storage of the token across restarts. When not set, tokens are kept in memory only.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final TokenStore tokenStore;
+
 }
@@ -0,0 +1,640 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import com.linkedin.sdk.lts.internal.util.NamedThreadFactory;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+
+
+/**
+ * Implementation of {@link AuthenticationProvider} that handles OAuth 2.0 client credentials flow
+ * authentication for LinkedIn APIs. This class manages OAuth 2.0 access tokens, including
+ * obtaining new tokens and refreshing expired ones.
+ *
+ * <p>This class implements the Singleton pattern per configuration, ensuring only one instance
+ * exists per unique {@link OAuth2Config} in its {@link TokenManager}. Instances should be
+ * obtained using the {@link #getInstance(OAuth2Config, HttpClient)} factory method.</p>
+ *
+ * <p>Thread Safety: This class is thread-safe. A valid token is read from a volatile field without
+ * locking. When the token has to be obtained, a single caller authenticates while the others wait
+ * for its result, or, on the async path, complete with it. The provider cache is managed by
+ * {@link TokenManager}.</p>
+ *
+ * <p>With {@link TokenRefreshConfig#isEnabled()}, the token is renewed in the background before it
+ * expires and replaced in place, so API calls never wait on authentication.</p>
+ *
+ * <p>With a {@link TokenStore}, the token stored by a previous run is read the first time a token
+ * is needed and reused if it is still valid, and every new token is stored.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * OAuth2Config config = OAuth2Config.builder()
+ *     .clientId("your-client-id")
+ *     .clientSecret("your-client-secret")
+ *     .tokenUrl("https://www.linkedin.com/oauth/v2/accessToken")
+ *     .build();
+ *
+ * OAuth2Provider provider = OAuth2Provider.getInstance(config);
+ * String accessToken = provider.getAccessToken();
+ * @see <a href="https://learn.microsoft.com/en-us/linkedin/talent/job-postings/api/job-posting-module1-basics?view=li-lts-2025-01#step-2-generate-an-access-token"><a/>
+ * </pre>
+ *
+ * @see AuthenticationProvider
+ * @see OAuth2Config
+ */
+public class OAuth2Provider implements AuthenticationProvider {
+  private static final Logger LOGGER = Logger.getLogger(OAuth2Provider.class.getName());
+
+  /**
+   * Timer running the background refreshes of providers that are not given their own scheduler.
+   */
+  private static final ScheduledExecutorService SHARED_REFRESH_SCHEDULER = createSharedRefreshScheduler();
+
+  /**
+   * The OAuth 2.0 configuration for this provider instance.
+   */
+  private final OAuth2Config config;
+
+  /**
+   * The HTTP client used to make requests to LinkedIn's API.
+   */
+  protected final HttpClient httpClient;
+
+  /**
+   * The current OAuth 2.0 token. Volatile ensures visibility across threads.
+   */
+  private volatile OAuth2Token currentToken;
+
+  /**
+   * The authentication in progress, if any. Threads that find the token expired wait for it
+   * instead of authenticating again.
+   */
+  private final AtomicReference<CompletableFuture<OAuth2Token>> refreshInFlight = new AtomicReference<>();
+
+  /**
+   * The next background refresh, if enabled.
+   */
+  private final AtomicReference<ScheduledFuture<?>> scheduledRefresh = new AtomicReference<>();
+
+  /**
+   * Set once the provider has been dropped from its cache, after which no refresh is scheduled.
+   */
+  private volatile boolean closed;
+
+  /**
+   * Whether the {@link TokenStore} has been read. Only accessed by the caller that started the
+   * refresh in progress.
+   */
+  private boolean storeChecked;
+
+
+  /**
+   * Constructor restricted to {@link TokenManager}, enforcing singleton pattern per configuration.
+   *
+   * @param config the OAuth 2.0 configuration for this provider
+   */
+  protected OAuth2Provider(OAuth2Config config, HttpClient httpClient) {
+    this.config = config;
+    this.httpClient = httpClient;
+    ObjectMapperUtil.warmUp(Collections.singletonList(TokenInfo.class), Collections.emptyList());
+  }
+
+  private static ScheduledExecutorService createSharedRefreshScheduler() {
+    ScheduledThreadPoolExecutor scheduler =
+        new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("linkedin-token-refresh"));
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * Factory method to obtain an OAuth2Provider instance for a given configuration.
+   * If an instance already exists for the provided configuration, it will be returned.
+   * Otherwise, a new instance will be created.
+   *
+   * <p>Instances are cached by the {@link TokenManager} of the configuration, or by
+   * {@link TokenManager#getDefault()} if it has none.</p>
+   *
+   * @param config the OAuth 2.0 configuration to use
+   * @param httpClient the HTTP client to use for making requests
+   * @return an OAuth2Provider instance for the given configuration
+   * @throws NullPointerException if config is null
+   */
+  public static OAuth2Provider getInstance(OAuth2Config config, HttpClient httpClient) {
+    TokenManager tokenManager = config.getTokenManager() != null ? config.getTokenManager() : TokenManager.getDefault();
+    return tokenManager.getProvider(config, httpClient);
+  }
+
+  /**
+   * Stops refreshing the token in the background once the provider has been dropped from its
+   * {@link TokenManager}.
+   */
+  void close() {
+    closed = true;
+    ScheduledFuture<?> refresh = scheduledRefresh.getAndSet(null);
+    if (refresh != null) {
+      refresh.cancel(false);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation ensures a valid token is available before returning.
+   * If the current token is expired or null, a new token will be obtained
+   * through authentication.</p>
+   *
+   * <p>A valid token is returned without locking. Only one thread authenticates at a time, and
+   * threads that need a token meanwhile wait for its result.</p>
+   */
+  @Override
+  public String getAccessToken() throws AuthenticationException {
+    OAuth2Token token = currentToken;
+    if (token != null && !token.isExpired()) {
+      return token.getAccessToken();
+    }
+    return refreshToken().getAccessToken();
+  }
+
+  /**
+   * Retrieves a valid access token without blocking the calling thread.
+   *
+   * <p>A valid token is returned in an already completed future. Otherwise the future follows the
+   * authentication in progress, or one sent with {@link HttpClient#executeRequestAsync}, so no
+   * thread waits for the token response. A {@link TokenStore} is read on the calling thread the
+   * first time a token is needed.</p>
+   *
+   * @return a future completing with a valid access token, or exceptionally with an
+   *     {@link AuthenticationException}
+   */
+  public CompletableFuture<String> getAccessTokenAsync() {
+    OAuth2Token token = currentToken;
+    if (token != null && !token.isExpired()) {
+      return CompletableFuture.completedFuture(token.getAccessToken());
+    }
+    return refreshTokenAsync(null, false).thenApply(OAuth2Token::getAccessToken);
+  }
+
+  /**
+   * Obtains a new token, or waits for the authentication already in progress.
+   *
+   * @return a valid token
+   * @throws AuthenticationException if authentication fails
+   */
+  private OAuth2Token refreshToken() throws AuthenticationException {
+    return refreshToken(null, false);
+  }
+
+  /**
+   * Replaces a token that LinkedIn rejected with a 401 response before it expired, typically
+   * because it was revoked. The token is dropped, including from the {@link TokenStore}, and a
+   * new one is obtained.
+   *
+   * <p>Only one thread authenticates for a given rejected token. Threads reporting the same token
+   * while it is being replaced wait for the new one, and threads reporting it afterwards get the
+   * new one straight away.</p>
+   *
+   * @param rejectedAccessToken the access token that was rejected
+   * @return a new access token
+   * @throws AuthenticationException if authentication fails
+   */
+  public String refreshAfterUnauthorized(String rejectedAccessToken) throws AuthenticationException {
+    String replacement = replacementFor(rejectedAccessToken);
+    if (replacement != null) {
+      return replacement;
+    }
+    return refreshToken(rejectedAccessToken, true).getAccessToken();
+  }
+
+  /**
+   * Replaces a token that LinkedIn rejected with a 401 response, as
+   * {@link #refreshAfterUnauthorized(String)} does, without blocking the calling thread. The
+   * token request is sent with {@link HttpClient#executeRequestAsync}, and shared with the callers
+   * reporting the same token.
+   *
+   * @param rejectedAccessToken the access token that was rejected
+   * @return a future completing with a new access token, or exceptionally with an
+   *     {@link AuthenticationException}
+   */
+  public CompletableFuture<String> refreshAfterUnauthorizedAsync(String rejectedAccessToken) {
+    String replacement = replacementFor(rejectedAccessToken);
+    if (replacement != null) {
+      return CompletableFuture.completedFuture(replacement);
+    }
+    return refreshTokenAsync(rejectedAccessToken, true).thenApply(OAuth2Token::getAccessToken);
+  }
+
+  /**
+   * @return the access token that already replaced a rejected one, or null if there is none
+   */
+  private String replacementFor(String rejectedAccessToken) {
+    OAuth2Token token = currentToken;
+    if (token != null && !token.getAccessToken().equals(rejectedAccessToken) && !token.isExpired()) {
+      return token.getAccessToken();
+    }
+    return null;
+  }
+
+  /**
+   * Obtains a new token, or waits for the authentication already in progress.
+   *
+   * @param replacedAccessToken an access token to replace even though it has not expired, or null
+   * @param revoked whether the token to replace has been revoked and must not be used any more
+   * @return a valid token
+   * @throws AuthenticationException if authentication fails
+   */
+  private OAuth2Token refreshToken(String replacedAccessToken, boolean revoked) throws AuthenticationException {
+    CompletableFuture<OAuth2Token> refresh = new CompletableFuture<>();
+    CompletableFuture<OAuth2Token> inFlight = startRefresh(refresh);
+    if (inFlight != null) {
+      return awaitRefresh(inFlight);
+    }
+
+    OAuth2Token token;
+    try {
+      token = reusableToken(replacedAccessToken, revoked);
+      if (token == null) {
+        token = adopt(authenticate());
+      }
+    } catch (AuthenticationException | RuntimeException e) {
+      finishRefresh(refresh, null, e);
+      throw e;
+    }
+    finishRefresh(refresh, token, null);
+    return token;
+  }
+
+  /**
+   * Obtains a new token without blocking, or follows the authentication already in progress.
+   *
+   * @param replacedAccessToken an access token to replace even though it has not expired, or null
+   * @param revoked whether the token to replace has been revoked and must not be used any more
+   * @return a future completing with a valid token, or exceptionally with an
+   *     {@link AuthenticationException}
+   */
+  private CompletableFuture<OAuth2Token> refreshTokenAsync(String replacedAccessToken, boolean revoked) {
+    CompletableFuture<OAuth2Token> refresh = new CompletableFuture<>();
+    CompletableFuture<OAuth2Token> inFlight = startRefresh(refresh);
+    if (inFlight != null) {
+      return inFlight;
+    }
+
+    OAuth2Token token;
+    try {
+      token = reusableToken(replacedAccessToken, revoked);
+    } catch (RuntimeException e) {
+      finishRefresh(refresh, null, e);
+      return refresh;
+    }
+    if (token != null) {
+      finishRefresh(refresh, token, null);
+      return refresh;
+    }
+    authenticateAsync().whenComplete((newToken, failure) -> {
+      if (failure != null) {
+        finishRefresh(refresh, null, FutureUtil.unwrap(failure));
+        return;
+      }
+      try {
+        finishRefresh(refresh, adopt(newToken), null);
+      } catch (RuntimeException e) {
+        finishRefresh(refresh, null, e);
+      }
+    });
+    return refresh;
+  }
+
+  /**
+   * Makes the given future the refresh in progress, unless there already is one.
+   *
+   * @return the refresh already in progress, or null if the caller now owns the refresh
+   */
+  private CompletableFuture<OAuth2Token> startRefresh(CompletableFuture<OAuth2Token> refresh) {
+    while (!refreshInFlight.compareAndSet(null, refresh)) {
+      CompletableFuture<OAuth2Token> inFlight = refreshInFlight.get();
+      if (inFlight != null) {
+        return inFlight;
+      }
+    }
+    return null;
+  }
+
+  private void finishRefresh(CompletableFuture<OAuth2Token> refresh, OAuth2Token token, Throwable failure) {
+    refreshInFlight.set(null);
+    if (failure != null) {
+      refresh.completeExceptionally(failure);
+    } else {
+      refresh.complete(token);
+    }
+  }
+
+  /**
+   * Finds a token that settles the refresh without authenticating: one obtained by another caller
+   * since the token was read, or one stored by a previous run. A revoked token is dropped first.
+   * Must be called by the owner of the refresh in progress.
+   *
+   * @param replacedAccessToken an access token to replace even though it has not expired, or null
+   * @param revoked whether the token to replace has been revoked and must not be used any more
+   * @return the token to use, or null if a new one must be obtained
+   */
+  private OAuth2Token reusableToken(String replacedAccessToken, boolean revoked) {
+    OAuth2Token token = currentToken;
+    boolean replace = token != null && token.getAccessToken().equals(replacedAccessToken);
+    if (replace && revoked) {
+      LOGGER.info("Access token rejected by LinkedIn, authenticating again. Client ID: " + config.getClientId());
+      currentToken = null;
+      token = null;
+      storeChecked = true;
+      removeStoredToken();
+    }
+    if (token == null && !storeChecked) {
+      storeChecked = true;
+      token = loadStoredToken();
+      if (token != null) {
+        currentToken = token;
+        scheduleRefresh(token);
+      }
+    }
+    return replace || token == null || token.isExpired() ? null : token;
+  }
+
+  /**
+   * Makes a newly obtained token the current one, stores it and schedules its refresh.
+   */
+  private OAuth2Token adopt(OAuth2Token token) {
+    currentToken = token;
+    saveToken(token);
+    scheduleRefresh(token);
+    return token;
+  }
+
+  /**
+   * Reads the token stored by a previous run, if a {@link TokenStore} is configured.
+   *
+   * @return the stored token if it is still valid, null otherwise
+   */
+  private OAuth2Token loadStoredToken() {
+    TokenStore tokenStore = config.getTokenStore();
+    if (tokenStore == null) {
+      return null;
+    }
+    try {
+      OAuth2Token token = tokenStore.load(storeKey());
+      return token != null && !token.isExpired() ? token : null;
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warning(String.format("Failed to load stored token. Client ID: %s, Error: %s",
+          config.getClientId(), e.getMessage()));
+      return null;
+    }
+  }
+
+  private void saveToken(OAuth2Token token) {
+    TokenStore tokenStore = config.getTokenStore();
+    if (tokenStore == null) {
+      return;
+    }
+    try {
+      tokenStore.save(storeKey(), token);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warning(String.format("Failed to store token. Client ID: %s, Error: %s",
+          config.getClientId(), e.getMessage()));
+    }
+  }
+
+  private void removeStoredToken() {
+    TokenStore tokenStore = config.getTokenStore();
+    if (tokenStore == null) {
+      return;
+    }
+    try {
+      tokenStore.remove(storeKey());
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warning(String.format("Failed to remove stored token. Client ID: %s, Error: %s",
+          config.getClientId(), e.getMessage()));
+    }
+  }
+
+  /**
+   * Key of the credential in the {@link TokenStore}. The secret is hashed so that the store never
+   * sees it, while a rotated secret still gets a key of its own.
+   */
+  private String storeKey() {
+    return config.getClientId() + ":"
+        + EncryptedFileTokenStore.sha256Hex(config.getClientSecret() + "\n" + config.getTokenUrl());
+  }
+
+  /**
+   * Schedules the background refresh of a token that has just been obtained, if enabled.
+   */
+  private void scheduleRefresh(OAuth2Token token) {
+    TokenRefreshConfig refreshConfig = config.getTokenRefreshConfig();
+    if (refreshConfig == null || !refreshConfig.isEnabled()) {
+      return;
+    }
+    double fraction = refreshConfig.getRefreshFraction()
+        - refreshConfig.getJitterFraction() * ThreadLocalRandom.current().nextDouble();
+    long delay = token.getLifetimeFractionTime(Math.max(0, fraction)) - System.currentTimeMillis();
+    schedule(this::refreshInBackground, Math.max(0, delay));
+  }
+
+  /**
+   * Replaces the current token with a new one while it is still valid. The token request is sent
+   * asynchronously, so the refresh scheduler only serves as a timer. On failure the refresh is
+   * retried until the current token expires, after which the next API call authenticates.
+   */
+  private void refreshInBackground() {
+    OAuth2Token token = currentToken;
+    refreshTokenAsync(token != null ? token.getAccessToken() : null, false).whenComplete((refreshed, failure) -> {
+      if (failure != null) {
+        onBackgroundRefreshFailure(FutureUtil.unwrap(failure));
+      }
+    });
+  }
+
+  private void onBackgroundRefreshFailure(Throwable failure) {
+    OAuth2Token token = currentToken;
+    if (token != null && !token.isExpired()) {
+      long retryInterval = config.getTokenRefreshConfig().getRetryIntervalMillis();
+      LOGGER.warning(String.format("Background token refresh failed, retrying in %d ms. Client ID: %s, Error: %s",
+          retryInterval, config.getClientId(), failure.getMessage()));
+      schedule(this::refreshInBackground, retryInterval);
+    } else {
+      LOGGER.warning(String.format("Background token refresh failed and the token has expired. Client ID: %s, "
+          + "Error: %s", config.getClientId(), failure.getMessage()));
+    }
+  }
+
+  private void schedule(Runnable task, long delayMillis) {
+    if (closed) {
+      return;
+    }
+    ScheduledFuture<?> previous;
+    try {
+      previous = scheduledRefresh.getAndSet(scheduler().schedule(task, delayMillis, TimeUnit.MILLISECONDS));
+    } catch (RejectedExecutionException e) {
+      LOGGER.warning("Background token refresh could not be scheduled. Client ID: " + config.getClientId());
+      return;
+    }
+    if (previous != null) {
+      previous.cancel(false);
+    }
+  }
+
+  private ScheduledExecutorService scheduler() {
+    TokenRefreshConfig refreshConfig = config.getTokenRefreshConfig();
+    return refreshConfig != null && refreshConfig.getScheduler() != null
+        ? refreshConfig.getScheduler()
+        : SHARED_REFRESH_SCHEDULER;
+  }
+
+  private OAuth2Token awaitRefresh(CompletableFuture<OAuth2Token> refresh) throws AuthenticationException {
+    try {
+      return refresh.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AuthenticationException("Interrupted while waiting for authentication. Client ID: "
+          + config.getClientId(), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof AuthenticationException) {
+        throw (AuthenticationException) e.getCause();
+      }
+      throw new AuthenticationException("Authentication failed. Client ID: " + config.getClientId(), e.getCause());
+    }
+  }
+
+  /**
+   * Checks if the current OAuth 2.0 token is valid.
+   */
+  protected boolean isTokenValid() {
+    return currentToken != null && !currentToken.isExpired();
+  }
+
+  /**
+   * Performs OAuth 2.0 client credentials flow authentication.
+   * Makes an HTTP POST request to the configured token URL with client credentials
+   * to obtain a new access token.
+   *
+   * @return the new token
+   * @throws AuthenticationException if authentication fails due to invalid credentials,
+   *         network issues, or invalid server response
+   */
+  private OAuth2Token authenticate() throws AuthenticationException {
+    try {
+      APIResponse<TokenInfo> response = httpClient.executeRequest(config.getTokenUrl(), HttpMethod.POST,
+          tokenRequestHeaders(), tokenRequestBody(), TokenInfo.class);
+      return toToken(response);
+    } catch (IOException | JsonDeserializationException | LinkedInApiException e) {
+      throw authenticationFailure(e);
+    }
+  }
+
+  /**
+   * Performs the same authentication as {@link #authenticate()} with
+   * {@link HttpClient#executeRequestAsync}.
+   *
+   * @return a future completing with the new token, or exceptionally with an
+   *     {@link AuthenticationException}
+   */
+  private CompletableFuture<OAuth2Token> authenticateAsync() {
+    CompletableFuture<APIResponse<TokenInfo>> response;
+    try {
+      response = httpClient.executeRequestAsync(config.getTokenUrl(), HttpMethod.POST, tokenRequestHeaders(),
+          tokenRequestBody(), TokenInfo.class);
+    } catch (RuntimeException e) {
+      response = FutureUtil.failedFuture(e);
+    }
+    return response.handle((apiResponse, failure) -> {
+      if (failure == null) {
+        return toToken(apiResponse);
+      }
+      Throwable cause = FutureUtil.unwrap(failure);
+      if (cause instanceof IOException || cause instanceof JsonDeserializationException
+          || cause instanceof LinkedInApiException) {
+        throw new CompletionException(authenticationFailure((Exception) cause));
+      }
+      throw new CompletionException(cause);
+    });
+  }
+
+  private Map<String, String> tokenRequestHeaders() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(CONTENT_TYPE, APPLICATION_FORM_URLENCODED);
+    headers.put(ACCEPT, APPLICATION_JSON);
+    return headers;
+  }
+
+  private String tokenRequestBody() {
+    return String.format(
+        "grant_type=client_credentials" + QUERY_PARAM_SEPARATOR+ "client_id=%s" +  QUERY_PARAM_SEPARATOR + "client_secret=%s",
+        encodeURIComponent(config.getClientId()),
+        encodeURIComponent(config.getClientSecret())
+    );
+  }
+
+  private static OAuth2Token toToken(APIResponse<TokenInfo> response) {
+    return new OAuth2Token(response.getBody().getAccessToken(), response.getBody().getExpiresIn());
+  }
+
+  /**
+   * Logs a failed token request and converts it to the {@link AuthenticationException} reported to
+   * callers.
+   *
+   * @param e an {@link IOException}, {@link JsonDeserializationException} or
+   *     {@link LinkedInApiException}
+   */
+  private AuthenticationException authenticationFailure(Exception e) {
+    if (e instanceof LinkedInApiException) {
+      LinkedInApiException apiException = (LinkedInApiException) e;
+      String errorMessage = String.format(
+          "Failed to authenticate with LinkedIn API. Client ID: %s, Response Code: %d, Response: %s",
+          config.getClientId(), apiException.getStatusCode(), apiException.getErrorBody());
+      LOGGER.severe(errorMessage);
+      return new AuthenticationException("Authentication failed with status: " + apiException.getStatusCode());
+    }
+    String errorMessage = e instanceof JsonDeserializationException
+        ? String.format("Failed to deserialize authentication response. Client ID: %s, Response: %s",
+            config.getClientId(), e.getMessage())
+        : String.format("Failed to authenticate with LinkedIn API. Client ID: %s, Error: %s",
+            config.getClientId(), e.getMessage());
+    LOGGER.log(Level.SEVERE, errorMessage, e);
+    return new AuthenticationException(errorMessage, e);
+  }
+
+  /**
+   * URL encodes a value using UTF-8 encoding.
+   *
+   * @param value the string to encode
+   * @return the URL encoded string
+   * @throws RuntimeException if encoding fails
+   */
+  private String encodeURIComponent(String value) {
+    try {
+      return java.net.URLEncoder.encode(value, StandardCharsets.UTF_8.toString());
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to encode URL parameter: " + value, e);
+    }
+  }
+}
@@ -25,6 +25,11 @@ public class OAuth2Token {
    */
   private final long expirationTime;
 
+  /**
+   * The time the token was obtained, in milliseconds since epoch.
+   */
+  private final long issuedTime;
+
   /**
    * Time buffer in milliseconds before the actual expiration time.
    */
@@ -45,7 +50,21 @@ public class OAuth2Token {
    */
   public OAuth2Token(String accessToken, long expiresIn) {
     this.accessToken = accessToken;
-    this.expirationTime = Instant.now().toEpochMilli() + (expiresIn * MILLIS_PER_SECOND);
+    this.issuedTime = Instant.now().toEpochMilli();
+    this.expirationTime = issuedTime + (expiresIn * MILLIS_PER_SECOND);
+  }
+
+  /**
+   * Creates an OAuth2Token obtained earlier, for example one read back from a {@link TokenStore}.
+   *
+   * @param accessToken the OAuth 2.0 access token string
+   * @param issuedTime the time the token was obtained, in milliseconds since epoch
+   * @param expirationTime the time the token expires, in milliseconds since epoch
+   */
+  public OAuth2Token(String accessToken, long issuedTime, long expirationTime) {
+    this.accessToken = accessToken;
+    this.issuedTime = issuedTime;
+    this.expirationTime = expirationTime;
   }
 
   /**
@@ -57,6 +76,30 @@ public class OAuth2Token {
     return accessToken;
   }
 
+  /**
+   * @return the time the token was obtained, in milliseconds since epoch
+   */
+  public long getIssuedTime() {
+    return issuedTime;
+  }
+
+  /**
+   * @return the time the token expires, in milliseconds since epoch
+   */
+  public long getExpirationTime() {
+    return expirationTime;
+  }
+
+  /**
+   * Returns the time after which a fraction of the token lifetime has elapsed.
+   *
+   * @param fraction the elapsed fraction of the lifetime, between 0 and 1
+   * @return the time in milliseconds since epoch
+   */
+  public long getLifetimeFractionTime(double fraction) {
+    return issuedTime + (long) ((expirationTime - issuedTime) * fraction);
+  }
+
   /**
    * Checks if the token is expired or about to expire.
    *
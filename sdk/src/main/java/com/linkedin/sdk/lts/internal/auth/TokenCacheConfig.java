@@ -0,0 +1,28 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Bounds of the {@link TokenManager} cache of providers, one per credential. The cache holds at
+ * most {@link #maxSize} credentials and drops the least recently used ones beyond that. Credentials
+ * unused for longer than {@link #maxIdleMillis} are dropped as well, so that credentials left
+ * behind by a secret rotation or an offboarded customer do not stay in memory.
+ */
+@Data
+@Builder
+public class TokenCacheConfig {
+
+  /**
+   * Maximum number of credentials whose tokens are cached.
+   */
+  @Builder.Default
+  private int maxSize = 50000;
+
+  /**
+   * Time after which a credential that has not been used is dropped from the cache.
+   */
+  @Builder.Default
+  private long maxIdleMillis = 24 * 60 * 60 * 1000L;
+}
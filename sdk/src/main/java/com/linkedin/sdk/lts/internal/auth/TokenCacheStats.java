@@ -0,0 +1,50 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Point-in-time snapshot of the {@link TokenManager} counters.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class TokenCacheStats {
+
+  /**
+   * Number of credentials currently cached.
+   */
+  private int size;
+
+  /**
+   * Number of lookups that found the credential in the cache.
+   */
+  private long hits;
+
+  /**
+   * Number of lookups that had to create a provider for the credential.
+   */
+  private long misses;
+
+  /**
+   * Share of lookups that found the credential in the cache, between 0 and 1.
+   */
+  private double hitRate;
+
+  /**
+   * Number of credentials dropped because the cache was full.
+   */
+  private long sizeEvictions;
+
+  /**
+   * Number of credentials dropped because they had not been used for too long.
+   */
+  private long idleEvictions;
+
+  /**
+   * Number of credentials dropped explicitly, for example after a secret rotation.
+   */
+  private long invalidations;
+}
@@ -0,0 +1,225 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+
+/**
+ * Bounded cache of {@link OAuth2Provider} instances, one per credential, so that every client of a
+ * customer shares one access token.
+ *
+ * <p>Lookups of a cached credential do not lock. When a new credential takes the cache over
+ * {@link TokenCacheConfig#getMaxSize()}, the least recently used tenth of the credentials is
+ * dropped in one pass, which keeps the cost of eviction low while tens of thousands of customer
+ * credentials are onboarded. Credentials idle for longer than
+ * {@link TokenCacheConfig#getMaxIdleMillis()} are dropped by {@link #evictIdle()}, which also runs
+ * regularly as new credentials are added. A dropped credential simply authenticates again the
+ * next time it is used.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class TokenManager {
+  private static final Logger LOGGER = Logger.getLogger(TokenManager.class.getName());
+
+  /**
+   * Longest time between two idle sweeps triggered by new credentials.
+   */
+  private static final long MAX_SWEEP_INTERVAL_MILLIS = 60000;
+
+  private static final TokenManager DEFAULT = new TokenManager(TokenCacheConfig.builder().build());
+
+  private final TokenCacheConfig config;
+  private final ConcurrentHashMap<OAuth2Config, Entry> providers = new ConcurrentHashMap<>();
+  private final Object evictionLock = new Object();
+  private volatile long lastSweepMillis = System.currentTimeMillis();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder sizeEvictions = new LongAdder();
+  private final LongAdder idleEvictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  public TokenManager(TokenCacheConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Returns the token manager used by clients that are not given their own.
+   *
+   * @return the shared token manager
+   */
+  public static TokenManager getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns the provider of the given credential, creating it if the credential is not cached.
+   *
+   * @param config the OAuth 2.0 configuration of the credential
+   * @param httpClient the HTTP client used if a provider has to be created
+   * @return the provider of the credential
+   */
+  public OAuth2Provider getProvider(OAuth2Config config, HttpClient httpClient) {
+    long now = System.currentTimeMillis();
+    Entry entry = providers.get(config);
+    if (entry != null) {
+      hits.increment();
+      entry.lastAccessMillis = now;
+      return entry.provider;
+    }
+
+    boolean[] created = new boolean[1];
+    entry = providers.computeIfAbsent(config, cfg -> {
+      created[0] = true;
+      return new Entry(new OAuth2Provider(cfg, httpClient), now);
+    });
+    if (!created[0]) {
+      hits.increment();
+      entry.lastAccessMillis = now;
+      return entry.provider;
+    }
+    misses.increment();
+    evictIfNeeded(now);
+    return entry.provider;
+  }
+
+  /**
+   * Drops every cached credential of a client ID, whatever its secret. Call this after rotating
+   * the secret of a client so that its old credential is not kept until it goes idle.
+   *
+   * @param clientId the client ID whose credentials are dropped
+   * @return the number of credentials dropped
+   */
+  public int invalidate(String clientId) {
+    int dropped = 0;
+    for (Map.Entry<OAuth2Config, Entry> entry : providers.entrySet()) {
+      if (entry.getKey().getClientId().equals(clientId) && remove(entry.getKey(), entry.getValue())) {
+        invalidations.increment();
+        dropped++;
+      }
+    }
+    return dropped;
+  }
+
+  /**
+   * Drops a single cached credential.
+   *
+   * @param config the OAuth 2.0 configuration of the credential
+   * @return whether the credential was cached
+   */
+  public boolean invalidate(OAuth2Config config) {
+    Entry entry = providers.get(config);
+    if (entry != null && remove(config, entry)) {
+      invalidations.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Drops every cached credential.
+   */
+  public void invalidateAll() {
+    for (Map.Entry<OAuth2Config, Entry> entry : providers.entrySet()) {
+      if (remove(entry.getKey(), entry.getValue())) {
+        invalidations.increment();
+      }
+    }
+  }
+
+  /**
+   * Drops the credentials that have not been used for longer than the configured maximum.
+   *
+   * @return the number of credentials dropped
+   */
+  public int evictIdle() {
+    long now = System.currentTimeMillis();
+    lastSweepMillis = now;
+    int dropped = 0;
+    for (Map.Entry<OAuth2Config, Entry> entry : providers.entrySet()) {
+      if (now - entry.getValue().lastAccessMillis > config.getMaxIdleMillis()
+          && remove(entry.getKey(), entry.getValue())) {
+        idleEvictions.increment();
+        dropped++;
+      }
+    }
+    if (dropped > 0) {
+      LOGGER.fine(String.format("Evicted %d idle credentials", dropped));
+    }
+    return dropped;
+  }
+
+  /**
+   * @return a snapshot of the cache counters
+   */
+  public TokenCacheStats getStats() {
+    long hitCount = hits.sum();
+    long missCount = misses.sum();
+    long lookups = hitCount + missCount;
+    return TokenCacheStats.builder()
+        .size(providers.size())
+        .hits(hitCount)
+        .misses(missCount)
+        .hitRate(lookups == 0 ? 0 : (double) hitCount / lookups)
+        .sizeEvictions(sizeEvictions.sum())
+        .idleEvictions(idleEvictions.sum())
+        .invalidations(invalidations.sum())
+        .build();
+  }
+
+  private void evictIfNeeded(long now) {
+    if (now - lastSweepMillis > Math.min(config.getMaxIdleMillis(), MAX_SWEEP_INTERVAL_MILLIS)) {
+      evictIdle();
+    }
+    if (providers.size() <= config.getMaxSize()) {
+      return;
+    }
+
+    synchronized (evictionLock) {
+      if (providers.size() <= config.getMaxSize()) {
+        return;
+      }
+      List<Map.Entry<OAuth2Config, Entry>> entries = new ArrayList<>(providers.entrySet());
+      entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis));
+      int target = config.getMaxSize() - config.getMaxSize() / 10;
+      int dropped = 0;
+      for (Map.Entry<OAuth2Config, Entry> entry : entries) {
+        if (providers.size() <= target) {
+          break;
+        }
+        if (remove(entry.getKey(), entry.getValue())) {
+          sizeEvictions.increment();
+          dropped++;
+        }
+      }
+      LOGGER.fine(String.format("Token cache full, evicted %d least recently used credentials", dropped));
+    }
+  }
+
+  private boolean remove(OAuth2Config config, Entry entry) {
+    if (providers.remove(config, entry)) {
+      entry.provider.close();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * A cached provider and the last time it was looked up.
+   */
+  private static final class Entry {
+    private final OAuth2Provider provider;
+    private volatile long lastAccessMillis;
+
+    private Entry(OAuth2Provider provider, long lastAccessMillis) {
+      this.provider = provider;
+      this.lastAccessMillis = lastAccessMillis;
+    }
+  }
+}
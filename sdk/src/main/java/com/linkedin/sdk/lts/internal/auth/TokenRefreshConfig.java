@@ -0,0 +1,53 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Configuration of the background refresh of access tokens by {@link OAuth2Provider}, which is off
+ * by default.
+ *
+ * <p>When enabled, a new token is requested once {@link #refreshFraction} of the lifetime of the
+ * current one has elapsed, moved earlier by a random part of {@link #jitterFraction} of the
+ * lifetime so that tokens obtained together are not all renewed at the same moment. API calls
+ * keep using the current token until the new one replaces it, so they never wait on
+ * authentication. A failed refresh is retried every {@link #retryIntervalMillis} for as long as
+ * the current token is still valid.</p>
+ */
+@Data
+@Builder
+public class TokenRefreshConfig {
+
+  /**
+   * Whether tokens are refreshed in the background before they expire.
+   */
+  @Builder.Default
+  private boolean enabled = false;
+
+  /**
+   * Fraction of the token lifetime after which it is refreshed, between 0 and 1.
+   */
+  @Builder.Default
+  private double refreshFraction = 0.75;
+
+  /**
+   * Largest fraction of the token lifetime by which the refresh is randomly moved earlier.
+   */
+  @Builder.Default
+  private double jitterFraction = 0.1;
+
+  /**
+   * Time to wait before retrying a failed refresh.
+   */
+  @Builder.Default
+  private long retryIntervalMillis = 10000;
+
+  /**
+   * Timer triggering the refreshes. The token requests are sent asynchronously, so the timer is
+   * not held while they wait for a response. When not set, a single daemon thread shared by all
+   * providers is used.
+   */
+  private ScheduledExecutorService scheduler;
+}
@@ -0,0 +1,48 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import java.io.IOException;
+
+
+/**
+ * Persistent storage of access tokens, letting {@link OAuth2Provider} reuse tokens that are still
+ * valid after the JVM restarts instead of authenticating every credential again.
+ *
+ * <p>Tokens are stored under a key derived from the credential. The key identifies the client
+ * ID, a one-way hash of the secret and the token URL, so a token obtained with a rotated secret
+ * is never reused. The store never sees the client secret itself.</p>
+ *
+ * <p>A provider reads its stored token the first time it needs one, and saves every token it
+ * obtains. Failures of the store are logged and never fail an API call. Implementations must be
+ * thread-safe.</p>
+ *
+ * @see EncryptedFileTokenStore
+ */
+public interface TokenStore {
+
+  /**
+   * Reads a stored token.
+   *
+   * @param key the key of the credential
+   * @return the stored token, which may have expired, or null if there is none
+   * @throws IOException if the store cannot be read
+   */
+  OAuth2Token load(String key) throws IOException;
+
+  /**
+   * Stores a token, replacing the one stored under the same key.
+   *
+   * @param key the key of the credential
+   * @param token the token to store
+   * @throws IOException if the store cannot be written
+   */
+  void save(String key, OAuth2Token token) throws IOException;
+
+  /**
+   * Removes a stored token, for example once LinkedIn has revoked it. Does nothing if there is no
+   * token under the key.
+   *
+   * @param key the key of the credential
+   * @throws IOException if the store cannot be written
+   */
+  void remove(String key) throws IOException;
+}
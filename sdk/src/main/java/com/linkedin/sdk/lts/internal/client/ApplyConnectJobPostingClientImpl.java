@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.internal.client;
 
+import com.linkedin.sdk.lts.api.client.ApplyConnectJobPostingAsyncClient;
 import com.linkedin.sdk.lts.api.client.ApplyConnectJobPostingClient;
 import com.linkedin.sdk.lts.api.exception.AuthenticationException;
 import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
@@ -11,11 +12,16 @@ import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
 import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
 import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
 import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
 import com.linkedin.sdk.lts.internal.util.LogRedactor;
 import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import lombok.NonNull;
@@ -27,10 +33,11 @@ import static com.linkedin.sdk.lts.internal.constants.LinkedInApiConstants.*;
 /**
  * Implementation of the ApplyConnect Job Posting client that handles interactions with LinkedIn's ApplyConnect Job Posting API.
  * This class extends {@link JobPostingClientImpl} for base job posting functionality and implements {@link ApplyConnectJobPostingClient}
- * for ApplyConnect-specific features.
+ * and {@link ApplyConnectJobPostingAsyncClient} for ApplyConnect-specific features.
  *
  */
-public class ApplyConnectJobPostingClientImpl extends JobPostingClientImpl implements ApplyConnectJobPostingClient {
+public class ApplyConnectJobPostingClientImpl extends JobPostingClientImpl
+    implements ApplyConnectJobPostingClient, ApplyConnectJobPostingAsyncClient {
 
   private static final Logger LOGGER = Logger.getLogger(ApplyConnectJobPostingClientImpl.class.getName());
 
@@ -41,7 +48,19 @@ public class ApplyConnectJobPostingClientImpl extends JobPostingClientImpl imple
    * @param httpClient the HTTP client to use for making requests
    */
   public ApplyConnectJobPostingClientImpl(OAuth2Config config, HttpClient httpClient) {
-    super(config, httpClient);
+    this(config, httpClient, DEFAULT_MAX_URL_LENGTH);
+  }
+
+  /**
+   * Constructs a new ApplyConnectJobPostingClient whose status lookups are split to fit the given URL length.
+   *
+   * @param config the OAuth 2.0 configuration for this provider
+   * @param httpClient the HTTP client to use for making requests
+   * @param maxUrlLength the longest URL sent for a status lookup
+   */
+  public ApplyConnectJobPostingClientImpl(OAuth2Config config, HttpClient httpClient, int maxUrlLength) {
+    super(config, httpClient, maxUrlLength);
+    ObjectMapperUtil.warmUp(Collections.emptyList(), Arrays.asList(JobApplicationNotificationRequest.class));
   }
 
   /**
@@ -61,13 +80,9 @@ public class ApplyConnectJobPostingClientImpl extends JobPostingClientImpl imple
       if (jobApplicationNotificationRequest == null) {
         throw new IllegalArgumentException("Job Posting Notification Request cannot be null");
       }
-      String requestBody = ObjectMapperUtil.toJson(jobApplicationNotificationRequest);
-
-      Map<String, String> headers = new HashMap<>();
-      headers.put(X_REST_LI_METHOD, CREATE);
-      headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + getAccessToken());
-      headers.put(X_EXTERNAL_USER, oAuth2Config.getClientId());
-      return httpClient.executeRequest(SYNC_JOB_APPLICATION_NOTIFICATIONS_URL, HttpMethod.POST, headers, requestBody, null);
+      RequestBody requestBody = notificationRequestBody(jobApplicationNotificationRequest);
+      return httpClient.executeStreamingRequest(SYNC_JOB_APPLICATION_NOTIFICATIONS_URL, HttpMethod.POST,
+          getHeadersForNotificationAPI(), requestBody, null);
     } catch (JsonDeserializationException e) {
       String errorMessage = "Failed to parse LinkedIn API response: " + e.getMessage();
       LOGGER.severe(LogRedactor.redact(errorMessage));
@@ -83,4 +98,59 @@ public class ApplyConnectJobPostingClientImpl extends JobPostingClientImpl imple
           errorMessage);
     }
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<Void>> syncJobApplicationNotificationAsync(
+      JobApplicationNotificationRequest jobApplicationNotificationRequest) {
+    try {
+      RequestBody requestBody = notificationRequestBody(jobApplicationNotificationRequest);
+      return getAccessTokenAsync().thenCompose(accessToken -> httpClient.executeStreamingRequestAsync(
+          SYNC_JOB_APPLICATION_NOTIFICATIONS_URL, HttpMethod.POST, getHeadersForNotificationAPI(accessToken),
+          requestBody, null));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * Validates a job application notification request and wraps it in a body that is serialized
+   * while it is sent.
+   *
+   * @param jobApplicationNotificationRequest the request to send
+   * @return the JSON request body
+   * @throws IllegalArgumentException if the request is null
+   */
+  private static RequestBody notificationRequestBody(JobApplicationNotificationRequest jobApplicationNotificationRequest) {
+    if (jobApplicationNotificationRequest == null) {
+      throw new IllegalArgumentException("Job Posting Notification Request cannot be null");
+    }
+    return RequestBody.json(jobApplicationNotificationRequest);
+  }
+
+  /**
+   * Constructs the headers required for the job application notification API requests.
+   *
+   * @return a map of headers to be used in the request
+   * @throws AuthenticationException if authentication fails
+   */
+  private Map<String, String> getHeadersForNotificationAPI() throws AuthenticationException {
+    return getHeadersForNotificationAPI(getAccessToken());
+  }
+
+  /**
+   * Constructs the headers required for the job application notification API requests.
+   *
+   * @param accessToken the access token to authorize the request with
+   * @return a map of headers to be used in the request
+   */
+  private Map<String, String> getHeadersForNotificationAPI(String accessToken) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(X_REST_LI_METHOD, CREATE);
+    headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + accessToken);
+    headers.put(X_EXTERNAL_USER, oAuth2Config.getClientId());
+    return headers;
+  }
 }
@@ -0,0 +1,585 @@
+package com.linkedin.sdk.lts.internal.client;
+
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
+import com.linkedin.sdk.lts.internal.auth.OAuth2Provider;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.TokenRecoveringHttpClient;
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobpostingstatus.JobPostingStatusResponse;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
+import com.linkedin.sdk.lts.internal.util.LogRedactor;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.client.JobPostingClient;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+import static com.linkedin.sdk.lts.internal.constants.LinkedInApiConstants.*;
+
+
+/**
+ * A client implementation for interacting with LinkedIn's Basic Job Posting API.
+ * This class implements {@link JobPostingClient} and {@link JobPostingAsyncClient} and provides
+ * functionality to create, update, renew, and close job postings through LinkedIn's Job Posting API endpoints.
+ *
+ * </pre>
+ */
+public class JobPostingClientImpl implements JobPostingClient, JobPostingAsyncClient {
+
+  private static final Logger LOGGER = Logger.getLogger(JobPostingClientImpl.class.getName());
+
+  /**
+   * The OAuth 2.0 configuration for this client instance.
+   */
+  protected final OAuth2Config oAuth2Config;
+
+  /**
+   * The HTTP client used to make requests to LinkedIn's API.
+   */
+  protected final HttpClient httpClient;
+
+  /**
+   * The HTTP client the OAuth2Provider sends token requests with. It is the client passed to the
+   * constructor, not its token recovering wrapper, so that every client sharing a transport hands
+   * the cached provider the same instance.
+   */
+  private final HttpClient tokenHttpClient;
+
+  /**
+   * Longest URL sent for a status lookup.
+   */
+  private final int maxUrlLength;
+
+  /**
+   * Constructs a new JobPostingClient with the specified OAuth 2.0 configuration and HTTP client.
+   *
+   * @param config the OAuth 2.0 configuration for this provider
+   * @param httpClient the HTTP client to use for making requests
+   */
+  public JobPostingClientImpl(OAuth2Config config, HttpClient httpClient) {
+    this(config, httpClient, DEFAULT_MAX_URL_LENGTH);
+  }
+
+  /**
+   * Constructs a new JobPostingClient whose status lookups are split to fit the given URL length.
+   *
+   * @param config the OAuth 2.0 configuration for this provider
+   * @param httpClient the HTTP client to use for making requests
+   * @param maxUrlLength the longest URL sent for a status lookup
+   * @throws IllegalArgumentException if maxUrlLength is not positive
+   */
+  public JobPostingClientImpl(OAuth2Config config, HttpClient httpClient, int maxUrlLength) {
+    if (maxUrlLength < 1) {
+      throw new IllegalArgumentException("Max URL length must be positive");
+    }
+    this.maxUrlLength = maxUrlLength;
+    this.oAuth2Config = config;
+    // Requests rejected with a 401 are replayed once with a new token
+    this.tokenHttpClient = httpClient;
+    this.httpClient = new TokenRecoveringHttpClient(httpClient, new OAuth2TokenRefresher(this::getOAuth2Provider));
+    ObjectMapperUtil.warmUp(
+        Arrays.asList(JobPostingResponse.class, JobTaskStatusResponse.class, JobPostingStatusResponse.class),
+        Arrays.asList(JobPostingRequest.class));
+  }
+
+  /**
+   * JobPosting Request of type Create, Update, Close, Renew
+   *
+   * @param jobPostingRequest the BasicJobPostingRequest containing the job posting data
+   * @return the API response as a JSON string
+   * @throws AuthenticationException if authentication fails
+   * @throws IllegalArgumentException if the request fails validation
+   * @throws JsonSerializationException if there is an error serializing the request
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws LinkedInApiException if the API returns an error response
+   */
+  public APIResponse<JobPostingResponse> processJobPosting(JobPostingRequest jobPostingRequest)
+      throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonSerializationException, JsonDeserializationException {
+    try {
+      RequestBody requestBody = jobPostingRequestBody(jobPostingRequest);
+      return httpClient.executeStreamingRequest(JOB_POSTING_BASE_URL, HttpMethod.POST, getHeadersForJobPostingAPI(),
+          requestBody, JobPostingResponse.class);
+    } catch (JsonSerializationException e) {
+      String errorMessage = "Failed to serialize request: " + e.getMessage();
+      LOGGER.severe(LogRedactor.redact(errorMessage));
+      throw e;
+    } catch (JsonDeserializationException e) {
+      String errorMessage = "Failed to parse LinkedIn API response: " + e.getMessage();
+      LOGGER.severe(LogRedactor.redact(errorMessage));
+      throw e;
+    } catch (IOException e) {
+      String errorMessage = "Network error while communicating with LinkedIn API: " + e.getMessage();
+      LOGGER.log(Level.SEVERE, LogRedactor.redact(errorMessage), e);
+      throw new LinkedInApiException(HttpStatusCategory.SERVER_ERROR.getDefaultCode(), new HashMap<>(),
+          errorMessage);
+    }
+  }
+
+  /**
+   * Get the status of a single job posting task.
+   *
+   * @param taskId the ID of the job posting task to check
+   * @return the JobTaskStatusResponse containing the task status information
+   * @throws AuthenticationException if authentication fails
+   * @throws IllegalArgumentException if the taskId is invalid
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws LinkedInApiException if the API returns an error response
+   */
+  public APIResponse<JobTaskStatusResponse> getTaskStatus(String taskId)
+      throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonDeserializationException {
+    if (taskId == null || taskId.isEmpty()) {
+      LOGGER.severe("Task ID cannot be null or empty");
+      throw new IllegalArgumentException("Task ID cannot be null or empty");
+    }
+
+    return getTaskStatus(Arrays.asList(taskId));
+  }
+
+  /**
+   * Get the status of multiple job posting tasks.
+   *
+   * @param taskIds a list of task IDs to check
+   * @return the JobTaskStatusResponse containing the tasks status information
+   * @throws AuthenticationException if authentication fails
+   * @throws IllegalArgumentException if the taskIds list is invalid
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws LinkedInApiException if the API returns an error response
+   */
+  public APIResponse<JobTaskStatusResponse> getTaskStatus(List<String> taskIds)
+      throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonDeserializationException {
+    try {
+      List<String> urls = buildTaskStatusUrls(taskIds);
+      if (urls.size() > 1) {
+        return awaitChunks(executeChunks(urls, getHeadersForAPI(), JobTaskStatusResponse.class),
+            JobPostingClientImpl::mergeTaskStatuses);
+      }
+      return httpClient.executeRequest(urls.get(0), HttpMethod.GET, getHeadersForAPI(), null, JobTaskStatusResponse.class);
+    } catch (JsonDeserializationException e) {
+      String errorMessage = "Failed to parse LinkedIn API response: " + e.getMessage();
+      LOGGER.severe(LogRedactor.redact(errorMessage));
+      throw e;
+    } catch (IOException e) {
+      String errorMessage = "Network error while communicating with LinkedIn API: " + e.getMessage();
+      LOGGER.log(Level.SEVERE, LogRedactor.redact(errorMessage), e);
+      throw new LinkedInApiException(HttpStatusCategory.SERVER_ERROR.getDefaultCode(), new HashMap<>(),
+          errorMessage);
+    }
+  }
+
+  /**
+   * Get the status of a single job posting.
+   *
+   * @param jobPostingId the ID of the job posting to check
+   * @return the JobPostingStatusResponse containing the job posting status information
+   * @throws AuthenticationException if authentication fails
+   * @throws IllegalArgumentException if the jobPostingId is invalid
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws LinkedInApiException if the API returns an error response
+   */
+  public APIResponse<JobPostingStatusResponse> getJobPostingStatus(String jobPostingId)
+      throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonDeserializationException{
+    if (jobPostingId == null || jobPostingId.isEmpty()) {
+      LOGGER.severe("Job Posting ID cannot be null or empty");
+      throw new IllegalArgumentException("Job Posting ID cannot be null or empty");
+    }
+    return getJobPostingStatus(Arrays.asList(jobPostingId));
+  }
+
+  /**
+   * Get the status of multiple job postings.
+   *
+   * @param jobPostingIds a list of external job posting IDs to check
+   * @return the JobPostingStatusResponse containing the job posting status information
+   * @throws AuthenticationException if authentication fails
+   * @throws IllegalArgumentException if the jobPostingIds list is invalid
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws LinkedInApiException if the API returns an error response
+   */
+  public APIResponse<JobPostingStatusResponse> getJobPostingStatus(List<String> jobPostingIds)
+      throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonDeserializationException {
+    try {
+      List<String> urls = buildJobPostingStatusUrls(jobPostingIds);
+      if (urls.size() > 1) {
+        return awaitChunks(executeChunks(urls, getHeadersForAPI(), JobPostingStatusResponse.class),
+            JobPostingClientImpl::mergeJobPostingStatuses);
+      }
+      return httpClient.executeRequest(urls.get(0), HttpMethod.GET, getHeadersForAPI(), null,
+          JobPostingStatusResponse.class);
+    } catch (JsonDeserializationException e) {
+      String errorMessage = "Failed to parse LinkedIn API response: " + e.getMessage();
+      LOGGER.severe(LogRedactor.redact(errorMessage));
+      throw e;
+    } catch (IOException e) {
+      String errorMessage = "Network error while communicating with LinkedIn API: " + e.getMessage();
+      LOGGER.log(Level.SEVERE, LogRedactor.redact(errorMessage), e);
+      throw new LinkedInApiException(HttpStatusCategory.SERVER_ERROR.getDefaultCode(), new HashMap<>(), errorMessage);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<JobPostingResponse>> processJobPostingAsync(JobPostingRequest jobPostingRequest) {
+    try {
+      RequestBody requestBody = jobPostingRequestBody(jobPostingRequest);
+      return getAccessTokenAsync().thenCompose(accessToken -> httpClient.executeStreamingRequestAsync(
+          JOB_POSTING_BASE_URL, HttpMethod.POST, getHeadersForJobPostingAPI(accessToken), requestBody,
+          JobPostingResponse.class));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<JobTaskStatusResponse>> getTaskStatusAsync(String taskId) {
+    if (taskId == null || taskId.isEmpty()) {
+      LOGGER.severe("Task ID cannot be null or empty");
+      return FutureUtil.failedFuture(new IllegalArgumentException("Task ID cannot be null or empty"));
+    }
+    return getTaskStatusAsync(Arrays.asList(taskId));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<JobTaskStatusResponse>> getTaskStatusAsync(List<String> taskIds) {
+    try {
+      List<String> urls = buildTaskStatusUrls(taskIds);
+      return getAccessTokenAsync().thenCompose(accessToken -> {
+        if (urls.size() > 1) {
+          return mergeChunks(executeChunks(urls, getHeadersForAPI(accessToken), JobTaskStatusResponse.class),
+              JobPostingClientImpl::mergeTaskStatuses);
+        }
+        return httpClient.executeRequestAsync(urls.get(0), HttpMethod.GET, getHeadersForAPI(accessToken), null,
+            JobTaskStatusResponse.class);
+      });
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<JobPostingStatusResponse>> getJobPostingStatusAsync(String jobPostingId) {
+    if (jobPostingId == null || jobPostingId.isEmpty()) {
+      LOGGER.severe("Job Posting ID cannot be null or empty");
+      return FutureUtil.failedFuture(new IllegalArgumentException("Job Posting ID cannot be null or empty"));
+    }
+    return getJobPostingStatusAsync(Arrays.asList(jobPostingId));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<JobPostingStatusResponse>> getJobPostingStatusAsync(List<String> jobPostingIds) {
+    try {
+      List<String> urls = buildJobPostingStatusUrls(jobPostingIds);
+      return getAccessTokenAsync().thenCompose(accessToken -> {
+        if (urls.size() > 1) {
+          return mergeChunks(executeChunks(urls, getHeadersForAPI(accessToken), JobPostingStatusResponse.class),
+              JobPostingClientImpl::mergeJobPostingStatuses);
+        }
+        return httpClient.executeRequestAsync(urls.get(0), HttpMethod.GET, getHeadersForAPI(accessToken), null,
+            JobPostingStatusResponse.class);
+      });
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * Validates a job posting request and wraps it in a body that is serialized while it is sent.
+   *
+   * @param jobPostingRequest the request to send
+   * @return the JSON request body
+   * @throws IllegalArgumentException if the request is null
+   */
+  private static RequestBody jobPostingRequestBody(JobPostingRequest jobPostingRequest) {
+    if (jobPostingRequest == null) {
+      throw new IllegalArgumentException("Job Posting Request cannot be null");
+    }
+    return RequestBody.json(jobPostingRequest);
+  }
+
+  /**
+   * Builds the task status URLs for the given task IDs.
+   *
+   * @param taskIds the task IDs to query
+   * @return the request URLs, each within the maximum URL length
+   * @throws IllegalArgumentException if the taskIds list is null or empty
+   */
+  private List<String> buildTaskStatusUrls(List<String> taskIds) {
+    if (taskIds == null || taskIds.isEmpty()) {
+      LOGGER.severe("Task IDs list cannot be null or empty");
+      throw new IllegalArgumentException("Task IDs list cannot be null or empty");
+    }
+    return buildIdsUrls(JOB_TASK_STATUS_BASE_URL, taskIds);
+  }
+
+  /**
+   * Builds the job posting status URLs for the given job posting IDs.
+   *
+   * @param jobPostingIds the external job posting IDs to query
+   * @return the request URLs, each within the maximum URL length
+   * @throws IllegalArgumentException if the jobPostingIds list is null or empty
+   */
+  private List<String> buildJobPostingStatusUrls(List<String> jobPostingIds) {
+    if (jobPostingIds == null || jobPostingIds.isEmpty()) {
+      LOGGER.severe("Job Posting IDs list cannot be null or empty");
+      throw new IllegalArgumentException("Job Posting IDs list cannot be null or empty");
+    }
+    return buildIdsUrls(JOB_STATUS_BASE_URL, jobPostingIds);
+  }
+
+  /**
+   * Splits IDs into as few {@code ids=} query strings as fit the maximum URL length. An ID too long
+   * to share a URL is sent on its own.
+   *
+   * @param baseUrl the URL the query string is appended to
+   * @param ids the IDs to query
+   * @return the request URLs
+   */
+  private List<String> buildIdsUrls(String baseUrl, List<String> ids) {
+    List<String> urls = new ArrayList<>();
+    StringBuilder url = new StringBuilder(baseUrl).append(QUERY_SEPARATOR);
+    boolean empty = true;
+    for (String id : ids) {
+      String param = "ids=" + id;
+      if (!empty && url.length() + QUERY_PARAM_SEPARATOR.length() + param.length() > maxUrlLength) {
+        urls.add(url.toString());
+        url = new StringBuilder(baseUrl).append(QUERY_SEPARATOR);
+        empty = true;
+      }
+      if (!empty) {
+        url.append(QUERY_PARAM_SEPARATOR);
+      }
+      url.append(param);
+      empty = false;
+    }
+    urls.add(url.toString());
+    return urls;
+  }
+
+  /**
+   * Sends a GET request per URL, all at the same time.
+   *
+   * @param urls the request URLs
+   * @param headers the headers sent with every request
+   * @param responseType the response body type
+   * @param <T> the response body type
+   * @return the futures of the responses, in URL order
+   */
+  private <T> List<CompletableFuture<APIResponse<T>>> executeChunks(List<String> urls, Map<String, String> headers,
+      Class<T> responseType) {
+    List<CompletableFuture<APIResponse<T>>> responses = new ArrayList<>(urls.size());
+    for (String url : urls) {
+      responses.add(httpClient.executeRequestAsync(url, HttpMethod.GET, new HashMap<>(headers), null, responseType));
+    }
+    return responses;
+  }
+
+  /**
+   * Merges the responses of a split status lookup once they have all completed.
+   *
+   * @param responses the futures of the responses
+   * @param mergeBodies merges the response bodies into one
+   * @param <T> the response body type
+   * @return a future completing with one response holding all the results, or exceptionally with
+   *     the first failure
+   */
+  private static <T> CompletableFuture<APIResponse<T>> mergeChunks(List<CompletableFuture<APIResponse<T>>> responses,
+      Function<List<T>, T> mergeBodies) {
+    return CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0]))
+        .thenApply(done -> {
+          List<APIResponse<T>> completed = new ArrayList<>(responses.size());
+          for (CompletableFuture<APIResponse<T>> response : responses) {
+            completed.add(response.join());
+          }
+          return mergeResponses(completed, mergeBodies);
+        });
+  }
+
+  /**
+   * Waits for the responses of a split status lookup and merges them, rethrowing the failure of a
+   * request as the synchronous call would have thrown it.
+   *
+   * @param responses the futures of the responses
+   * @param mergeBodies merges the response bodies into one
+   * @param <T> the response body type
+   * @return one response holding all the results
+   * @throws IOException if a request fails on the network
+   */
+  private static <T> APIResponse<T> awaitChunks(List<CompletableFuture<APIResponse<T>>> responses,
+      Function<List<T>, T> mergeBodies)
+      throws AuthenticationException, LinkedInApiException, JsonDeserializationException, IOException {
+    try {
+      return mergeChunks(responses, mergeBodies).join();
+    } catch (RuntimeException e) {
+      Throwable cause = FutureUtil.unwrap(e);
+      if (cause instanceof AuthenticationException) {
+        throw (AuthenticationException) cause;
+      } else if (cause instanceof LinkedInApiException) {
+        throw (LinkedInApiException) cause;
+      } else if (cause instanceof JsonDeserializationException) {
+        throw (JsonDeserializationException) cause;
+      } else if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new LinkedInApiException(HttpStatusCategory.SERVER_ERROR.getDefaultCode(), new HashMap<>(),
+          String.valueOf(cause.getMessage()));
+    }
+  }
+
+  /**
+   * Combines the responses of a split status lookup. The status code and headers are those of the
+   * first response.
+   */
+  private static <T> APIResponse<T> mergeResponses(List<APIResponse<T>> responses, Function<List<T>, T> mergeBodies) {
+    List<T> bodies = new ArrayList<>(responses.size());
+    for (APIResponse<T> response : responses) {
+      if (response.getBody() != null) {
+        bodies.add(response.getBody());
+      }
+    }
+    APIResponse<T> first = responses.get(0);
+    return APIResponse.<T>builder()
+        .body(mergeBodies.apply(bodies))
+        .httpStatusCode(first.getHttpStatusCode())
+        .httpStatusCategory(first.getHttpStatusCategory())
+        .responseHeaders(first.getResponseHeaders())
+        .build();
+  }
+
+  private static JobTaskStatusResponse mergeTaskStatuses(List<JobTaskStatusResponse> bodies) {
+    return JobTaskStatusResponse.builder()
+        .results(mergeMaps(bodies, JobTaskStatusResponse::getResults))
+        .statuses(mergeMaps(bodies, JobTaskStatusResponse::getStatuses))
+        .errors(mergeMaps(bodies, JobTaskStatusResponse::getErrors))
+        .build();
+  }
+
+  private static JobPostingStatusResponse mergeJobPostingStatuses(List<JobPostingStatusResponse> bodies) {
+    return JobPostingStatusResponse.builder()
+        .results(mergeMaps(bodies, JobPostingStatusResponse::getResults))
+        .statuses(mergeMaps(bodies, JobPostingStatusResponse::getStatuses))
+        .errors(mergeMaps(bodies, JobPostingStatusResponse::getErrors))
+        .build();
+  }
+
+  private static <T, V> Map<String, V> mergeMaps(List<T> bodies, Function<T, Map<String, V>> map) {
+    Map<String, V> merged = new LinkedHashMap<>();
+    for (T body : bodies) {
+      Map<String, V> values = map.apply(body);
+      if (values != null) {
+        merged.putAll(values);
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * Constructs the headers required for the batch create JobPosting API request.
+   *
+   * @return a map of headers to be used in the request
+   * @throws AuthenticationException if authentication fails
+   */
+  private Map<String, String> getHeadersForJobPostingAPI() throws AuthenticationException {
+    return getHeadersForJobPostingAPI(getAccessToken());
+  }
+
+  /**
+   * Constructs the headers required for the batch create JobPosting API request.
+   *
+   * @param accessToken the access token to authorize the request with
+   * @return a map of headers to be used in the request
+   */
+  private Map<String, String> getHeadersForJobPostingAPI(String accessToken) {
+    Map<String, String> headers = getHeadersForAPI(accessToken);
+    headers.put(X_REST_LI_METHOD, BATCH_CREATE);
+    return headers;
+  }
+
+  /**
+   * Constructs the headers required for the JobPosting API requests.
+   *
+   * @return a map of headers to be used in the request
+   * @throws AuthenticationException if authentication fails
+   */
+  private Map<String, String> getHeadersForAPI() throws AuthenticationException {
+    return getHeadersForAPI(getAccessToken());
+  }
+
+  /**
+   * Constructs the headers required for the JobPosting API requests.
+   *
+   * @param accessToken the access token to authorize the request with
+   * @return a map of headers to be used in the request
+   */
+  private Map<String, String> getHeadersForAPI(String accessToken) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(CONTENT_TYPE, APPLICATION_JSON);
+    headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + accessToken);
+    headers.put(LINKEDIN_VERSION, API_VERSION_2025_04);
+    headers.put(X_EXTERNAL_USER, oAuth2Config.getClientId());
+    return headers;
+  }
+
+  /**
+   * Method to get the access token from the OAuth2Provider.
+   * Separated for testability
+   *
+   * @return the access token
+   * @throws AuthenticationException if authentication fails
+   */
+  protected String getAccessToken() throws AuthenticationException {
+    return getOAuth2Provider().getAccessToken();
+  }
+
+  /**
+   * Method to get the access token from the OAuth2Provider without blocking the calling thread.
+   * Separated for testability
+   *
+   * @return a future completing with the access token, or exceptionally if authentication fails
+   */
+  protected CompletableFuture<String> getAccessTokenAsync() {
+    return getOAuth2Provider().getAccessTokenAsync();
+  }
+
+  /**
+   * @return the OAuth2Provider of the configuration, created with the client passed to the
+   *     constructor
+   */
+  private OAuth2Provider getOAuth2Provider() {
+    return OAuth2Provider.getInstance(oAuth2Config, tokenHttpClient);
+  }
+}
@@ -0,0 +1,32 @@
+package com.linkedin.sdk.lts.internal.client;
+
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.internal.auth.OAuth2Provider;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.TokenRecoveringHttpClient;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+
+/**
+ * Replaces rejected access tokens through the {@link OAuth2Provider} of a client. The provider is
+ * looked up on every refresh, as it may have been evicted from its {@code TokenManager} since the
+ * client was created.
+ */
+class OAuth2TokenRefresher implements TokenRecoveringHttpClient.TokenRefresher {
+
+  private final Supplier<OAuth2Provider> provider;
+
+  OAuth2TokenRefresher(Supplier<OAuth2Provider> provider) {
+    this.provider = provider;
+  }
+
+  @Override
+  public String refresh(String rejectedAccessToken) throws AuthenticationException {
+    return provider.get().refreshAfterUnauthorized(rejectedAccessToken);
+  }
+
+  @Override
+  public CompletableFuture<String> refreshAsync(String rejectedAccessToken) {
+    return provider.get().refreshAfterUnauthorizedAsync(rejectedAccessToken);
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.internal.client;
 
+import com.linkedin.sdk.lts.api.client.P4PJobPostingAsyncClient;
 import com.linkedin.sdk.lts.api.client.P4PJobPostingClient;
 import com.linkedin.sdk.lts.api.exception.AuthenticationException;
 import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
@@ -19,13 +20,17 @@ import com.linkedin.sdk.lts.api.model.response.common.Date;
 import com.linkedin.sdk.lts.api.model.response.common.DateRange;
 import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
 import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
 import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
 import com.linkedin.sdk.lts.internal.util.LogRedactor;
 import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import lombok.NonNull;
@@ -39,10 +44,10 @@ import static com.linkedin.sdk.lts.internal.constants.LinkedInApiConstants.P4P_R
 /**
  * Implementation of LinkedIn's Pay for Performance (P4P) Job Posting client that extends the basic job posting functionality.
  * This class extends {@link JobPostingClientImpl} for standard job posting operations and implements {@link P4PJobPostingClient}
- * for P4P-specific features.
+ * and {@link P4PJobPostingAsyncClient} for P4P-specific features.
  *
  */
-public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4PJobPostingClient {
+public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4PJobPostingClient, P4PJobPostingAsyncClient {
 
   private static final Logger LOGGER = Logger.getLogger(P4PJobPostingClientImpl.class.getName());
 
@@ -53,7 +58,22 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
    * @param httpClient the HTTP client to use for making requests
    */
   public P4PJobPostingClientImpl(OAuth2Config config, HttpClient httpClient) {
-    super(config, httpClient);
+    this(config, httpClient, DEFAULT_MAX_URL_LENGTH);
+  }
+
+  /**
+   * Constructs a new P4PJobPostingClient whose status lookups are split to fit the given URL length.
+   *
+   * @param config the OAuth 2.0 configuration for this provider
+   * @param httpClient the HTTP client to use for making requests
+   * @param maxUrlLength the longest URL sent for a status lookup
+   */
+  public P4PJobPostingClientImpl(OAuth2Config config, HttpClient httpClient, int maxUrlLength) {
+    super(config, httpClient, maxUrlLength);
+    ObjectMapperUtil.warmUp(
+        Arrays.asList(P4PBudgetReportResponse.class, P4PProvisionCustomerHiringContractsResponse.class,
+            P4PReportResponseByDate.class, P4PReportResponseByIds.class),
+        Arrays.asList(P4PProvisionCustomerHiringContractsRequest.class));
   }
 
   /**
@@ -71,12 +91,11 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
       @NonNull P4PProvisionCustomerHiringContractsRequest p4PProvisionCustomerHiringContractsRequest)
       throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonSerializationException, JsonDeserializationException{
     try {
-      if(p4PProvisionCustomerHiringContractsRequest == null) {
+      if (p4PProvisionCustomerHiringContractsRequest == null) {
         throw new IllegalArgumentException("P4PProvisionCustomerHiringContractsRequest cannot be null");
       }
-
-      String requestBody = ObjectMapperUtil.toJson(p4PProvisionCustomerHiringContractsRequest);
-      return this.httpClient.executeRequest(PROVISIONING_HIRING_CONTRACT_URL,
+      RequestBody requestBody = provisionRequestBody(p4PProvisionCustomerHiringContractsRequest);
+      return this.httpClient.executeStreamingRequest(PROVISIONING_HIRING_CONTRACT_URL,
           HttpMethod.POST, getHeadersForAPI(), requestBody, P4PProvisionCustomerHiringContractsResponse.class);
 
     } catch (JsonDeserializationException e) {
@@ -108,31 +127,10 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
   public APIResponse<P4PReportResponseByIds> getP4PReportByIds(@NonNull P4PJobReportsRequestByIds p4PJobReportsRequestByIds)
       throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonDeserializationException {
     try {
-      if(p4PJobReportsRequestByIds == null) {
+      if (p4PJobReportsRequestByIds == null) {
         throw new IllegalArgumentException("P4PJobReportsRequestByIds cannot be null");
       }
-
-      List<String> ids = p4PJobReportsRequestByIds.getIds();
-      DateRange dateRange = p4PJobReportsRequestByIds.getDateRange();
-      Long partnerContractId = p4PJobReportsRequestByIds.getPartnerContractId();
-
-      if(ids == null || ids.isEmpty()) {
-        throw new IllegalArgumentException("Ids cannot be null or empty");
-      }
-
-      if(dateRange == null || dateRange.getStart() == null || dateRange.getEnd() == null) {
-        throw new IllegalArgumentException("Date range cannot be null and must have both start and end dates");
-      }
-
-      // Build the URL with query parameters
-      String queryParams = IDS + EQUALS_SEPARATOR + LIST + OPENING_BRACKET + String.join(COLON_SEPARATOR, ids) + CLOSING_BRACKET +
-          QUERY_PARAM_SEPARATOR + formatDateRange(dateRange);
-
-      if(partnerContractId != null) {
-        queryParams += QUERY_PARAM_SEPARATOR + PARTNER_CONTRACT_ID + EQUALS_SEPARATOR + partnerContractId;
-      }
-      String url = PARTNER_JOB_REPORTS_BASE_URL + QUERY_SEPARATOR + queryParams;
-
+      String url = buildReportByIdsUrl(p4PJobReportsRequestByIds);
       return this.httpClient.executeRequest(url, HttpMethod.GET, getHeadersForAPI(), null, P4PReportResponseByIds.class);
 
     } catch (JsonDeserializationException e) {
@@ -161,33 +159,10 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
       @NonNull P4PJobReportsRequestByDate p4PJobPostingRequestByDate)
       throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonDeserializationException {
     try {
-      if(p4PJobPostingRequestByDate == null) {
+      if (p4PJobPostingRequestByDate == null) {
         throw new IllegalArgumentException("P4PJobReportsRequestByDate cannot be null");
       }
-
-      DateRange dateRange = p4PJobPostingRequestByDate.getDateRange();
-      if(dateRange == null || dateRange.getStart() == null || dateRange.getEnd() == null) {
-        throw new IllegalArgumentException("Date range cannot be null and must have both start and end dates");
-      }
-
-      Long partnerContractId = p4PJobPostingRequestByDate.getPartnerContractId();
-      Integer paginationStart = 0;
-      Integer paginationCount = 50;
-      if(p4PJobPostingRequestByDate.getPagination() != null) {
-        paginationStart = p4PJobPostingRequestByDate.getPagination().getStart();
-        paginationCount = p4PJobPostingRequestByDate.getPagination().getCount();
-      }
-
-      // Build the URL with query parameters
-      String queryParams = QUERY + EQUALS_SEPARATOR + DATE_RANGE + QUERY_PARAM_SEPARATOR + formatDateRange(dateRange);
-      if(partnerContractId != null){
-        queryParams += QUERY_PARAM_SEPARATOR + PARTNER_CONTRACT_ID + EQUALS_SEPARATOR + partnerContractId;
-      }
-      queryParams += QUERY_PARAM_SEPARATOR + START + EQUALS_SEPARATOR + paginationStart + QUERY_PARAM_SEPARATOR
-          + COUNT + EQUALS_SEPARATOR + paginationCount;
-
-      String url = PARTNER_JOB_REPORTS_BASE_URL + QUERY_SEPARATOR + queryParams;
-
+      String url = buildReportsByDateUrl(p4PJobPostingRequestByDate);
       return this.httpClient.executeRequest(url, HttpMethod.GET, getHeadersForAPI(), null, P4PReportResponseByDate.class);
 
     } catch (JsonDeserializationException e) {
@@ -218,10 +193,7 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
       if (partnerContractId == null) {
         throw new IllegalArgumentException("Partner contract ID cannot be null");
       }
-      // Build the URL with query parameters
-      String queryParams = PARTNER_CONTRACT_ID + EQUALS_SEPARATOR + partnerContractId;
-      String url = PARTNER_BUDGET_REPORTS_BASE_URL + QUERY_SEPARATOR + queryParams;
-
+      String url = buildBudgetReportsUrl(partnerContractId);
       return this.httpClient.executeRequest(url, HttpMethod.GET, getHeadersForAPI(), null, P4PBudgetReportResponse.class);
     } catch (JsonDeserializationException e) {
       String errorMessage = "Failed to parse LinkedIn API response: " + e.getMessage();
@@ -236,6 +208,167 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
 
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<P4PProvisionCustomerHiringContractsResponse>> provisionCustomerHiringContractsAsync(
+      P4PProvisionCustomerHiringContractsRequest p4PProvisionCustomerHiringContractsRequest) {
+    try {
+      RequestBody requestBody = provisionRequestBody(p4PProvisionCustomerHiringContractsRequest);
+      return getAccessTokenAsync().thenCompose(accessToken -> this.httpClient.executeStreamingRequestAsync(
+          PROVISIONING_HIRING_CONTRACT_URL, HttpMethod.POST, getHeadersForAPI(accessToken), requestBody,
+          P4PProvisionCustomerHiringContractsResponse.class));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<P4PReportResponseByIds>> getP4PReportByIdsAsync(
+      P4PJobReportsRequestByIds p4PJobReportsRequestByIds) {
+    try {
+      String url = buildReportByIdsUrl(p4PJobReportsRequestByIds);
+      return getAccessTokenAsync().thenCompose(accessToken -> this.httpClient.executeRequestAsync(url,
+          HttpMethod.GET, getHeadersForAPI(accessToken), null, P4PReportResponseByIds.class));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<P4PReportResponseByDate>> getP4PReportsByDateAsync(
+      P4PJobReportsRequestByDate p4PJobPostingRequestByDate) {
+    try {
+      String url = buildReportsByDateUrl(p4PJobPostingRequestByDate);
+      return getAccessTokenAsync().thenCompose(accessToken -> this.httpClient.executeRequestAsync(url,
+          HttpMethod.GET, getHeadersForAPI(accessToken), null, P4PReportResponseByDate.class));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<P4PBudgetReportResponse>> getPartnerBudgetReportsAsync(Long partnerContractId) {
+    try {
+      String url = buildBudgetReportsUrl(partnerContractId);
+      return getAccessTokenAsync().thenCompose(accessToken -> this.httpClient.executeRequestAsync(url,
+          HttpMethod.GET, getHeadersForAPI(accessToken), null, P4PBudgetReportResponse.class));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * Validates a provision customer hiring contracts request and wraps it in a body that is
+   * serialized while it is sent.
+   *
+   * @param request the request to send
+   * @return the JSON request body
+   * @throws IllegalArgumentException if the request is null
+   */
+  private static RequestBody provisionRequestBody(P4PProvisionCustomerHiringContractsRequest request) {
+    if (request == null) {
+      throw new IllegalArgumentException("P4PProvisionCustomerHiringContractsRequest cannot be null");
+    }
+    return RequestBody.json(request);
+  }
+
+  /**
+   * Validates the request and builds the partner job reports URL for a query by IDs.
+   *
+   * @param p4PJobReportsRequestByIds the request containing the IDs and date range
+   * @return the request URL
+   * @throws IllegalArgumentException if any parameters are invalid
+   */
+  private static String buildReportByIdsUrl(P4PJobReportsRequestByIds p4PJobReportsRequestByIds) {
+    if(p4PJobReportsRequestByIds == null) {
+      throw new IllegalArgumentException("P4PJobReportsRequestByIds cannot be null");
+    }
+
+    List<String> ids = p4PJobReportsRequestByIds.getIds();
+    DateRange dateRange = p4PJobReportsRequestByIds.getDateRange();
+    Long partnerContractId = p4PJobReportsRequestByIds.getPartnerContractId();
+
+    if(ids == null || ids.isEmpty()) {
+      throw new IllegalArgumentException("Ids cannot be null or empty");
+    }
+
+    if(dateRange == null || dateRange.getStart() == null || dateRange.getEnd() == null) {
+      throw new IllegalArgumentException("Date range cannot be null and must have both start and end dates");
+    }
+
+    // Build the URL with query parameters
+    String queryParams = IDS + EQUALS_SEPARATOR + LIST + OPENING_BRACKET + String.join(COLON_SEPARATOR, ids) + CLOSING_BRACKET +
+        QUERY_PARAM_SEPARATOR + formatDateRange(dateRange);
+
+    if(partnerContractId != null) {
+      queryParams += QUERY_PARAM_SEPARATOR + PARTNER_CONTRACT_ID + EQUALS_SEPARATOR + partnerContractId;
+    }
+    return PARTNER_JOB_REPORTS_BASE_URL + QUERY_SEPARATOR + queryParams;
+  }
+
+  /**
+   * Validates the request and builds the partner job reports URL for a query by date.
+   *
+   * @param p4PJobPostingRequestByDate the request containing the date range and pagination
+   * @return the request URL
+   * @throws IllegalArgumentException if any parameters are invalid
+   */
+  private static String buildReportsByDateUrl(P4PJobReportsRequestByDate p4PJobPostingRequestByDate) {
+    if(p4PJobPostingRequestByDate == null) {
+      throw new IllegalArgumentException("P4PJobReportsRequestByDate cannot be null");
+    }
+
+    DateRange dateRange = p4PJobPostingRequestByDate.getDateRange();
+    if(dateRange == null || dateRange.getStart() == null || dateRange.getEnd() == null) {
+      throw new IllegalArgumentException("Date range cannot be null and must have both start and end dates");
+    }
+
+    Long partnerContractId = p4PJobPostingRequestByDate.getPartnerContractId();
+    Integer paginationStart = 0;
+    Integer paginationCount = 50;
+    if(p4PJobPostingRequestByDate.getPagination() != null) {
+      paginationStart = p4PJobPostingRequestByDate.getPagination().getStart();
+      paginationCount = p4PJobPostingRequestByDate.getPagination().getCount();
+    }
+
+    // Build the URL with query parameters
+    String queryParams = QUERY + EQUALS_SEPARATOR + DATE_RANGE + QUERY_PARAM_SEPARATOR + formatDateRange(dateRange);
+    if(partnerContractId != null){
+      queryParams += QUERY_PARAM_SEPARATOR + PARTNER_CONTRACT_ID + EQUALS_SEPARATOR + partnerContractId;
+    }
+    queryParams += QUERY_PARAM_SEPARATOR + START + EQUALS_SEPARATOR + paginationStart + QUERY_PARAM_SEPARATOR
+        + COUNT + EQUALS_SEPARATOR + paginationCount;
+
+    return PARTNER_JOB_REPORTS_BASE_URL + QUERY_SEPARATOR + queryParams;
+  }
+
+  /**
+   * Validates the partner contract ID and builds the partner budget reports URL.
+   *
+   * @param partnerContractId the partner contract ID to fetch reports for
+   * @return the request URL
+   * @throws IllegalArgumentException if the partner contract ID is null
+   */
+  private static String buildBudgetReportsUrl(Long partnerContractId) {
+    if (partnerContractId == null) {
+      throw new IllegalArgumentException("Partner contract ID cannot be null");
+    }
+    // Build the URL with query parameters
+    String queryParams = PARTNER_CONTRACT_ID + EQUALS_SEPARATOR + partnerContractId;
+    return PARTNER_BUDGET_REPORTS_BASE_URL + QUERY_SEPARATOR + queryParams;
+  }
+
   /**
    * Constructs the headers required for the P4P API requests.
    *
@@ -243,9 +376,19 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
    * @throws AuthenticationException if authentication fails
    */
   private Map<String, String> getHeadersForAPI() throws AuthenticationException {
+    return getHeadersForAPI(getAccessToken());
+  }
+
+  /**
+   * Constructs the headers required for the P4P API requests.
+   *
+   * @param accessToken the access token to authorize the request with
+   * @return a map of headers to be used in the request
+   */
+  private Map<String, String> getHeadersForAPI(String accessToken) {
     Map<String, String> headers = new HashMap<>();
     headers.put(CONTENT_TYPE, APPLICATION_JSON);
-    headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + getAccessToken());
+    headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + accessToken);
     headers.put(LINKEDIN_VERSION, API_VERSION_2025_04);
     headers.put(X_REST_LI_PROTOCOL_VERSION, X_REST_LI_PROTOCOL_VERSION_VALUE_2_0_0);
     headers.put(X_EXTERNAL_USER, oAuth2Config.getClientId());
@@ -258,7 +401,7 @@ public class P4PJobPostingClientImpl extends JobPostingClientImpl implements P4P
    * @param dateRange the DateRange object to format
    * @return a string representation of the date range
    */
-  private static String formatDateRange(DateRange dateRange) throws IOException {
+  private static String formatDateRange(DateRange dateRange) {
     return DATE_RANGE + EQUALS_SEPARATOR + OPENING_BRACKET
         + START + COLON_SEPARATOR + formatDate(dateRange.getStart()) + COMMA_SEPARATOR
         + END + COLON_SEPARATOR + formatDate(dateRange.getEnd())
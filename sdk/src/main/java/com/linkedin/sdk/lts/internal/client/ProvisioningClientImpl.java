@@ -1,5 +1,6 @@
 package com.linkedin.sdk.lts.internal.client;
 
+import com.linkedin.sdk.lts.api.client.ProvisioningAsyncClient;
 import com.linkedin.sdk.lts.api.client.ProvisioningClient;
 import com.linkedin.sdk.lts.api.exception.AuthenticationException;
 import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
@@ -17,11 +18,16 @@ import com.linkedin.sdk.lts.api.model.response.provisioning.GetApplicationRespon
 import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
 import com.linkedin.sdk.lts.internal.auth.OAuth2Provider;
 import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.TokenRecoveringHttpClient;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
 import com.linkedin.sdk.lts.internal.util.LogRedactor;
 import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,11 +38,12 @@ import static com.linkedin.sdk.lts.internal.constants.LinkedInApiConstants.PROVI
 
 /**
  * Implementation of LinkedIn's Provisioning API client that enables partners to manage developer applications
- * for their customers. This class implements {@link ProvisioningClient} interface and provides functionality
- * to create, update, and retrieve developer applications through LinkedIn's Provisioning APIs.
+ * for their customers. This class implements the {@link ProvisioningClient} and {@link ProvisioningAsyncClient}
+ * interfaces and provides functionality to create, update, and retrieve developer applications through
+ * LinkedIn's Provisioning APIs.
  *
  */
-public class ProvisioningClientImpl implements ProvisioningClient {
+public class ProvisioningClientImpl implements ProvisioningClient, ProvisioningAsyncClient {
 
   private static final Logger LOGGER = Logger.getLogger(ProvisioningClientImpl.class.getName());
 
@@ -44,6 +51,11 @@ public class ProvisioningClientImpl implements ProvisioningClient {
 
   protected final HttpClient httpClient;
 
+  /**
+   * The unwrapped client passed to the constructor, given to the OAuth2Provider for token requests.
+   */
+  private final HttpClient tokenHttpClient;
+
   /**
    * Constructor for ProvisioningClient.
    *
@@ -52,7 +64,12 @@ public class ProvisioningClientImpl implements ProvisioningClient {
    */
   public ProvisioningClientImpl(OAuth2Config config, HttpClient httpClient) {
     this.oAuth2Config = config;
-    this.httpClient = httpClient;
+    // Requests rejected with a 401 are replayed once with a new token
+    this.tokenHttpClient = httpClient;
+    this.httpClient = new TokenRecoveringHttpClient(httpClient, new OAuth2TokenRefresher(this::getOAuth2Provider));
+    ObjectMapperUtil.warmUp(
+        Arrays.asList(CreateApplicationResponse.class, GetApplicationResponse.class),
+        Arrays.asList(CreateApplicationRequest.class, UpdateApplicationRequestInternal.class));
   }
 
   /**
@@ -70,12 +87,8 @@ public class ProvisioningClientImpl implements ProvisioningClient {
       throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonSerializationException,
              JsonDeserializationException {
     try {
-      if(createApplicationRequest == null) {
-        throw new IllegalArgumentException("CreateApplicationRequest cannot be null");
-      }
-
-      String requestBody = ObjectMapperUtil.toJson(createApplicationRequest);
-      return this.httpClient.executeRequest(PROVISIONING_APPLICATION_BASE_URL,
+      RequestBody requestBody = createRequestBody(createApplicationRequest);
+      return this.httpClient.executeStreamingRequest(PROVISIONING_APPLICATION_BASE_URL,
         HttpMethod.POST, getHeadersForAPI() , requestBody, CreateApplicationResponse.class);
     } catch (JsonSerializationException e) {
       String errorMessage = "Failed to serialize request: " + e.getMessage();
@@ -107,17 +120,9 @@ public class ProvisioningClientImpl implements ProvisioningClient {
   public APIResponse<Void> updateApplication(UpdateApplicationRequest updateApplicationRequest)
       throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonSerializationException, JsonDeserializationException {
     try {
-      if(updateApplicationRequest == null) {
-        throw new IllegalArgumentException("CreateApplicationRequest cannot be null");
-      }
-
-      if(updateApplicationRequest.getDeveloperApplicationUrn() == null || updateApplicationRequest.getDeveloperApplicationUrn().isEmpty()) {
-        throw new IllegalArgumentException("DeveloperApplicationUrn cannot be null or empty");
-      }
-
-      String url = PROVISIONING_APPLICATION_BASE_URL + updateApplicationRequest.getDeveloperApplicationUrn();
-      String requestBody = ObjectMapperUtil.toJson(UpdateApplicationRequestInternal.fromUpdateRequest(updateApplicationRequest));
-      return this.httpClient.executeRequest(url,
+      String url = buildUpdateApplicationUrl(updateApplicationRequest);
+      RequestBody requestBody = RequestBody.json(UpdateApplicationRequestInternal.fromUpdateRequest(updateApplicationRequest));
+      return this.httpClient.executeStreamingRequest(url,
           HttpMethod.POST, getHeadersForAPI() , requestBody, null);
     } catch (JsonSerializationException e) {
       String errorMessage = "Failed to serialize request: " + e.getMessage();
@@ -149,16 +154,7 @@ public class ProvisioningClientImpl implements ProvisioningClient {
   public APIResponse<GetApplicationResponse> getApplication(GetApplicationRequest getApplicationRequest)
       throws AuthenticationException, LinkedInApiException, IllegalArgumentException, JsonDeserializationException {
     try {
-      if(getApplicationRequest == null) {
-        throw new IllegalArgumentException("GetApplicationRequest cannot be null");
-      }
-
-      if(getApplicationRequest.getUniqueForeignId() == null || getApplicationRequest.getUniqueForeignId().isEmpty()) {
-        throw new IllegalArgumentException("UniqueForeignId cannot be null or empty");
-      }
-
-      String url = PROVISIONING_APPLICATION_BASE_URL + QUERY_SEPARATOR + QUERY + EQUALS_SEPARATOR + CREDENTIALS_BY_UNIQUE_FOREIGN_ID + QUERY_PARAM_SEPARATOR +
-          UNIQUE_FOREIGN_ID + EQUALS_SEPARATOR + getApplicationRequest.getUniqueForeignId();
+      String url = buildGetApplicationUrl(getApplicationRequest);
       return this.httpClient.executeRequest(url, HttpMethod.GET, getHeadersForAPI(), null, GetApplicationResponse.class);
 
     } catch (JsonDeserializationException e) {
@@ -173,6 +169,104 @@ public class ProvisioningClientImpl implements ProvisioningClient {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<CreateApplicationResponse>> createApplicationAsync(
+      CreateApplicationRequest createApplicationRequest) {
+    try {
+      RequestBody requestBody = createRequestBody(createApplicationRequest);
+      return getAccessTokenAsync().thenCompose(accessToken -> this.httpClient.executeStreamingRequestAsync(
+          PROVISIONING_APPLICATION_BASE_URL, HttpMethod.POST, getHeadersForAPI(accessToken), requestBody,
+          CreateApplicationResponse.class));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<Void>> updateApplicationAsync(UpdateApplicationRequest updateApplicationRequest) {
+    try {
+      String url = buildUpdateApplicationUrl(updateApplicationRequest);
+      RequestBody requestBody = RequestBody.json(UpdateApplicationRequestInternal.fromUpdateRequest(updateApplicationRequest));
+      return getAccessTokenAsync().thenCompose(accessToken -> this.httpClient.executeStreamingRequestAsync(url,
+          HttpMethod.POST, getHeadersForAPI(accessToken), requestBody, null));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<APIResponse<GetApplicationResponse>> getApplicationAsync(
+      GetApplicationRequest getApplicationRequest) {
+    try {
+      String url = buildGetApplicationUrl(getApplicationRequest);
+      return getAccessTokenAsync().thenCompose(accessToken -> this.httpClient.executeRequestAsync(url,
+          HttpMethod.GET, getHeadersForAPI(accessToken), null, GetApplicationResponse.class));
+    } catch (IllegalArgumentException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * Validates a create application request and wraps it in a body that is serialized while it
+   * is sent.
+   *
+   * @param createApplicationRequest the request to send
+   * @return the JSON request body
+   * @throws IllegalArgumentException if the request is null
+   */
+  private static RequestBody createRequestBody(CreateApplicationRequest createApplicationRequest) {
+    if(createApplicationRequest == null) {
+      throw new IllegalArgumentException("CreateApplicationRequest cannot be null");
+    }
+    return RequestBody.json(createApplicationRequest);
+  }
+
+  /**
+   * Validates the request and builds the URL of the application to update.
+   *
+   * @param updateApplicationRequest the request containing the developer application URN
+   * @return the request URL
+   * @throws IllegalArgumentException if the request is null or has no developer application URN
+   */
+  private static String buildUpdateApplicationUrl(UpdateApplicationRequest updateApplicationRequest) {
+    if(updateApplicationRequest == null) {
+      throw new IllegalArgumentException("CreateApplicationRequest cannot be null");
+    }
+
+    if(updateApplicationRequest.getDeveloperApplicationUrn() == null || updateApplicationRequest.getDeveloperApplicationUrn().isEmpty()) {
+      throw new IllegalArgumentException("DeveloperApplicationUrn cannot be null or empty");
+    }
+    return PROVISIONING_APPLICATION_BASE_URL + updateApplicationRequest.getDeveloperApplicationUrn();
+  }
+
+  /**
+   * Validates the request and builds the URL that looks an application up by its unique foreign ID.
+   *
+   * @param getApplicationRequest the request containing the unique foreign ID
+   * @return the request URL
+   * @throws IllegalArgumentException if the request is null or has no unique foreign ID
+   */
+  private static String buildGetApplicationUrl(GetApplicationRequest getApplicationRequest) {
+    if(getApplicationRequest == null) {
+      throw new IllegalArgumentException("GetApplicationRequest cannot be null");
+    }
+
+    if(getApplicationRequest.getUniqueForeignId() == null || getApplicationRequest.getUniqueForeignId().isEmpty()) {
+      throw new IllegalArgumentException("UniqueForeignId cannot be null or empty");
+    }
+    return PROVISIONING_APPLICATION_BASE_URL + QUERY_SEPARATOR + QUERY + EQUALS_SEPARATOR + CREDENTIALS_BY_UNIQUE_FOREIGN_ID + QUERY_PARAM_SEPARATOR +
+        UNIQUE_FOREIGN_ID + EQUALS_SEPARATOR + getApplicationRequest.getUniqueForeignId();
+  }
+
   /**
    * Constructs the headers required for the JobPosting API requests.
    *
@@ -180,9 +274,19 @@ public class ProvisioningClientImpl implements ProvisioningClient {
    * @throws AuthenticationException if authentication fails
    */
   private Map<String, String> getHeadersForAPI() throws AuthenticationException {
+    return getHeadersForAPI(getAccessToken());
+  }
+
+  /**
+   * Constructs the headers required for the JobPosting API requests.
+   *
+   * @param accessToken the access token to authorize the request with
+   * @return a map of headers to be used in the request
+   */
+  private Map<String, String> getHeadersForAPI(String accessToken) {
     Map<String, String> headers = new HashMap<>();
     headers.put(CONTENT_TYPE, APPLICATION_JSON);
-    headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + getAccessToken());
+    headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + accessToken);
     headers.put(LINKEDIN_VERSION, API_VERSION_2025_04);
     headers.put(X_EXTERNAL_USER, oAuth2Config.getClientId());
     return headers;
@@ -196,6 +300,24 @@ public class ProvisioningClientImpl implements ProvisioningClient {
    * @throws AuthenticationException if authentication fails
    */
   protected String getAccessToken() throws AuthenticationException {
-    return OAuth2Provider.getInstance(oAuth2Config, httpClient).getAccessToken();
+    return getOAuth2Provider().getAccessToken();
+  }
+
+  /**
+   * Method to get the access token from the OAuth2Provider without blocking the calling thread.
+   * Separated for testability
+   *
+   * @return a future completing with the access token, or exceptionally if authentication fails
+   */
+  protected CompletableFuture<String> getAccessTokenAsync() {
+    return getOAuth2Provider().getAccessTokenAsync();
+  }
+
+  /**
+   * @return the OAuth2Provider of the configuration, created with the client passed to the
+   *     constructor
+   */
+  private OAuth2Provider getOAuth2Provider() {
+    return OAuth2Provider.getInstance(oAuth2Config, tokenHttpClient);
   }
 }
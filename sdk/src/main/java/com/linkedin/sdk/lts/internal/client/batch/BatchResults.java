@@ -0,0 +1,52 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingEntity;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingError;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+
+
+/**
+ * Builds the per-posting results reported for job postings LinkedIn gave no result for, so that
+ * callers always receive one {@link JobPostingResult} per job posting.
+ */
+final class BatchResults {
+
+  private BatchResults() {
+  }
+
+  /**
+   * @param jobPosting the job posting that was not processed
+   * @param failure why the job posting was not processed
+   * @return a result carrying the status and message of the failure
+   */
+  static JobPostingResult failed(JobPosting jobPosting, Throwable failure) {
+    Throwable cause = FutureUtil.unwrap(failure);
+    int status = cause instanceof LinkedInApiException
+        ? ((LinkedInApiException) cause).getStatusCode()
+        : HttpStatusCategory.SERVER_ERROR.getDefaultCode();
+    return failed(jobPosting, status, String.valueOf(cause.getMessage()));
+  }
+
+  /**
+   * @param jobPosting the job posting that was not processed
+   * @param status the HTTP status to report
+   * @param message the error message to report
+   * @return a result carrying the status and message
+   */
+  static JobPostingResult failed(JobPosting jobPosting, int status, String message) {
+    return JobPostingResult.builder()
+        .status(status)
+        .entity(jobPosting == null
+            ? null
+            : JobPostingEntity.builder().externalJobPostingId(jobPosting.getExternalJobPostingId()).build())
+        .jobPostingError(JobPostingError.builder()
+            .status(status)
+            .message(message)
+            .build())
+        .build();
+  }
+}
@@ -0,0 +1,41 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RetryConfig;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Configuration of {@link JobPostingBulkSubmitter}.
+ */
+@Data
+@Builder
+public class BulkSubmitConfig {
+
+  /**
+   * Largest number of job postings sent in one {@code BATCH_CREATE} request.
+   */
+  @Builder.Default
+  private int maxBatchSize = 100;
+
+  /**
+   * Largest serialized size of the job postings of one request, in bytes. A job posting larger than
+   * this is sent on its own.
+   */
+  @Builder.Default
+  private long maxBatchBytes = 2 * 1024 * 1024;
+
+  /**
+   * Largest number of batches in flight at the same time.
+   */
+  @Builder.Default
+  private int maxConcurrentBatches = 4;
+
+  /**
+   * Backoff of the resends of job postings whose result has a transient status, such as 429 or
+   * 5xx. Only these job postings are sent again, in a smaller batch. Set {@code maxRetries} to 0
+   * to return their results without resending them.
+   */
+  @Builder.Default
+  private RetryConfig elementRetryConfig = RetryConfig.builder().build();
+}
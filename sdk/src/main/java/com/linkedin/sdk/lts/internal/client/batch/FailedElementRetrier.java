@@ -0,0 +1,162 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.DefaultRetryPolicy;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RetryConfig;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RetryPolicy;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import com.linkedin.sdk.lts.internal.util.NamedThreadFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Sends a batch of job postings and resends, after a backoff, only the job postings whose result
+ * has a transient status such as 429 or 5xx. The job postings LinkedIn accepted or rejected for
+ * good are never sent again, and each resend is a smaller batch holding only the failed ones.
+ *
+ * <p>A request failing as a whole is not retried here, since the HTTP client already retries it.
+ * On the first attempt its error fails the returned future. On a resend it is reported as the
+ * result of each resent job posting, because the results of the other job postings are known.</p>
+ */
+final class FailedElementRetrier {
+
+  private static final Logger LOGGER = Logger.getLogger(FailedElementRetrier.class.getName());
+
+  /**
+   * Timer shared by the batchers of the SDK when none is configured.
+   */
+  static final ScheduledExecutorService SHARED_SCHEDULER = createSharedScheduler();
+
+  private final JobPostingAsyncClient client;
+  private final RetryPolicy retryPolicy;
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * @param client the client sending the batches
+   * @param retryConfig the backoff of the resends, or null to never resend
+   * @param scheduler the timer waiting out the backoff
+   */
+  FailedElementRetrier(JobPostingAsyncClient client, RetryConfig retryConfig, ScheduledExecutorService scheduler) {
+    this.client = client;
+    this.retryPolicy = retryConfig != null ? new DefaultRetryPolicy(retryConfig) : null;
+    this.scheduler = scheduler;
+  }
+
+  private static ScheduledExecutorService createSharedScheduler() {
+    ScheduledThreadPoolExecutor scheduler =
+        new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("linkedin-job-posting-batcher"));
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * @param jobPostings the job postings of the batch
+   * @return a future completing with one result per job posting, in order, or exceptionally with
+   *     the error of the first request
+   */
+  CompletableFuture<List<JobPostingResult>> send(List<JobPosting> jobPostings) {
+    List<Integer> indices = new ArrayList<>(jobPostings.size());
+    for (int i = 0; i < jobPostings.size(); i++) {
+      indices.add(i);
+    }
+    CompletableFuture<List<JobPostingResult>> done = new CompletableFuture<>();
+    if (retryPolicy != null) {
+      retryPolicy.onRequest();
+    }
+    attempt(jobPostings, indices, new JobPostingResult[jobPostings.size()], 0, 0, done);
+    return done;
+  }
+
+  /**
+   * Sends the job postings at the given indices, then resends the ones that failed transiently.
+   */
+  private void attempt(List<JobPosting> jobPostings, List<Integer> indices, JobPostingResult[] results, int retry,
+      long previousDelayMillis, CompletableFuture<List<JobPostingResult>> done) {
+    List<JobPosting> batch = new ArrayList<>(indices.size());
+    for (int index : indices) {
+      batch.add(jobPostings.get(index));
+    }
+    CompletableFuture<APIResponse<JobPostingResponse>> response;
+    try {
+      response = client.processJobPostingAsync(JobPostingRequest.builder().elements(batch).build());
+    } catch (RuntimeException e) {
+      response = FutureUtil.failedFuture(e);
+    }
+    response.whenComplete((apiResponse, failure) -> {
+      if (failure != null) {
+        if (retry == 0) {
+          done.completeExceptionally(FutureUtil.unwrap(failure));
+          return;
+        }
+        LOGGER.log(Level.WARNING, "Resend of " + batch.size() + " failed job postings failed", failure);
+        for (int index : indices) {
+          results[index] = BatchResults.failed(jobPostings.get(index), failure);
+        }
+        done.complete(Arrays.asList(results));
+        return;
+      }
+
+      List<JobPostingResult> elements = apiResponse != null && apiResponse.getBody() != null
+          ? apiResponse.getBody().getElements()
+          : null;
+      List<Integer> retryable = new ArrayList<>();
+      JobPostingResult lastRetryable = null;
+      for (int i = 0; i < indices.size(); i++) {
+        int index = indices.get(i);
+        JobPostingResult result = elements == null || i >= elements.size() || elements.get(i) == null
+            ? BatchResults.failed(batch.get(i), HttpStatusCategory.SERVER_ERROR.getDefaultCode(),
+                "LinkedIn returned no result for this job posting")
+            : elements.get(i);
+        results[index] = result;
+        if (LinkedInApiException.isTransient(result.getStatus())) {
+          retryable.add(index);
+          lastRetryable = result;
+        }
+      }
+      if (retryable.isEmpty()) {
+        done.complete(Arrays.asList(results));
+        return;
+      }
+
+      long delay = retryPolicy == null
+          ? -1
+          : retryPolicy.retryDelayMillis(retry + 1, previousDelayMillis, toException(lastRetryable));
+      if (delay < 0) {
+        LOGGER.warning(String.format("Returning %d job postings that failed with a transient error without resending them",
+            retryable.size()));
+        done.complete(Arrays.asList(results));
+        return;
+      }
+      LOGGER.info(String.format("Resending %d of %d job postings in %d ms", retryable.size(), batch.size(), delay));
+      try {
+        scheduler.schedule(() -> attempt(jobPostings, retryable, results, retry + 1, delay, done), delay,
+            TimeUnit.MILLISECONDS);
+      } catch (RuntimeException e) {
+        // The timer is shut down, the failed results are returned as they are
+        LOGGER.log(Level.WARNING, "Failed to schedule the resend of failed job postings", e);
+        done.complete(Arrays.asList(results));
+      }
+    });
+  }
+
+  private static LinkedInApiException toException(JobPostingResult result) {
+    String message = result.getJobPostingError() != null ? result.getJobPostingError().getMessage() : null;
+    return new LinkedInApiException(result.getStatus(), Collections.emptyMap(), message);
+  }
+}
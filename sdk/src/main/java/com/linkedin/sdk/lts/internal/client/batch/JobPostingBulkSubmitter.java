@@ -0,0 +1,215 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+
+/**
+ * Sends any number of job postings through {@link JobPostingAsyncClient#processJobPostingAsync},
+ * split into {@code BATCH_CREATE} requests that stay within the element count and byte size of
+ * {@link BulkSubmitConfig}. Up to {@link BulkSubmitConfig#getMaxConcurrentBatches()} batches are in
+ * flight at the same time, and the job postings of a stream are only read as batches are sent.
+ *
+ * <p>The results of all batches are merged into one list aligned with the input, so that the
+ * result at index {@code i} belongs to the {@code i}-th job posting. A batch that fails as a whole,
+ * or a job posting that cannot be serialized, is reported as a result with the status and message of
+ * the failure rather than failing the other batches. Job postings whose result has a transient
+ * status are resent on their own as configured by {@link BulkSubmitConfig#getElementRetryConfig()}.</p>
+ */
+public class JobPostingBulkSubmitter {
+
+  private static final Logger LOGGER = Logger.getLogger(JobPostingBulkSubmitter.class.getName());
+
+  private final BulkSubmitConfig config;
+  private final FailedElementRetrier retrier;
+
+  /**
+   * @param client the client sending the batches
+   * @param config the batch limits
+   * @throws IllegalArgumentException if a limit is not positive
+   */
+  public JobPostingBulkSubmitter(JobPostingAsyncClient client, BulkSubmitConfig config) {
+    if (config.getMaxBatchSize() < 1 || config.getMaxBatchBytes() < 1 || config.getMaxConcurrentBatches() < 1) {
+      throw new IllegalArgumentException("Bulk submit limits must be positive");
+    }
+    this.config = config;
+    this.retrier = new FailedElementRetrier(client, config.getElementRetryConfig(),
+        FailedElementRetrier.SHARED_SCHEDULER);
+  }
+
+  /**
+   * Submits a list of job postings.
+   *
+   * @param jobPostings the job postings to send
+   * @return a future completing with one result per job posting, in input order
+   */
+  public CompletableFuture<List<JobPostingResult>> submit(List<JobPosting> jobPostings) {
+    if (jobPostings == null) {
+      throw new IllegalArgumentException("Job postings cannot be null");
+    }
+    return new Submission(jobPostings.iterator()).start();
+  }
+
+  /**
+   * Submits a stream of job postings, which is consumed as batches are sent.
+   *
+   * @param jobPostings the job postings to send
+   * @return a future completing with one result per job posting, in stream order
+   */
+  public CompletableFuture<List<JobPostingResult>> submit(Stream<JobPosting> jobPostings) {
+    if (jobPostings == null) {
+      throw new IllegalArgumentException("Job postings cannot be null");
+    }
+    return new Submission(jobPostings.iterator()).start();
+  }
+
+  /**
+   * Job postings cut from the input, with the index of the result of each.
+   */
+  private static final class Batch {
+    private final List<JobPosting> jobPostings = new ArrayList<>();
+    private final List<Integer> indices = new ArrayList<>();
+    private long bytes;
+
+    void add(JobPosting jobPosting, int index, long size) {
+      jobPostings.add(jobPosting);
+      indices.add(index);
+      bytes += size;
+    }
+  }
+
+  /**
+   * The state of one call to {@code submit}.
+   */
+  private final class Submission {
+    private final Iterator<JobPosting> source;
+    private final List<JobPostingResult> results = new ArrayList<>();
+    private final CompletableFuture<List<JobPostingResult>> done = new CompletableFuture<>();
+
+    /** Read from the source but left out of the previous batch, which it would have made too large. */
+    private JobPosting pending;
+    private int pendingIndex;
+    private long pendingBytes;
+    private int inFlight;
+    private boolean exhausted;
+    private boolean pumping;
+    private boolean pumpAgain;
+
+    Submission(Iterator<JobPosting> source) {
+      this.source = source;
+    }
+
+    CompletableFuture<List<JobPostingResult>> start() {
+      pump();
+      return done;
+    }
+
+    /**
+     * Sends batches until the concurrency limit is reached or the input is exhausted. Completions
+     * that arrive while a pump is running make it loop again instead of pumping recursively, since
+     * a batch may complete on the calling thread.
+     */
+    private void pump() {
+      synchronized (this) {
+        if (pumping) {
+          pumpAgain = true;
+          return;
+        }
+        pumping = true;
+      }
+      while (true) {
+        Batch batch;
+        synchronized (this) {
+          pumpAgain = false;
+          batch = inFlight < config.getMaxConcurrentBatches() ? nextBatch() : null;
+          if (batch == null) {
+            if (exhausted && inFlight == 0 && !done.isDone()) {
+              done.complete(results);
+            }
+            if (!pumpAgain) {
+              pumping = false;
+              return;
+            }
+            continue;
+          }
+          inFlight++;
+        }
+        send(batch);
+      }
+    }
+
+    private void send(Batch batch) {
+      retrier.send(batch.jobPostings).whenComplete((batchResults, failure) -> {
+        synchronized (this) {
+          record(batch, batchResults, failure);
+          inFlight--;
+        }
+        pump();
+      });
+    }
+
+    /**
+     * Cuts the next batch from the source, or returns null once the source is exhausted.
+     */
+    private Batch nextBatch() {
+      if (exhausted) {
+        return null;
+      }
+      Batch batch = new Batch();
+      try {
+        while (batch.jobPostings.size() < config.getMaxBatchSize()) {
+          if (pending == null) {
+            if (!source.hasNext()) {
+              exhausted = true;
+              break;
+            }
+            JobPosting jobPosting = source.next();
+            results.add(null);
+            long size;
+            try {
+              size = SerializedSize.of(jobPosting);
+            } catch (JsonSerializationException e) {
+              // Reported now and never sent, the rest of the input is unaffected
+              results.set(results.size() - 1, BatchResults.failed(jobPosting,
+                  HttpStatusCategory.CLIENT_ERROR.getDefaultCode(), e.getMessage()));
+              continue;
+            }
+            pending = jobPosting;
+            pendingIndex = results.size() - 1;
+            pendingBytes = size;
+          }
+          if (!batch.jobPostings.isEmpty() && batch.bytes + pendingBytes > config.getMaxBatchBytes()) {
+            break;
+          }
+          batch.add(pending, pendingIndex, pendingBytes);
+          pending = null;
+        }
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.SEVERE, "Failed to read the job postings to submit", e);
+        exhausted = true;
+        done.completeExceptionally(e);
+      }
+      return batch.jobPostings.isEmpty() ? null : batch;
+    }
+
+    private void record(Batch batch, List<JobPostingResult> batchResults, Throwable failure) {
+      if (failure != null) {
+        LOGGER.log(Level.WARNING, "Batch of " + batch.jobPostings.size() + " job postings failed", failure);
+      }
+      for (int i = 0; i < batch.jobPostings.size(); i++) {
+        results.set(batch.indices.get(i),
+            failure != null ? BatchResults.failed(batch.jobPostings.get(i), failure) : batchResults.get(i));
+      }
+    }
+  }
+}
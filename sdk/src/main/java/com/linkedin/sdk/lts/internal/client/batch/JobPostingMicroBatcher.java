@@ -0,0 +1,170 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Gathers job postings submitted one at a time into {@code BATCH_CREATE} requests sent through
+ * {@link JobPostingAsyncClient#processJobPostingAsync}. A batch is sent once it holds
+ * {@link MicroBatchConfig#getMaxBatchSize()} job postings, once the next job posting would take it
+ * over {@link MicroBatchConfig#getMaxBatchBytes()}, or {@link MicroBatchConfig#getMaxDelayMillis()}
+ * after its first job posting was submitted.
+ *
+ * <p>Every job posting gets its own future, completed with the element of the batch response
+ * for that job posting. When the request fails as a whole, the futures of all its job postings
+ * complete exceptionally with the error of the request, as {@code processJobPostingAsync} would.
+ * Job postings whose result has a transient status are resent on their own, as configured by
+ * {@link MicroBatchConfig#getElementRetryConfig()}, before their futures complete.</p>
+ */
+public class JobPostingMicroBatcher implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(JobPostingMicroBatcher.class.getName());
+
+  private final MicroBatchConfig config;
+  private final ScheduledExecutorService scheduler;
+  private final FailedElementRetrier retrier;
+
+  private List<Entry> buffer = new ArrayList<>();
+  private long bufferBytes;
+  private ScheduledFuture<?> scheduledFlush;
+  private boolean closed;
+
+  /**
+   * @param client the client sending the batches
+   * @param config the batch limits
+   * @throws IllegalArgumentException if a limit is not positive
+   */
+  public JobPostingMicroBatcher(JobPostingAsyncClient client, MicroBatchConfig config) {
+    if (config.getMaxBatchSize() < 1 || config.getMaxBatchBytes() < 1 || config.getMaxDelayMillis() < 1) {
+      throw new IllegalArgumentException("Micro-batch limits must be positive");
+    }
+    this.config = config;
+    this.scheduler = config.getScheduler() != null ? config.getScheduler() : FailedElementRetrier.SHARED_SCHEDULER;
+    this.retrier = new FailedElementRetrier(client, config.getElementRetryConfig(), scheduler);
+  }
+
+  /**
+   * Adds a job posting to the current batch.
+   *
+   * @param jobPosting the job posting to send
+   * @return a future completing with the result of the job posting, or exceptionally with a
+   *     {@link JsonSerializationException} if it cannot be serialized, an
+   *     {@link IllegalStateException} if the batcher is closed, or the error of its request
+   */
+  public CompletableFuture<JobPostingResult> submit(JobPosting jobPosting) {
+    long size;
+    try {
+      size = SerializedSize.of(jobPosting);
+    } catch (JsonSerializationException e) {
+      return FutureUtil.failedFuture(e);
+    }
+    Entry entry = new Entry(jobPosting);
+    List<Entry> full = null;
+    List<Entry> overflow = null;
+    synchronized (this) {
+      if (closed) {
+        return FutureUtil.failedFuture(new IllegalStateException("JobPostingMicroBatcher is closed"));
+      }
+      if (!buffer.isEmpty() && bufferBytes + size > config.getMaxBatchBytes()) {
+        overflow = drain();
+      }
+      buffer.add(entry);
+      bufferBytes += size;
+      if (buffer.size() >= config.getMaxBatchSize() || bufferBytes >= config.getMaxBatchBytes()) {
+        full = drain();
+      } else if (buffer.size() == 1) {
+        scheduledFlush = scheduler.schedule(this::flush, config.getMaxDelayMillis(), TimeUnit.MILLISECONDS);
+      }
+    }
+    // Sent outside the lock, a request may complete on this thread
+    send(overflow);
+    send(full);
+    return entry.future;
+  }
+
+  /**
+   * Sends the current batch without waiting for its limits to be reached.
+   */
+  public void flush() {
+    List<Entry> batch;
+    synchronized (this) {
+      batch = drain();
+    }
+    send(batch);
+  }
+
+  /**
+   * Sends the current batch and rejects job postings submitted afterwards. Batches already sent
+   * still complete their futures.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    flush();
+  }
+
+  /**
+   * Takes the buffered job postings, or returns null if there are none. Must hold the lock.
+   */
+  private List<Entry> drain() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+    if (buffer.isEmpty()) {
+      return null;
+    }
+    List<Entry> batch = buffer;
+    buffer = new ArrayList<>();
+    bufferBytes = 0;
+    return batch;
+  }
+
+  private void send(List<Entry> batch) {
+    if (batch == null) {
+      return;
+    }
+    List<JobPosting> jobPostings = new ArrayList<>(batch.size());
+    for (Entry entry : batch) {
+      jobPostings.add(entry.jobPosting);
+    }
+    retrier.send(jobPostings).whenComplete((results, failure) -> {
+      if (failure != null) {
+        LOGGER.log(Level.WARNING, "Batch of " + batch.size() + " job postings failed", failure);
+        for (Entry entry : batch) {
+          entry.future.completeExceptionally(failure);
+        }
+        return;
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).future.complete(results.get(i));
+      }
+    });
+  }
+
+  /**
+   * A submitted job posting and the future of its result.
+   */
+  private static final class Entry {
+    private final JobPosting jobPosting;
+    private final CompletableFuture<JobPostingResult> future = new CompletableFuture<>();
+
+    Entry(JobPosting jobPosting) {
+      this.jobPosting = jobPosting;
+    }
+  }
+}
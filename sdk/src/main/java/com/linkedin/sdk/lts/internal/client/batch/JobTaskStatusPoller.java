@@ -0,0 +1,280 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobPostingTaskResult;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatus;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Polls the status of job posting tasks for any number of callers with a few multi-id
+ * {@code simpleJobPostingTasks} requests, instead of one request per task.
+ *
+ * <p>Every tracked task gets a future completing with its {@link JobPostingTaskResult} once its
+ * status is {@link JobTaskStatus#SUCCEEDED}, {@link JobTaskStatus#FAILED} or
+ * {@link JobTaskStatus#PROCESSED}. Callers tracking the same task share its future. The interval
+ * between polls of a task grows while it stays in progress, as configured by
+ * {@link TaskPollConfig}. When a poll is due, the tasks due within half of their own interval are
+ * polled with it, so that tasks tracked around the same time share their requests.</p>
+ *
+ * <p>A request failing with a transient {@link LinkedInApiException} or an {@link IOException} is
+ * retried at the next interval. Any other failure of a request, such as an
+ * {@code AuthenticationException} or a {@code JsonDeserializationException}, or an error reported
+ * for a task in the {@code errors} of the response, fails the futures of the tasks concerned with
+ * that error.</p>
+ */
+public class JobTaskStatusPoller implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(JobTaskStatusPoller.class.getName());
+
+  private final JobPostingAsyncClient client;
+  private final TaskPollConfig config;
+  private final ScheduledExecutorService scheduler;
+  private final Clock clock;
+
+  private final Map<String, Task> tasks = new HashMap<>();
+  private ScheduledFuture<?> scheduledPoll;
+  private long scheduledPollAt = Long.MAX_VALUE;
+  private boolean closed;
+
+  /**
+   * @param client the client polling the task statuses
+   * @param config the poll intervals and limits
+   * @throws IllegalArgumentException if a limit is not positive
+   */
+  public JobTaskStatusPoller(JobPostingAsyncClient client, TaskPollConfig config) {
+    this(client, config, Clock.systemUTC());
+  }
+
+  JobTaskStatusPoller(JobPostingAsyncClient client, TaskPollConfig config, Clock clock) {
+    if (config.getInitialIntervalMillis() < 1 || config.getMaxIntervalMillis() < 1
+        || config.getMaxIdsPerRequest() < 1 || config.getTimeoutMillis() < 1 || config.getIntervalMultiplier() < 1) {
+      throw new IllegalArgumentException("Task poll limits must be positive");
+    }
+    this.client = client;
+    this.config = config;
+    this.scheduler = config.getScheduler() != null ? config.getScheduler() : FailedElementRetrier.SHARED_SCHEDULER;
+    this.clock = clock;
+  }
+
+  /**
+   * Starts polling the status of a task.
+   *
+   * @param taskId the ID of the job posting task, as returned in {@code JobPostingResult.getId()}
+   * @return a future completing with the result of the task once it has finished, or exceptionally
+   *     if its status cannot be obtained or it has not finished within the timeout
+   * @throws IllegalArgumentException if the task ID is null or empty
+   */
+  public CompletableFuture<JobPostingTaskResult> track(String taskId) {
+    if (taskId == null || taskId.isEmpty()) {
+      throw new IllegalArgumentException("Task ID cannot be null or empty");
+    }
+    synchronized (this) {
+      if (closed) {
+        return FutureUtil.failedFuture(new IllegalStateException("JobTaskStatusPoller is closed"));
+      }
+      Task task = tasks.get(taskId);
+      if (task == null) {
+        long now = clock.millis();
+        task = new Task(taskId, now + config.getInitialIntervalMillis(), now + config.getTimeoutMillis(),
+            config.getInitialIntervalMillis());
+        tasks.put(taskId, task);
+        schedule();
+      }
+      return task.future;
+    }
+  }
+
+  /**
+   * @return the number of tasks whose status is being polled
+   */
+  public synchronized int getOutstandingTasks() {
+    return tasks.size();
+  }
+
+  /**
+   * Stops polling. The futures of the tasks still in progress fail with an
+   * {@link IllegalStateException}.
+   */
+  @Override
+  public void close() {
+    List<Task> abandoned;
+    synchronized (this) {
+      closed = true;
+      if (scheduledPoll != null) {
+        scheduledPoll.cancel(false);
+        scheduledPoll = null;
+      }
+      abandoned = new ArrayList<>(tasks.values());
+      tasks.clear();
+    }
+    for (Task task : abandoned) {
+      task.future.completeExceptionally(new IllegalStateException("JobTaskStatusPoller is closed"));
+    }
+  }
+
+  /**
+   * Schedules the next poll at the earliest time a task not already being polled is due. Must
+   * hold the lock.
+   */
+  private void schedule() {
+    long next = Long.MAX_VALUE;
+    for (Task task : tasks.values()) {
+      if (!task.polling) {
+        next = Math.min(next, task.nextPollAt);
+      }
+    }
+    if (closed || next >= scheduledPollAt) {
+      return;
+    }
+    if (scheduledPoll != null) {
+      scheduledPoll.cancel(false);
+    }
+    scheduledPollAt = next;
+    scheduledPoll = scheduler.schedule(this::poll, Math.max(0, next - clock.millis()), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Polls the tasks that are due, in requests of at most {@code maxIdsPerRequest} IDs.
+   */
+  void poll() {
+    List<List<Task>> requests = new ArrayList<>();
+    List<Task> expired = new ArrayList<>();
+    synchronized (this) {
+      scheduledPoll = null;
+      scheduledPollAt = Long.MAX_VALUE;
+      long now = clock.millis();
+      List<Task> due = new ArrayList<>();
+      for (Task task : new ArrayList<>(tasks.values())) {
+        if (task.polling) {
+          continue;
+        }
+        if (now >= task.deadline) {
+          tasks.remove(task.id);
+          expired.add(task);
+        } else if (task.nextPollAt - now <= task.intervalMillis / 2) {
+          task.polling = true;
+          due.add(task);
+        }
+      }
+      for (int i = 0; i < due.size(); i += config.getMaxIdsPerRequest()) {
+        requests.add(due.subList(i, Math.min(due.size(), i + config.getMaxIdsPerRequest())));
+      }
+      schedule();
+    }
+    for (Task task : expired) {
+      task.future.completeExceptionally(new TimeoutException("Task " + task.id + " did not finish within "
+          + config.getTimeoutMillis() + " ms"));
+    }
+    for (List<Task> request : requests) {
+      send(request);
+    }
+  }
+
+  private void send(List<Task> request) {
+    List<String> taskIds = new ArrayList<>(request.size());
+    for (Task task : request) {
+      taskIds.add(task.id);
+    }
+    CompletableFuture<APIResponse<JobTaskStatusResponse>> response;
+    try {
+      response = client.getTaskStatusAsync(taskIds);
+    } catch (RuntimeException e) {
+      response = FutureUtil.failedFuture(e);
+    }
+    response.whenComplete((apiResponse, failure) -> record(request, apiResponse, failure));
+  }
+
+  private void record(List<Task> request, APIResponse<JobTaskStatusResponse> apiResponse, Throwable failure) {
+    Throwable cause = failure != null ? FutureUtil.unwrap(failure) : null;
+    if (cause != null) {
+      LOGGER.log(Level.WARNING, "Failed to poll the status of " + request.size() + " tasks", cause);
+    }
+    JobTaskStatusResponse body = apiResponse != null ? apiResponse.getBody() : null;
+    Map<String, JobPostingTaskResult> results = body != null && body.getResults() != null
+        ? body.getResults()
+        : Collections.emptyMap();
+    Map<String, Object> errors = body != null && body.getErrors() != null ? body.getErrors() : Collections.emptyMap();
+
+    Map<Task, JobPostingTaskResult> finished = new HashMap<>();
+    Map<Task, Throwable> failed = new HashMap<>();
+    synchronized (this) {
+      long now = clock.millis();
+      for (Task task : request) {
+        task.polling = false;
+        JobPostingTaskResult result = results.get(task.id);
+        if (cause != null && !isRetryable(cause)) {
+          failed.put(task, cause);
+        } else if (result != null && isFinished(result.getStatus())) {
+          finished.put(task, result);
+        } else if (errors.containsKey(task.id)) {
+          failed.put(task, new LinkedInApiException(HttpStatusCategory.CLIENT_ERROR.getDefaultCode(),
+              Collections.emptyMap(), String.valueOf(errors.get(task.id))));
+        } else {
+          // Still in progress, or the request failed transiently, poll again later and less often
+          task.intervalMillis = Math.min(config.getMaxIntervalMillis(),
+              (long) (task.intervalMillis * config.getIntervalMultiplier()));
+          task.nextPollAt = Math.min(now + task.intervalMillis, task.deadline);
+          continue;
+        }
+        tasks.remove(task.id);
+      }
+      schedule();
+    }
+    finished.forEach((task, result) -> task.future.complete(result));
+    failed.forEach((task, error) -> task.future.completeExceptionally(error));
+  }
+
+  /**
+   * @return whether a failed poll is worth repeating: a transient API error or a network failure.
+   *     Anything else, such as rejected credentials or an unreadable response, fails again on every
+   *     poll.
+   */
+  private static boolean isRetryable(Throwable cause) {
+    if (cause instanceof LinkedInApiException) {
+      return LinkedInApiException.isTransient(((LinkedInApiException) cause).getStatusCode());
+    }
+    return cause instanceof IOException;
+  }
+
+  private static boolean isFinished(JobTaskStatus status) {
+    return status == JobTaskStatus.SUCCEEDED || status == JobTaskStatus.FAILED || status == JobTaskStatus.PROCESSED;
+  }
+
+  /**
+   * A tracked task and when to poll it next.
+   */
+  private static final class Task {
+    private final String id;
+    private final long deadline;
+    private final CompletableFuture<JobPostingTaskResult> future = new CompletableFuture<>();
+    private long nextPollAt;
+    private long intervalMillis;
+    private boolean polling;
+
+    Task(String id, long nextPollAt, long deadline, long intervalMillis) {
+      this.id = id;
+      this.nextPollAt = nextPollAt;
+      this.deadline = deadline;
+      this.intervalMillis = intervalMillis;
+    }
+  }
+}
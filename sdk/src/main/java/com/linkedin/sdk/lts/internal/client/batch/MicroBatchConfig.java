@@ -0,0 +1,50 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RetryConfig;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Configuration of {@link JobPostingMicroBatcher}. A batch is sent as soon as one of its limits is
+ * reached.
+ */
+@Data
+@Builder
+public class MicroBatchConfig {
+
+  /**
+   * Largest number of job postings sent in one {@code BATCH_CREATE} request.
+   */
+  @Builder.Default
+  private int maxBatchSize = 100;
+
+  /**
+   * Largest serialized size of the job postings of one request, in bytes. A job posting larger than
+   * this is sent on its own.
+   */
+  @Builder.Default
+  private long maxBatchBytes = 2 * 1024 * 1024;
+
+  /**
+   * Longest time a job posting waits for others to join its batch before the batch is sent.
+   */
+  @Builder.Default
+  private long maxDelayMillis = 50;
+
+  /**
+   * Backoff of the resends of job postings whose result has a transient status, such as 429 or
+   * 5xx. Only these job postings are sent again, in a smaller batch. Set {@code maxRetries} to 0
+   * to return their results without resending them.
+   */
+  @Builder.Default
+  private RetryConfig elementRetryConfig = RetryConfig.builder().build();
+
+  /**
+   * Timer sending batches once their delay has elapsed and resending failed job postings after
+   * their backoff. When not set, a single daemon thread shared
+   * by all batchers is used.
+   */
+  private ScheduledExecutorService scheduler;
+}
@@ -0,0 +1,53 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * Measures the size of the JSON a job posting adds to a {@code BATCH_CREATE} request, so that
+ * batches can be cut below a byte limit.
+ */
+final class SerializedSize {
+
+  private SerializedSize() {
+  }
+
+  /**
+   * @param value the value to measure
+   * @return the number of bytes of the JSON of the value
+   * @throws JsonSerializationException if the value is null or cannot be serialized
+   */
+  static long of(Object value) throws JsonSerializationException {
+    if (value == null) {
+      throw new JsonSerializationException("Cannot serialize a null value");
+    }
+    ByteCounter counter = new ByteCounter();
+    try {
+      ObjectMapperUtil.writeJson(counter, value);
+    } catch (IOException e) {
+      // The counter never fails to write, this is a serialization failure
+      throw new JsonSerializationException("Failed to serialize " + value.getClass().getSimpleName(), e);
+    }
+    return counter.count;
+  }
+
+  /**
+   * Counts the bytes written to it and discards them.
+   */
+  private static final class ByteCounter extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+}
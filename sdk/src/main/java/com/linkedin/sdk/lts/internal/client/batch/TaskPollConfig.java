@@ -0,0 +1,55 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Configuration of {@link JobTaskStatusPoller}.
+ *
+ * <p>Each task is first polled {@link #initialIntervalMillis} after it is tracked. The interval
+ * is multiplied by {@link #intervalMultiplier} every time the task is still in progress, up to
+ * {@link #maxIntervalMillis}, so that slow tasks are polled less often than fresh ones.</p>
+ */
+@Data
+@Builder
+public class TaskPollConfig {
+
+  /**
+   * Delay before the first poll of a task.
+   */
+  @Builder.Default
+  private long initialIntervalMillis = 1000;
+
+  /**
+   * Factor applied to the interval of a task each time it is found still in progress.
+   */
+  @Builder.Default
+  private double intervalMultiplier = 1.5;
+
+  /**
+   * Longest interval between two polls of a task.
+   */
+  @Builder.Default
+  private long maxIntervalMillis = 30000;
+
+  /**
+   * Largest number of task IDs sent in one {@code simpleJobPostingTasks} request.
+   */
+  @Builder.Default
+  private int maxIdsPerRequest = 50;
+
+  /**
+   * Time after which a task that has not finished fails with a
+   * {@link java.util.concurrent.TimeoutException}.
+   */
+  @Builder.Default
+  private long timeoutMillis = 600000;
+
+  /**
+   * Timer running the polls. When not set, a single daemon thread shared by all batchers and
+   * pollers is used.
+   */
+  private ScheduledExecutorService scheduler;
+}
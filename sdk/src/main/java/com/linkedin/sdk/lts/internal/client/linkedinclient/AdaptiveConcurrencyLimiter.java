@@ -0,0 +1,141 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.ConcurrencyLimitExceededException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Limits the number of in-flight requests with the AIMD rule described in
+ * {@link ConcurrencyLimitConfig}. Requests over the limit wait in a FIFO queue as futures, so
+ * neither synchronous nor asynchronous callers need a dedicated thread to wait.
+ */
+class AdaptiveConcurrencyLimiter {
+
+  /**
+   * What a completed request says about LinkedIn's capacity.
+   */
+  enum Outcome {
+    /** Completed in time, the limit may grow. */
+    SUCCESS,
+    /** Failed with a transient error, the limit shrinks. */
+    DROPPED,
+    /** Never reached LinkedIn or says nothing about its health, the limit is left alone. */
+    IGNORED
+  }
+
+  private final ConcurrencyLimitConfig config;
+  private final ScheduledExecutorService scheduler;
+  private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+  private double limit;
+  private int inFlight;
+  private long rejected;
+
+  AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig config, ScheduledExecutorService scheduler) {
+    this.config = config;
+    this.scheduler = scheduler;
+    this.limit = config.getInitialLimit();
+  }
+
+  /**
+   * Asks for a slot. Every granted slot must be given back with {@link #release}.
+   *
+   * @return a future completed once the slot is granted, or completed exceptionally with a
+   *     {@link ConcurrencyLimitExceededException} if the request is rejected or times out
+   */
+  CompletableFuture<Void> acquire() {
+    CompletableFuture<Void> permit = new CompletableFuture<>();
+    synchronized (this) {
+      if (inFlight < (int) limit) {
+        inFlight++;
+        permit.complete(null);
+        return permit;
+      }
+      if (config.getOverflow() == ConcurrencyLimitOverflow.REJECT) {
+        rejected++;
+        permit.completeExceptionally(new ConcurrencyLimitExceededException(
+            "Concurrency limit of " + (int) limit + " in-flight requests reached"));
+        return permit;
+      }
+      waiters.add(permit);
+    }
+
+    try {
+      ScheduledFuture<?> timeout = scheduler.schedule(() -> expire(permit), config.getMaxQueueWaitMillis(),
+          TimeUnit.MILLISECONDS);
+      permit.whenComplete((ignored, e) -> timeout.cancel(false));
+    } catch (RejectedExecutionException e) {
+      // Without a timer the request simply waits for its turn
+    }
+    return permit;
+  }
+
+  /**
+   * Gives back a slot and adapts the limit to the outcome of the request that held it.
+   *
+   * @param outcome what the request says about LinkedIn's capacity
+   * @param durationNanos how long the request took
+   */
+  void release(Outcome outcome, long durationNanos) {
+    List<CompletableFuture<Void>> granted = new ArrayList<>();
+    synchronized (this) {
+      if (outcome == Outcome.SUCCESS
+          && durationNanos > TimeUnit.MILLISECONDS.toNanos(config.getLatencyThresholdMillis())) {
+        outcome = Outcome.DROPPED;
+      }
+      if (outcome == Outcome.DROPPED) {
+        limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+      } else if (outcome == Outcome.SUCCESS && inFlight * 2 >= limit) {
+        limit = Math.min(config.getMaxLimit(), limit + 1);
+      }
+      inFlight--;
+
+      while (inFlight < (int) limit && !waiters.isEmpty()) {
+        CompletableFuture<Void> waiter = waiters.poll();
+        if (!waiter.isDone()) {
+          inFlight++;
+          granted.add(waiter);
+        }
+      }
+    }
+
+    for (CompletableFuture<Void> waiter : granted) {
+      if (!waiter.complete(null)) {
+        // The waiter gave up while its slot was being granted
+        release(Outcome.IGNORED, 0);
+      }
+    }
+  }
+
+  synchronized ConcurrencyLimitStats getStats() {
+    return ConcurrencyLimitStats.builder()
+        .limit((int) limit)
+        .inFlight(inFlight)
+        .queued(waiters.size())
+        .rejected(rejected)
+        .build();
+  }
+
+  /**
+   * Fails a waiter that has been queued for longer than the maximum wait.
+   */
+  private void expire(CompletableFuture<Void> permit) {
+    synchronized (this) {
+      // A waiter that is no longer queued has already been granted a slot
+      if (!waiters.remove(permit)) {
+        return;
+      }
+      rejected++;
+    }
+    permit.completeExceptionally(new ConcurrencyLimitExceededException(
+        "Timed out after " + config.getMaxQueueWaitMillis() + " ms waiting for a concurrency slot"));
+  }
+}
@@ -0,0 +1,58 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * Group of LinkedIn API endpoints sharing a client-side rate limit.
+ */
+public enum ApiFamily {
+
+  /**
+   * Job posting creation, update and closing ({@code simpleJobPostings}).
+   */
+  JOB_POSTINGS("simpleJobPostings"),
+
+  /**
+   * Job posting task status lookups ({@code simpleJobPostingTasks}).
+   */
+  TASK_STATUS("simpleJobPostingTasks"),
+
+  /**
+   * Job posting status lookups ({@code jobPostingStatus}).
+   */
+  JOB_STATUS("jobPostingStatus"),
+
+  /**
+   * P4P job performance and budget reports.
+   */
+  P4P_REPORTS("partnerJobReports", "partnerBudgetReports"),
+
+  /**
+   * Application and hiring contract provisioning.
+   */
+  PROVISIONING("provisionedApplications", "provisionedHiringContracts"),
+
+  /**
+   * Every other endpoint, such as ApplyConnect notifications.
+   */
+  OTHER;
+
+  private final String[] resources;
+
+  ApiFamily(String... resources) {
+    this.resources = resources;
+  }
+
+  /**
+   * @param resource the API resource, the first path segment after the API version
+   * @return the family the resource belongs to
+   */
+  public static ApiFamily fromResource(String resource) {
+    for (ApiFamily family : values()) {
+      for (String candidate : family.resources) {
+        if (candidate.equals(resource)) {
+          return family;
+        }
+      }
+    }
+    return OTHER;
+  }
+}
@@ -0,0 +1,59 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * InputStream decorator that keeps a copy of every byte read through it, so that a response
+ * body can be logged after it has been parsed straight from the connection.
+ */
+class CapturingInputStream extends FilterInputStream {
+
+  private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+  CapturingInputStream(InputStream in) {
+    super(in);
+  }
+
+  /**
+   * @return the bytes read so far, decoded as UTF-8
+   */
+  String getCaptured() {
+    return new String(captured.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    if (b != -1) {
+      captured.write(b);
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = super.read(b, off, len);
+    if (n > 0) {
+      captured.write(b, off, n);
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    // Route skips through read so skipped bytes are captured too
+    byte[] buffer = new byte[(int) Math.min(n, 8192)];
+    int read = read(buffer, 0, buffer.length);
+    return Math.max(read, 0);
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+}
@@ -0,0 +1,172 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+
+/**
+ * Circuit breaker of a single endpoint, recording the outcome of the last calls in a count based
+ * sliding window. See {@link CircuitBreakerConfig} for the rules.
+ */
+class CircuitBreaker {
+  private static final Logger LOGGER = Logger.getLogger(CircuitBreaker.class.getName());
+
+  private final String endpoint;
+  private final CircuitBreakerConfig config;
+  private final LongSupplier nanoClock;
+
+  private final boolean[] failed;
+  private final boolean[] slow;
+  private int bufferedCalls;
+  private int nextIndex;
+  private int failedCalls;
+  private int slowCalls;
+
+  private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+  private long openedAtNanos;
+  private int halfOpenPermitsIssued;
+  private long notPermittedCalls;
+  private long timesOpened;
+
+  CircuitBreaker(String endpoint, CircuitBreakerConfig config) {
+    this(endpoint, config, System::nanoTime);
+  }
+
+  CircuitBreaker(String endpoint, CircuitBreakerConfig config, LongSupplier nanoClock) {
+    this.endpoint = endpoint;
+    this.config = config;
+    this.nanoClock = nanoClock;
+    this.failed = new boolean[config.getSlidingWindowSize()];
+    this.slow = new boolean[config.getSlidingWindowSize()];
+  }
+
+  /**
+   * Asks for permission to send a call. Every permitted call must be followed by
+   * {@link #onResult} or {@link #releasePermission()}.
+   *
+   * @return false if the call must fail fast
+   */
+  boolean tryAcquirePermission() {
+    CircuitBreakerState previous = null;
+    boolean permitted;
+    synchronized (this) {
+      if (state == CircuitBreakerState.OPEN
+          && nanoClock.getAsLong() - openedAtNanos >= TimeUnit.MILLISECONDS.toNanos(config.getOpenStateDurationMillis())) {
+        previous = transitionTo(CircuitBreakerState.HALF_OPEN);
+      }
+      if (state == CircuitBreakerState.OPEN
+          || (state == CircuitBreakerState.HALF_OPEN && halfOpenPermitsIssued >= config.getPermittedCallsInHalfOpenState())) {
+        notPermittedCalls++;
+        permitted = false;
+      } else {
+        if (state == CircuitBreakerState.HALF_OPEN) {
+          halfOpenPermitsIssued++;
+        }
+        permitted = true;
+      }
+    }
+    notify(previous, CircuitBreakerState.HALF_OPEN);
+    return permitted;
+  }
+
+  /**
+   * Records the outcome of a permitted call.
+   *
+   * @param failure whether the call failed with a transient error
+   * @param durationNanos how long the call took
+   */
+  void onResult(boolean failure, long durationNanos) {
+    CircuitBreakerState previous = null;
+    CircuitBreakerState current;
+    synchronized (this) {
+      if (state != CircuitBreakerState.OPEN) {
+        record(failure, durationNanos > TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationThresholdMillis()));
+        if (state == CircuitBreakerState.HALF_OPEN) {
+          if (bufferedCalls >= config.getPermittedCallsInHalfOpenState()) {
+            previous = transitionTo(thresholdExceeded() ? CircuitBreakerState.OPEN : CircuitBreakerState.CLOSED);
+          }
+        } else if (bufferedCalls >= config.getMinimumNumberOfCalls() && thresholdExceeded()) {
+          previous = transitionTo(CircuitBreakerState.OPEN);
+        }
+      }
+      current = state;
+    }
+    notify(previous, current);
+  }
+
+  /**
+   * Gives back the permission of a call whose outcome says nothing about the endpoint, such as a
+   * call that failed before it was sent.
+   */
+  synchronized void releasePermission() {
+    if (state == CircuitBreakerState.HALF_OPEN && halfOpenPermitsIssued > 0) {
+      halfOpenPermitsIssued--;
+    }
+  }
+
+  synchronized CircuitBreakerStats getStats() {
+    boolean evaluated = bufferedCalls >= config.getMinimumNumberOfCalls();
+    return CircuitBreakerStats.builder()
+        .state(state)
+        .failureRate(evaluated ? rate(failedCalls) : -1)
+        .slowCallRate(evaluated ? rate(slowCalls) : -1)
+        .bufferedCalls(bufferedCalls)
+        .notPermittedCalls(notPermittedCalls)
+        .timesOpened(timesOpened)
+        .build();
+  }
+
+  private void record(boolean failure, boolean slowCall) {
+    if (bufferedCalls == failed.length) {
+      failedCalls -= failed[nextIndex] ? 1 : 0;
+      slowCalls -= slow[nextIndex] ? 1 : 0;
+    } else {
+      bufferedCalls++;
+    }
+    failed[nextIndex] = failure;
+    slow[nextIndex] = slowCall;
+    failedCalls += failure ? 1 : 0;
+    slowCalls += slowCall ? 1 : 0;
+    nextIndex = (nextIndex + 1) % failed.length;
+  }
+
+  private boolean thresholdExceeded() {
+    return rate(failedCalls) >= config.getFailureRateThreshold()
+        || rate(slowCalls) >= config.getSlowCallRateThreshold();
+  }
+
+  private float rate(int calls) {
+    return bufferedCalls == 0 ? 0 : calls * 100f / bufferedCalls;
+  }
+
+  /**
+   * Moves to the given state with an empty window.
+   *
+   * @return the previous state
+   */
+  private CircuitBreakerState transitionTo(CircuitBreakerState newState) {
+    CircuitBreakerState previous = state;
+    state = newState;
+    bufferedCalls = 0;
+    nextIndex = 0;
+    failedCalls = 0;
+    slowCalls = 0;
+    halfOpenPermitsIssued = 0;
+    if (newState == CircuitBreakerState.OPEN) {
+      openedAtNanos = nanoClock.getAsLong();
+      timesOpened++;
+    }
+    return previous;
+  }
+
+  private void notify(CircuitBreakerState previous, CircuitBreakerState current) {
+    if (previous == null) {
+      return;
+    }
+    LOGGER.warning(String.format("Circuit breaker for %s changed from %s to %s", endpoint, previous, current));
+    if (config.getListener() != null) {
+      config.getListener().onStateTransition(endpoint, previous, current);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Configuration of the per-endpoint circuit breakers of {@link LinkedInHttpClient}. Circuit
+ * breakers are off by default.
+ *
+ * <p>Every attempt is recorded in a sliding window of the last {@link #slidingWindowSize} calls
+ * to the endpoint. Transient errors count as failures, while client errors count as successful
+ * calls, as they say nothing about the health of the endpoint. Once the window holds at least
+ * {@link #minimumNumberOfCalls} calls, the breaker opens when either threshold is reached.</p>
+ */
+@Data
+@Builder
+public class CircuitBreakerConfig {
+
+  /**
+   * Whether requests go through a circuit breaker per endpoint.
+   */
+  @Builder.Default
+  private boolean enabled = false;
+
+  /**
+   * Percentage of failed calls in the window at which the breaker opens.
+   */
+  @Builder.Default
+  private int failureRateThreshold = 50;
+
+  /**
+   * Percentage of slow calls in the window at which the breaker opens.
+   */
+  @Builder.Default
+  private int slowCallRateThreshold = 100;
+
+  /**
+   * Calls taking longer than this are slow.
+   */
+  @Builder.Default
+  private long slowCallDurationThresholdMillis = 10000;
+
+  /**
+   * Number of most recent calls the rates are computed over.
+   */
+  @Builder.Default
+  private int slidingWindowSize = 20;
+
+  /**
+   * Number of calls the window must hold before the rates are evaluated.
+   */
+  @Builder.Default
+  private int minimumNumberOfCalls = 10;
+
+  /**
+   * Time an open breaker fails fast before it lets trial calls through.
+   */
+  @Builder.Default
+  private long openStateDurationMillis = 30000;
+
+  /**
+   * Number of trial calls in the half-open state. The breaker closes if their rates stay below
+   * the thresholds and opens again otherwise.
+   */
+  @Builder.Default
+  private int permittedCallsInHalfOpenState = 3;
+
+  /**
+   * Notified of every state change, may be null.
+   */
+  private CircuitBreakerListener listener;
+}
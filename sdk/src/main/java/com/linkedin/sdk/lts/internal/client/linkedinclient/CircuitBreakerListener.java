@@ -0,0 +1,16 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * Receives the state changes of the circuit breakers of a {@link LinkedInHttpClient}, for example
+ * to export them as metrics. Called on the thread whose request caused the change, so
+ * implementations should return quickly.
+ */
+public interface CircuitBreakerListener {
+
+  /**
+   * @param endpoint the endpoint whose circuit breaker changed state
+   * @param from the previous state
+   * @param to the new state
+   */
+  void onStateTransition(String endpoint, CircuitBreakerState from, CircuitBreakerState to);
+}
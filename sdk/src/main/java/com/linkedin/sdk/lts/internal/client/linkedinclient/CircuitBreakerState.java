@@ -0,0 +1,23 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * State of an endpoint's circuit breaker.
+ */
+public enum CircuitBreakerState {
+
+  /**
+   * Requests are sent and their outcome is recorded.
+   */
+  CLOSED,
+
+  /**
+   * Requests fail fast with a {@link com.linkedin.sdk.lts.api.exception.CircuitBreakerOpenException}
+   * until the open state duration has elapsed.
+   */
+  OPEN,
+
+  /**
+   * A limited number of trial requests are sent to decide whether the endpoint has recovered.
+   */
+  HALF_OPEN
+}
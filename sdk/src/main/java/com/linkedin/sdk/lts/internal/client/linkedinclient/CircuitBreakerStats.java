@@ -0,0 +1,45 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Point-in-time snapshot of the circuit breaker of one endpoint.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class CircuitBreakerStats {
+
+  /**
+   * Current state of the breaker.
+   */
+  private CircuitBreakerState state;
+
+  /**
+   * Percentage of failed calls in the sliding window, or -1 if it holds too few calls.
+   */
+  private float failureRate;
+
+  /**
+   * Percentage of slow calls in the sliding window, or -1 if it holds too few calls.
+   */
+  private float slowCallRate;
+
+  /**
+   * Number of calls in the sliding window.
+   */
+  private int bufferedCalls;
+
+  /**
+   * Number of requests rejected while the breaker was open.
+   */
+  private long notPermittedCalls;
+
+  /**
+   * Number of times the breaker moved from closed or half-open to open.
+   */
+  private long timesOpened;
+}
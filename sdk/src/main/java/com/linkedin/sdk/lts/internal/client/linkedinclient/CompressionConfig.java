@@ -0,0 +1,33 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Gzip compression settings for {@link LinkedInHttpClient}. Compression is off by default.
+ */
+@Data
+@Builder
+public class CompressionConfig {
+
+  /**
+   * Whether request bodies larger than {@link #requestCompressionThresholdBytes} are sent with
+   * {@code Content-Encoding: gzip}.
+   */
+  @Builder.Default
+  private boolean requestCompressionEnabled = false;
+
+  /**
+   * Request bodies up to this size are sent uncompressed, as gzip does not pay off for them.
+   */
+  @Builder.Default
+  private int requestCompressionThresholdBytes = 1024;
+
+  /**
+   * Whether requests advertise {@code Accept-Encoding: gzip}. Gzip encoded responses are always
+   * decompressed while they are parsed, whether or not this is enabled.
+   */
+  @Builder.Default
+  private boolean responseCompressionEnabled = false;
+}
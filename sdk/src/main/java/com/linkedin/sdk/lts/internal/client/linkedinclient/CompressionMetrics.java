@@ -0,0 +1,46 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Thread-safe counters behind {@link CompressionStats}.
+ */
+class CompressionMetrics {
+
+  private final LongAdder requestsCompressed = new LongAdder();
+  private final LongAdder requestBytesUncompressed = new LongAdder();
+  private final LongAdder requestBytesCompressed = new LongAdder();
+  private final LongAdder requestCompressionNanos = new LongAdder();
+  private final LongAdder responsesDecompressed = new LongAdder();
+  private final LongAdder responseBytesCompressed = new LongAdder();
+  private final LongAdder responseBytesDecompressed = new LongAdder();
+  private final LongAdder responseDecompressionNanos = new LongAdder();
+
+  void recordRequest(long uncompressedBytes, long compressedBytes, long nanos) {
+    requestsCompressed.increment();
+    requestBytesUncompressed.add(uncompressedBytes);
+    requestBytesCompressed.add(compressedBytes);
+    requestCompressionNanos.add(nanos);
+  }
+
+  void recordResponse(long compressedBytes, long decompressedBytes, long nanos) {
+    responsesDecompressed.increment();
+    responseBytesCompressed.add(compressedBytes);
+    responseBytesDecompressed.add(decompressedBytes);
+    responseDecompressionNanos.add(nanos);
+  }
+
+  CompressionStats snapshot() {
+    return CompressionStats.builder()
+        .requestsCompressed(requestsCompressed.sum())
+        .requestBytesUncompressed(requestBytesUncompressed.sum())
+        .requestBytesCompressed(requestBytesCompressed.sum())
+        .requestCompressionNanos(requestCompressionNanos.sum())
+        .responsesDecompressed(responsesDecompressed.sum())
+        .responseBytesCompressed(responseBytesCompressed.sum())
+        .responseBytesDecompressed(responseBytesDecompressed.sum())
+        .responseDecompressionNanos(responseDecompressionNanos.sum())
+        .build();
+  }
+}
@@ -0,0 +1,72 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Point-in-time snapshot of the gzip compression counters of a {@link LinkedInHttpClient}.
+ *
+ * <p>Timings cover the time spent in the gzip streams, which includes the network I/O they drive
+ * while the body is being written or read.</p>
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class CompressionStats {
+
+  /**
+   * Number of request bodies sent gzip encoded.
+   */
+  private long requestsCompressed;
+
+  /**
+   * Size of the compressed request bodies before compression.
+   */
+  private long requestBytesUncompressed;
+
+  /**
+   * Size of the compressed request bodies on the wire.
+   */
+  private long requestBytesCompressed;
+
+  /**
+   * Total time spent compressing request bodies, in nanoseconds.
+   */
+  private long requestCompressionNanos;
+
+  /**
+   * Number of gzip encoded response bodies read.
+   */
+  private long responsesDecompressed;
+
+  /**
+   * Size of the gzip encoded response bodies on the wire.
+   */
+  private long responseBytesCompressed;
+
+  /**
+   * Size of the gzip encoded response bodies after decompression.
+   */
+  private long responseBytesDecompressed;
+
+  /**
+   * Total time spent decompressing response bodies, in nanoseconds.
+   */
+  private long responseDecompressionNanos;
+
+  /**
+   * @return the uncompressed to compressed size ratio of request bodies, or 0 if none was compressed
+   */
+  public double getRequestCompressionRatio() {
+    return requestBytesCompressed == 0 ? 0 : (double) requestBytesUncompressed / requestBytesCompressed;
+  }
+
+  /**
+   * @return the decompressed to compressed size ratio of response bodies, or 0 if none was compressed
+   */
+  public double getResponseCompressionRatio() {
+    return responseBytesCompressed == 0 ? 0 : (double) responseBytesDecompressed / responseBytesCompressed;
+  }
+}
@@ -0,0 +1,68 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Configuration of the adaptive concurrency limit of {@link LinkedInHttpClient}, which is off by
+ * default.
+ *
+ * <p>The limit follows an additive increase, multiplicative decrease (AIMD) rule. A request that
+ * completes in time while at least half of the limit is in use raises the limit by one. A
+ * transient error or a request slower than {@link #latencyThresholdMillis} multiplies it by
+ * {@link #backoffRatio}. The number of in-flight requests therefore grows while LinkedIn keeps up
+ * and shrinks as soon as it slows down.</p>
+ */
+@Data
+@Builder
+public class ConcurrencyLimitConfig {
+
+  /**
+   * Whether the number of in-flight requests is limited.
+   */
+  @Builder.Default
+  private boolean enabled = false;
+
+  /**
+   * Limit before any request has completed.
+   */
+  @Builder.Default
+  private int initialLimit = 20;
+
+  /**
+   * Lowest value the limit shrinks to.
+   */
+  @Builder.Default
+  private int minLimit = 1;
+
+  /**
+   * Highest value the limit grows to.
+   */
+  @Builder.Default
+  private int maxLimit = 200;
+
+  /**
+   * Factor the limit is multiplied by when a request fails or is slow.
+   */
+  @Builder.Default
+  private double backoffRatio = 0.9;
+
+  /**
+   * Requests taking longer than this shrink the limit as if they had failed.
+   */
+  @Builder.Default
+  private long latencyThresholdMillis = 5000;
+
+  /**
+   * What to do with requests arriving while the limit is reached.
+   */
+  @Builder.Default
+  private ConcurrencyLimitOverflow overflow = ConcurrencyLimitOverflow.QUEUE;
+
+  /**
+   * Longest time a request waits in the queue before it fails.
+   */
+  @Builder.Default
+  private long maxQueueWaitMillis = 30000;
+}
@@ -0,0 +1,21 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * What {@link LinkedInHttpClient} does with a request arriving while the concurrency limit is
+ * reached.
+ */
+public enum ConcurrencyLimitOverflow {
+
+  /**
+   * Queue the request until an in-flight request completes, up to
+   * {@link ConcurrencyLimitConfig#getMaxQueueWaitMillis()}. Queued asynchronous requests do not
+   * hold a thread.
+   */
+  QUEUE,
+
+  /**
+   * Fail straight away with a
+   * {@link com.linkedin.sdk.lts.api.exception.ConcurrencyLimitExceededException}.
+   */
+  REJECT
+}
@@ -0,0 +1,35 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Point-in-time snapshot of the adaptive concurrency limit of a {@link LinkedInHttpClient}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ConcurrencyLimitStats {
+
+  /**
+   * Current number of requests allowed in flight.
+   */
+  private int limit;
+
+  /**
+   * Number of requests currently in flight.
+   */
+  private int inFlight;
+
+  /**
+   * Number of requests waiting for a slot.
+   */
+  private int queued;
+
+  /**
+   * Number of requests rejected or timed out in the queue.
+   */
+  private long rejected;
+}
@@ -0,0 +1,216 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+
+/**
+ * Per-host keep-alive connection pool for {@link LinkedInHttpClient}.
+ *
+ * <p>Sockets themselves are cached by the JDK keep-alive cache, which reuses a connection once its
+ * response has been fully read and closed. This class bounds how many connections may be in use
+ * per host, hands each host a dedicated {@link TrackingSSLSocketFactory} so that new handshakes
+ * can be counted, and closes the connections of a host once it has been idle for longer than
+ * {@link ConnectionPoolConfig#getMaxIdleMillis()}.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class ConnectionPool {
+  private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+  /** Idle sockets the JDK keep-alive cache keeps per destination unless configured otherwise. */
+  static final int DEFAULT_KEEP_ALIVE_CONNECTIONS = 5;
+
+  private final ConnectionPoolConfig config;
+  private final SSLSocketFactory baseSocketFactory;
+  private final ConcurrentHashMap<String, HostSlot> hosts = new ConcurrentHashMap<>();
+
+  private final LongAdder totalLeases = new LongAdder();
+  private final LongAdder connectionsOpened = new LongAdder();
+  private final LongAdder connectionsEvicted = new LongAdder();
+  private final LongAdder leaseTimeouts = new LongAdder();
+
+  public ConnectionPool(ConnectionPoolConfig config) {
+    this(config, HttpsURLConnection.getDefaultSSLSocketFactory());
+  }
+
+  ConnectionPool(ConnectionPoolConfig config, SSLSocketFactory baseSocketFactory) {
+    this.config = config;
+    this.baseSocketFactory = baseSocketFactory;
+    int keepAliveConnections = keepAliveConnections();
+    if (config.getMaxConnectionsPerHost() > keepAliveConnections) {
+      LOGGER.warning(String.format("maxConnectionsPerHost is %d but the JDK keeps at most %d idle connections per host, "
+              + "connections beyond that are closed after each request. Set -Dhttp.maxConnections=%d to reuse them.",
+          config.getMaxConnectionsPerHost(), keepAliveConnections, config.getMaxConnectionsPerHost()));
+    }
+  }
+
+  /**
+   * @return the number of idle sockets the JDK keep-alive cache keeps per destination, from the
+   *     {@code http.maxConnections} system property
+   */
+  static int keepAliveConnections() {
+    try {
+      int value = Integer.getInteger("http.maxConnections", DEFAULT_KEEP_ALIVE_CONNECTIONS);
+      return value > 0 ? value : DEFAULT_KEEP_ALIVE_CONNECTIONS;
+    } catch (SecurityException e) {
+      return DEFAULT_KEEP_ALIVE_CONNECTIONS;
+    }
+  }
+
+  /**
+   * Leases a connection slot for the host of the given URL, waiting up to
+   * {@link ConnectionPoolConfig#getConnectionAcquireTimeoutMillis()} for one to free up.
+   *
+   * @param url the URL the request is sent to
+   * @return the lease, which must be released once the response has been consumed
+   * @throws IOException if no slot became available in time or the thread was interrupted
+   */
+  public Lease acquire(URL url) throws IOException {
+    HostSlot slot = hosts.computeIfAbsent(hostKey(url), HostSlot::new);
+    try {
+      if (!slot.permits.tryAcquire(config.getConnectionAcquireTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+        leaseTimeouts.increment();
+        throw new IOException(String.format("Timed out after %d ms waiting for a connection to %s",
+            config.getConnectionAcquireTimeoutMillis(), slot.key));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a connection to " + slot.key, e);
+    }
+    totalLeases.increment();
+    return new Lease(slot, slot.lease(System.currentTimeMillis()));
+  }
+
+  /**
+   * Closes the connections of every host that currently has no request in flight and has been
+   * idle for longer than the configured maximum.
+   *
+   * @return the number of connections closed
+   */
+  public int evictIdleConnections() {
+    long now = System.currentTimeMillis();
+    int closed = 0;
+    for (HostSlot slot : hosts.values()) {
+      closed += slot.evictIfIdle(now);
+    }
+    return closed;
+  }
+
+  /**
+   * @return a snapshot of the pool counters
+   */
+  public ConnectionPoolStats getStats() {
+    int leased = 0;
+    for (HostSlot slot : hosts.values()) {
+      leased += slot.inFlight();
+    }
+    long leases = totalLeases.sum();
+    long opened = connectionsOpened.sum();
+    return ConnectionPoolStats.builder()
+        .totalLeases(leases)
+        .connectionsOpened(opened)
+        .connectionsReused(Math.max(0, leases - opened))
+        .connectionsEvicted(connectionsEvicted.sum())
+        .leaseTimeouts(leaseTimeouts.sum())
+        .leasedConnections(leased)
+        .build();
+  }
+
+  private static String hostKey(URL url) {
+    int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    return url.getHost() + ":" + port;
+  }
+
+  /**
+   * A leased connection slot. Configures connections to use the host's socket factory and
+   * returns the slot to the pool on {@link #release()}.
+   */
+  public static final class Lease {
+    private final HostSlot slot;
+    private final TrackingSSLSocketFactory socketFactory;
+    private boolean released;
+
+    private Lease(HostSlot slot, TrackingSSLSocketFactory socketFactory) {
+      this.slot = slot;
+      this.socketFactory = socketFactory;
+    }
+
+    /**
+     * Routes the connection through the pooled socket factory of the leased host.
+     *
+     * @param connection the connection about to be used under this lease
+     */
+    public void bind(HttpsURLConnection connection) {
+      connection.setSSLSocketFactory(socketFactory);
+    }
+
+    /**
+     * Returns the slot to the pool. Calling this more than once has no effect.
+     */
+    public synchronized void release() {
+      if (!released) {
+        released = true;
+        slot.release(System.currentTimeMillis());
+      }
+    }
+  }
+
+  /**
+   * Pool state of a single host.
+   */
+  private final class HostSlot {
+    private final String key;
+    private final Semaphore permits;
+    private TrackingSSLSocketFactory socketFactory;
+    private int inFlight;
+    private long lastReleasedAt;
+
+    private HostSlot(String key) {
+      this.key = key;
+      this.permits = new Semaphore(config.getMaxConnectionsPerHost(), true);
+      this.socketFactory = new TrackingSSLSocketFactory(baseSocketFactory, connectionsOpened);
+      this.lastReleasedAt = System.currentTimeMillis();
+    }
+
+    private synchronized TrackingSSLSocketFactory lease(long now) {
+      evictIfIdle(now);
+      inFlight++;
+      return socketFactory;
+    }
+
+    private synchronized void release(long now) {
+      inFlight--;
+      lastReleasedAt = now;
+      permits.release();
+    }
+
+    private synchronized int inFlight() {
+      return inFlight;
+    }
+
+    /**
+     * Swaps in a fresh socket factory so the JDK keep-alive cache stops handing out the old
+     * connections, then closes them.
+     */
+    private synchronized int evictIfIdle(long now) {
+      if (inFlight > 0 || now - lastReleasedAt <= config.getMaxIdleMillis()) {
+        return 0;
+      }
+      TrackingSSLSocketFactory idleFactory = socketFactory;
+      socketFactory = new TrackingSSLSocketFactory(baseSocketFactory, connectionsOpened);
+      int closed = idleFactory.closeAll();
+      if (closed > 0) {
+        connectionsEvicted.add(closed);
+        LOGGER.fine(String.format("Evicted %d idle connections to %s", closed, key));
+      }
+      return closed;
+    }
+  }
+}
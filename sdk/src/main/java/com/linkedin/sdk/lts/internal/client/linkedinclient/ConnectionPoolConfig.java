@@ -0,0 +1,51 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Configuration for the keep-alive connection pool used by {@link LinkedInHttpClient}.
+ *
+ * <p>Idle sockets are cached by the JDK keep-alive cache. The number of idle sockets kept per
+ * destination is governed by the {@code http.maxConnections} system property (default 5), which
+ * the JDK reads once, before the first connection is opened. Connections beyond it are closed
+ * once their response has been read, so {@link #maxConnectionsPerHost} defaults to the same 5.
+ * When raising it, start the JVM with {@code -Dhttp.maxConnections} set to at least the same
+ * value to keep every pooled socket warm.</p>
+ */
+@Data
+@Builder
+public class ConnectionPoolConfig {
+
+  /**
+   * Maximum number of concurrent connections (in-flight requests) per host. Should not exceed
+   * the {@code http.maxConnections} system property.
+   */
+  @Builder.Default
+  private int maxConnectionsPerHost = 5;
+
+  /**
+   * Connections to a host that has been idle for longer than this are closed on next access.
+   */
+  @Builder.Default
+  private long maxIdleMillis = 60000;
+
+  /**
+   * Maximum time to wait for a free connection before the attempt fails as a transient error.
+   */
+  @Builder.Default
+  private long connectionAcquireTimeoutMillis = 30000;
+
+  /**
+   * Timeout for establishing a new connection.
+   */
+  @Builder.Default
+  private int connectTimeoutMillis = 30000;
+
+  /**
+   * Timeout for reading from an established connection.
+   */
+  @Builder.Default
+  private int readTimeoutMillis = 30000;
+}
@@ -0,0 +1,45 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Point-in-time snapshot of the {@link ConnectionPool} counters.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ConnectionPoolStats {
+
+  /**
+   * Total number of connection leases handed out, one per request attempt.
+   */
+  private long totalLeases;
+
+  /**
+   * Number of new TLS connections opened.
+   */
+  private long connectionsOpened;
+
+  /**
+   * Number of leases served by an already open keep-alive connection.
+   */
+  private long connectionsReused;
+
+  /**
+   * Number of idle connections closed by the pool.
+   */
+  private long connectionsEvicted;
+
+  /**
+   * Number of attempts that gave up waiting for a free connection.
+   */
+  private long leaseTimeouts;
+
+  /**
+   * Number of connections currently leased across all hosts.
+   */
+  private int leasedConnections;
+}
@@ -0,0 +1,117 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+
+
+/**
+ * {@link RetryPolicy} driven by a {@link RetryConfig}: exponential backoff with optional jitter,
+ * stretched to the {@code Retry-After} delay requested by the server and optionally limited by a
+ * retry budget.
+ */
+public class DefaultRetryPolicy implements RetryPolicy {
+  private static final Logger LOGGER = Logger.getLogger(DefaultRetryPolicy.class.getName());
+
+  private final RetryConfig retryConfig;
+  private final RetryBudget retryBudget;
+  private final Clock clock;
+
+  public DefaultRetryPolicy(RetryConfig retryConfig) {
+    this(retryConfig, Clock.systemUTC());
+  }
+
+  DefaultRetryPolicy(RetryConfig retryConfig, Clock clock) {
+    this.retryConfig = retryConfig;
+    this.retryBudget = retryConfig.isRetryBudgetEnabled()
+        ? new RetryBudget(retryConfig.getRetryBudgetRatio(), retryConfig.getRetryBudgetCapacity())
+        : null;
+    this.clock = clock;
+  }
+
+  @Override
+  public void onRequest() {
+    if (retryBudget != null) {
+      retryBudget.onRequest();
+    }
+  }
+
+  @Override
+  public long retryDelayMillis(int retry, long previousDelayMillis, LinkedInApiException failure) {
+    if (retry > retryConfig.getMaxRetries()) {
+      return -1;
+    }
+
+    long delay = backoffMillis(retry, previousDelayMillis);
+    long retryAfter = retryAfterMillis(failure);
+    if (retryAfter > retryConfig.getMaxRetryAfterMillis()) {
+      LOGGER.warning(String.format("Not retrying, server asked to wait %d ms which exceeds the maximum of %d ms",
+          retryAfter, retryConfig.getMaxRetryAfterMillis()));
+      return -1;
+    }
+    delay = Math.max(delay, retryAfter);
+
+    if (retryBudget != null && !retryBudget.tryAcquire()) {
+      LOGGER.warning("Not retrying, retry budget exhausted");
+      return -1;
+    }
+    return delay;
+  }
+
+  /**
+   * Computes the backoff before the given retry, without any {@code Retry-After} delay.
+   */
+  long backoffMillis(int retry, long previousDelayMillis) {
+    switch (retryConfig.getJitter()) {
+      case FULL:
+        return ThreadLocalRandom.current().nextLong(exponentialBackoffMillis(retry) + 1);
+      case DECORRELATED:
+        long initial = retryConfig.getInitialBackoffMillis();
+        long upper = Math.max(initial, previousDelayMillis) * 3;
+        return Math.min(retryConfig.getMaxBackoffMillis(), ThreadLocalRandom.current().nextLong(initial, upper + 1));
+      default:
+        return exponentialBackoffMillis(retry);
+    }
+  }
+
+  private long exponentialBackoffMillis(int retry) {
+    long backoff = retryConfig.getInitialBackoffMillis();
+    for (int i = 1; i < retry; i++) {
+      backoff = Math.min((long) (backoff * retryConfig.getBackoffMultiplier()), retryConfig.getMaxBackoffMillis());
+    }
+    return backoff;
+  }
+
+  /**
+   * Reads the {@code Retry-After} header, given either in seconds or as an HTTP date.
+   *
+   * @return the requested delay in milliseconds, or 0 if the header is absent or invalid
+   */
+  private long retryAfterMillis(LinkedInApiException failure) {
+    String retryAfter = HttpHeaders.firstValue(failure.getHeaders(), RETRY_AFTER);
+    if (retryAfter == null) {
+      return 0;
+    }
+    retryAfter = retryAfter.trim();
+    try {
+      return Math.max(0, Long.parseLong(retryAfter) * 1000);
+    } catch (NumberFormatException e) {
+      // Not a number of seconds, try an HTTP date
+    }
+    try {
+      Instant until = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      return Math.max(0, Duration.between(clock.instant(), until).toMillis());
+    } catch (DateTimeParseException e) {
+      LOGGER.fine("Ignoring invalid Retry-After header: " + retryAfter);
+      return 0;
+    }
+  }
+}
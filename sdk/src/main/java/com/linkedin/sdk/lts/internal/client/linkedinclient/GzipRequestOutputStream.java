@@ -0,0 +1,131 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * OutputStream that holds back the first bytes of a request body until it knows whether the body
+ * exceeds the compression threshold. Bodies up to the threshold are sent as is with a known
+ * length. Once the threshold is crossed the request is switched to gzip and the rest of the body
+ * is compressed while it is written, so large bodies are never fully buffered.
+ *
+ * <p>{@link #close()} must only be called once the whole body has been written, as it completes
+ * the request.</p>
+ */
+class GzipRequestOutputStream extends OutputStream {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * Opens the stream the request body is written to, once its encoding is known.
+   */
+  interface Target {
+
+    /**
+     * @param gzip whether the body is gzip encoded
+     * @param contentLength the body length, or -1 when the body is gzip encoded
+     * @return the stream to write the (encoded) body to
+     * @throws IOException if the stream cannot be opened
+     */
+    OutputStream open(boolean gzip, long contentLength) throws IOException;
+  }
+
+  private final int threshold;
+  private final Target target;
+  private final CompressionMetrics metrics;
+
+  private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+  private CountingOutputStream wire;
+  private GZIPOutputStream gzip;
+  private long uncompressedBytes;
+  private long compressionNanos;
+  private boolean closed;
+
+  GzipRequestOutputStream(int threshold, Target target, CompressionMetrics metrics) {
+    this.threshold = threshold;
+    this.target = target;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[]{(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (gzip != null) {
+      compress(b, off, len);
+      return;
+    }
+    pending.write(b, off, len);
+    if (pending.size() > threshold) {
+      wire = new CountingOutputStream(target.open(true, -1));
+      gzip = new GZIPOutputStream(wire, BUFFER_SIZE);
+      byte[] buffered = pending.toByteArray();
+      pending = null;
+      compress(buffered, 0, buffered.length);
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    // Held back bytes are only sent on close, and gzip only emits whole blocks
+    if (gzip != null) {
+      wire.flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (gzip == null) {
+      try (OutputStream out = target.open(false, pending.size())) {
+        pending.writeTo(out);
+      }
+      return;
+    }
+    long start = System.nanoTime();
+    gzip.close();
+    compressionNanos += System.nanoTime() - start;
+    metrics.recordRequest(uncompressedBytes, wire.count, compressionNanos);
+  }
+
+  private void compress(byte[] b, int off, int len) throws IOException {
+    long start = System.nanoTime();
+    gzip.write(b, off, len);
+    compressionNanos += System.nanoTime() - start;
+    uncompressedBytes += len;
+  }
+
+  /**
+   * Counts the compressed bytes written to the connection.
+   */
+  private static class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
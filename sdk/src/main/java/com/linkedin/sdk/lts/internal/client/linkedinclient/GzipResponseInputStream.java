@@ -0,0 +1,136 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+
+
+/**
+ * InputStream that inflates a gzip encoded response body while it is read and records the
+ * compression ratio and time once the body has been read to the end or closed.
+ */
+class GzipResponseInputStream extends FilterInputStream {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final CountingInputStream wire;
+  private final CompressionMetrics metrics;
+  private long decompressedBytes;
+  private long decompressionNanos;
+  private boolean recorded;
+
+  private GzipResponseInputStream(GZIPInputStream in, CountingInputStream wire, CompressionMetrics metrics,
+      long headerNanos) {
+    super(in);
+    this.wire = wire;
+    this.metrics = metrics;
+    this.decompressionNanos = headerNanos;
+  }
+
+  /**
+   * Wraps a gzip encoded body. Empty bodies, such as those of 204 responses, are returned as is,
+   * since they carry no gzip header.
+   *
+   * @param body the encoded body
+   * @param metrics the counters to record the body in
+   * @return a stream of the decoded body
+   * @throws IOException if the gzip header cannot be read
+   */
+  static InputStream wrap(InputStream body, CompressionMetrics metrics) throws IOException {
+    PushbackInputStream in = new PushbackInputStream(body, 1);
+    int first = in.read();
+    if (first == -1) {
+      return in;
+    }
+    in.unread(first);
+
+    CountingInputStream wire = new CountingInputStream(in);
+    long start = System.nanoTime();
+    GZIPInputStream gzip = new GZIPInputStream(wire, BUFFER_SIZE);
+    return new GzipResponseInputStream(gzip, wire, metrics, System.nanoTime() - start);
+  }
+
+  @Override
+  public int read() throws IOException {
+    long start = System.nanoTime();
+    int b = super.read();
+    decompressionNanos += System.nanoTime() - start;
+    if (b == -1) {
+      record();
+    } else {
+      decompressedBytes++;
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    long start = System.nanoTime();
+    int n = super.read(b, off, len);
+    decompressionNanos += System.nanoTime() - start;
+    if (n == -1) {
+      record();
+    } else {
+      decompressedBytes += n;
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    // Route skips through read so skipped bytes are counted too
+    byte[] buffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+    int read = read(buffer, 0, buffer.length);
+    return Math.max(read, 0);
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    record();
+    super.close();
+  }
+
+  private void record() {
+    if (!recorded) {
+      recorded = true;
+      metrics.recordResponse(wire.count, decompressedBytes, decompressionNanos);
+    }
+  }
+
+  /**
+   * Counts the compressed bytes read from the connection.
+   */
+  private static class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1) {
+        count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count += n;
+      }
+      return n;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HttpClient is an interface for executing HTTP requests to LinkedIn's API endpoints.
+ * It abstracts the details of making HTTP requests and handling responses.
+ */
+public interface HttpClient<T> {
+  /**
+   * Executes an HTTP request
+   *
+   * @param url the URL to send the request to
+   * @param method the HTTP method to use
+   * @param headers the HTTP headers to include
+   * @param body the request body (optional)
+   * @param responseType the class type of the expected response
+   * @return the response body as a string
+   * @throws IOException if an I/O error occurs
+   * @throws LinkedInApiException if the API returns an error response
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   */
+  APIResponse<T> executeRequest(String url, HttpMethod method, Map<String, String> headers,
+      String body, Class<T> responseType)
+      throws IOException, LinkedInApiException, JsonDeserializationException;
+
+  /**
+   * Executes an HTTP request asynchronously.
+   *
+   * <p>The returned future completes with the response, or exceptionally with the exception
+   * {@link #executeRequest} would have thrown. The default implementation runs the request on the
+   * calling thread; implementations backed by a non-blocking engine should override it.</p>
+   *
+   * @param url the URL to send the request to
+   * @param method the HTTP method to use
+   * @param headers the HTTP headers to include
+   * @param body the request body (optional)
+   * @param responseType the class type of the expected response
+   * @return a future completing with the response
+   */
+  default CompletableFuture<APIResponse<T>> executeRequestAsync(String url, HttpMethod method,
+      Map<String, String> headers, String body, Class<T> responseType) {
+    CompletableFuture<APIResponse<T>> future = new CompletableFuture<>();
+    try {
+      future.complete(executeRequest(url, method, headers, body, responseType));
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Executes an HTTP request whose body is written straight to the connection.
+   *
+   * <p>The default implementation buffers the body and delegates to {@link #executeRequest};
+   * implementations that can stream request bodies should override it.</p>
+   *
+   * @param url the URL to send the request to
+   * @param method the HTTP method to use
+   * @param headers the HTTP headers to include
+   * @param body the request body
+   * @param responseType the class type of the expected response
+   * @return the response
+   * @throws IOException if an I/O error occurs
+   * @throws LinkedInApiException if the API returns an error response
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws JsonSerializationException if there is an error serializing the request body
+   */
+  default APIResponse<T> executeStreamingRequest(String url, HttpMethod method, Map<String, String> headers,
+      RequestBody body, Class<T> responseType)
+      throws IOException, LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    body.writeTo(buffer);
+    return executeRequest(url, method, headers, new String(buffer.toByteArray(), StandardCharsets.UTF_8),
+        responseType);
+  }
+
+  /**
+   * Executes an HTTP request whose body is written straight to the connection, asynchronously.
+   *
+   * <p>The returned future completes with the response, or exceptionally with the exception
+   * {@link #executeStreamingRequest} would have thrown. The default implementation runs the
+   * request on the calling thread.</p>
+   *
+   * @param url the URL to send the request to
+   * @param method the HTTP method to use
+   * @param headers the HTTP headers to include
+   * @param body the request body
+   * @param responseType the class type of the expected response
+   * @return a future completing with the response
+   */
+  default CompletableFuture<APIResponse<T>> executeStreamingRequestAsync(String url, HttpMethod method,
+      Map<String, String> headers, RequestBody body, Class<T> responseType) {
+    CompletableFuture<APIResponse<T>> future = new CompletableFuture<>();
+    try {
+      future.complete(executeStreamingRequest(url, method, headers, body, responseType));
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+}
@@ -0,0 +1,96 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.internal.constants.HttpConstants;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Builder;
+import lombok.Data;
+
+
+/**
+ * Top level configuration for {@link LinkedInHttpClient}.
+ * Groups the configuration of every transport feature so that a single object can be passed
+ * to {@link com.linkedin.sdk.lts.api.client.LinkedInClientFactory}.
+ */
+@Data
+@Builder
+public class HttpClientConfig {
+
+  /**
+   * Wire protocol of the transport.
+   */
+  @Builder.Default
+  private HttpTransport transport = HttpTransport.HTTP_1_1;
+
+  /**
+   * Retry behaviour for transient failures.
+   */
+  @Builder.Default
+  private RetryConfig retryConfig = RetryConfig.builder().build();
+
+  /**
+   * Decides whether and when transient failures are retried. When not set, a
+   * {@link DefaultRetryPolicy} built from {@link #retryConfig} is used.
+   */
+  private RetryPolicy retryPolicy;
+
+  /**
+   * Per-endpoint circuit breakers, failing requests fast while an endpoint is unhealthy.
+   */
+  @Builder.Default
+  private CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.builder().build();
+
+  /**
+   * Client-side rate limits per client ID and API family.
+   */
+  @Builder.Default
+  private RateLimitConfig rateLimitConfig = RateLimitConfig.builder().build();
+
+  /**
+   * Adaptive limit on the number of in-flight requests.
+   */
+  @Builder.Default
+  private ConcurrencyLimitConfig concurrencyLimitConfig = ConcurrencyLimitConfig.builder().build();
+
+  /**
+   * Whether identical GET requests in flight at the same time share a single call. Requests are
+   * identical when they have the same URL, headers (and so the same access token) and response
+   * type. The callers then receive the same {@code APIResponse} instance, which must not be
+   * modified.
+   */
+  @Builder.Default
+  private boolean coalesceGetRequests = false;
+
+  /**
+   * Keep-alive connection pool settings.
+   */
+  @Builder.Default
+  private ConnectionPoolConfig connectionPoolConfig = ConnectionPoolConfig.builder().build();
+
+  /**
+   * Gzip compression of request and response bodies.
+   */
+  @Builder.Default
+  private CompressionConfig compressionConfig = CompressionConfig.builder().build();
+
+  /**
+   * Longest URL sent for a status lookup. Lists of IDs that do not fit are split into several
+   * requests, sent concurrently, whose responses are merged.
+   */
+  @Builder.Default
+  private int maxUrlLength = HttpConstants.DEFAULT_MAX_URL_LENGTH;
+
+  /**
+   * Executor running asynchronous requests. When not set, the client creates a pool of
+   * {@link ConnectionPoolConfig#getMaxConnectionsPerHost()} daemon threads, and requests beyond
+   * that wait in its queue.
+   */
+  private Executor asyncExecutor;
+
+  /**
+   * Timer on which asynchronous requests wait out the backoff between retries and the wait for a
+   * rate limit permit, and on which queued requests time out. When not set, a single daemon
+   * thread shared by all clients is used.
+   */
+  private ScheduledExecutorService retryScheduler;
+}
@@ -0,0 +1,39 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Helpers for reading response headers.
+ */
+final class HttpHeaders {
+
+  private HttpHeaders() {
+  }
+
+  /**
+   * Looks up a header ignoring case, as HTTP/1.1 keeps the case sent by the server while HTTP/2
+   * header names are lower case.
+   *
+   * @param headers the headers to search, may contain a null key for the status line
+   * @param name    the header name
+   * @return the first value of the header, or null if it is absent
+   */
+  static String firstValue(Map<String, ?> headers, String name) {
+    if (headers == null) {
+      return null;
+    }
+    for (Map.Entry<String, ?> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        Object value = header.getValue();
+        if (value instanceof List) {
+          List<?> values = (List<?>) value;
+          return values.isEmpty() ? null : String.valueOf(values.get(0));
+        }
+        return value != null ? value.toString() : null;
+      }
+    }
+    return null;
+  }
+}
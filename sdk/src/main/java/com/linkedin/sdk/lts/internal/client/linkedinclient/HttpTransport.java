@@ -0,0 +1,21 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * Wire protocol used by the {@link HttpClient} that {@link com.linkedin.sdk.lts.api.client.LinkedInClientFactory}
+ * builds.
+ */
+public enum HttpTransport {
+
+  /**
+   * HTTP/1.1 over {@link javax.net.ssl.HttpsURLConnection}, one request per connection at a time.
+   * Available on every supported Java version.
+   */
+  HTTP_1_1,
+
+  /**
+   * HTTP/2 over the {@code java.net.http} client, multiplexing concurrent requests to a host over
+   * a shared connection. Requires Java 11 or later; on older runtimes the factory falls back to
+   * {@link #HTTP_1_1}.
+   */
+  HTTP_2
+}
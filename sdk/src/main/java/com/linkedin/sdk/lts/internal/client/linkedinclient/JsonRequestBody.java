@@ -0,0 +1,41 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * {@link RequestBody} that serializes a model object to JSON while it is being sent.
+ */
+class JsonRequestBody implements RequestBody {
+
+  private final Object value;
+
+  JsonRequestBody(Object value) {
+    this.value = value;
+  }
+
+  @Override
+  public long contentLength() {
+    return -1;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException, JsonSerializationException {
+    ObjectMapperUtil.writeJson(out, value);
+  }
+
+  /**
+   * Serializes the body into a string. Only meant for debug logging, as it defeats streaming.
+   */
+  @Override
+  public String toString() {
+    try {
+      return ObjectMapperUtil.toJson(value);
+    } catch (JsonSerializationException e) {
+      return value.getClass().getSimpleName();
+    }
+  }
+}
@@ -0,0 +1,956 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.CircuitBreakerOpenException;
+import com.linkedin.sdk.lts.api.exception.ConcurrencyLimitExceededException;
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.exception.RateLimitExceededException;
+import com.linkedin.sdk.lts.api.exception.TransientLinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
+
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import com.linkedin.sdk.lts.internal.util.LogRedactor;
+import com.linkedin.sdk.lts.internal.util.NamedThreadFactory;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.HttpsURLConnection;
+import java.io.*;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import lombok.NonNull;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+
+/**
+ * LinkedInHttpClient is an implementation of HttpClient that handles HTTP requests
+ * to LinkedIn's API endpoints. It supports various HTTP methods and manages headers,
+ * request bodies, and response handling.
+ */
+public class LinkedInHttpClient<T> implements HttpClient<T> {
+  private static final Logger LOGGER = Logger.getLogger(LinkedInHttpClient.class.getName());
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * Timer shared by all clients that are not given their own retry scheduler. It only waits out
+   * backoffs and hands the retries back to each client's async executor, so one thread is enough.
+   */
+  private static final ScheduledExecutorService SHARED_RETRY_SCHEDULER = createSharedRetryScheduler();
+
+  private final RetryPolicy retryPolicy;
+  private final ConnectionPoolConfig connectionPoolConfig;
+  private final ConnectionPool connectionPool;
+  private final CompressionConfig compressionConfig;
+  private final CircuitBreakerConfig circuitBreakerConfig;
+  private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private final RateLimiterRegistry rateLimiters;
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+  private final RequestCoalescer<APIResponse<T>> getCoalescer;
+  private final CompressionMetrics compressionMetrics = new CompressionMetrics();
+  private final Executor asyncExecutor;
+  private final ScheduledExecutorService retryScheduler;
+
+  public LinkedInHttpClient(RetryConfig retryConfig) {
+    this(HttpClientConfig.builder().retryConfig(retryConfig).build());
+  }
+
+  public LinkedInHttpClient(HttpClientConfig config) {
+    this(config, true);
+  }
+
+  /**
+   * @param config the client configuration
+   * @param pooledTransport whether requests are sent by {@link #exchange} and {@link #exchangeAsync}
+   *     of this class. Transports overriding both with their own connection handling pass false,
+   *     so that neither the keep-alive pool nor the async executor is created.
+   */
+  protected LinkedInHttpClient(HttpClientConfig config, boolean pooledTransport) {
+    this.retryPolicy = config.getRetryPolicy() != null
+        ? config.getRetryPolicy()
+        : new DefaultRetryPolicy(config.getRetryConfig());
+    this.connectionPoolConfig = config.getConnectionPoolConfig();
+    this.connectionPool = pooledTransport ? new ConnectionPool(connectionPoolConfig) : null;
+    this.compressionConfig = config.getCompressionConfig();
+    this.circuitBreakerConfig = config.getCircuitBreakerConfig();
+    this.rateLimiters = new RateLimiterRegistry(config.getRateLimitConfig());
+    if (!pooledTransport) {
+      this.asyncExecutor = null;
+    } else if (config.getAsyncExecutor() != null) {
+      this.asyncExecutor = config.getAsyncExecutor();
+    } else {
+      this.asyncExecutor = createAsyncExecutor(connectionPoolConfig);
+    }
+    this.retryScheduler = config.getRetryScheduler() != null
+        ? config.getRetryScheduler()
+        : SHARED_RETRY_SCHEDULER;
+    this.concurrencyLimiter = config.getConcurrencyLimitConfig().isEnabled()
+        ? new AdaptiveConcurrencyLimiter(config.getConcurrencyLimitConfig(), retryScheduler)
+        : null;
+    this.getCoalescer = config.isCoalesceGetRequests() ? new RequestCoalescer<>() : null;
+  }
+
+  /**
+   * Attempts hold their worker while they wait for a pooled connection and then for the response,
+   * so workers beyond the connections of a host would only park in {@link ConnectionPool#acquire}.
+   * The pool is sized to the connections of a host and further attempts wait in its queue.
+   */
+  private static Executor createAsyncExecutor(ConnectionPoolConfig connectionPoolConfig) {
+    int threads = Math.max(1, connectionPoolConfig.getMaxConnectionsPerHost());
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), new NamedThreadFactory("linkedin-http-async"));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static ScheduledExecutorService createSharedRetryScheduler() {
+    ScheduledThreadPoolExecutor scheduler =
+        new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("linkedin-http-retry"));
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * Returns the connection reuse statistics of this client's keep-alive pool.
+   *
+   * @return a snapshot of the pool counters, all zero for transports without the pool
+   */
+  public ConnectionPoolStats getConnectionPoolStats() {
+    return connectionPool != null ? connectionPool.getStats() : ConnectionPoolStats.builder().build();
+  }
+
+  /**
+   * Returns the gzip compression ratio and time of the bodies sent and received by this client.
+   *
+   * @return a snapshot of the compression counters
+   */
+  public CompressionStats getCompressionStats() {
+    return compressionMetrics.snapshot();
+  }
+
+  /**
+   * Returns the state of the circuit breaker of every endpoint called so far. Empty when circuit
+   * breakers are disabled.
+   *
+   * @return a snapshot of the circuit breakers keyed by endpoint, such as
+   *     {@code api.linkedin.com/rest/simpleJobPostings}
+   */
+  public Map<String, CircuitBreakerStats> getCircuitBreakerStats() {
+    Map<String, CircuitBreakerStats> stats = new HashMap<>();
+    circuitBreakers.forEach((endpoint, circuitBreaker) -> stats.put(endpoint, circuitBreaker.getStats()));
+    return stats;
+  }
+
+  /**
+   * Returns the current adaptive concurrency limit and the number of requests in flight and
+   * queued.
+   *
+   * @return a snapshot of the concurrency limiter, or null if the concurrency limit is disabled
+   */
+  public ConcurrencyLimitStats getConcurrencyLimitStats() {
+    return concurrencyLimiter != null ? concurrencyLimiter.getStats() : null;
+  }
+
+  /**
+   * Returns the number of GET requests that shared the call of an identical request already in
+   * flight instead of being sent. Always 0 when GET coalescing is disabled.
+   *
+   * @return the number of coalesced GET requests
+   */
+  public long getCoalescedRequestCount() {
+    return getCoalescer != null ? getCoalescer.getCoalescedCount() : 0;
+  }
+
+  /**
+   * Closes keep-alive connections to hosts that have been idle for longer than
+   * {@link ConnectionPoolConfig#getMaxIdleMillis()}.
+   *
+   * @return the number of connections closed
+   */
+  public int evictIdleConnections() {
+    return connectionPool != null ? connectionPool.evictIdleConnections() : 0;
+  }
+
+  /**
+   * Executes an HTTP request to the specified URL using the given method, headers, and body.
+   *
+   * @param url     the URL to send the request to
+   * @param method  the HTTP method to use (e.g., GET, POST)
+   * @param headers the HTTP headers to include in the request
+   * @param body    the request body (optional, can be null for GET requests)
+   * @param responseType the class type to deserialize the response body into
+   * @return the response body as a string
+   * @throws IOException           if an I/O error occurs during the request
+   * @throws LinkedInApiException if the API returns an error response
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   */
+  @Override
+  public APIResponse<T> executeRequest(@NonNull String url, @NonNull HttpMethod method,
+      Map<String, String> headers, String body, Class<T> responseType)
+      throws IOException, LinkedInApiException, JsonDeserializationException {
+    try {
+      if (isCoalescable(method, body)) {
+        return getCoalescer.execute(coalescingKey(url, headers, responseType),
+            () -> execute(url, method, headers, null, responseType));
+      }
+      return execute(url, method, headers, body != null ? RequestBody.fromString(body) : null, responseType);
+    } catch (JsonSerializationException e) {
+      // String bodies are already serialized
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Executes an HTTP request whose body is serialized straight to the connection's output stream.
+   * Bodies of unknown length are sent with chunked transfer encoding.
+   *
+   * @param url     the URL to send the request to
+   * @param method  the HTTP method to use (e.g., GET, POST)
+   * @param headers the HTTP headers to include in the request
+   * @param body    the request body, written once per attempt
+   * @param responseType the class type to deserialize the response body into
+   * @return the response
+   * @throws IOException           if an I/O error occurs during the request
+   * @throws LinkedInApiException if the API returns an error response
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws JsonSerializationException if there is an error serializing the request body
+   */
+  @Override
+  public APIResponse<T> executeStreamingRequest(@NonNull String url, @NonNull HttpMethod method,
+      Map<String, String> headers, RequestBody body, Class<T> responseType)
+      throws IOException, LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    return execute(url, method, headers, body, responseType);
+  }
+
+  /**
+   * Executes the request with {@link #exchangeAsync}, including retries. No thread is held while
+   * waiting out the backoff between attempts.
+   *
+   * <p>The returned future completes exceptionally with {@link LinkedInApiException} or
+   * {@link JsonDeserializationException} on failure.</p>
+   */
+  @Override
+  public CompletableFuture<APIResponse<T>> executeRequestAsync(@NonNull String url, @NonNull HttpMethod method,
+      Map<String, String> headers, String body, Class<T> responseType) {
+    if (isCoalescable(method, body)) {
+      return getCoalescer.executeAsync(coalescingKey(url, headers, responseType),
+          () -> executeAsync(url, method, headers, null, responseType));
+    }
+    return executeAsync(url, method, headers, body != null ? RequestBody.fromString(body) : null, responseType);
+  }
+
+  private boolean isCoalescable(HttpMethod method, String body) {
+    return getCoalescer != null && method == HttpMethod.GET && body == null;
+  }
+
+  /**
+   * Requests are identical when they have the same URL, headers and response type. The headers
+   * carry the access token and client ID, so requests made for different principals are never
+   * shared.
+   */
+  private static Object coalescingKey(String url, Map<String, String> headers, Class<?> responseType) {
+    return Arrays.asList(url, headers != null ? new HashMap<>(headers) : Collections.emptyMap(), responseType);
+  }
+
+  /**
+   * Executes the streaming request with {@link #exchangeAsync}, including retries. No thread is
+   * held while waiting out the backoff between attempts.
+   *
+   * <p>The returned future completes exceptionally with {@link LinkedInApiException},
+   * {@link JsonDeserializationException} or {@link JsonSerializationException} on failure.</p>
+   */
+  @Override
+  public CompletableFuture<APIResponse<T>> executeStreamingRequestAsync(@NonNull String url,
+      @NonNull HttpMethod method, Map<String, String> headers, RequestBody body, Class<T> responseType) {
+    return executeAsync(url, method, headers, body, responseType);
+  }
+
+  /**
+   * Executes the request, retrying transient failures according to the {@link RetryPolicy}.
+   * The calling thread sleeps between attempts, use the async methods to avoid blocking it.
+   */
+  private APIResponse<T> execute(String url, HttpMethod method, Map<String, String> headers, RequestBody body,
+      Class<T> responseType)
+      throws LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    retryPolicy.onRequest();
+    URL requestUrl = toUrlOrNull(url);
+    long delay = 0;
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        rateLimiters.acquire(requestUrl, headers);
+        try {
+          awaitConcurrencySlot();
+        } catch (LinkedInApiException e) {
+          // The request is not sent, so its rate limit permit goes to the next one
+          rateLimiters.release(requestUrl, headers);
+          throw e;
+        }
+        return executeWithConcurrencySlot(url, method, headers, body, responseType);
+      } catch (TransientLinkedInApiException e) {
+        delay = retryPolicy.retryDelayMillis(attempt, delay, e);
+        if (delay < 0) {
+          logRetriesExhausted(attempt, e);
+          throw e;
+        }
+
+        try {
+          logRetry(attempt, delay, e);
+          Thread.sleep(delay);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Executes the request asynchronously with the same retry behaviour as {@link #execute}. Each
+   * attempt is sent with {@link #exchangeAsync}, and the next attempt is handed to the retry
+   * scheduler, which resubmits it once the backoff has elapsed.
+   */
+  private CompletableFuture<APIResponse<T>> executeAsync(String url, HttpMethod method,
+      Map<String, String> headers, RequestBody body, Class<T> responseType) {
+    CompletableFuture<APIResponse<T>> future = new CompletableFuture<>();
+    retryPolicy.onRequest();
+    attemptAsync(url, method, headers, body, responseType, 1, 0, future);
+    return future;
+  }
+
+  private void attemptAsync(String url, HttpMethod method, Map<String, String> headers, RequestBody body,
+      Class<T> responseType, int attempt, long previousDelay, CompletableFuture<APIResponse<T>> future) {
+    URL requestUrl = toUrlOrNull(url);
+    long permitWaitNanos;
+    try {
+      permitWaitNanos = rateLimiters.reserve(requestUrl, headers);
+    } catch (RateLimitExceededException e) {
+      future.completeExceptionally(e);
+      return;
+    }
+    Runnable submit = () -> acquireConcurrencySlot().whenComplete((slot, e) -> {
+      if (e != null) {
+        // The request is not sent, so its rate limit permit goes to the next one
+        rateLimiters.release(requestUrl, headers);
+        future.completeExceptionally(e);
+      } else {
+        submitAttempt(url, method, headers, body, responseType, attempt, previousDelay, future);
+      }
+    });
+    if (permitWaitNanos == 0) {
+      submit.run();
+      return;
+    }
+    try {
+      retryScheduler.schedule(submit, permitWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      rateLimiters.release(requestUrl, headers);
+      future.completeExceptionally(e);
+    }
+  }
+
+  private void submitAttempt(String url, HttpMethod method, Map<String, String> headers, RequestBody body,
+      Class<T> responseType, int attempt, long previousDelay, CompletableFuture<APIResponse<T>> future) {
+    // The caller gave up on the request, so don't send it again
+    if (future.isDone()) {
+      releaseConcurrencySlot(AdaptiveConcurrencyLimiter.Outcome.IGNORED, 0);
+      rateLimiters.release(toUrlOrNull(url), headers);
+      return;
+    }
+    executeWithConcurrencySlotAsync(url, method, headers, body, responseType).whenComplete((response, failure) -> {
+      if (failure == null) {
+        future.complete(response);
+        return;
+      }
+      Throwable cause = FutureUtil.unwrap(failure);
+      if (!(cause instanceof TransientLinkedInApiException)) {
+        future.completeExceptionally(cause);
+        return;
+      }
+      TransientLinkedInApiException e = (TransientLinkedInApiException) cause;
+      long delay = retryPolicy.retryDelayMillis(attempt, previousDelay, e);
+      if (delay < 0) {
+        logRetriesExhausted(attempt, e);
+        future.completeExceptionally(e);
+        return;
+      }
+      logRetry(attempt, delay, e);
+      scheduleRetry(() -> attemptAsync(url, method, headers, body, responseType, attempt + 1, delay, future),
+          delay, e, future);
+    });
+  }
+
+  /**
+   * @return a future completed once a concurrency slot has been granted, straight away when the
+   *     concurrency limit is disabled
+   */
+  private CompletableFuture<Void> acquireConcurrencySlot() {
+    return concurrencyLimiter != null ? concurrencyLimiter.acquire() : CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Waits on the calling thread for a concurrency slot.
+   *
+   * @throws LinkedInApiException if the request is rejected or times out waiting for a slot
+   */
+  private void awaitConcurrencySlot() throws LinkedInApiException {
+    CompletableFuture<Void> slot = acquireConcurrencySlot();
+    try {
+      slot.get();
+    } catch (ExecutionException e) {
+      throw (LinkedInApiException) e.getCause();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      if (!slot.cancel(false) && !slot.isCompletedExceptionally()) {
+        releaseConcurrencySlot(AdaptiveConcurrencyLimiter.Outcome.IGNORED, 0);
+      }
+      throw new ConcurrencyLimitExceededException("Interrupted while waiting for a concurrency slot");
+    }
+  }
+
+  /**
+   * Runs one attempt in an already granted concurrency slot and gives the slot back with the
+   * outcome of the attempt.
+   */
+  private APIResponse<T> executeWithConcurrencySlot(String url, HttpMethod method, Map<String, String> headers,
+      RequestBody body, Class<T> responseType)
+      throws LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    long start = System.nanoTime();
+    Throwable failure = null;
+    try {
+      return executeWithErrorHandling(url, method, headers, body, responseType);
+    } catch (Throwable e) {
+      failure = e;
+      throw e;
+    } finally {
+      releaseConcurrencySlot(outcomeOf(failure), System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Runs one attempt asynchronously in an already granted concurrency slot and gives the slot back
+   * with the outcome of the attempt.
+   */
+  private CompletableFuture<APIResponse<T>> executeWithConcurrencySlotAsync(String url, HttpMethod method,
+      Map<String, String> headers, RequestBody body, Class<T> responseType) {
+    long start = System.nanoTime();
+    return executeWithErrorHandlingAsync(url, method, headers, body, responseType).whenComplete((response, failure) ->
+        releaseConcurrencySlot(outcomeOf(failure != null ? FutureUtil.unwrap(failure) : null),
+            System.nanoTime() - start));
+  }
+
+  /**
+   * @return how an attempt that failed with the given error, or succeeded if it is null, counts
+   *     towards the concurrency limit
+   */
+  private static AdaptiveConcurrencyLimiter.Outcome outcomeOf(Throwable failure) {
+    if (failure == null) {
+      return AdaptiveConcurrencyLimiter.Outcome.SUCCESS;
+    }
+    if (failure instanceof TransientLinkedInApiException) {
+      return AdaptiveConcurrencyLimiter.Outcome.DROPPED;
+    }
+    if ((failure instanceof LinkedInApiException || failure instanceof JsonDeserializationException)
+        && !(failure instanceof CircuitBreakerOpenException)) {
+      return AdaptiveConcurrencyLimiter.Outcome.SUCCESS;
+    }
+    return AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+  }
+
+  private void releaseConcurrencySlot(AdaptiveConcurrencyLimiter.Outcome outcome, long durationNanos) {
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.release(outcome, durationNanos);
+    }
+  }
+
+  private void scheduleRetry(Runnable retry, long delay, LinkedInApiException lastException,
+      CompletableFuture<APIResponse<T>> future) {
+    try {
+      retryScheduler.schedule(retry, delay, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      LOGGER.severe("Retry scheduler rejected the retry: " + e.getMessage());
+      future.completeExceptionally(lastException);
+    }
+  }
+
+  private static void logRetry(int attempt, long delay, LinkedInApiException e) {
+    LOGGER.warning(String.format("Transient error occurred (attempt %d). Retrying in %d ms. Error: %s",
+        attempt, delay, e.getMessage()));
+  }
+
+  private static void logRetriesExhausted(int attempts, LinkedInApiException e) {
+    LOGGER.severe(String.format("Giving up after %d attempt(s). Last error: %s", attempts, e.getMessage()));
+  }
+
+
+  /**
+   * @param url     the URL to send the request to
+   * @param method  the HTTP method to use (e.g., GET, POST)
+   * @param headers the HTTP headers to include in the request
+   * @param body    the request body (optional, can be null for GET requests)
+   * @param responseType the class type to deserialize the response body into
+   * @return the response body as a string
+   * @throws IOException           if an I/O error occurs during the request
+   * @throws LinkedInApiException if the API returns an error response
+   * @throws TransientLinkedInApiException if a transient error occurs
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   * @throws JsonSerializationException if there is an error serializing the request body
+   */
+  private APIResponse<T> executeWithErrorHandling(@NonNull String url, @NonNull HttpMethod method,
+      Map<String, String> headers, RequestBody body, Class<T> responseType)
+      throws LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    URL requestUrl;
+    try {
+      requestUrl = new URL(url);
+    } catch (MalformedURLException e) {
+      throw new TransientLinkedInApiException(500, new HashMap<>(), e.getMessage());
+    }
+
+    CircuitBreaker circuitBreaker = circuitBreakerFor(requestUrl);
+    if (circuitBreaker == null) {
+      return send(requestUrl, method, headers, body, responseType);
+    }
+    if (!circuitBreaker.tryAcquirePermission()) {
+      throw new CircuitBreakerOpenException(endpointOf(requestUrl));
+    }
+
+    long start = System.nanoTime();
+    boolean recorded = false;
+    try {
+      APIResponse<T> response = send(requestUrl, method, headers, body, responseType);
+      circuitBreaker.onResult(false, System.nanoTime() - start);
+      recorded = true;
+      return response;
+    } catch (TransientLinkedInApiException e) {
+      circuitBreaker.onResult(true, System.nanoTime() - start);
+      recorded = true;
+      throw e;
+    } catch (LinkedInApiException | JsonDeserializationException e) {
+      // The endpoint answered, the request or response was at fault
+      circuitBreaker.onResult(false, System.nanoTime() - start);
+      recorded = true;
+      throw e;
+    } finally {
+      if (!recorded) {
+        circuitBreaker.releasePermission();
+      }
+    }
+  }
+
+  /**
+   * Sends the request asynchronously through the circuit breaker of its endpoint, with the same
+   * error handling as {@link #executeWithErrorHandling}.
+   */
+  private CompletableFuture<APIResponse<T>> executeWithErrorHandlingAsync(String url, HttpMethod method,
+      Map<String, String> headers, RequestBody body, Class<T> responseType) {
+    URL requestUrl;
+    try {
+      requestUrl = new URL(url);
+    } catch (MalformedURLException e) {
+      return FutureUtil.failedFuture(new TransientLinkedInApiException(500, new HashMap<>(), e.getMessage()));
+    }
+
+    CircuitBreaker circuitBreaker = circuitBreakerFor(requestUrl);
+    if (circuitBreaker == null) {
+      return sendAsync(requestUrl, method, headers, body, responseType);
+    }
+    if (!circuitBreaker.tryAcquirePermission()) {
+      return FutureUtil.failedFuture(new CircuitBreakerOpenException(endpointOf(requestUrl)));
+    }
+
+    long start = System.nanoTime();
+    return sendAsync(requestUrl, method, headers, body, responseType).whenComplete((response, failure) -> {
+      Throwable cause = failure != null ? FutureUtil.unwrap(failure) : null;
+      if (cause == null) {
+        circuitBreaker.onResult(false, System.nanoTime() - start);
+      } else if (cause instanceof TransientLinkedInApiException) {
+        circuitBreaker.onResult(true, System.nanoTime() - start);
+      } else if (cause instanceof LinkedInApiException || cause instanceof JsonDeserializationException) {
+        // The endpoint answered, the request or response was at fault
+        circuitBreaker.onResult(false, System.nanoTime() - start);
+      } else {
+        circuitBreaker.releasePermission();
+      }
+    });
+  }
+
+  private APIResponse<T> send(URL url, HttpMethod method, Map<String, String> headers, RequestBody body,
+      Class<T> responseType)
+      throws LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    try {
+      logRequest(url, method, body);
+      try (RawHttpResponse response = exchange(url, method, withAcceptEncoding(headers), body)) {
+        return handleResponse(response, responseType);
+      }
+    } catch (IOException e) {
+      throw new TransientLinkedInApiException(500, new HashMap<>(), e.getMessage());
+    }
+  }
+
+  /**
+   * Sends the request with {@link #exchangeAsync} and parses the response on the thread completing
+   * the exchange. I/O errors fail the future with a {@link TransientLinkedInApiException}, as
+   * {@link #send} throws them.
+   */
+  private CompletableFuture<APIResponse<T>> sendAsync(URL url, HttpMethod method, Map<String, String> headers,
+      RequestBody body, Class<T> responseType) {
+    logRequest(url, method, body);
+    CompletableFuture<RawHttpResponse> exchange;
+    try {
+      exchange = exchangeAsync(url, method, withAcceptEncoding(headers), body);
+    } catch (RuntimeException e) {
+      exchange = FutureUtil.failedFuture(e);
+    }
+
+    CompletableFuture<APIResponse<T>> future = new CompletableFuture<>();
+    exchange.whenComplete((rawResponse, failure) -> {
+      if (failure != null) {
+        Throwable cause = FutureUtil.unwrap(failure);
+        future.completeExceptionally(cause instanceof IOException
+            ? new TransientLinkedInApiException(500, new HashMap<>(), cause.getMessage())
+            : cause);
+        return;
+      }
+      try (RawHttpResponse response = rawResponse) {
+        future.complete(handleResponse(response, responseType));
+      } catch (IOException e) {
+        future.completeExceptionally(new TransientLinkedInApiException(500, new HashMap<>(), e.getMessage()));
+      } catch (LinkedInApiException | JsonDeserializationException | RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
+
+  private static void logRequest(URL url, HttpMethod method, RequestBody body) {
+    LOGGER.info(String.format("Sending %s request to %s", method, LogRedactor.redact(url.toString())));
+    if (body != null && LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.fine(LogRedactor.redact("Request body: " + body));
+    }
+  }
+
+  /**
+   * @return the circuit breaker of the URL's endpoint, or null if circuit breakers are disabled
+   */
+  private CircuitBreaker circuitBreakerFor(URL url) {
+    if (!circuitBreakerConfig.isEnabled()) {
+      return null;
+    }
+    return circuitBreakers.computeIfAbsent(endpointOf(url), endpoint -> new CircuitBreaker(endpoint, circuitBreakerConfig));
+  }
+
+  /**
+   * @return the parsed URL, or null if it is malformed, which the attempt itself reports
+   */
+  private static URL toUrlOrNull(String url) {
+    try {
+      return new URL(url);
+    } catch (MalformedURLException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Identifies the endpoint of a URL by its host and the first two path segments, such as
+   * {@code api.linkedin.com/rest/simpleJobPostings}, so that ids and query parameters do not
+   * create an endpoint per request.
+   */
+  static String endpointOf(URL url) {
+    StringBuilder endpoint = new StringBuilder(url.getHost());
+    int segments = 0;
+    for (String segment : url.getPath().split("/")) {
+      if (!segment.isEmpty() && segments++ < 2) {
+        endpoint.append('/').append(segment);
+      }
+    }
+    return endpoint.toString();
+  }
+
+  /**
+   * Adds {@code Accept-Encoding: gzip} to a copy of the request headers when response
+   * compression is enabled and the caller has not set an encoding itself.
+   */
+  private Map<String, String> withAcceptEncoding(Map<String, String> headers) {
+    if (!compressionConfig.isResponseCompressionEnabled()
+        || (headers != null && HttpHeaders.firstValue(headers, ACCEPT_ENCODING) != null)) {
+      return headers;
+    }
+    Map<String, String> copy = headers != null ? new HashMap<>(headers) : new HashMap<>();
+    copy.put(ACCEPT_ENCODING, GZIP);
+    return copy;
+  }
+
+  /**
+   * Sends a single request and returns the raw response. Retries, error mapping and
+   * deserialization are handled by the caller, so transports only need to override this method.
+   *
+   * <p>This implementation uses {@link HttpsURLConnection} and holds a {@link ConnectionPool}
+   * lease until the returned response is closed.</p>
+   *
+   * @param url     the URL to send the request to
+   * @param method  the HTTP method to use
+   * @param headers the HTTP headers to include in the request, may be null
+   * @param body    the request body, may be null
+   * @return the raw response, which the caller must close
+   * @throws IOException if an I/O error occurs during the exchange
+   * @throws JsonSerializationException if the request body cannot be serialized
+   */
+  protected RawHttpResponse exchange(URL url, HttpMethod method, Map<String, String> headers, RequestBody body)
+      throws IOException, JsonSerializationException {
+    ConnectionPool.Lease lease = connectionPool.acquire(url);
+    HttpsURLConnection connection = null;
+    try {
+      connection = createConnection(url, method);
+      lease.bind(connection);
+      setHeaders(connection, headers);
+
+      if (body != null && !(method.equals(HttpMethod.GET) || method.equals(HttpMethod.DELETE))) {
+        writeRequestBody(connection, body);
+      }
+
+      int responseCode = connection.getResponseCode();
+      InputStream inputStream = HttpStatusCategory.SUCCESS.matches(responseCode)
+          ? connection.getInputStream()
+          : connection.getErrorStream();
+      return new RawHttpResponse(responseCode, connection.getHeaderFields(), inputStream, lease::release);
+    } catch (JsonSerializationException e) {
+      // The request was cut off mid-body, so the connection cannot be reused
+      connection.disconnect();
+      lease.release();
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      lease.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Sends a single request asynchronously. Like {@link #exchange}, retries, error mapping and
+   * deserialization are handled by the caller. The response body is parsed on the thread that
+   * completes the returned future, which blocks while the rest of the body is being received.
+   *
+   * <p>This implementation runs {@link #exchange} on the async executor, whose thread is held while
+   * waiting for a pooled connection and for the response. Transports backed by a non-blocking
+   * engine should override it.</p>
+   *
+   * @param url     the URL to send the request to
+   * @param method  the HTTP method to use
+   * @param headers the HTTP headers to include in the request, may be null
+   * @param body    the request body, may be null
+   * @return a future completing with the raw response, which the caller must close, or
+   *     exceptionally with an {@link IOException} or {@link JsonSerializationException}
+   */
+  protected CompletableFuture<RawHttpResponse> exchangeAsync(URL url, HttpMethod method, Map<String, String> headers,
+      RequestBody body) {
+    CompletableFuture<RawHttpResponse> future = new CompletableFuture<>();
+    try {
+      asyncExecutor.execute(() -> {
+        try {
+          future.complete(exchange(url, method, headers, body));
+        } catch (IOException | JsonSerializationException | RuntimeException e) {
+          future.completeExceptionally(e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Creates an HttpsURLConnection for the specified URL and HTTP method.
+   *
+   * @param url    the URL to connect to
+   * @param method the HTTP method to use
+   * @return a configured HttpsURLConnection instance
+   * @throws IOException if an I/O error occurs while opening the connection
+   */
+  protected HttpsURLConnection createConnection(URL url, HttpMethod method) throws IOException {
+    HttpsURLConnection connection = (HttpsURLConnection) url.openConnection();
+    connection.setRequestMethod(method.getValue());
+    connection.setConnectTimeout(connectionPoolConfig.getConnectTimeoutMillis());
+    connection.setReadTimeout(connectionPoolConfig.getReadTimeoutMillis());
+    connection.setDoInput(true);
+    connection.setDoOutput(!method.equals(HttpMethod.GET));
+    connection.setInstanceFollowRedirects(false);
+    return connection;
+  }
+
+  /**
+   * Sets the HTTP headers for the connection.
+   *
+   * @param connection the HttpsURLConnection to set headers on
+   * @param headers    a map of header names and values
+   */
+  private void setHeaders(HttpsURLConnection connection, Map<String, String> headers) {
+    connection.setRequestProperty(X_EXTERNAL_APP, SDK_USER_NAME);
+    if (headers != null) {
+      headers.forEach(connection::setRequestProperty);
+    }
+  }
+
+  /**
+   * Writes the request body to the connection's output stream. Bodies of known length are sent
+   * in fixed-length streaming mode and others in chunked mode, so the connection never buffers
+   * the whole body. Compressed bodies are always sent in chunked mode.
+   *
+   * @param connection the HttpsURLConnection to write the body to
+   * @param body       the request body
+   * @throws IOException if an I/O error occurs while writing the body
+   * @throws JsonSerializationException if the body cannot be serialized
+   */
+  private void writeRequestBody(HttpsURLConnection connection, RequestBody body)
+      throws IOException, JsonSerializationException {
+    writeBody(body, (gzip, contentLength) -> {
+      if (gzip) {
+        connection.setRequestProperty(CONTENT_ENCODING, GZIP);
+        connection.setChunkedStreamingMode(0);
+      } else if (contentLength >= 0) {
+        connection.setRequestProperty(CONTENT_LENGTH, String.valueOf(contentLength));
+        connection.setFixedLengthStreamingMode(contentLength);
+      } else {
+        connection.setChunkedStreamingMode(0);
+      }
+      return connection.getOutputStream();
+    });
+  }
+
+  /**
+   * Writes the request body to the stream opened by the target, gzip encoding it when request
+   * compression is enabled and the body is larger than the configured threshold. Bodies of
+   * unknown length are held back until the threshold is crossed, so the encoding can be decided
+   * before the target is opened.
+   *
+   * @param body   the request body
+   * @param target opens the stream to write the body to once its encoding is known
+   * @throws IOException if an I/O error occurs while writing the body
+   * @throws JsonSerializationException if the body cannot be serialized
+   */
+  void writeBody(RequestBody body, GzipRequestOutputStream.Target target)
+      throws IOException, JsonSerializationException {
+    long contentLength = body.contentLength();
+    int threshold = compressionConfig.getRequestCompressionThresholdBytes();
+    if (!compressionConfig.isRequestCompressionEnabled() || (contentLength >= 0 && contentLength <= threshold)) {
+      try (OutputStream os = target.open(false, contentLength)) {
+        body.writeTo(os);
+        os.flush();
+      }
+      return;
+    }
+
+    // Not closed on failure, as closing would complete a truncated request
+    GzipRequestOutputStream os = new GzipRequestOutputStream(threshold, target, compressionMetrics);
+    body.writeTo(os);
+    os.close();
+  }
+
+  /**
+   * Handles errors if the response code indicates failure, otherwise parses the response body
+   * directly from the response stream. Gzip encoded bodies are inflated while they are read. The
+   * body is only buffered for logging when {@link Level#FINE} is enabled.
+   *
+   * @param rawResponse the response to read
+   * @param responseType the class type to deserialize the response body into
+   * @return the deserialized response
+   * @throws IOException           if an I/O error occurs while reading the response
+   * @throws LinkedInApiException if the API returns an error response
+   * @throws JsonDeserializationException if there is an error deserializing the response
+   */
+  private APIResponse<T> handleResponse(RawHttpResponse rawResponse, Class<T> responseType)
+      throws IOException, LinkedInApiException, JsonDeserializationException {
+    int responseCode = rawResponse.getStatusCode();
+    Map<String, List<String>> headers = rawResponse.getHeaders();
+    LOGGER.info(LogRedactor.redact(String.format("Response status: %d, headers: %s", responseCode, headers)));
+
+    InputStream inputStream = rawResponse.getBody();
+    if (inputStream != null && GZIP.equalsIgnoreCase(HttpHeaders.firstValue(headers, CONTENT_ENCODING))) {
+      inputStream = GzipResponseInputStream.wrap(inputStream, compressionMetrics);
+    }
+
+    if (!HttpStatusCategory.SUCCESS.matches(responseCode)) {
+      String response = readStream(inputStream);
+      if (LinkedInApiException.isTransient(responseCode)) {
+        String errorMessage = "HTTP error " + responseCode;
+        LOGGER.severe(errorMessage);
+        throw new TransientLinkedInApiException(responseCode, headers, response);
+      }
+      String errorMessage = "HTTP error " + responseCode + ": " + response;
+      LOGGER.severe(LogRedactor.redact(errorMessage));
+      throw new LinkedInApiException(responseCode, headers, response);
+    }
+
+    if (inputStream == null) {
+      inputStream = new ByteArrayInputStream(new byte[0]);
+    }
+    CapturingInputStream capture = null;
+    if (LOGGER.isLoggable(Level.FINE)) {
+      capture = new CapturingInputStream(inputStream);
+      inputStream = capture;
+    }
+
+    T body = responseType != null ? ObjectMapperUtil.fromJson(inputStream, responseType) : null;
+    drain(inputStream);
+    if (capture != null) {
+      LOGGER.fine(LogRedactor.redact("Response body: " + capture.getCaptured()));
+    }
+
+    return APIResponse.<T>builder()
+        .body(body)
+        .httpStatusCode(responseCode)
+        .httpStatusCategory(HttpStatusCategory.fromCode(responseCode))
+        .responseHeaders(headers)
+        .build();
+  }
+
+  /**
+   * Reads the content of an InputStream and returns it as a String, preserving line breaks.
+   *
+   * @param inputStream the InputStream to read from
+   * @return the content of the InputStream as a String
+   * @throws IOException if an I/O error occurs while reading the stream
+   */
+  private static String readStream(InputStream inputStream) throws IOException {
+    if (inputStream == null) return "";
+
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      content.write(buffer, 0, read);
+    }
+    return new String(content.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads whatever is left of a stream, such as trailing whitespace after the JSON document,
+   * so that the underlying keep-alive connection can be returned to the JDK connection cache.
+   *
+   * @param inputStream the InputStream to drain
+   * @throws IOException if an I/O error occurs while reading the stream
+   */
+  private static void drain(InputStream inputStream) throws IOException {
+    byte[] buffer = new byte[BUFFER_SIZE];
+    while (inputStream.read(buffer) != -1) {
+      // discard
+    }
+  }
+}
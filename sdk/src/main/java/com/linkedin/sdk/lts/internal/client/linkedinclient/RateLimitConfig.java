@@ -0,0 +1,57 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Singular;
+
+
+/**
+ * Client-side rate limits of {@link LinkedInHttpClient}. Each client ID gets its own token bucket
+ * per {@link ApiFamily}, refilled at the configured rate. Rate limiting is off by default.
+ *
+ * <pre>{@code
+ * RateLimitConfig.builder()
+ *     .enabled(true)
+ *     .permitsPerSecond(ApiFamily.JOB_POSTINGS, 5.0)
+ *     .permitsPerSecond(ApiFamily.TASK_STATUS, 20.0)
+ *     .build();
+ * }</pre>
+ */
+@Data
+@Builder
+public class RateLimitConfig {
+
+  /**
+   * Whether requests are rate limited.
+   */
+  @Builder.Default
+  private boolean enabled = false;
+
+  /**
+   * Sustained request rate allowed per client ID for each API family. Families without a rate
+   * are not limited.
+   */
+  @Singular("permitsPerSecond")
+  private Map<ApiFamily, Double> permitsPerSecond;
+
+  /**
+   * Number of seconds of unused permits that can be saved up and spent in a burst. The bucket
+   * always holds at least one permit.
+   */
+  @Builder.Default
+  private double burstSeconds = 1.0;
+
+  /**
+   * What to do when no permit is available.
+   */
+  @Builder.Default
+  private RateLimitMode mode = RateLimitMode.BLOCKING;
+
+  /**
+   * Longest time a request waits for a permit in {@link RateLimitMode#BLOCKING} mode before it
+   * fails instead.
+   */
+  @Builder.Default
+  private long maxWaitMillis = 30000;
+}
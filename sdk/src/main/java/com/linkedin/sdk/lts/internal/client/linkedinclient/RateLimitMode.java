@@ -0,0 +1,18 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * What {@link LinkedInHttpClient} does with a request for which no rate limit permit is available.
+ */
+public enum RateLimitMode {
+
+  /**
+   * Wait for a permit, up to {@link RateLimitConfig#getMaxWaitMillis()}. Synchronous requests
+   * wait on the calling thread, asynchronous requests are delayed without holding a thread.
+   */
+  BLOCKING,
+
+  /**
+   * Fail straight away with a {@link com.linkedin.sdk.lts.api.exception.RateLimitExceededException}.
+   */
+  TRY_ACQUIRE
+}
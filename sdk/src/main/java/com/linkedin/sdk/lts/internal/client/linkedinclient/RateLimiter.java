@@ -0,0 +1,79 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Token bucket rate limiter. Permits are refilled continuously at a fixed rate, and unused permits
+ * are saved up to the bucket capacity for bursts.
+ *
+ * <p>Callers that have to wait reserve their permit up front, so waiting callers are served in
+ * order and the rate holds however many of them there are.</p>
+ */
+class RateLimiter {
+
+  private final double permitsPerNano;
+  private final double capacity;
+  private final LongSupplier nanoClock;
+
+  private double permits;
+  private long lastRefillNanos;
+
+  /**
+   * @param permitsPerSecond the sustained rate
+   * @param burstSeconds the number of seconds of unused permits that can be saved up
+   * @param nanoClock the source of {@link System#nanoTime()} readings
+   */
+  RateLimiter(double permitsPerSecond, double burstSeconds, LongSupplier nanoClock) {
+    if (permitsPerSecond <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond must be positive");
+    }
+    this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.capacity = Math.max(1, permitsPerSecond * burstSeconds);
+    this.nanoClock = nanoClock;
+    this.permits = capacity;
+    this.lastRefillNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Reserves the next permit.
+   *
+   * @param maxWaitNanos the longest acceptable wait
+   * @return the time until the permit may be used, or -1 if that exceeds the maximum wait, in
+   *     which case nothing is reserved
+   */
+  synchronized long reserve(long maxWaitNanos) {
+    refill();
+    long waitNanos = permits >= 1 ? 0 : (long) Math.ceil((1 - permits) / permitsPerNano);
+    if (waitNanos > maxWaitNanos) {
+      return -1;
+    }
+    // Permits go negative while reservations are queued
+    permits -= 1;
+    return waitNanos;
+  }
+
+  /**
+   * Gives back a reserved permit that was not used, for example because the request was rejected
+   * before it was sent.
+   */
+  synchronized void release() {
+    permits = Math.min(capacity, permits + 1);
+  }
+
+  /**
+   * @return true if the bucket has refilled to capacity, which makes the limiter indistinguishable
+   *     from a new one
+   */
+  synchronized boolean isIdle() {
+    refill();
+    return permits >= capacity;
+  }
+
+  private void refill() {
+    long now = nanoClock.getAsLong();
+    permits = Math.min(capacity, permits + (now - lastRefillNanos) * permitsPerNano);
+    lastRefillNanos = now;
+  }
+}
@@ -0,0 +1,157 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.RateLimitExceededException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+
+
+/**
+ * Rate limiters of a {@link LinkedInHttpClient}, one per client ID and {@link ApiFamily}. The
+ * client ID is taken from the {@code X-External-User} header every SDK client sends. Requests
+ * without it, such as token requests, are not rate limited.
+ *
+ * <p>Limiters whose bucket has refilled are dropped once a minute, so the registry only holds the
+ * client IDs that sent requests recently. A full bucket is what a new limiter starts with, so
+ * nothing is lost by dropping it.</p>
+ */
+class RateLimiterRegistry {
+  private static final Logger LOGGER = Logger.getLogger(RateLimiterRegistry.class.getName());
+  private static final long EVICTION_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final RateLimitConfig config;
+  private final LongSupplier nanoClock;
+  private final ConcurrentMap<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+  private final AtomicLong nextEvictionNanos;
+
+  RateLimiterRegistry(RateLimitConfig config) {
+    this(config, System::nanoTime);
+  }
+
+  RateLimiterRegistry(RateLimitConfig config, LongSupplier nanoClock) {
+    this.config = config;
+    this.nanoClock = nanoClock;
+    this.nextEvictionNanos = new AtomicLong(nanoClock.getAsLong() + EVICTION_INTERVAL_NANOS);
+  }
+
+  /**
+   * Takes a permit for the request, waiting on the calling thread in blocking mode.
+   *
+   * @throws RateLimitExceededException if no permit is available in time
+   */
+  void acquire(URL url, Map<String, String> headers) throws RateLimitExceededException {
+    long waitNanos = reserve(url, headers);
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        release(url, headers);
+        throw new RateLimitExceededException("Interrupted while waiting for a rate limit permit");
+      }
+    }
+  }
+
+  /**
+   * Reserves a permit for the request.
+   *
+   * @return the time in nanoseconds until the permit may be used
+   * @throws RateLimitExceededException if no permit is available in time
+   */
+  long reserve(URL url, Map<String, String> headers) throws RateLimitExceededException {
+    ApiFamily family = limitedFamilyOf(url);
+    if (family == null) {
+      return 0;
+    }
+    String clientId = HttpHeaders.firstValue(headers, X_EXTERNAL_USER);
+    if (clientId == null) {
+      LOGGER.fine("Not rate limiting request without " + X_EXTERNAL_USER + " header to " + family);
+      return 0;
+    }
+
+    evictIdleRateLimiters();
+    double permitsPerSecond = config.getPermitsPerSecond().get(family);
+    RateLimiter rateLimiter = rateLimiters.computeIfAbsent(keyOf(clientId, family),
+        key -> new RateLimiter(permitsPerSecond, config.getBurstSeconds(), nanoClock));
+    long maxWaitNanos = config.getMode() == RateLimitMode.TRY_ACQUIRE
+        ? 0
+        : TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMillis());
+    long waitNanos = rateLimiter.reserve(maxWaitNanos);
+    if (waitNanos < 0) {
+      throw new RateLimitExceededException(
+          String.format("Client-side rate limit of %s requests per second exceeded for %s", permitsPerSecond, family));
+    }
+    return waitNanos;
+  }
+
+  /**
+   * Gives back the permit reserved for a request that was not sent.
+   */
+  void release(URL url, Map<String, String> headers) {
+    ApiFamily family = limitedFamilyOf(url);
+    String clientId = HttpHeaders.firstValue(headers, X_EXTERNAL_USER);
+    if (family == null || clientId == null) {
+      return;
+    }
+    RateLimiter rateLimiter = rateLimiters.get(keyOf(clientId, family));
+    if (rateLimiter != null) {
+      rateLimiter.release();
+    }
+  }
+
+  /**
+   * @return the number of rate limiters held
+   */
+  int size() {
+    return rateLimiters.size();
+  }
+
+  /**
+   * Drops the limiters whose bucket has refilled, at most once per eviction interval. A request
+   * racing with the eviction may reserve a permit from a dropped limiter, which lets at most one
+   * extra request through.
+   */
+  private void evictIdleRateLimiters() {
+    long now = nanoClock.getAsLong();
+    long next = nextEvictionNanos.get();
+    if (now - next < 0 || !nextEvictionNanos.compareAndSet(next, now + EVICTION_INTERVAL_NANOS)) {
+      return;
+    }
+    rateLimiters.values().removeIf(RateLimiter::isIdle);
+  }
+
+  /**
+   * @return the family of the URL if it is rate limited, or null otherwise
+   */
+  private ApiFamily limitedFamilyOf(URL url) {
+    if (!config.isEnabled() || url == null) {
+      return null;
+    }
+    ApiFamily family = ApiFamily.fromResource(resourceOf(url));
+    return config.getPermitsPerSecond().containsKey(family) ? family : null;
+  }
+
+  private static String keyOf(String clientId, ApiFamily family) {
+    return clientId + "/" + family;
+  }
+
+  /**
+   * @return the first path segment after the API version, such as {@code simpleJobPostings}
+   */
+  private static String resourceOf(URL url) {
+    int segments = 0;
+    for (String segment : url.getPath().split("/")) {
+      if (!segment.isEmpty() && ++segments == 2) {
+        return segment;
+      }
+    }
+    return "";
+  }
+}
@@ -0,0 +1,64 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Status, headers and body stream of a single HTTP exchange, before error handling and
+ * deserialization are applied by {@link LinkedInHttpClient}.
+ *
+ * <p>Closing the response closes the body stream and frees whatever the transport held for the
+ * exchange, such as a connection pool lease.</p>
+ */
+public class RawHttpResponse implements Closeable {
+
+  private final int statusCode;
+  private final Map<String, List<String>> headers;
+  private final InputStream body;
+  private final Closeable onClose;
+
+  /**
+   * @param statusCode the HTTP status code
+   * @param headers the response headers
+   * @param body the response body, or null if the response has none
+   * @param onClose invoked once the body has been closed, may be null
+   */
+  public RawHttpResponse(int statusCode, Map<String, List<String>> headers, InputStream body, Closeable onClose) {
+    this.statusCode = statusCode;
+    this.headers = headers;
+    this.body = body;
+    this.onClose = onClose;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  public Map<String, List<String>> getHeaders() {
+    return headers;
+  }
+
+  /**
+   * @return the response body stream, or null if the response has no body
+   */
+  public InputStream getBody() {
+    return body;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (body != null) {
+        body.close();
+      }
+    } finally {
+      if (onClose != null) {
+        onClose.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * Body of an HTTP request, written straight to the connection's output stream.
+ *
+ * <p>Implementations must be repeatable: {@link #writeTo(OutputStream)} is called once per
+ * attempt, so a retried request writes the body again.</p>
+ */
+public interface RequestBody {
+
+  /**
+   * @return the length of the body in bytes, or -1 if it is only known once written, in which
+   *     case the body is sent with chunked transfer encoding
+   */
+  long contentLength();
+
+  /**
+   * Writes the body to the given stream. The stream is not closed.
+   *
+   * @param out the stream to write to
+   * @throws IOException if writing to the stream fails
+   * @throws JsonSerializationException if the body cannot be serialized
+   */
+  void writeTo(OutputStream out) throws IOException, JsonSerializationException;
+
+  /**
+   * Creates a body from a string, encoded as UTF-8 and sent with a Content-Length header.
+   *
+   * @param body the body content
+   * @return the request body
+   */
+  static RequestBody fromString(String body) {
+    return new StringRequestBody(body);
+  }
+
+  /**
+   * Creates a body that serializes the given object as JSON directly to the connection, without
+   * building the document in memory. The body is sent with chunked transfer encoding.
+   *
+   * @param value the object to serialize
+   * @return the request body
+   */
+  static RequestBody json(Object value) {
+    return new JsonRequestBody(value);
+  }
+}
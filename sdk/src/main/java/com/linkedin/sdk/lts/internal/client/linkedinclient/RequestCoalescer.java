@@ -0,0 +1,137 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+
+/**
+ * Lets concurrent identical requests share a single call. The first request for a key runs the
+ * call, and requests for the same key arriving before it completes wait for its result instead
+ * of sending their own. Nothing is cached once the call has completed.
+ *
+ * @param <R> the result shared between callers
+ */
+class RequestCoalescer<R> {
+
+  /**
+   * A blocking call that may fail with the exceptions of {@link LinkedInHttpClient}.
+   */
+  interface Call<R> {
+    R call() throws LinkedInApiException, JsonDeserializationException, JsonSerializationException;
+  }
+
+  private final ConcurrentMap<Object, CompletableFuture<R>> inFlight = new ConcurrentHashMap<>();
+  private final AtomicLong coalesced = new AtomicLong();
+
+  /**
+   * Runs the call on the calling thread, or waits for an identical call already in flight.
+   *
+   * @param key identifies identical calls
+   * @param call the call to run if none is in flight for the key
+   * @return the result of the call
+   */
+  R execute(Object key, Call<R> call)
+      throws LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    CompletableFuture<R> shared = new CompletableFuture<>();
+    CompletableFuture<R> existing = inFlight.putIfAbsent(key, shared);
+    if (existing != null) {
+      coalesced.incrementAndGet();
+      return await(existing);
+    }
+
+    try {
+      R result = call.call();
+      inFlight.remove(key, shared);
+      shared.complete(result);
+      return result;
+    } catch (Throwable e) {
+      inFlight.remove(key, shared);
+      shared.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Starts the call, or joins an identical call already in flight. Every caller gets its own
+   * future, so cancelling it does not affect the other callers.
+   *
+   * @param key identifies identical calls
+   * @param call starts the call if none is in flight for the key
+   * @return a future completed with the result of the call
+   */
+  CompletableFuture<R> executeAsync(Object key, Supplier<CompletableFuture<R>> call) {
+    CompletableFuture<R> shared = new CompletableFuture<>();
+    CompletableFuture<R> existing = inFlight.putIfAbsent(key, shared);
+    if (existing != null) {
+      coalesced.incrementAndGet();
+      return copyOf(existing);
+    }
+
+    call.get().whenComplete((result, e) -> {
+      inFlight.remove(key, shared);
+      if (e != null) {
+        shared.completeExceptionally(e);
+      } else {
+        shared.complete(result);
+      }
+    });
+    return copyOf(shared);
+  }
+
+  /**
+   * @return the number of requests that were served by a call already in flight
+   */
+  long getCoalescedCount() {
+    return coalesced.get();
+  }
+
+  private static <R> CompletableFuture<R> copyOf(CompletableFuture<R> shared) {
+    CompletableFuture<R> copy = new CompletableFuture<>();
+    shared.whenComplete((result, e) -> {
+      if (e != null) {
+        copy.completeExceptionally(e);
+      } else {
+        copy.complete(result);
+      }
+    });
+    return copy;
+  }
+
+  private static <R> R await(CompletableFuture<R> shared)
+      throws LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    try {
+      return shared.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new LinkedInApiException(HttpStatusCategory.SERVER_ERROR.getDefaultCode(), new HashMap<>(),
+          "Interrupted while waiting for an identical request in flight");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof LinkedInApiException) {
+        throw (LinkedInApiException) cause;
+      }
+      if (cause instanceof JsonDeserializationException) {
+        throw (JsonDeserializationException) cause;
+      }
+      if (cause instanceof JsonSerializationException) {
+        throw (JsonSerializationException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
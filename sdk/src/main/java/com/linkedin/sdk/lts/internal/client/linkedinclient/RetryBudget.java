@@ -0,0 +1,38 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * Token bucket limiting retries to a share of the requests sent. Every request deposits a
+ * fraction of a token and every retry withdraws a whole one, so retries cannot amplify the load
+ * on an API that is already failing.
+ */
+class RetryBudget {
+
+  private final double depositPerRequest;
+  private final double capacity;
+  private double tokens;
+
+  /**
+   * @param ratio retries allowed per request sent
+   * @param capacity maximum number of retries that can be saved up; the bucket starts full
+   */
+  RetryBudget(double ratio, int capacity) {
+    this.depositPerRequest = ratio;
+    this.capacity = capacity;
+    this.tokens = capacity;
+  }
+
+  synchronized void onRequest() {
+    tokens = Math.min(capacity, tokens + depositPerRequest);
+  }
+
+  /**
+   * @return true if a retry may be made, in which case its token has been withdrawn
+   */
+  synchronized boolean tryAcquire() {
+    if (tokens < 1) {
+      return false;
+    }
+    tokens -= 1;
+    return true;
+  }
+}
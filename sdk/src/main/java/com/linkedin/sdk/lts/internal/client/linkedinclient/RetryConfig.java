@@ -0,0 +1,59 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RetryConfig {
+  @Builder.Default
+  private int maxRetries = 3;
+
+  @Builder.Default
+  private long initialBackoffMillis = 1000;
+
+  @Builder.Default
+  private double backoffMultiplier = 2.0;
+
+  @Builder.Default
+  private long maxBackoffMillis = 10000;
+
+  /**
+   * Randomization applied to the backoff, so that clients failing at the same time do not retry
+   * in lockstep.
+   */
+  @Builder.Default
+  private RetryJitter jitter = RetryJitter.NONE;
+
+  /**
+   * Longest {@code Retry-After} delay that is waited out. Requests asked to wait longer fail
+   * straight away instead of being retried.
+   */
+  @Builder.Default
+  private long maxRetryAfterMillis = 60000;
+
+  /**
+   * Whether retries are limited by a token bucket, so that they never exceed
+   * {@link #retryBudgetRatio} of the requests sent once the burst allowance is spent. Disabled by
+   * default.
+   *
+   * <p>The bucket is shared by every request of the client, whatever its tenant or endpoint,
+   * including token requests. Retries against a failing endpoint can therefore use up the budget
+   * of the others, so size {@link #retryBudgetCapacity} for the whole client.</p>
+   */
+  @Builder.Default
+  private boolean retryBudgetEnabled = false;
+
+  /**
+   * Retries allowed per request sent, for example 0.2 allows one retry for every five requests.
+   */
+  @Builder.Default
+  private double retryBudgetRatio = 0.2;
+
+  /**
+   * Number of retries that can be made in a burst before the budget has to be refilled by new
+   * requests. The budget starts full.
+   */
+  @Builder.Default
+  private int retryBudgetCapacity = 10;
+}
@@ -0,0 +1,23 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+/**
+ * Randomization applied by {@link DefaultRetryPolicy} to the exponential backoff.
+ */
+public enum RetryJitter {
+
+  /**
+   * Deterministic exponential backoff.
+   */
+  NONE,
+
+  /**
+   * A random delay between zero and the exponential backoff.
+   */
+  FULL,
+
+  /**
+   * A random delay between the initial backoff and three times the previous delay, capped at the
+   * maximum backoff.
+   */
+  DECORRELATED
+}
@@ -0,0 +1,30 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+
+
+/**
+ * Decides whether and when {@link LinkedInHttpClient} retries a request that failed with a
+ * transient error, such as a 5xx or 429 response or a network failure.
+ *
+ * <p>A single policy instance serves all requests of a client, so implementations must be
+ * thread-safe.</p>
+ */
+public interface RetryPolicy {
+
+  /**
+   * Called once per request before its first attempt, for policies that budget retries against
+   * the traffic sent.
+   */
+  default void onRequest() {
+  }
+
+  /**
+   * @param retry the number of the retry being considered, starting at 1
+   * @param previousDelayMillis the delay before the previous retry, or 0 for the first retry
+   * @param failure the transient error of the last attempt
+   * @return the delay before the retry in milliseconds, or a negative value to give up and
+   *     rethrow the failure
+   */
+  long retryDelayMillis(int retry, long previousDelayMillis, LinkedInApiException failure);
+}
@@ -0,0 +1,35 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * {@link RequestBody} holding an already encoded string.
+ */
+class StringRequestBody implements RequestBody {
+
+  private final String content;
+  private final byte[] bytes;
+
+  StringRequestBody(String content) {
+    this.content = content;
+    this.bytes = content.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public long contentLength() {
+    return bytes.length;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    out.write(bytes);
+  }
+
+  @Override
+  public String toString() {
+    return content;
+  }
+}
@@ -0,0 +1,204 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+
+
+/**
+ * {@link HttpClient} decorator recovering from access tokens that LinkedIn rejects before they
+ * expire. When a request carrying a bearer token fails with a 401 response, the token is handed
+ * to a {@link TokenRefresher}, and the request is replayed once with the new token.
+ *
+ * <p>The refresher is expected to authenticate once per rejected token however many requests
+ * report it, so a revoked token does not send every in-flight request to the OAuth endpoint.
+ * Requests without a bearer token, such as the token request itself, are passed through.</p>
+ *
+ * <p>On the async path, the new token is obtained with {@link TokenRefresher#refreshAsync} and the
+ * request is replayed once it completes, so no thread waits for the token request.</p>
+ */
+public class TokenRecoveringHttpClient<T> implements HttpClient<T> {
+  private static final Logger LOGGER = Logger.getLogger(TokenRecoveringHttpClient.class.getName());
+  private static final int UNAUTHORIZED = 401;
+  private static final String BEARER_PREFIX = BEARER + SPACE_SEPARATOR;
+
+  /**
+   * Obtains a new access token in place of a rejected one.
+   */
+  public interface TokenRefresher {
+    /**
+     * @param rejectedAccessToken the access token LinkedIn rejected
+     * @return the access token to replay the request with
+     * @throws AuthenticationException if no new token can be obtained
+     */
+    String refresh(String rejectedAccessToken) throws AuthenticationException;
+
+    /**
+     * Obtains a new access token without blocking the calling thread.
+     *
+     * @param rejectedAccessToken the access token LinkedIn rejected
+     * @return a future completing with the access token to replay the request with, or
+     *     exceptionally with an {@link AuthenticationException}
+     */
+    CompletableFuture<String> refreshAsync(String rejectedAccessToken);
+  }
+
+  private final HttpClient<T> delegate;
+  private final TokenRefresher tokenRefresher;
+
+  public TokenRecoveringHttpClient(HttpClient<T> delegate, TokenRefresher tokenRefresher) {
+    this.delegate = delegate;
+    this.tokenRefresher = tokenRefresher;
+  }
+
+  @Override
+  public APIResponse<T> executeRequest(String url, HttpMethod method, Map<String, String> headers, String body,
+      Class<T> responseType) throws IOException, LinkedInApiException, JsonDeserializationException {
+    try {
+      return delegate.executeRequest(url, method, headers, body, responseType);
+    } catch (LinkedInApiException e) {
+      Map<String, String> replayHeaders = replayHeaders(headers, e);
+      if (replayHeaders == null) {
+        throw e;
+      }
+      return delegate.executeRequest(url, method, replayHeaders, body, responseType);
+    }
+  }
+
+  @Override
+  public CompletableFuture<APIResponse<T>> executeRequestAsync(String url, HttpMethod method,
+      Map<String, String> headers, String body, Class<T> responseType) {
+    return recoverAsync(delegate.executeRequestAsync(url, method, headers, body, responseType), headers,
+        replayHeaders -> delegate.executeRequestAsync(url, method, replayHeaders, body, responseType));
+  }
+
+  @Override
+  public APIResponse<T> executeStreamingRequest(String url, HttpMethod method, Map<String, String> headers,
+      RequestBody body, Class<T> responseType)
+      throws IOException, LinkedInApiException, JsonDeserializationException, JsonSerializationException {
+    try {
+      return delegate.executeStreamingRequest(url, method, headers, body, responseType);
+    } catch (LinkedInApiException e) {
+      Map<String, String> replayHeaders = replayHeaders(headers, e);
+      if (replayHeaders == null) {
+        throw e;
+      }
+      return delegate.executeStreamingRequest(url, method, replayHeaders, body, responseType);
+    }
+  }
+
+  @Override
+  public CompletableFuture<APIResponse<T>> executeStreamingRequestAsync(String url, HttpMethod method,
+      Map<String, String> headers, RequestBody body, Class<T> responseType) {
+    return recoverAsync(delegate.executeStreamingRequestAsync(url, method, headers, body, responseType), headers,
+        replayHeaders -> delegate.executeStreamingRequestAsync(url, method, replayHeaders, body, responseType));
+  }
+
+  /**
+   * Replays a failed async request with a new token if it failed with a 401 response.
+   */
+  private CompletableFuture<APIResponse<T>> recoverAsync(CompletableFuture<APIResponse<T>> attempt,
+      Map<String, String> headers, Replay<T> replay) {
+    CompletableFuture<APIResponse<T>> future = new CompletableFuture<>();
+    attempt.whenComplete((response, e) -> {
+      if (e == null) {
+        future.complete(response);
+        return;
+      }
+      Throwable cause = FutureUtil.unwrap(e);
+      String rejectedAccessToken = cause instanceof LinkedInApiException
+          ? rejectedAccessToken(headers, (LinkedInApiException) cause)
+          : null;
+      if (rejectedAccessToken == null) {
+        future.completeExceptionally(cause);
+        return;
+      }
+      CompletableFuture<String> refresh = refreshAsync(rejectedAccessToken);
+      refresh.thenCompose(newAccessToken -> replay.execute(withAccessToken(headers, newAccessToken)))
+          .whenComplete((replayed, replayError) -> {
+            if (replayError == null) {
+              future.complete(replayed);
+            } else if (refresh.isCompletedExceptionally()) {
+              abandonReplay((LinkedInApiException) cause, FutureUtil.unwrap(replayError));
+              future.completeExceptionally(cause);
+            } else {
+              future.completeExceptionally(FutureUtil.unwrap(replayError));
+            }
+          });
+    });
+    return future;
+  }
+
+  private CompletableFuture<String> refreshAsync(String rejectedAccessToken) {
+    try {
+      return tokenRefresher.refreshAsync(rejectedAccessToken);
+    } catch (RuntimeException e) {
+      return FutureUtil.failedFuture(e);
+    }
+  }
+
+  /**
+   * Obtains a new token for a request rejected with a 401 response.
+   *
+   * @return the headers to replay the request with, or null if the request should not be replayed
+   */
+  private Map<String, String> replayHeaders(Map<String, String> headers, LinkedInApiException e) {
+    String rejectedAccessToken = rejectedAccessToken(headers, e);
+    if (rejectedAccessToken == null) {
+      return null;
+    }
+
+    String newAccessToken;
+    try {
+      newAccessToken = tokenRefresher.refresh(rejectedAccessToken);
+    } catch (AuthenticationException | RuntimeException refreshError) {
+      abandonReplay(e, refreshError);
+      return null;
+    }
+    return withAccessToken(headers, newAccessToken);
+  }
+
+  /**
+   * @return the bearer token of a request rejected with a 401 response, or null if the request
+   *     should not be replayed
+   */
+  private static String rejectedAccessToken(Map<String, String> headers, LinkedInApiException e) {
+    if (e.getStatusCode() != UNAUTHORIZED || headers == null) {
+      return null;
+    }
+    String authorization = headers.get(AUTHORIZATION);
+    if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+      return null;
+    }
+    return authorization.substring(BEARER_PREFIX.length());
+  }
+
+  private static Map<String, String> withAccessToken(Map<String, String> headers, String accessToken) {
+    Map<String, String> replayHeaders = new HashMap<>(headers);
+    replayHeaders.put(AUTHORIZATION, BEARER_PREFIX + accessToken);
+    return replayHeaders;
+  }
+
+  private static void abandonReplay(LinkedInApiException e, Throwable refreshError) {
+    LOGGER.warning("Failed to replace the access token rejected by LinkedIn: " + refreshError.getMessage());
+    e.addSuppressed(refreshError);
+  }
+
+  /**
+   * Sends a request again with new headers.
+   */
+  private interface Replay<T> {
+    CompletableFuture<APIResponse<T>> execute(Map<String, String> headers);
+  }
+}
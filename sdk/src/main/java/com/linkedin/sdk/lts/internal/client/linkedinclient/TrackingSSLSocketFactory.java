@@ -0,0 +1,103 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSocketFactory;
+
+
+/**
+ * SSLSocketFactory decorator that records every TLS socket it opens.
+ *
+ * <p>The JDK keep-alive cache keys cached connections by socket factory instance, so each
+ * {@link ConnectionPool} host slot owns one instance. Counting the sockets created through it
+ * tells the pool how many requests needed a new handshake, and keeping a handle on the sockets
+ * lets the pool close them when the host goes idle.</p>
+ */
+class TrackingSSLSocketFactory extends SSLSocketFactory {
+
+  private final SSLSocketFactory delegate;
+  private final LongAdder openedCounter;
+  private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param delegate the factory that actually creates sockets
+   * @param openedCounter counter incremented for every socket opened
+   */
+  TrackingSSLSocketFactory(SSLSocketFactory delegate, LongAdder openedCounter) {
+    this.delegate = delegate;
+    this.openedCounter = openedCounter;
+  }
+
+  /**
+   * Closes every socket opened by this factory.
+   *
+   * @return the number of sockets that were still open
+   */
+  int closeAll() {
+    int closed = 0;
+    for (Socket socket : sockets) {
+      if (!socket.isClosed()) {
+        try {
+          socket.close();
+          closed++;
+        } catch (IOException e) {
+          // The socket is unusable either way
+        }
+      }
+    }
+    sockets.clear();
+    return closed;
+  }
+
+  @Override
+  public String[] getDefaultCipherSuites() {
+    return delegate.getDefaultCipherSuites();
+  }
+
+  @Override
+  public String[] getSupportedCipherSuites() {
+    return delegate.getSupportedCipherSuites();
+  }
+
+  @Override
+  public Socket createSocket() throws IOException {
+    return track(delegate.createSocket());
+  }
+
+  @Override
+  public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+    return track(delegate.createSocket(socket, host, port, autoClose));
+  }
+
+  @Override
+  public Socket createSocket(String host, int port) throws IOException {
+    return track(delegate.createSocket(host, port));
+  }
+
+  @Override
+  public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+    return track(delegate.createSocket(host, port, localHost, localPort));
+  }
+
+  @Override
+  public Socket createSocket(InetAddress host, int port) throws IOException {
+    return track(delegate.createSocket(host, port));
+  }
+
+  @Override
+  public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+      throws IOException {
+    return track(delegate.createSocket(address, port, localAddress, localPort));
+  }
+
+  private Socket track(Socket socket) {
+    sockets.removeIf(Socket::isClosed);
+    sockets.add(socket);
+    openedCounter.increment();
+    return socket;
+  }
+}
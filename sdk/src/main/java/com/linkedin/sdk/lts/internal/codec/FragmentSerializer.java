@@ -0,0 +1,66 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+
+/**
+ * Writes the registered JSON of {@link JsonFragmentCache} templates, and serializes every other
+ * value of a {@link JsonFragment} type with the serializer it wraps.
+ */
+class FragmentSerializer extends StdSerializer<Object> implements ResolvableSerializer, ContextualSerializer {
+
+  private final JsonSerializer<Object> delegate;
+
+  @SuppressWarnings("unchecked")
+  FragmentSerializer(JsonSerializer<?> delegate) {
+    super(Object.class);
+    this.delegate = (JsonSerializer<Object>) delegate;
+  }
+
+  @Override
+  public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    String fragment = JsonFragmentCache.lookup(value);
+    if (fragment != null) {
+      gen.writeRawValue(fragment);
+    } else {
+      delegate.serialize(value, gen, provider);
+    }
+  }
+
+  @Override
+  public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+      throws IOException {
+    delegate.serializeWithType(value, gen, provider, typeSer);
+  }
+
+  @Override
+  public boolean isEmpty(SerializerProvider provider, Object value) {
+    return delegate.isEmpty(provider, value);
+  }
+
+  @Override
+  public void resolve(SerializerProvider provider) throws JsonMappingException {
+    if (delegate instanceof ResolvableSerializer) {
+      ((ResolvableSerializer) delegate).resolve(provider);
+    }
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+      throws JsonMappingException {
+    if (!(delegate instanceof ContextualSerializer)) {
+      return this;
+    }
+    JsonSerializer<?> contextual = ((ContextualSerializer) delegate).createContextual(provider, property);
+    return contextual == delegate ? this : new FragmentSerializer(contextual);
+  }
+}
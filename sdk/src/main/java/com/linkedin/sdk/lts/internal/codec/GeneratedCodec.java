@@ -0,0 +1,23 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+
+/**
+ * Implemented by the codecs generated for {@link JsonCodec} models.
+ *
+ * @param <T> the model type
+ */
+public interface GeneratedCodec<T> {
+
+  /**
+   * @return a serializer writing the model as a JSON object
+   */
+  JsonSerializer<T> serializer();
+
+  /**
+   * @return a deserializer reading the model from a JSON object
+   */
+  JsonDeserializer<T> deserializer();
+}
@@ -0,0 +1,26 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Marks a model for which a streaming JSON serializer and deserializer are generated at compile
+ * time, in a class named {@code <Model>JsonCodec} in the same package. {@link JsonCodecModule}
+ * installs them on the SDK's mapper, so the model is read and written without reflection.
+ *
+ * <p>The model must be a Lombok {@code @Data} class with a no-argument constructor whose
+ * properties are its non-static fields. Fields may carry {@code @JsonProperty} and
+ * {@code @JsonIgnore}, other Jackson annotations are rejected at compile time. Null properties are
+ * not written, and unknown properties are skipped, like the SDK's mapper does. Property values other
+ * than strings, numbers and booleans are handed to Jackson, which in turn uses the generated codecs
+ * of nested models.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonCodec {
+}
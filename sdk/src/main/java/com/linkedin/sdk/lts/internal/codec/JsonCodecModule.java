@@ -0,0 +1,88 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Jackson module that serializes and deserializes {@link JsonCodec} models with their generated
+ * codecs. Jackson keeps handling every other type, and also any model whose codec cannot be
+ * loaded. Jackson caches what the module returns, so a codec is looked up once per type.
+ *
+ * <p>The serializers of {@link JsonFragment} models are wrapped to write the pre-serialized JSON of
+ * the instances registered with {@link JsonFragmentCache}.</p>
+ */
+public class JsonCodecModule extends SimpleModule {
+
+  private static final Logger LOGGER = Logger.getLogger(JsonCodecModule.class.getName());
+
+  public JsonCodecModule() {
+    super(JsonCodecModule.class.getSimpleName());
+  }
+
+  @Override
+  public void setupModule(SetupContext context) {
+    super.setupModule(context);
+    context.addSerializers(new Serializers.Base() {
+      @Override
+      public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+        GeneratedCodec<?> codec = findCodec(type.getRawClass());
+        return codec == null ? null : codec.serializer();
+      }
+    });
+    context.addBeanSerializerModifier(new BeanSerializerModifier() {
+      @Override
+      public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+          JsonSerializer<?> serializer) {
+        boolean fragment = beanDesc.getBeanClass().isAnnotationPresent(JsonFragment.class);
+        return fragment ? new FragmentSerializer(serializer) : serializer;
+      }
+    });
+    context.addDeserializers(new Deserializers.Base() {
+      @Override
+      public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+          BeanDescription beanDesc) {
+        GeneratedCodec<?> codec = findCodec(type.getRawClass());
+        return codec == null ? null : codec.deserializer();
+      }
+    });
+  }
+
+  /**
+   * Returns the name of the codec generated for a model, {@code Outer_InnerJsonCodec} for a nested
+   * model.
+   *
+   * @param modelClass the model
+   * @return the fully qualified name of its codec
+   */
+  static String codecClassName(Class<?> modelClass) {
+    String packageName = modelClass.getPackage().getName();
+    String binaryName = modelClass.getName().substring(packageName.length() + 1);
+    return packageName + "." + binaryName.replace('$', '_') + "JsonCodec";
+  }
+
+  private static GeneratedCodec<?> findCodec(Class<?> type) {
+    if (!type.isAnnotationPresent(JsonCodec.class)) {
+      return null;
+    }
+    String codecName = codecClassName(type);
+    try {
+      return (GeneratedCodec<?>) Class.forName(codecName, true, type.getClassLoader())
+          .getDeclaredConstructor()
+          .newInstance();
+    } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+      LOGGER.log(Level.FINE, "No usable generated codec " + codecName + ", using Jackson", e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+
+
+/**
+ * Value readers called by the generated deserializers. Each reads the expected token directly and
+ * hands anything else to Jackson, so that nulls and coercions are handled as Jackson would.
+ */
+public final class JsonCodecSupport {
+
+  private JsonCodecSupport() {
+  }
+
+  public static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_STRING)) {
+      return p.getText();
+    }
+    return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, String.class);
+  }
+
+  public static int readInt(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+      return p.getIntValue();
+    }
+    return ctxt.readValue(p, Integer.TYPE);
+  }
+
+  public static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+      return p.getIntValue();
+    }
+    return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, Integer.class);
+  }
+
+  public static long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+      return p.getLongValue();
+    }
+    return ctxt.readValue(p, Long.TYPE);
+  }
+
+  public static Long readLongObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+      return p.getLongValue();
+    }
+    return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, Long.class);
+  }
+
+  public static double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT) || p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+      return p.getDoubleValue();
+    }
+    return ctxt.readValue(p, Double.TYPE);
+  }
+
+  public static Double readDoubleObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT) || p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+      return p.getDoubleValue();
+    }
+    return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, Double.class);
+  }
+
+  public static boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_TRUE) || p.hasToken(JsonToken.VALUE_FALSE)) {
+      return p.hasToken(JsonToken.VALUE_TRUE);
+    }
+    return ctxt.readValue(p, Boolean.TYPE);
+  }
+
+  public static Boolean readBooleanObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_TRUE) || p.hasToken(JsonToken.VALUE_FALSE)) {
+      return p.hasToken(JsonToken.VALUE_TRUE);
+    }
+    return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, Boolean.class);
+  }
+
+  /**
+   * Reads any other value with the deserializer resolved for its property.
+   */
+  public static Object readValue(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> deserializer)
+      throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NULL)) {
+      return deserializer.getNullValue(ctxt);
+    }
+    return deserializer.deserialize(p, ctxt);
+  }
+}
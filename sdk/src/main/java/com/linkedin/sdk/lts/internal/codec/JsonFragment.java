@@ -0,0 +1,18 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Marks a model whose instances can be registered with {@link JsonFragmentCache}, so that a shared
+ * instance is serialized once and its JSON is spliced into every request that references it.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonFragment {
+}
@@ -0,0 +1,91 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Pre-serialized JSON of shared model instances, such as an {@code OnsiteApplyConfiguration} or a
+ * {@code PosterProvidedCompensation} reused by many job postings. A registered instance is
+ * serialized once, and wherever the same instance is referenced again its JSON is written as is
+ * instead of walking the object again. Instances are matched by reference, an equal copy is
+ * serialized normally.
+ *
+ * <p>Templates are held until they are unregistered, so the cache is meant for a small set of
+ * long-lived instances. A template must not be changed while it is registered, or requests keep
+ * the JSON it had when it was registered. Registering it again refreshes its JSON.</p>
+ */
+public final class JsonFragmentCache {
+
+  private static final Object LOCK = new Object();
+
+  /** Replaced on every change, so that lookups read a snapshot without locking. */
+  private static volatile Map<Object, String> fragments = new IdentityHashMap<>();
+
+  private JsonFragmentCache() {
+  }
+
+  /**
+   * Serializes a template and splices its JSON wherever the same instance is serialized.
+   *
+   * @param template the shared instance, of a type annotated with {@link JsonFragment}
+   * @param <T> the type of the template
+   * @return the template
+   * @throws JsonSerializationException if the template cannot be serialized
+   */
+  public static <T> T register(T template) throws JsonSerializationException {
+    if (template == null || !template.getClass().isAnnotationPresent(JsonFragment.class)) {
+      throw new IllegalArgumentException("Only instances of types annotated with @JsonFragment can be registered");
+    }
+    synchronized (LOCK) {
+      // Serialized while unregistered, so that the template itself is walked
+      unregister(template);
+      String json = ObjectMapperUtil.toJson(template);
+      Map<Object, String> updated = new IdentityHashMap<>(fragments);
+      updated.put(template, json);
+      fragments = updated;
+    }
+    return template;
+  }
+
+  /**
+   * Stops splicing the JSON of a template, which is serialized normally again.
+   *
+   * @param template the registered instance
+   */
+  public static void unregister(Object template) {
+    synchronized (LOCK) {
+      if (fragments.containsKey(template)) {
+        Map<Object, String> updated = new IdentityHashMap<>(fragments);
+        updated.remove(template);
+        fragments = updated;
+      }
+    }
+  }
+
+  /**
+   * Unregisters every template.
+   */
+  public static void clear() {
+    synchronized (LOCK) {
+      fragments = new IdentityHashMap<>();
+    }
+  }
+
+  /**
+   * @return the number of registered templates
+   */
+  public static int size() {
+    return fragments.size();
+  }
+
+  /**
+   * @return the JSON of a registered template, or null if the value is not one
+   */
+  static String lookup(Object value) {
+    Map<Object, String> snapshot = fragments;
+    return snapshot.isEmpty() ? null : snapshot.get(value);
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.sdk.lts.internal.constants;
 
 public class HttpConstants {
   public static final String ACCEPT = "Accept";
+  public static final String ACCEPT_ENCODING = "Accept-Encoding";
   public static final String APPLICATION_FORM_URLENCODED = "application/x-www-form-urlencoded";
   public static final String APPLICATION_JSON = "application/json";
   public static final String AUTHORIZATION = "Authorization";
@@ -11,12 +12,16 @@ public class HttpConstants {
   public static final String COLON_SEPARATOR = ":";
   public static final String COMMA_SEPARATOR = ",";
   public static final String CONTENT_TYPE = "content-type";
+  public static final String CONTENT_ENCODING = "Content-Encoding";
   public static final String CONTENT_LENGTH = "Content-Length";
   public static final String CREATE = "create";
+  public static final int DEFAULT_MAX_URL_LENGTH = 4096;
   public static final String EQUALS_SEPARATOR = "=";
   public static final String OPENING_BRACKET = "(";
+  public static final String GZIP = "gzip";
   public static final String QUERY_PARAM_SEPARATOR = "&";
   public static final String QUERY_SEPARATOR = "?";
+  public static final String RETRY_AFTER = "Retry-After";
   public static final String SDK_USER_NAME = "talent-solutions-sdk-java";
   public static final String SPACE_SEPARATOR = " ";
   public static final String X_EXTERNAL_APP = "X-External-App";
@@ -0,0 +1,44 @@
+package com.linkedin.sdk.lts.internal.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+
+/**
+ * Utility methods for working with {@link CompletableFuture} on Java 8.
+ */
+public class FutureUtil {
+
+  private FutureUtil() {
+  }
+
+  /**
+   * Returns a future that is already completed exceptionally with the given throwable.
+   *
+   * @param throwable the failure
+   * @param <T> the type of the future value
+   * @return the failed future
+   */
+  public static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+
+  /**
+   * Strips the {@link CompletionException} and {@link ExecutionException} wrappers that
+   * CompletableFuture adds around the original failure.
+   *
+   * @param throwable the throwable received from a future
+   * @return the original cause
+   */
+  public static Throwable unwrap(Throwable throwable) {
+    Throwable current = throwable;
+    while ((current instanceof CompletionException || current instanceof ExecutionException)
+        && current.getCause() != null) {
+      current = current.getCause();
+    }
+    return current;
+  }
+}
@@ -0,0 +1,29 @@
+package com.linkedin.sdk.lts.internal.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * ThreadFactory creating daemon threads named {@code <prefix>-<n>}, so that SDK background
+ * threads are easy to identify and never keep the JVM alive.
+ */
+public class NamedThreadFactory implements ThreadFactory {
+
+  private final String prefix;
+  private final AtomicInteger counter = new AtomicInteger();
+
+  /**
+   * @param prefix the thread name prefix
+   */
+  public NamedThreadFactory(String prefix) {
+    this.prefix = prefix;
+  }
+
+  @Override
+  public Thread newThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,182 @@
+package com.linkedin.sdk.lts.internal.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.internal.codec.JsonCodecModule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Utility class for JSON serialization and deserialization operations using Jackson.
+ * This class provides a singleton ObjectMapper instance with standardized configuration
+ * for consistent JSON handling throughout the API client.
+ *
+ * <p>Every type is read and written through an {@link ObjectReader} or {@link ObjectWriter} built
+ * once per type, with its deserializer or serializer already resolved, so that a call does not
+ * look the type up again. Clients prebuild them for their models with {@link #warmUp} when they
+ * are constructed, which moves the cost of resolving the models out of the first request.</p>
+ */
+public class ObjectMapperUtil {
+
+  private static final ObjectMapper objectMapper = createObjectMapper();
+  private static final ConcurrentHashMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+  private static final Logger LOGGER = Logger.getLogger(ObjectMapperUtil.class.getName());
+
+  /**
+   * Creates and configures an ObjectMapper with standardized settings.
+   *
+   * @return A configured ObjectMapper instance
+   */
+  private static ObjectMapper createObjectMapper() {
+    ObjectMapper mapper = new ObjectMapper();
+
+    // Configure serialization settings
+    mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    mapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    // Configure deserialization settings
+    mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    // Streams belong to the caller, which may need to drain them for connection reuse
+    mapper.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    // Models annotated with @JsonCodec are handled by their generated codecs, all others by Jackson
+    mapper.registerModule(new JsonCodecModule());
+    return mapper;
+  }
+
+  /**
+   * Returns the shared mapper, for comparing the cached readers and writers against it.
+   */
+  static ObjectMapper getObjectMapper() {
+    return objectMapper;
+  }
+
+  /**
+   * Prebuilds the readers and writers of model types.
+   *
+   * @param readTypes the types parsed from responses
+   * @param writeTypes the types serialized into requests
+   */
+  public static void warmUp(Collection<Class<?>> readTypes, Collection<Class<?>> writeTypes) {
+    readTypes.forEach(ObjectMapperUtil::readerFor);
+    writeTypes.forEach(ObjectMapperUtil::writerFor);
+  }
+
+  /**
+   * Returns the cached reader of a type. Building a reader resolves the deserializer of the type.
+   *
+   * @param clazz the type to read
+   * @return the reader of the type
+   */
+  static ObjectReader readerFor(Class<?> clazz) {
+    return READERS.computeIfAbsent(clazz, objectMapper::readerFor);
+  }
+
+  /**
+   * Returns the cached writer of a type. Building a writer resolves the serializer of the type.
+   *
+   * @param clazz the type to write
+   * @return the writer of the type
+   */
+  static ObjectWriter writerFor(Class<?> clazz) {
+    return WRITERS.computeIfAbsent(clazz, objectMapper::writerFor);
+  }
+
+  /**
+   * Converts an object to its JSON string representation.
+   *
+   * @param value The object to convert to JSON
+   * @return The JSON string representation of the object
+   * @throws RuntimeException If serialization fails
+   */
+  public static String toJson(Object value) throws JsonSerializationException {
+    try {
+      return writerFor(value.getClass()).writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      String errorMessage = String.format("Failed to serialize object of type %s to JSON: %s",
+          value.getClass().getSimpleName(), e.getMessage());
+      LOGGER.log(Level.SEVERE, LogRedactor.redact(errorMessage), e);
+      throw new JsonSerializationException(errorMessage, e);
+    }
+  }
+
+  /**
+   * Writes the JSON representation of an object directly to a stream, without building the
+   * whole document in memory first. The stream is flushed but not closed.
+   *
+   * @param out The stream to write the JSON to
+   * @param value The object to convert to JSON
+   * @throws IOException If writing to the stream fails
+   * @throws JsonSerializationException If the object cannot be serialized
+   */
+  public static void writeJson(OutputStream out, Object value) throws IOException, JsonSerializationException {
+    try {
+      writerFor(value.getClass()).writeValue(out, value);
+    } catch (JsonProcessingException e) {
+      String errorMessage = String.format("Failed to serialize object of type %s to JSON: %s",
+          value.getClass().getSimpleName(), e.getMessage());
+      LOGGER.log(Level.SEVERE, LogRedactor.redact(errorMessage), e);
+      throw new JsonSerializationException(errorMessage, e);
+    }
+  }
+
+  /**
+   * Converts a JSON string to an object of the specified class.
+   *
+   * @param json The JSON string to convert
+   * @param clazz The class to convert the JSON to
+   * @param <T> The type of the class
+   * @return The object deserialized from the JSON string
+   * @throws RuntimeException If deserialization fails
+   */
+  public static <T> T fromJson(String json, Class<T> clazz) throws JsonDeserializationException {
+    try {
+      return readerFor(clazz).readValue(json);
+    } catch (IOException e) {
+      String errorMessage = String.format("Failed to deserialize JSON to %s: %s",
+          clazz.getSimpleName(), e.getMessage());
+      LOGGER.log(Level.SEVERE, LogRedactor.redact(errorMessage), e);
+      throw new JsonDeserializationException(errorMessage, e);
+    }
+  }
+
+  /**
+   * Parses JSON read directly from a stream into an object of the specified class, without
+   * buffering the payload as a String first. The stream is not closed.
+   *
+   * @param json The stream to read the JSON from
+   * @param clazz The class to convert the JSON to
+   * @param <T> The type of the class
+   * @return The object deserialized from the stream
+   * @throws IOException If reading from the stream fails
+   * @throws JsonDeserializationException If the content is not valid JSON for the class
+   */
+  public static <T> T fromJson(InputStream json, Class<T> clazz) throws IOException, JsonDeserializationException {
+    try {
+      return readerFor(clazz).readValue(json);
+    } catch (JsonProcessingException e) {
+      String errorMessage = String.format("Failed to deserialize JSON to %s: %s",
+          clazz.getSimpleName(), e.getMessage());
+      LOGGER.log(Level.SEVERE, LogRedactor.redact(errorMessage), e);
+      throw new JsonDeserializationException(errorMessage, e);
+    }
+  }
+}
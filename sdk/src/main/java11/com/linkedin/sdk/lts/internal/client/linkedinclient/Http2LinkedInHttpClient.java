@@ -0,0 +1,128 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+
+
+/**
+ * {@link LinkedInHttpClient} whose requests are sent over HTTP/2 with the {@code java.net.http}
+ * client. Concurrent requests to the same host are multiplexed as streams over a shared
+ * connection instead of each holding a socket, which keeps the socket count flat when many
+ * status or report calls are in flight. Servers that do not negotiate HTTP/2 are spoken to over
+ * HTTP/1.1.
+ *
+ * <p>Retries, error handling and deserialization are inherited from {@link LinkedInHttpClient}.
+ * Asynchronous requests are sent with {@code sendAsync}. The keep-alive pool and the async
+ * executor of the HTTP/1.1 transport are not created, so its per-host connection limit and
+ * {@link HttpClientConfig#getAsyncExecutor()} do not apply.</p>
+ *
+ * <p>This class is compiled for Java 11 and packaged under {@code META-INF/versions/11}. It is
+ * only loaded by {@link com.linkedin.sdk.lts.api.client.LinkedInClientFactory} when the runtime
+ * supports it.</p>
+ */
+public class Http2LinkedInHttpClient<T> extends LinkedInHttpClient<T> {
+
+  private final java.net.http.HttpClient client;
+  private final Duration requestTimeout;
+
+  public Http2LinkedInHttpClient(HttpClientConfig config) {
+    super(config, false);
+    ConnectionPoolConfig poolConfig = config.getConnectionPoolConfig();
+    this.requestTimeout = Duration.ofMillis(poolConfig.getReadTimeoutMillis());
+    this.client = java.net.http.HttpClient.newBuilder()
+        .version(Version.HTTP_2)
+        .followRedirects(Redirect.NEVER)
+        .connectTimeout(Duration.ofMillis(poolConfig.getConnectTimeoutMillis()))
+        .build();
+  }
+
+  @Override
+  protected RawHttpResponse exchange(URL url, HttpMethod method, Map<String, String> headers, RequestBody body)
+      throws IOException, JsonSerializationException {
+    try {
+      HttpResponse<InputStream> response = client.send(buildRequest(url, method, headers, body),
+          BodyHandlers.ofInputStream());
+      return new RawHttpResponse(response.statusCode(), response.headers().map(), response.body(), null);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a response from " + url.getHost());
+    }
+  }
+
+  /**
+   * Sends the request with {@code sendAsync}, so no thread is held while waiting for the response.
+   * The future completes on a thread of the HTTP/2 client once the headers have been received, and
+   * the body is parsed from the stream as it arrives rather than copied into memory first. That
+   * thread is held while the rest of the body is received.
+   */
+  @Override
+  protected CompletableFuture<RawHttpResponse> exchangeAsync(URL url, HttpMethod method, Map<String, String> headers,
+      RequestBody body) {
+    HttpRequest request;
+    try {
+      request = buildRequest(url, method, headers, body);
+    } catch (IOException | JsonSerializationException e) {
+      return FutureUtil.failedFuture(e);
+    }
+    return client.sendAsync(request, BodyHandlers.ofInputStream())
+        .thenApply(response -> new RawHttpResponse(response.statusCode(), response.headers().map(),
+            response.body(), null));
+  }
+
+  private HttpRequest buildRequest(URL url, HttpMethod method, Map<String, String> headers, RequestBody body)
+      throws IOException, JsonSerializationException {
+    HttpRequest.Builder request;
+    try {
+      request = HttpRequest.newBuilder(url.toURI());
+    } catch (URISyntaxException e) {
+      throw new IOException("Invalid request URL: " + e.getMessage(), e);
+    }
+    request.timeout(requestTimeout)
+        .method(method.getValue(), bodyPublisher(method, body, request))
+        .header(X_EXTERNAL_APP, SDK_USER_NAME);
+    if (headers != null) {
+      headers.forEach(request::setHeader);
+    }
+    return request.build();
+  }
+
+  /**
+   * Serializes the body into a byte array. The HTTP/2 client pulls the body from its own threads,
+   * so it is encoded up front rather than streamed, which still avoids an intermediate String.
+   * Bodies above the compression threshold are gzip encoded into the array.
+   */
+  private BodyPublisher bodyPublisher(HttpMethod method, RequestBody body, HttpRequest.Builder request)
+      throws IOException, JsonSerializationException {
+    if (body == null || method.equals(HttpMethod.GET) || method.equals(HttpMethod.DELETE)) {
+      return BodyPublishers.noBody();
+    }
+    long contentLength = body.contentLength();
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 8192);
+    writeBody(body, (gzip, length) -> {
+      if (gzip) {
+        request.setHeader(CONTENT_ENCODING, GZIP);
+      }
+      return buffer;
+    });
+    return BodyPublishers.ofByteArray(buffer.toByteArray());
+  }
+}
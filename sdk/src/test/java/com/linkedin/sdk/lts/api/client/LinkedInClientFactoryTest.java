@@ -1,5 +1,9 @@
 package com.linkedin.sdk.lts.api.client;
 
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClientConfig;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpTransport;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.LinkedInHttpClient;
 import org.testng.annotations.Test;
 import static org.testng.Assert.*;
 
@@ -86,4 +90,20 @@ public class LinkedInClientFactoryTest {
     LinkedInClientFactory factory = LinkedInClientFactory.getInstance();
     factory.getApplyConnectJobPostingClient(TEST_CLIENT_ID, null);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testCreateHttpClientShouldUseHttp11ByDefault() {
+    HttpClient httpClient = LinkedInClientFactory.createHttpClient(HttpClientConfig.builder().build());
+
+    assertEquals(httpClient.getClass(), LinkedInHttpClient.class);
+  }
+
+  @Test
+  public void testCreateHttpClientShouldUseHttp2WhenConfigured() {
+    HttpClient httpClient = LinkedInClientFactory.createHttpClient(
+        HttpClientConfig.builder().transport(HttpTransport.HTTP_2).build());
+
+    assertEquals(httpClient.getClass().getSimpleName(), "Http2LinkedInHttpClient");
+    assertTrue(httpClient instanceof LinkedInHttpClient);
+  }
+}
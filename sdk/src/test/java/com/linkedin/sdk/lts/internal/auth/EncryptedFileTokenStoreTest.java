@@ -0,0 +1,105 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class EncryptedFileTokenStoreTest {
+
+  private static final byte[] ENCRYPTION_KEY = new byte[32];
+  private static final String KEY = "client-1:secret-hash";
+  private static final String OTHER_KEY = "client-2:secret-hash";
+  private static final String TEST_ACCESS_TOKEN = "test-access-token";
+
+  private Path directory;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("token-store");
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    }
+  }
+
+  @Test
+  public void testSavedTokenIsLoadedBack() throws Exception {
+    EncryptedFileTokenStore store = new EncryptedFileTokenStore(directory, ENCRYPTION_KEY);
+    OAuth2Token token = new OAuth2Token(TEST_ACCESS_TOKEN, 3600);
+
+    store.save(KEY, token);
+    OAuth2Token loaded = new EncryptedFileTokenStore(directory, ENCRYPTION_KEY).load(KEY);
+
+    assertEquals(loaded.getAccessToken(), TEST_ACCESS_TOKEN);
+    assertEquals(loaded.getIssuedTime(), token.getIssuedTime());
+    assertEquals(loaded.getExpirationTime(), token.getExpirationTime());
+    assertNull(store.load(OTHER_KEY));
+  }
+
+  @Test
+  public void testTokenIsNotStoredInPlainText() throws Exception {
+    new EncryptedFileTokenStore(directory, ENCRYPTION_KEY).save(KEY, new OAuth2Token(TEST_ACCESS_TOKEN, 3600));
+
+    try (Stream<Path> files = Files.list(directory)) {
+      Path file = files.findFirst().get();
+      String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+      assertFalse(content.contains(TEST_ACCESS_TOKEN));
+      assertFalse(file.getFileName().toString().contains("client-1"));
+    }
+  }
+
+  @Test
+  public void testTokenIsNotReadWithAnotherKeyOrUnderAnotherName() throws Exception {
+    EncryptedFileTokenStore store = new EncryptedFileTokenStore(directory, ENCRYPTION_KEY);
+    store.save(KEY, new OAuth2Token(TEST_ACCESS_TOKEN, 3600));
+    byte[] otherEncryptionKey = Arrays.copyOf(ENCRYPTION_KEY, ENCRYPTION_KEY.length);
+    otherEncryptionKey[0] = 1;
+
+    // A file copied under the name of another credential fails to decrypt
+    Path file = directory.resolve(EncryptedFileTokenStore.sha256Hex(KEY) + ".token");
+    Files.copy(file, directory.resolve(EncryptedFileTokenStore.sha256Hex(OTHER_KEY) + ".token"));
+    assertNull(store.load(OTHER_KEY));
+
+    assertNull(new EncryptedFileTokenStore(directory, otherEncryptionKey).load(KEY));
+    assertFalse(Files.exists(file));
+  }
+
+  @Test
+  public void testExpiredTokenIsDeletedOnLoad() throws Exception {
+    EncryptedFileTokenStore store = new EncryptedFileTokenStore(directory, ENCRYPTION_KEY);
+    store.save(KEY, new OAuth2Token(TEST_ACCESS_TOKEN, -10));
+
+    assertNull(store.load(KEY));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(files.count(), 0);
+    }
+  }
+
+  @Test
+  public void testRemoveDeletesToken() throws Exception {
+    EncryptedFileTokenStore store = new EncryptedFileTokenStore(directory, ENCRYPTION_KEY);
+    store.save(KEY, new OAuth2Token(TEST_ACCESS_TOKEN, 3600));
+
+    store.remove(KEY);
+    store.remove(KEY);
+
+    assertNull(store.load(KEY));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidKeyLengthIsRejected() throws Exception {
+    new EncryptedFileTokenStore(directory, new byte[10]);
+  }
+}
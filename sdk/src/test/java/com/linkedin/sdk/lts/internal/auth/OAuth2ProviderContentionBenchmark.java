@@ -0,0 +1,106 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.internal.client.TestingResourceUtility;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Measures the throughput of {@link OAuth2Provider#getAccessToken()} with a valid cached token as
+ * the number of threads grows, next to a provider whose reads are serialized on a monitor as they
+ * used to be. Not run as part of the test suite, run its main method from the test classpath:
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.linkedin.sdk.lts.internal.auth.OAuth2ProviderContentionBenchmark
+ * </pre>
+ */
+public class OAuth2ProviderContentionBenchmark {
+
+  private static final long WARMUP_MILLIS = 1000;
+  private static final long MEASUREMENT_MILLIS = 2000;
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+
+  /**
+   * Interface for the two read paths being compared.
+   */
+  private interface TokenSource {
+    String getAccessToken() throws AuthenticationException;
+  }
+
+  public static void main(String[] args) throws Exception {
+    HttpClient httpClient = mock(HttpClient.class);
+    doReturn(TestingResourceUtility.getTokenSuccessResponse())
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    OAuth2Provider provider = new OAuth2Provider(OAuth2Config.builder()
+        .clientId("benchmark-client-id")
+        .clientSecret("benchmark-client-secret")
+        .tokenUrl("https://www.linkedin.com/oauth/v2/accessToken")
+        .build(), httpClient);
+    provider.getAccessToken();
+
+    TokenSource lockFree = provider::getAccessToken;
+    TokenSource synchronizedRead = new TokenSource() {
+      @Override
+      public synchronized String getAccessToken() throws AuthenticationException {
+        return provider.getAccessToken();
+      }
+    };
+
+    System.out.printf("%-8s %20s %20s%n", "threads", "lock-free ops/s", "synchronized ops/s");
+    for (int threads : THREAD_COUNTS) {
+      run(lockFree, threads, WARMUP_MILLIS);
+      run(synchronizedRead, threads, WARMUP_MILLIS);
+      System.out.printf("%-8d %,20d %,20d%n", threads,
+          run(lockFree, threads, MEASUREMENT_MILLIS),
+          run(synchronizedRead, threads, MEASUREMENT_MILLIS));
+    }
+  }
+
+  /**
+   * @return the number of tokens read per second by all threads together
+   */
+  private static long run(TokenSource source, int threads, long durationMillis) throws InterruptedException {
+    LongAdder reads = new LongAdder();
+    CountDownLatch start = new CountDownLatch(1);
+    long[] deadline = new long[1];
+    List<Thread> workers = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      Thread worker = new Thread(() -> {
+        try {
+          start.await();
+          long count = 0;
+          while (System.nanoTime() < deadline[0]) {
+            for (int j = 0; j < 1000; j++) {
+              source.getAccessToken();
+            }
+            count += 1000;
+          }
+          reads.add(count);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (AuthenticationException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      worker.start();
+      workers.add(worker);
+    }
+
+    deadline[0] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    return reads.sum() * 1000 / durationMillis;
+  }
+}
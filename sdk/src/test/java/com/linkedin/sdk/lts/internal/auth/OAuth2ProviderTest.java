@@ -0,0 +1,423 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import com.linkedin.sdk.lts.internal.client.TestingResourceUtility;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.client.TestingCommonConstants.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public class OAuth2ProviderTest {
+
+  private static final String TEST_CLIENT_ID = "test-client-id";
+  private static final String TEST_CLIENT_NEW_ID = "test-new-client-id";
+  private static final String TEST_CLIENT_ID_WITH_SPACE = "test new client id";
+  private static final String TEST_CLIENT_SECRET = "test-client-secret";
+  private static final String TEST_CLIENT_SECRET_WITH_SPECIAL_CHARS = "secret@!#$%^&()";
+  private static final String TEST_TOKEN_URL = "https://www.linkedin.com/oauth/v2/accessToken";
+  private static final String TEST_ACCESS_TOKEN = "test-access-token";
+  private static final String TEST_ACCESS_NEW_TOKEN = "new-test-access-token";
+  private static final long TEST_EXPIRES_IN = 3600;
+
+  private OAuth2Config config;
+  private OAuth2Config configNewId;
+  private OAuth2Config configSpecialChars;
+  private OAuth2Provider providerSpy;
+  private OAuth2Provider specialCharProviderSpy;
+  @Mock
+  private HttpClient httpClient;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    // The async path sends the token request through the default method, which delegates to executeRequest
+    doCallRealMethod().when(httpClient).executeRequestAsync(anyString(), any(), anyMap(), anyString(), any());
+    config = OAuth2Config.builder()
+        .clientId(TEST_CLIENT_ID)
+        .clientSecret(TEST_CLIENT_SECRET)
+        .tokenUrl(TEST_TOKEN_URL)
+        .build();
+
+    configNewId = OAuth2Config.builder()
+        .clientId(TEST_CLIENT_NEW_ID)
+        .clientSecret(TEST_CLIENT_SECRET)
+        .tokenUrl(TEST_TOKEN_URL)
+        .build();
+
+    configSpecialChars = OAuth2Config.builder()
+        .clientId(TEST_CLIENT_ID_WITH_SPACE)
+        .clientSecret(TEST_CLIENT_SECRET_WITH_SPECIAL_CHARS)
+        .tokenUrl(TEST_TOKEN_URL)
+        .build();
+
+    // Clear the instances cache before each test to ensure clean state
+    clearInstancesCache();
+
+    providerSpy = Mockito.spy(OAuth2Provider.getInstance(config, httpClient));
+    specialCharProviderSpy = Mockito.spy(OAuth2Provider.getInstance(configSpecialChars, httpClient));
+  }
+
+  @Test
+  public void testGetInstanceShouldReturnSameInstanceForSameConfig() {
+    OAuth2Provider provider1 = OAuth2Provider.getInstance(config, httpClient);
+    OAuth2Provider provider2 = OAuth2Provider.getInstance(config, httpClient);
+
+    assertSame(provider1, provider2, "Should return the same instance for the same config");
+  }
+
+  @Test
+  public void testGetInstanceShouldReturnsDifferentInstancesForDifferentConfigs() {
+    OAuth2Provider provider1 = OAuth2Provider.getInstance(config, httpClient);
+    OAuth2Provider provider2 = OAuth2Provider.getInstance(configNewId, httpClient);
+
+    assertNotSame(provider1, provider2, "Should return different instances for different configs");
+  }
+
+  @Test
+  public void testGetAccessTokenShouldPerformsAuthenticationWhenNoTokenExists() throws Exception {
+    doReturn(TestingResourceUtility.getTokenSuccessResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    String accessToken = providerSpy.getAccessToken();
+
+    assertEquals(TEST_ACCESS_TOKEN, accessToken, "Should return the correct access token");
+    assertTrue(providerSpy.isTokenValid(), "Should return true when valid token exists");
+
+  }
+
+  @Test
+  public void testGetAccessTokenShouldReusesTokenWhenValidTokenExists() throws Exception {
+    doReturn(TestingResourceUtility.getTokenSuccessResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    String firstToken = providerSpy.getAccessToken();
+    doReturn(TestingResourceUtility.getNewTokenSuccessResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    String secondToken = providerSpy.getAccessToken();
+    assertEquals(firstToken, secondToken, "Should return the same token");
+    assertEquals(TEST_ACCESS_TOKEN, firstToken, "Should return the correct access token");
+    assertEquals(TEST_ACCESS_TOKEN, secondToken, "Should return the correct access token");
+  }
+
+  @Test
+  public void testGetAccessTokenShouldRefreshesTokenWhenTokenExpired() throws Exception {
+    doReturn(TestingResourceUtility.getTokenSuccessResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    providerSpy.getAccessToken();
+    setExpiredToken(providerSpy);
+    boolean isValid = providerSpy.isTokenValid();
+    assertFalse(isValid, "Should return false when token is expired");
+    doReturn(TestingResourceUtility.getNewTokenSuccessResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    String refreshedToken = providerSpy.getAccessToken();
+    assertEquals(TEST_ACCESS_NEW_TOKEN, refreshedToken, "Should return the new token");
+  }
+
+  @Test(expectedExceptions = AuthenticationException.class)
+  public void testAuthenticateShouldThrowsExceptionWhenHttpErrorOccurs() throws Exception {
+    doThrow(new LinkedInApiException(400 , new HashMap<>(), HTTP_400_MESSAGE)).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    providerSpy.getAccessToken();
+  }
+
+  @Test(expectedExceptions = AuthenticationException.class)
+  public void testAuthenticateShouldThrowsExceptionWhenIOExceptionOccurs() throws Exception {
+    doThrow(new IOException("Network error")).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    providerSpy.getAccessToken();
+  }
+
+  @Test
+  public void testIsTokenValidShouldReturnsFalseWhenNoToken() {
+    boolean isValid = providerSpy.isTokenValid();
+    assertFalse(isValid, "Should return false when no token exists");
+  }
+
+  @Test
+  public void testURLEncodingShouldHandlesSpecialCharacters() throws Exception {
+    doReturn(TestingResourceUtility.getTokenSuccessResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    specialCharProviderSpy.getAccessToken();
+    Mockito.verify(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(),
+        eq("grant_type=client_credentials&client_id=test+new+client+id&client_secret=secret%40%21%23%24%25%5E%26%28%29"), any());
+  }
+
+  @Test
+  public void testConcurrentRefreshAuthenticatesOnce() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      release.await(1, TimeUnit.SECONDS);
+      return TestingResourceUtility.getTokenSuccessResponse();
+    }).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> tokens = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        tokens.add(executor.submit(providerSpy::getAccessToken));
+      }
+      Thread.sleep(50);
+      release.countDown();
+
+      for (Future<String> token : tokens) {
+        assertEquals(token.get(1, TimeUnit.SECONDS), TEST_ACCESS_TOKEN);
+      }
+      verify(httpClient, times(1)).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testGetAccessTokenAsyncAuthenticatesWithoutBlocking() throws Exception {
+    CompletableFuture<Object> tokenResponse = new CompletableFuture<>();
+    doReturn(tokenResponse).when(httpClient)
+        .executeRequestAsync(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+    CompletableFuture<String> first = providerSpy.getAccessTokenAsync();
+    CompletableFuture<String> second = providerSpy.getAccessTokenAsync();
+    assertFalse(first.isDone());
+    assertFalse(second.isDone());
+
+    tokenResponse.complete(TestingResourceUtility.getTokenSuccessResponse());
+
+    assertEquals(first.get(1, TimeUnit.SECONDS), TEST_ACCESS_TOKEN);
+    assertEquals(second.get(1, TimeUnit.SECONDS), TEST_ACCESS_TOKEN);
+    verify(httpClient, times(1)).executeRequestAsync(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    verify(httpClient, never()).executeRequest(anyString(), any(), anyMap(), anyString(), any());
+    // A valid token is handed out straight away
+    assertTrue(providerSpy.getAccessTokenAsync().isDone());
+  }
+
+  @Test
+  public void testSyncCallerWaitsForAsyncAuthentication() throws Exception {
+    CompletableFuture<Object> tokenResponse = new CompletableFuture<>();
+    doReturn(tokenResponse).when(httpClient)
+        .executeRequestAsync(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    CompletableFuture<String> asyncToken = providerSpy.getAccessTokenAsync();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> syncToken = executor.submit(providerSpy::getAccessToken);
+      Thread.sleep(50);
+      assertFalse(syncToken.isDone());
+
+      tokenResponse.complete(TestingResourceUtility.getTokenSuccessResponse());
+
+      assertEquals(syncToken.get(1, TimeUnit.SECONDS), TEST_ACCESS_TOKEN);
+      assertEquals(asyncToken.get(1, TimeUnit.SECONDS), TEST_ACCESS_TOKEN);
+      verify(httpClient, never()).executeRequest(anyString(), any(), anyMap(), anyString(), any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testGetAccessTokenAsyncFailsWithAuthenticationFailure() throws Exception {
+    doThrow(new LinkedInApiException(400, new HashMap<>(), HTTP_400_MESSAGE))
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+    try {
+      providerSpy.getAccessTokenAsync().get(1, TimeUnit.SECONDS);
+      fail("Expected the authentication failure");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof AuthenticationException);
+    }
+  }
+
+  @Test
+  public void testFailedRefreshIsRetriedByNextCaller() throws Exception {
+    doThrow(new LinkedInApiException(400, new HashMap<>(), HTTP_400_MESSAGE))
+        .doReturn(TestingResourceUtility.getTokenSuccessResponse())
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+    assertThrows(AuthenticationException.class, providerSpy::getAccessToken);
+    assertEquals(providerSpy.getAccessToken(), TEST_ACCESS_TOKEN);
+  }
+
+  @Test
+  public void testTokenIsRefreshedInBackgroundBeforeExpiry() throws Exception {
+    ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+    try {
+      OAuth2Provider provider = OAuth2Provider.getInstance(withBackgroundRefresh(scheduler), httpClient);
+      doReturn(TestingResourceUtility.getTokenSuccessResponse())
+          .doReturn(TestingResourceUtility.getNewTokenSuccessResponse())
+          .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+      assertEquals(provider.getAccessToken(), TEST_ACCESS_TOKEN);
+
+      assertEquals(awaitTokenChange(provider, TEST_ACCESS_TOKEN), TEST_ACCESS_NEW_TOKEN);
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailedBackgroundRefreshIsRetriedWhileTokenIsValid() throws Exception {
+    ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+    try {
+      OAuth2Provider provider = OAuth2Provider.getInstance(withBackgroundRefresh(scheduler), httpClient);
+      doReturn(TestingResourceUtility.getTokenSuccessResponse())
+          .doThrow(new IOException("Network error"))
+          .doReturn(TestingResourceUtility.getNewTokenSuccessResponse())
+          .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+      assertEquals(provider.getAccessToken(), TEST_ACCESS_TOKEN);
+
+      assertEquals(awaitTokenChange(provider, TEST_ACCESS_TOKEN), TEST_ACCESS_NEW_TOKEN);
+      verify(httpClient, times(3)).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testStoredTokenIsReusedAfterRestart() throws Exception {
+    TokenStore tokenStore = mock(TokenStore.class);
+    OAuth2Config storedConfig = withTokenStore(tokenStore);
+    doReturn(new OAuth2Token(TEST_ACCESS_TOKEN, TEST_EXPIRES_IN)).when(tokenStore).load(anyString());
+
+    assertEquals(OAuth2Provider.getInstance(storedConfig, httpClient).getAccessToken(), TEST_ACCESS_TOKEN);
+
+    verify(httpClient, never()).executeRequest(anyString(), any(), anyMap(), anyString(), any());
+    verify(tokenStore, never()).save(anyString(), any());
+  }
+
+  @Test
+  public void testNewTokenIsStoredWithoutSecret() throws Exception {
+    TokenStore tokenStore = mock(TokenStore.class);
+    OAuth2Config storedConfig = withTokenStore(tokenStore);
+    doThrow(new IOException("Disk full")).when(tokenStore).load(anyString());
+    doReturn(TestingResourceUtility.getTokenSuccessResponse())
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+    assertEquals(OAuth2Provider.getInstance(storedConfig, httpClient).getAccessToken(), TEST_ACCESS_TOKEN);
+
+    verify(tokenStore).save(argThat(key -> key.startsWith(TEST_CLIENT_NEW_ID) && !key.contains(TEST_CLIENT_SECRET)),
+        argThat(token -> token.getAccessToken().equals(TEST_ACCESS_TOKEN)));
+  }
+
+  @Test
+  public void testRejectedTokenIsReplacedOnceForAllThreads() throws Exception {
+    doReturn(TestingResourceUtility.getTokenSuccessResponse())
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    assertEquals(providerSpy.getAccessToken(), TEST_ACCESS_TOKEN);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      release.await(1, TimeUnit.SECONDS);
+      return TestingResourceUtility.getNewTokenSuccessResponse();
+    }).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> tokens = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        tokens.add(executor.submit(() -> providerSpy.refreshAfterUnauthorized(TEST_ACCESS_TOKEN)));
+      }
+      Thread.sleep(50);
+      release.countDown();
+
+      for (Future<String> token : tokens) {
+        assertEquals(token.get(1, TimeUnit.SECONDS), TEST_ACCESS_NEW_TOKEN);
+      }
+      // A thread reporting the rejected token late gets the new token without authenticating
+      assertEquals(providerSpy.refreshAfterUnauthorized(TEST_ACCESS_TOKEN), TEST_ACCESS_NEW_TOKEN);
+      verify(httpClient, times(2)).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testRejectedTokenIsReplacedAsyncOnce() throws Exception {
+    doReturn(TestingResourceUtility.getTokenSuccessResponse())
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    assertEquals(providerSpy.getAccessToken(), TEST_ACCESS_TOKEN);
+    CompletableFuture<Object> tokenResponse = new CompletableFuture<>();
+    doReturn(tokenResponse).when(httpClient)
+        .executeRequestAsync(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+    CompletableFuture<String> first = providerSpy.refreshAfterUnauthorizedAsync(TEST_ACCESS_TOKEN);
+    CompletableFuture<String> second = providerSpy.refreshAfterUnauthorizedAsync(TEST_ACCESS_TOKEN);
+    assertFalse(first.isDone());
+    tokenResponse.complete(TestingResourceUtility.getNewTokenSuccessResponse());
+
+    assertEquals(first.get(1, TimeUnit.SECONDS), TEST_ACCESS_NEW_TOKEN);
+    assertEquals(second.get(1, TimeUnit.SECONDS), TEST_ACCESS_NEW_TOKEN);
+    assertTrue(providerSpy.refreshAfterUnauthorizedAsync(TEST_ACCESS_TOKEN).isDone());
+    verify(httpClient, times(1)).executeRequestAsync(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    verify(httpClient, times(1)).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+  }
+
+  @Test
+  public void testRejectedTokenIsRemovedFromTokenStore() throws Exception {
+    TokenStore tokenStore = mock(TokenStore.class);
+    OAuth2Provider provider = OAuth2Provider.getInstance(withTokenStore(tokenStore), httpClient);
+    doReturn(new OAuth2Token(TEST_ACCESS_TOKEN, TEST_EXPIRES_IN)).when(tokenStore).load(anyString());
+    assertEquals(provider.getAccessToken(), TEST_ACCESS_TOKEN);
+    doThrow(new LinkedInApiException(400, new HashMap<>(), HTTP_400_MESSAGE))
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+    assertThrows(AuthenticationException.class, () -> provider.refreshAfterUnauthorized(TEST_ACCESS_TOKEN));
+
+    verify(tokenStore).remove(anyString());
+    // The rejected token is not handed out again
+    assertThrows(AuthenticationException.class, provider::getAccessToken);
+  }
+
+  private OAuth2Config withTokenStore(TokenStore tokenStore) {
+    return OAuth2Config.builder()
+        .clientId(TEST_CLIENT_NEW_ID)
+        .clientSecret(TEST_CLIENT_SECRET)
+        .tokenUrl(TEST_TOKEN_URL)
+        .tokenStore(tokenStore)
+        .build();
+  }
+
+  private OAuth2Config withBackgroundRefresh(ScheduledExecutorService scheduler) {
+    // A 3600 second token is refreshed after about 100 ms
+    return OAuth2Config.builder()
+        .clientId(TEST_CLIENT_NEW_ID)
+        .clientSecret(TEST_CLIENT_SECRET)
+        .tokenUrl(TEST_TOKEN_URL)
+        .tokenRefreshConfig(TokenRefreshConfig.builder()
+            .enabled(true)
+            .refreshFraction(0.00003)
+            .jitterFraction(0)
+            .retryIntervalMillis(50)
+            .scheduler(scheduler)
+            .build())
+        .build();
+  }
+
+  private static String awaitTokenChange(OAuth2Provider provider, String token) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    String current = provider.getAccessToken();
+    while (current.equals(token) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+      current = provider.getAccessToken();
+    }
+    return current;
+  }
+
+  private void setExpiredToken(OAuth2Provider provider) throws Exception {
+    Field tokenField = OAuth2Provider.class.getDeclaredField("currentToken");
+    tokenField.setAccessible(true);
+    OAuth2Token expiredToken = new OAuth2Token(TEST_ACCESS_TOKEN, -10); // Already expired
+    tokenField.set(provider, expiredToken);
+  }
+
+  private void clearInstancesCache() {
+    TokenManager.getDefault().invalidateAll();
+  }
+}
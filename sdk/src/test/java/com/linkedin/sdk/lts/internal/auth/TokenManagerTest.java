@@ -0,0 +1,101 @@
+package com.linkedin.sdk.lts.internal.auth;
+
+import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public class TokenManagerTest {
+
+  private static final String TEST_CLIENT_SECRET = "test-client-secret";
+  private static final String TEST_ROTATED_CLIENT_SECRET = "rotated-client-secret";
+  private static final String TEST_TOKEN_URL = "https://www.linkedin.com/oauth/v2/accessToken";
+
+  private final HttpClient httpClient = mock(HttpClient.class);
+
+  @Test
+  public void testSameCredentialSharesProviderAndCountsHits() {
+    TokenManager tokenManager = new TokenManager(TokenCacheConfig.builder().build());
+
+    OAuth2Provider first = tokenManager.getProvider(config("client-1", TEST_CLIENT_SECRET), httpClient);
+    OAuth2Provider second = tokenManager.getProvider(config("client-1", TEST_CLIENT_SECRET), httpClient);
+    tokenManager.getProvider(config("client-2", TEST_CLIENT_SECRET), httpClient);
+
+    assertSame(first, second);
+    TokenCacheStats stats = tokenManager.getStats();
+    assertEquals(stats.getSize(), 2);
+    assertEquals(stats.getHits(), 1);
+    assertEquals(stats.getMisses(), 2);
+    assertEquals(stats.getHitRate(), 1.0 / 3, 0.0001);
+  }
+
+  @Test
+  public void testLeastRecentlyUsedCredentialsAreEvictedWhenFull() throws Exception {
+    TokenManager tokenManager = new TokenManager(TokenCacheConfig.builder().maxSize(10).build());
+    for (int i = 0; i < 10; i++) {
+      tokenManager.getProvider(config("client-" + i, TEST_CLIENT_SECRET), httpClient);
+      Thread.sleep(2);
+    }
+    OAuth2Provider recentlyUsed = tokenManager.getProvider(config("client-0", TEST_CLIENT_SECRET), httpClient);
+
+    tokenManager.getProvider(config("client-10", TEST_CLIENT_SECRET), httpClient);
+
+    TokenCacheStats stats = tokenManager.getStats();
+    assertEquals(stats.getSize(), 9);
+    assertEquals(stats.getSizeEvictions(), 2);
+    assertSame(tokenManager.getProvider(config("client-0", TEST_CLIENT_SECRET), httpClient), recentlyUsed);
+    assertEquals(tokenManager.getStats().getMisses(), 11);
+  }
+
+  @Test
+  public void testIdleCredentialsAreEvicted() throws Exception {
+    TokenManager tokenManager = new TokenManager(TokenCacheConfig.builder().maxIdleMillis(20).build());
+    tokenManager.getProvider(config("client-1", TEST_CLIENT_SECRET), httpClient);
+    Thread.sleep(50);
+    tokenManager.getProvider(config("client-2", TEST_CLIENT_SECRET), httpClient);
+
+    assertEquals(tokenManager.getStats().getIdleEvictions(), 1);
+    assertEquals(tokenManager.getStats().getSize(), 1);
+    assertEquals(tokenManager.evictIdle(), 0);
+  }
+
+  @Test
+  public void testInvalidateDropsEveryCredentialOfClientId() {
+    TokenManager tokenManager = new TokenManager(TokenCacheConfig.builder().build());
+    OAuth2Provider old = tokenManager.getProvider(config("client-1", TEST_CLIENT_SECRET), httpClient);
+    tokenManager.getProvider(config("client-1", TEST_ROTATED_CLIENT_SECRET), httpClient);
+    tokenManager.getProvider(config("client-2", TEST_CLIENT_SECRET), httpClient);
+
+    assertEquals(tokenManager.invalidate("client-1"), 2);
+
+    assertEquals(tokenManager.getStats().getSize(), 1);
+    assertEquals(tokenManager.getStats().getInvalidations(), 2);
+    assertNotSame(tokenManager.getProvider(config("client-1", TEST_CLIENT_SECRET), httpClient), old);
+    assertTrue(tokenManager.invalidate(config("client-1", TEST_CLIENT_SECRET)));
+    assertFalse(tokenManager.invalidate(config("client-1", TEST_CLIENT_SECRET)));
+  }
+
+  @Test
+  public void testGetInstanceUsesTokenManagerOfConfig() {
+    TokenManager tokenManager = new TokenManager(TokenCacheConfig.builder().build());
+    OAuth2Config config = OAuth2Config.builder()
+        .clientId("client-1")
+        .clientSecret(TEST_CLIENT_SECRET)
+        .tokenUrl(TEST_TOKEN_URL)
+        .tokenManager(tokenManager)
+        .build();
+
+    OAuth2Provider provider = OAuth2Provider.getInstance(config, httpClient);
+
+    assertSame(tokenManager.getProvider(config("client-1", TEST_CLIENT_SECRET), httpClient), provider);
+  }
+
+  private static OAuth2Config config(String clientId, String clientSecret) {
+    return OAuth2Config.builder()
+        .clientId(clientId)
+        .clientSecret(clientSecret)
+        .tokenUrl(TEST_TOKEN_URL)
+        .build();
+  }
+}
@@ -8,11 +8,11 @@ import com.linkedin.sdk.lts.api.model.request.applyconnect.jobApplicationNotific
 import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
 import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
 import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
-import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeMethod;
@@ -48,35 +48,34 @@ public class ApplyConnectJobPostingClientTest {
 
     client = Mockito.spy(new ApplyConnectJobPostingClientImpl(config, httpClient));
     Mockito.doReturn(TestingCommonConstants.TEST_TOKEN).when(client).getAccessToken();
+    Mockito.doReturn(CompletableFuture.completedFuture(TestingCommonConstants.TEST_TOKEN)).when(client).getAccessTokenAsync();
     mockRequest = new JobApplicationNotificationRequest(); // Stub or use builder depending on implementation
   }
 
   @Test
   public void testSyncJobApplicationNotificationReturnsSuccessfulResponse() throws Exception {
-    doReturn(TestingResourceUtility.getSuccessJobPostingResponse()).when(httpClient).executeRequest(anyString(), eq(
-        HttpMethod.POST), anyMap(), anyString(), any());
+    doReturn(TestingResourceUtility.getSuccessJobPostingResponse()).when(httpClient).executeStreamingRequest(anyString(), eq(
+        HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.syncJobApplicationNotification(mockRequest);
   }
 
   @Test(expectedExceptions = LinkedInApiException.class)
   public void testSyncJobApplicationNotificationReturns400Response() throws Exception {
     doThrow(new LinkedInApiException(400 ,
-        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.syncJobApplicationNotification(mockRequest);
   }
 
   @Test(expectedExceptions = JsonSerializationException.class)
   public void testSyncJobApplicationNotificationWithJsonSerializationException() throws Exception {
-    try (MockedStatic<ObjectMapperUtil> mockedStatic = mockStatic(ObjectMapperUtil.class)) {
-      mockedStatic.when(() -> ObjectMapperUtil.toJson(any()))
-          .thenThrow(new JsonSerializationException(JSON_SERIALIZATION_ERROR));
-        client.syncJobApplicationNotification(mockRequest);
-    }
+    doThrow(new JsonSerializationException(JSON_SERIALIZATION_ERROR)).when(httpClient)
+        .executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
+    client.syncJobApplicationNotification(mockRequest);
   }
 
   @Test(expectedExceptions = LinkedInApiException.class)
   public void testSyncJobApplicationNotificationWithNetworkIOError() throws Exception {
-    doThrow(new IOException(NETWORK_ERROR_MESSAGE)).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    doThrow(new IOException(NETWORK_ERROR_MESSAGE)).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.syncJobApplicationNotification(mockRequest);
   }
 
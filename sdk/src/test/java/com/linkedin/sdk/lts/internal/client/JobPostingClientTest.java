@@ -5,27 +5,34 @@ import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
 import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
 import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
 import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
 import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
 import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
 import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
 import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
 import com.linkedin.sdk.lts.api.model.response.jobpostingstatus.JobPostingStatusResponse;
 import com.linkedin.sdk.lts.api.model.response.jobpostingstatus.ListingStatus;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobPostingTaskResult;
 import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatus;
 import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import static org.testng.Assert.*;
 import static org.mockito.Mockito.*;
+import static com.linkedin.sdk.lts.internal.constants.LinkedInApiConstants.*;
 
 
 public class JobPostingClientTest {
@@ -49,12 +56,13 @@ public class JobPostingClientTest {
 
     client = Mockito.spy(new JobPostingClientImpl(config, httpClient));
     Mockito.doReturn(TestingCommonConstants.TEST_TOKEN).when(client).getAccessToken();
+    Mockito.doReturn(CompletableFuture.completedFuture(TestingCommonConstants.TEST_TOKEN)).when(client).getAccessTokenAsync();
     mockRequest = new JobPostingRequest(); // Stub or use builder depending on implementation
   }
 
   @Test
   public void testPostWithSuccessfulResponse() throws Exception {
-    doReturn(TestingResourceUtility.getSuccessJobPostingResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    doReturn(TestingResourceUtility.getSuccessJobPostingResponse()).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     APIResponse<JobPostingResponse> response = client.processJobPosting(mockRequest);
 
     assertEquals(response.getBody().getElements().get(0).getStatus(), 202);
@@ -65,7 +73,7 @@ public class JobPostingClientTest {
   @Test(expectedExceptions = LinkedInApiException.class)
   public void testPostWith400Response() throws Exception {
     doThrow(new LinkedInApiException(400 ,
-        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.processJobPosting(mockRequest);
   }
 
@@ -191,4 +199,163 @@ public class JobPostingClientTest {
     client.getJobPostingStatus(Arrays.asList(
           TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1, TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2));
   }
+
+  @Test
+  public void testProcessJobPostingAsyncWithSuccessfulResponse() throws Exception {
+    doReturn(CompletableFuture.completedFuture(TestingResourceUtility.getSuccessJobPostingResponse())).when(httpClient)
+        .executeStreamingRequestAsync(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), eq(JobPostingResponse.class));
+    APIResponse<JobPostingResponse> response = client.processJobPostingAsync(mockRequest).get();
+
+    assertEquals(response.getBody().getElements().get(0).getId(), TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2);
+    verify(httpClient, never()).executeRequest(anyString(), any(), anyMap(), any(), any());
+  }
+
+  @Test
+  public void testAsyncRequestIsSentOnceTheTokenIsAvailable() throws Exception {
+    CompletableFuture<String> token = new CompletableFuture<>();
+    Mockito.doReturn(token).when(client).getAccessTokenAsync();
+    doReturn(CompletableFuture.completedFuture(TestingResourceUtility.getSuccessTaskStatusResponse()))
+        .when(httpClient).executeRequestAsync(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+
+    CompletableFuture<APIResponse<JobTaskStatusResponse>> future =
+        client.getTaskStatusAsync(TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1);
+
+    assertFalse(future.isDone());
+    verify(client, never()).getAccessToken();
+    verifyNoInteractions(httpClient);
+    token.complete(TestingCommonConstants.TEST_TOKEN);
+    assertNotNull(future.get().getBody());
+    ArgumentCaptor<Map<String, String>> headers = ArgumentCaptor.forClass(Map.class);
+    verify(httpClient).executeRequestAsync(anyString(), eq(HttpMethod.GET), headers.capture(), isNull(), any());
+    assertTrue(headers.getValue().containsValue("Bearer " + TestingCommonConstants.TEST_TOKEN));
+  }
+
+  @Test
+  public void testAsyncRequestFailsWithAuthenticationFailure() throws Exception {
+    AuthenticationException failure = new AuthenticationException("Invalid client credentials");
+    CompletableFuture<String> token = new CompletableFuture<>();
+    token.completeExceptionally(failure);
+    Mockito.doReturn(token).when(client).getAccessTokenAsync();
+
+    try {
+      client.processJobPostingAsync(mockRequest).get();
+      fail("Expected the future to complete exceptionally");
+    } catch (ExecutionException e) {
+      assertSame(e.getCause(), failure);
+    }
+    verifyNoInteractions(httpClient);
+  }
+
+  @Test
+  public void testGetTaskStatusAsyncWithEmptyTaskIdCompletesExceptionally() throws Exception {
+    CompletableFuture<APIResponse<JobTaskStatusResponse>> future = client.getTaskStatusAsync("");
+
+    assertTrue(future.isCompletedExceptionally());
+    try {
+      future.get();
+      fail("Expected the future to complete exceptionally");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+    verifyNoInteractions(httpClient);
+  }
+
+  @Test
+  public void testGetJobPostingStatusAsyncPropagatesApiError() throws Exception {
+    CompletableFuture<APIResponse<JobPostingStatusResponse>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new LinkedInApiException(400, new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE));
+    doReturn(failed).when(httpClient).executeRequestAsync(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+
+    try {
+      client.getJobPostingStatusAsync(Arrays.asList(
+          TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1, TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2)).get();
+      fail("Expected the future to complete exceptionally");
+    } catch (ExecutionException e) {
+      assertEquals(((LinkedInApiException) e.getCause()).getStatusCode(), 400);
+    }
+  }
+
+  @Test
+  public void testGetTaskStatusSplitsIdsToFitUrlLengthAndMergesResponses() throws Exception {
+    JobPostingClientImpl chunkingClient = chunkingClient(
+        JOB_TASK_STATUS_BASE_URL + "?ids=" + TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1);
+    doAnswer(invocation -> {
+      String url = invocation.getArgument(0);
+      Map<String, JobPostingTaskResult> results = new HashMap<>();
+      Map<String, Object> errors = new HashMap<>();
+      if (url.endsWith(TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1)) {
+        results.put(TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1,
+            JobPostingTaskResult.builder().status(JobTaskStatus.SUCCEEDED).build());
+      } else {
+        errors.put(TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2, "Not found");
+      }
+      return CompletableFuture.completedFuture(APIResponse.<JobTaskStatusResponse>builder()
+          .body(JobTaskStatusResponse.builder().results(results).statuses(new HashMap<>()).errors(errors).build())
+          .httpStatusCode(200)
+          .build());
+    }).when(httpClient).executeRequestAsync(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+
+    APIResponse<JobTaskStatusResponse> response = chunkingClient.getTaskStatus(Arrays.asList(
+        TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1, TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2));
+
+    verify(httpClient, times(2)).executeRequestAsync(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+    verify(httpClient, never()).executeRequest(anyString(), any(), anyMap(), any(), any());
+    assertEquals(response.getHttpStatusCode(), 200);
+    assertEquals(response.getBody().getResults().get(TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1).getStatus(),
+        JobTaskStatus.SUCCEEDED);
+    assertEquals(response.getBody().getErrors().get(TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2), "Not found");
+  }
+
+  @Test
+  public void testGetJobPostingStatusAsyncMergesSplitResponses() throws Exception {
+    JobPostingClientImpl chunkingClient = chunkingClient(
+        JOB_STATUS_BASE_URL + "?ids=" + TestingCommonConstants.TEST_EXTERNAL_JOB_POSTING_ID_1);
+    doAnswer(invocation -> CompletableFuture.completedFuture(TestingResourceUtility.getMultipleSuccessJobPostingStatusResponse()))
+        .when(httpClient).executeRequestAsync(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+
+    APIResponse<JobPostingStatusResponse> response = chunkingClient.getJobPostingStatusAsync(Arrays.asList(
+        TestingCommonConstants.TEST_EXTERNAL_JOB_POSTING_ID_1, TestingCommonConstants.TEST_EXTERNAL_JOB_POSTING_ID_2)).get();
+
+    ArgumentCaptor<String> urls = ArgumentCaptor.forClass(String.class);
+    verify(httpClient, times(2)).executeRequestAsync(urls.capture(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+    assertEquals(urls.getAllValues(), Arrays.asList(
+        JOB_STATUS_BASE_URL + "?ids=" + TestingCommonConstants.TEST_EXTERNAL_JOB_POSTING_ID_1,
+        JOB_STATUS_BASE_URL + "?ids=" + TestingCommonConstants.TEST_EXTERNAL_JOB_POSTING_ID_2));
+    assertEquals(response.getBody().getResults().size(), 2);
+  }
+
+  @Test
+  public void testGetTaskStatusKeepsIdsThatFitInOneUrl() throws Exception {
+    doReturn(TestingResourceUtility.getMultipleSuccessTaskStatusResponse())
+        .when(httpClient).executeRequest(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+
+    client.getTaskStatus(Arrays.asList(
+        TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1, TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2));
+
+    verify(httpClient).executeRequest(eq(JOB_TASK_STATUS_BASE_URL + "?ids=" + TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1
+        + "&ids=" + TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2), eq(HttpMethod.GET), anyMap(), isNull(), any());
+  }
+
+  @Test(expectedExceptions = LinkedInApiException.class)
+  public void testGetTaskStatusRethrowsFailureOfSplitRequest() throws Exception {
+    JobPostingClientImpl chunkingClient = chunkingClient(
+        JOB_TASK_STATUS_BASE_URL + "?ids=" + TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1);
+    CompletableFuture<APIResponse<JobTaskStatusResponse>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new LinkedInApiException(400, new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE));
+    doReturn(CompletableFuture.completedFuture(TestingResourceUtility.getSuccessTaskStatusResponse()), failed)
+        .when(httpClient).executeRequestAsync(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+
+    chunkingClient.getTaskStatus(Arrays.asList(
+        TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_1, TestingCommonConstants.TEST_JOB_POSTING_TASK_ID_2));
+  }
+
+  /**
+   * @return a client whose URLs cannot be longer than the given one
+   */
+  private JobPostingClientImpl chunkingClient(String longestUrl) throws Exception {
+    JobPostingClientImpl chunkingClient = Mockito.spy(new JobPostingClientImpl(config, httpClient, longestUrl.length()));
+    Mockito.doReturn(TestingCommonConstants.TEST_TOKEN).when(chunkingClient).getAccessToken();
+    Mockito.doReturn(CompletableFuture.completedFuture(TestingCommonConstants.TEST_TOKEN)).when(chunkingClient).getAccessTokenAsync();
+    return chunkingClient;
+  }
 }
@@ -6,6 +6,7 @@ import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
 import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
 import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
 import com.linkedin.sdk.lts.internal.client.linkedinclient.LinkedInHttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
 import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
 import com.linkedin.sdk.lts.api.model.request.p4pjobposting.P4PJobReportsRequestByDate;
 import com.linkedin.sdk.lts.api.model.request.p4pjobposting.P4PProvisionCustomerHiringContractsRequest;
@@ -19,6 +20,7 @@ import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PReportResponseBy
 import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PReportResponseByIds;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -60,6 +62,7 @@ public class P4PJobPostingClientTest {
 
     client = Mockito.spy(new P4PJobPostingClientImpl(config, httpClient));
     doReturn(TEST_TOKEN).when(client).getAccessToken();
+    doReturn(CompletableFuture.completedFuture(TEST_TOKEN)).when(client).getAccessTokenAsync();
 
     p4PJobReportsRequestByIds = P4PJobReportsRequestByIds.builder()
         .ids(Arrays.asList(TEST_EXTERNAL_JOB_POSTING_ID_1))
@@ -85,7 +88,7 @@ public class P4PJobPostingClientTest {
 
   @Test
   public void provisionCustomerHiringContractsWithSuccessfulResponse() throws Exception {
-    doReturn(TestingResourceUtility.getSuccessP4ProvisionCustomerHiringContractsResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    doReturn(TestingResourceUtility.getSuccessP4ProvisionCustomerHiringContractsResponse()).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     APIResponse<P4PProvisionCustomerHiringContractsResponse> response = client.provisionCustomerHiringContracts(p4PProvisionCustomerHiringContractsRequest);
 
     assertNotNull(response.getBody());
@@ -95,7 +98,7 @@ public class P4PJobPostingClientTest {
 
   @Test(expectedExceptions = LinkedInApiException.class)
   public void provisionCustomerHiringContractsWith400Response() throws Exception {
-    doThrow(new LinkedInApiException(400 , new HashMap<>(), HTTP_400_MESSAGE)).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    doThrow(new LinkedInApiException(400 , new HashMap<>(), HTTP_400_MESSAGE)).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.provisionCustomerHiringContracts(p4PProvisionCustomerHiringContractsRequest);
   }
 
@@ -3,6 +3,7 @@ package com.linkedin.sdk.lts.internal.client;
 import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
 import com.linkedin.sdk.lts.internal.auth.OAuth2Config;
 import com.linkedin.sdk.lts.internal.client.linkedinclient.HttpClient;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RequestBody;
 import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
 import com.linkedin.sdk.lts.api.model.request.provisioning.CreateApplicationRequest;
 import com.linkedin.sdk.lts.api.model.request.provisioning.GetApplicationRequest;
@@ -12,6 +13,8 @@ import com.linkedin.sdk.lts.api.model.response.provisioning.CreateApplicationRes
 import com.linkedin.sdk.lts.api.model.response.provisioning.GetApplicationResponse;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -48,13 +51,14 @@ public class ProvisioningClientTest {
 
     client = Mockito.spy(new ProvisioningClientImpl(config, httpClient));
     Mockito.doReturn(TestingCommonConstants.TEST_TOKEN).when(client).getAccessToken();
+    Mockito.doReturn(CompletableFuture.completedFuture(TestingCommonConstants.TEST_TOKEN)).when(client).getAccessTokenAsync();
     doReturn("uniqueForeignId").when(mockGetApplicationRequest).getUniqueForeignId();
     doReturn("urn:li:developerApplication:234").when(mockUpdateApplicationRequest).getDeveloperApplicationUrn();
   }
 
   @Test
   public void testCreateApplicationWithSuccessfulResponse() throws Exception {
-    doReturn(TestingResourceUtility.getCreateApplicationSuccessResponse()).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    doReturn(TestingResourceUtility.getCreateApplicationSuccessResponse()).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     APIResponse<CreateApplicationResponse> response = client.createApplication(mockCreateApplicationRequest);
 
     assertNotNull(response.getBody());
@@ -67,7 +71,7 @@ public class ProvisioningClientTest {
   @Test(expectedExceptions = LinkedInApiException.class)
   public void testCreateApplicationWith400Response() throws Exception {
     doThrow(new LinkedInApiException(400 ,
-        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.createApplication(mockCreateApplicationRequest);
   }
 
@@ -110,14 +114,14 @@ public class ProvisioningClientTest {
 
   @Test
   public void testUpdateApplicationWithSuccessfulResponse() throws Exception {
-    doReturn(null).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+    doReturn(null).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.updateApplication(mockUpdateApplicationRequest);
   }
 
   @Test(expectedExceptions = LinkedInApiException.class)
   public void testUpdateApplicationWith400Response() throws Exception {
     doThrow(new LinkedInApiException(400 ,
-        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeRequest(anyString(), eq(HttpMethod.POST), anyMap(), anyString(), any());
+        new HashMap<>(), TestingCommonConstants.HTTP_400_MESSAGE)).when(httpClient).executeStreamingRequest(anyString(), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
     client.updateApplication(mockUpdateApplicationRequest);
   }
 
@@ -131,4 +135,23 @@ public class ProvisioningClientTest {
     doReturn(null).when(mockUpdateApplicationRequest).getDeveloperApplicationUrn();
     client.updateApplication(mockUpdateApplicationRequest);
   }
+
+  @Test
+  public void testGetApplicationAsyncWithSuccessfulResponse() throws Exception {
+    doReturn(CompletableFuture.completedFuture(TestingResourceUtility.getApplicationSuccessResponse())).when(httpClient)
+        .executeRequestAsync(anyString(), eq(HttpMethod.GET), anyMap(), isNull(), any());
+    APIResponse<GetApplicationResponse> response = client.getApplicationAsync(mockGetApplicationRequest).get();
+
+    assertNotNull(response.getBody());
+  }
+
+  @Test
+  public void testCreateApplicationAsyncWithNullRequestCompletesExceptionally() throws Exception {
+    try {
+      client.createApplicationAsync(null).get();
+      fail("Expected the future to complete exceptionally");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+  }
 }
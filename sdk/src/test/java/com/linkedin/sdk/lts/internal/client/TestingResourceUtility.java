@@ -2,8 +2,12 @@ package com.linkedin.sdk.lts.internal.client;
 
 import com.linkedin.sdk.lts.api.client.JobPostingClient;
 import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
 import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingEntity;
 import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
 import com.linkedin.sdk.lts.api.model.response.jobpostingstatus.JobPostingStatusResponse;
 import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
 import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PBudgetReportResponse;
@@ -17,6 +21,8 @@ import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class TestingResourceUtility {
@@ -115,6 +121,28 @@ public class TestingResourceUtility {
         .build();
   }
 
+  public static JobPosting getJobPosting(String externalJobPostingId) {
+    return JobPosting.builder().externalJobPostingId(externalJobPostingId).title("Engineer").build();
+  }
+
+  public static List<JobPosting> getJobPostings(int count) {
+    List<JobPosting> jobPostings = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      jobPostings.add(getJobPosting("job-" + i));
+    }
+    return jobPostings;
+  }
+
+  public static APIResponse<JobPostingResponse> getAcceptedJobPostingResponse(JobPostingRequest request) {
+    List<JobPostingResult> elements = request.getElements().stream()
+        .map(posting -> JobPostingResult.builder()
+            .status(202)
+            .entity(JobPostingEntity.builder().externalJobPostingId(posting.getExternalJobPostingId()).build())
+            .build())
+        .collect(Collectors.toList());
+    return APIResponse.<JobPostingResponse>builder().body(JobPostingResponse.builder().elements(elements).build()).build();
+  }
+
   public static String readJsonFromFile(String filePath) {
     InputStream inputStream = JobPostingClient.class.getClassLoader().getResourceAsStream(filePath);
     if (inputStream == null) {
@@ -0,0 +1,163 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingEntity;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingError;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import com.linkedin.sdk.lts.internal.client.linkedinclient.RetryConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.client.TestingResourceUtility.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class FailedElementRetrierTest {
+
+  private static final RetryConfig RETRY_CONFIG = RetryConfig.builder()
+      .maxRetries(2)
+      .initialBackoffMillis(100)
+      .build();
+
+  @Mock
+  private JobPostingAsyncClient client;
+  @Mock
+  private ScheduledExecutorService scheduler;
+
+  /** Status returned for each external job posting id, in order of the attempts. */
+  private Map<String, List<Integer>> statuses;
+  private List<Long> delays;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    statuses = new HashMap<>();
+    delays = new ArrayList<>();
+    doAnswer(invocation -> {
+      delays.add(invocation.getArgument(1));
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    when(client.processJobPostingAsync(any(JobPostingRequest.class))).thenAnswer(invocation -> {
+      JobPostingRequest request = invocation.getArgument(0);
+      return CompletableFuture.completedFuture(respond(request));
+    });
+  }
+
+  @Test
+  public void testResendsOnlyTransientFailures() throws Exception {
+    statuses.put("job-1", Arrays.asList(503, 201));
+    statuses.put("job-2", Arrays.asList(400));
+    FailedElementRetrier retrier = new FailedElementRetrier(client, RETRY_CONFIG, scheduler);
+
+    List<JobPostingResult> results = retrier.send(getJobPostings(4)).get();
+
+    ArgumentCaptor<JobPostingRequest> captor = ArgumentCaptor.forClass(JobPostingRequest.class);
+    verify(client, times(2)).processJobPostingAsync(captor.capture());
+    assertEquals(ids(captor.getAllValues().get(1)), Arrays.asList("job-1"));
+    assertEquals(results.stream().map(JobPostingResult::getStatus).collect(Collectors.toList()),
+        Arrays.asList(202, 201, 400, 202));
+    assertEquals(delays, Arrays.asList(100L));
+  }
+
+  @Test
+  public void testReturnsTransientFailureOnceRetriesAreExhausted() throws Exception {
+    statuses.put("job-0", Arrays.asList(429, 503, 500));
+    FailedElementRetrier retrier = new FailedElementRetrier(client, RETRY_CONFIG, scheduler);
+
+    List<JobPostingResult> results = retrier.send(getJobPostings(2)).get();
+
+    verify(client, times(3)).processJobPostingAsync(any(JobPostingRequest.class));
+    assertEquals(results.get(0).getStatus(), 500);
+    assertEquals(results.get(1).getStatus(), 202);
+    assertEquals(delays, Arrays.asList(100L, 200L));
+  }
+
+  @Test
+  public void testDoesNotResendWithoutRetries() throws Exception {
+    statuses.put("job-0", Arrays.asList(503));
+    FailedElementRetrier retrier = new FailedElementRetrier(client, RetryConfig.builder().maxRetries(0).build(),
+        scheduler);
+
+    List<JobPostingResult> results = retrier.send(getJobPostings(2)).get();
+
+    verify(client, times(1)).processJobPostingAsync(any(JobPostingRequest.class));
+    verifyNoInteractions(scheduler);
+    assertEquals(results.get(0).getStatus(), 503);
+  }
+
+  @Test
+  public void testFirstRequestFailureFailsTheBatch() throws Exception {
+    CompletableFuture<APIResponse<JobPostingResponse>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new LinkedInApiException(503, new HashMap<>(), "Unavailable"));
+    doReturn(failed).when(client).processJobPostingAsync(any(JobPostingRequest.class));
+    FailedElementRetrier retrier = new FailedElementRetrier(client, RETRY_CONFIG, scheduler);
+
+    try {
+      retrier.send(getJobPostings(2)).get();
+      fail("Expected the request failure");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof LinkedInApiException);
+    }
+    verifyNoInteractions(scheduler);
+  }
+
+  @Test
+  public void testResendFailureIsReportedOnResentPostings() throws Exception {
+    statuses.put("job-1", Arrays.asList(503));
+    CompletableFuture<APIResponse<JobPostingResponse>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new LinkedInApiException(502, new HashMap<>(), "Bad gateway"));
+    when(client.processJobPostingAsync(any(JobPostingRequest.class)))
+        .thenAnswer(invocation -> CompletableFuture.completedFuture(respond(invocation.getArgument(0))))
+        .thenReturn(failed);
+    FailedElementRetrier retrier = new FailedElementRetrier(client, RETRY_CONFIG, scheduler);
+
+    List<JobPostingResult> results = retrier.send(getJobPostings(3)).get();
+
+    assertEquals(results.get(0).getStatus(), 202);
+    assertEquals(results.get(1).getStatus(), 502);
+    assertEquals(results.get(1).getEntity().getExternalJobPostingId(), "job-1");
+    assertEquals(results.get(2).getStatus(), 202);
+  }
+
+  private APIResponse<JobPostingResponse> respond(JobPostingRequest request) {
+    List<JobPostingResult> elements = new ArrayList<>();
+    for (JobPosting posting : request.getElements()) {
+      List<Integer> remaining = statuses.get(posting.getExternalJobPostingId());
+      int status = 202;
+      if (remaining != null && !remaining.isEmpty()) {
+        status = remaining.get(0);
+        statuses.put(posting.getExternalJobPostingId(), remaining.subList(1, remaining.size()));
+      }
+      elements.add(JobPostingResult.builder()
+          .status(status)
+          .entity(JobPostingEntity.builder().externalJobPostingId(posting.getExternalJobPostingId()).build())
+          .jobPostingError(status >= 400 ? JobPostingError.builder().status(status).message("Error").build() : null)
+          .build());
+    }
+    return APIResponse.<JobPostingResponse>builder().body(JobPostingResponse.builder().elements(elements).build()).build();
+  }
+
+  private static List<String> ids(JobPostingRequest request) {
+    return request.getElements().stream().map(JobPosting::getExternalJobPostingId).collect(Collectors.toList());
+  }
+}
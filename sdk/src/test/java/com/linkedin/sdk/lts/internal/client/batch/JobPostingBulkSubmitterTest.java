@@ -0,0 +1,151 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.client.TestingResourceUtility.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class JobPostingBulkSubmitterTest {
+
+  @Mock
+  private JobPostingAsyncClient client;
+
+  private List<CompletableFuture<APIResponse<JobPostingResponse>>> pending;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    pending = new ArrayList<>();
+  }
+
+  @Test
+  public void testSplitsByCountAndKeepsResultsAligned() throws Exception {
+    when(client.processJobPostingAsync(any(JobPostingRequest.class))).thenAnswer(invocation -> {
+      JobPostingRequest request = invocation.getArgument(0);
+      return CompletableFuture.completedFuture(getAcceptedJobPostingResponse(request));
+    });
+    JobPostingBulkSubmitter submitter = new JobPostingBulkSubmitter(client,
+        BulkSubmitConfig.builder().maxBatchSize(3).build());
+
+    List<JobPostingResult> results = submitter.submit(getJobPostings(7)).get();
+
+    ArgumentCaptor<JobPostingRequest> captor = ArgumentCaptor.forClass(JobPostingRequest.class);
+    verify(client, times(3)).processJobPostingAsync(captor.capture());
+    assertEquals(captor.getAllValues().stream().map(r -> r.getElements().size()).collect(Collectors.toList()),
+        Arrays.asList(3, 3, 1));
+    assertEquals(results.size(), 7);
+    for (int i = 0; i < 7; i++) {
+      assertEquals(results.get(i).getEntity().getExternalJobPostingId(), "job-" + i);
+      assertEquals(results.get(i).getStatus(), 202);
+    }
+  }
+
+  @Test
+  public void testSplitsByBytes() throws Exception {
+    when(client.processJobPostingAsync(any(JobPostingRequest.class))).thenAnswer(invocation -> {
+      JobPostingRequest request = invocation.getArgument(0);
+      return CompletableFuture.completedFuture(getAcceptedJobPostingResponse(request));
+    });
+    List<JobPosting> jobPostings = getJobPostings(5);
+    int size = ObjectMapperUtil.toJson(jobPostings.get(0)).length();
+    JobPostingBulkSubmitter submitter = new JobPostingBulkSubmitter(client,
+        BulkSubmitConfig.builder().maxBatchBytes(size * 2).build());
+
+    List<JobPostingResult> results = submitter.submit(jobPostings.stream()).get();
+
+    ArgumentCaptor<JobPostingRequest> captor = ArgumentCaptor.forClass(JobPostingRequest.class);
+    verify(client, times(3)).processJobPostingAsync(captor.capture());
+    captor.getAllValues().forEach(request -> assertTrue(request.getElements().size() <= 2));
+    assertEquals(results.size(), 5);
+  }
+
+  @Test
+  public void testBoundsConcurrentBatches() throws Exception {
+    when(client.processJobPostingAsync(any(JobPostingRequest.class))).thenAnswer(invocation -> {
+      CompletableFuture<APIResponse<JobPostingResponse>> future = new CompletableFuture<>();
+      pending.add(future);
+      return future;
+    });
+    JobPostingBulkSubmitter submitter = new JobPostingBulkSubmitter(client,
+        BulkSubmitConfig.builder().maxBatchSize(1).maxConcurrentBatches(2).build());
+
+    CompletableFuture<List<JobPostingResult>> results = submitter.submit(getJobPostings(4));
+
+    assertEquals(pending.size(), 2);
+    pending.get(0).complete(accepted(1));
+    assertEquals(pending.size(), 3);
+    pending.get(1).complete(accepted(1));
+    pending.get(2).complete(accepted(1));
+    assertEquals(pending.size(), 4);
+    assertFalse(results.isDone());
+    pending.get(3).complete(accepted(1));
+    assertEquals(results.get().size(), 4);
+  }
+
+  @Test
+  public void testFailedBatchIsReportedPerPosting() throws Exception {
+    when(client.processJobPostingAsync(any(JobPostingRequest.class))).thenAnswer(invocation -> {
+      JobPostingRequest request = invocation.getArgument(0);
+      if ("job-2".equals(request.getElements().get(0).getExternalJobPostingId())) {
+        CompletableFuture<APIResponse<JobPostingResponse>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new LinkedInApiException(429, new HashMap<>(), "Too many requests"));
+        return failed;
+      }
+      return CompletableFuture.completedFuture(getAcceptedJobPostingResponse(request));
+    });
+    JobPostingBulkSubmitter submitter = new JobPostingBulkSubmitter(client,
+        BulkSubmitConfig.builder().maxBatchSize(2).build());
+
+    List<JobPostingResult> results = submitter.submit(getJobPostings(5)).get();
+
+    assertEquals(results.size(), 5);
+    assertEquals(results.get(1).getStatus(), 202);
+    assertEquals(results.get(2).getStatus(), 429);
+    assertEquals(results.get(3).getStatus(), 429);
+    assertEquals(results.get(3).getEntity().getExternalJobPostingId(), "job-3");
+    assertNotNull(results.get(3).getJobPostingError());
+    assertEquals(results.get(4).getStatus(), 202);
+  }
+
+  @Test
+  public void testEmptyInputCompletesWithoutRequests() throws Exception {
+    JobPostingBulkSubmitter submitter = new JobPostingBulkSubmitter(client, BulkSubmitConfig.builder().build());
+
+    assertTrue(submitter.submit(Collections.emptyList()).get().isEmpty());
+    verifyNoInteractions(client);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsNonPositiveLimits() {
+    new JobPostingBulkSubmitter(client, BulkSubmitConfig.builder().maxConcurrentBatches(0).build());
+  }
+
+  private static APIResponse<JobPostingResponse> accepted(int count) {
+    List<JobPostingResult> elements = IntStream.range(0, count)
+        .mapToObj(i -> JobPostingResult.builder().status(202).build())
+        .collect(Collectors.toList());
+    return APIResponse.<JobPostingResponse>builder().body(JobPostingResponse.builder().elements(elements).build()).build();
+  }
+}
@@ -0,0 +1,141 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.client.TestingResourceUtility.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class JobPostingMicroBatcherTest {
+
+  @Mock
+  private JobPostingAsyncClient client;
+  @Mock
+  private ScheduledExecutorService scheduler;
+  @Mock
+  private ScheduledFuture<?> scheduledFuture;
+
+  private List<Runnable> timers;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    timers = new ArrayList<>();
+    doAnswer(invocation -> {
+      timers.add(invocation.getArgument(0));
+      return scheduledFuture;
+    }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    when(client.processJobPostingAsync(any(JobPostingRequest.class))).thenAnswer(invocation -> {
+      JobPostingRequest request = invocation.getArgument(0);
+      return CompletableFuture.completedFuture(getAcceptedJobPostingResponse(request));
+    });
+  }
+
+  @Test
+  public void testFlushesWhenBatchIsFull() throws Exception {
+    JobPostingMicroBatcher batcher = new JobPostingMicroBatcher(client,
+        MicroBatchConfig.builder().maxBatchSize(3).scheduler(scheduler).build());
+
+    CompletableFuture<JobPostingResult> first = batcher.submit(getJobPosting("job-0"));
+    CompletableFuture<JobPostingResult> second = batcher.submit(getJobPosting("job-1"));
+    assertFalse(first.isDone());
+    CompletableFuture<JobPostingResult> third = batcher.submit(getJobPosting("job-2"));
+
+    verify(client, times(1)).processJobPostingAsync(any(JobPostingRequest.class));
+    verify(scheduledFuture).cancel(false);
+    assertEquals(first.get().getEntity().getExternalJobPostingId(), "job-0");
+    assertEquals(second.get().getEntity().getExternalJobPostingId(), "job-1");
+    assertEquals(third.get().getEntity().getExternalJobPostingId(), "job-2");
+  }
+
+  @Test
+  public void testFlushesWhenDelayElapses() throws Exception {
+    JobPostingMicroBatcher batcher = new JobPostingMicroBatcher(client,
+        MicroBatchConfig.builder().maxDelayMillis(20).scheduler(scheduler).build());
+
+    CompletableFuture<JobPostingResult> first = batcher.submit(getJobPosting("job-0"));
+    CompletableFuture<JobPostingResult> second = batcher.submit(getJobPosting("job-1"));
+
+    verify(scheduler, times(1)).schedule(any(Runnable.class), eq(20L), eq(TimeUnit.MILLISECONDS));
+    verifyNoInteractions(client);
+    timers.get(0).run();
+    assertEquals(first.get().getStatus(), 202);
+    assertEquals(second.get().getEntity().getExternalJobPostingId(), "job-1");
+  }
+
+  @Test
+  public void testFlushesBeforeExceedingBytes() throws Exception {
+    JobPosting jobPosting = getJobPosting("job-0");
+    long size = ObjectMapperUtil.toJson(jobPosting).length();
+    JobPostingMicroBatcher batcher = new JobPostingMicroBatcher(client,
+        MicroBatchConfig.builder().maxBatchBytes(size * 2 - 1).scheduler(scheduler).build());
+
+    batcher.submit(jobPosting);
+    batcher.submit(getJobPosting("job-1"));
+    batcher.flush();
+
+    ArgumentCaptor<JobPostingRequest> captor = ArgumentCaptor.forClass(JobPostingRequest.class);
+    verify(client, times(2)).processJobPostingAsync(captor.capture());
+    assertEquals(captor.getAllValues().stream().map(r -> r.getElements().size()).collect(Collectors.toList()),
+        Arrays.asList(1, 1));
+  }
+
+  @Test
+  public void testFailedRequestFailsEveryPosting() throws Exception {
+    CompletableFuture<APIResponse<JobPostingResponse>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new LinkedInApiException(503, new HashMap<>(), "Unavailable"));
+    doReturn(failed).when(client).processJobPostingAsync(any(JobPostingRequest.class));
+    JobPostingMicroBatcher batcher = new JobPostingMicroBatcher(client,
+        MicroBatchConfig.builder().scheduler(scheduler).build());
+
+    CompletableFuture<JobPostingResult> first = batcher.submit(getJobPosting("job-0"));
+    CompletableFuture<JobPostingResult> second = batcher.submit(getJobPosting("job-1"));
+    batcher.flush();
+
+    for (CompletableFuture<JobPostingResult> future : Arrays.asList(first, second)) {
+      try {
+        future.get();
+        fail("Expected the request failure");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof LinkedInApiException);
+      }
+    }
+  }
+
+  @Test
+  public void testCloseFlushesAndRejectsNewPostings() throws Exception {
+    JobPostingMicroBatcher batcher = new JobPostingMicroBatcher(client,
+        MicroBatchConfig.builder().scheduler(scheduler).build());
+
+    CompletableFuture<JobPostingResult> pending = batcher.submit(getJobPosting("job-0"));
+    batcher.close();
+
+    assertEquals(pending.get().getStatus(), 202);
+    CompletableFuture<JobPostingResult> rejected = batcher.submit(getJobPosting("job-1"));
+    assertTrue(rejected.isCompletedExceptionally());
+    verify(client, times(1)).processJobPostingAsync(any(JobPostingRequest.class));
+  }
+}
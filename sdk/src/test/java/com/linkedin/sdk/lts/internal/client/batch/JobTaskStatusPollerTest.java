@@ -0,0 +1,255 @@
+package com.linkedin.sdk.lts.internal.client.batch;
+
+import com.linkedin.sdk.lts.api.client.JobPostingAsyncClient;
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobPostingTaskResult;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatus;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
+import com.linkedin.sdk.lts.internal.util.FutureUtil;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+
+public class JobTaskStatusPollerTest {
+
+  @Mock
+  private JobPostingAsyncClient client;
+  @Mock
+  private ScheduledExecutorService scheduler;
+  @Mock
+  private ScheduledFuture<?> scheduledFuture;
+
+  private ManualClock clock;
+  private List<Long> delays;
+  /** Status returned for each task ID, in order of the polls. The last one is repeated. */
+  private Map<String, List<JobTaskStatus>> statuses;
+  private JobTaskStatusPoller poller;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    clock = new ManualClock();
+    delays = new ArrayList<>();
+    statuses = new HashMap<>();
+    doAnswer(invocation -> {
+      delays.add(invocation.getArgument(1));
+      return scheduledFuture;
+    }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    when(client.getTaskStatusAsync(anyList())).thenAnswer(invocation -> {
+      List<String> taskIds = invocation.getArgument(0);
+      return CompletableFuture.completedFuture(respond(taskIds));
+    });
+    poller = new JobTaskStatusPoller(client, TaskPollConfig.builder()
+        .initialIntervalMillis(1000)
+        .intervalMultiplier(2)
+        .maxIntervalMillis(3000)
+        .maxIdsPerRequest(2)
+        .timeoutMillis(10000)
+        .scheduler(scheduler)
+        .build(), clock);
+  }
+
+  @Test
+  public void testGroupsOutstandingTasksIntoMultiIdRequests() throws Exception {
+    statuses.put("task-1", Arrays.asList(JobTaskStatus.SUCCEEDED));
+    statuses.put("task-2", Arrays.asList(JobTaskStatus.FAILED));
+    statuses.put("task-3", Arrays.asList(JobTaskStatus.PROCESSED));
+
+    CompletableFuture<JobPostingTaskResult> first = poller.track("task-1");
+    CompletableFuture<JobPostingTaskResult> second = poller.track("task-2");
+    clock.advance(200);
+    CompletableFuture<JobPostingTaskResult> third = poller.track("task-3");
+    assertSame(poller.track("task-1"), first);
+    assertEquals(delays, Arrays.asList(1000L));
+
+    clock.advance(800);
+    poller.poll();
+
+    ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+    verify(client, times(2)).getTaskStatusAsync(captor.capture());
+    assertEquals(captor.getAllValues().stream().mapToInt(List::size).sum(), 3);
+    assertEquals(first.get().getStatus(), JobTaskStatus.SUCCEEDED);
+    assertEquals(second.get().getStatus(), JobTaskStatus.FAILED);
+    assertEquals(third.get().getStatus(), JobTaskStatus.PROCESSED);
+    assertEquals(poller.getOutstandingTasks(), 0);
+  }
+
+  @Test
+  public void testBacksOffWhileTaskIsInProgress() throws Exception {
+    statuses.put("task-1", Arrays.asList(JobTaskStatus.IN_PROGRESS, JobTaskStatus.IN_PROGRESS,
+        JobTaskStatus.IN_PROGRESS, JobTaskStatus.SUCCEEDED));
+
+    CompletableFuture<JobPostingTaskResult> future = poller.track("task-1");
+    for (int i = 0; i < 4; i++) {
+      clock.advance(delays.get(delays.size() - 1));
+      poller.poll();
+    }
+
+    assertEquals(delays, Arrays.asList(1000L, 2000L, 3000L, 3000L));
+    assertEquals(future.get().getStatus(), JobTaskStatus.SUCCEEDED);
+  }
+
+  @Test
+  public void testTimesOutUnfinishedTask() throws Exception {
+    statuses.put("task-1", Arrays.asList(JobTaskStatus.IN_PROGRESS));
+
+    CompletableFuture<JobPostingTaskResult> future = poller.track("task-1");
+    while (!future.isDone()) {
+      clock.advance(delays.get(delays.size() - 1));
+      poller.poll();
+    }
+
+    try {
+      future.get();
+      fail("Expected a timeout");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TimeoutException);
+    }
+    assertEquals(poller.getOutstandingTasks(), 0);
+  }
+
+  @Test
+  public void testRetriesTransientFailuresAndFailsOnPermanentOnes() throws Exception {
+    when(client.getTaskStatusAsync(anyList()))
+        .thenReturn(FutureUtil.failedFuture(new LinkedInApiException(503, new HashMap<>(), "Unavailable")))
+        .thenReturn(FutureUtil.failedFuture(new LinkedInApiException(403, new HashMap<>(), "Forbidden")));
+
+    CompletableFuture<JobPostingTaskResult> future = poller.track("task-1");
+    clock.advance(1000);
+    poller.poll();
+    assertFalse(future.isDone());
+    clock.advance(2000);
+    poller.poll();
+
+    try {
+      future.get();
+      fail("Expected the request failure");
+    } catch (ExecutionException e) {
+      assertEquals(((LinkedInApiException) e.getCause()).getStatusCode(), 403);
+    }
+  }
+
+  @Test
+  public void testFailsOnAuthenticationFailureWithoutPollingAgain() throws Exception {
+    assertFailsWithoutPollingAgain(new AuthenticationException("Invalid client credentials"));
+  }
+
+  @Test
+  public void testFailsOnDeserializationFailureWithoutPollingAgain() throws Exception {
+    assertFailsWithoutPollingAgain(new JsonDeserializationException("Unexpected token"));
+  }
+
+  @Test
+  public void testRetriesNetworkFailures() throws Exception {
+    statuses.put("task-1", Arrays.asList(JobTaskStatus.SUCCEEDED));
+    when(client.getTaskStatusAsync(anyList()))
+        .thenReturn(FutureUtil.failedFuture(new IOException("Connection reset")))
+        .thenAnswer(invocation -> CompletableFuture.completedFuture(respond(invocation.getArgument(0))));
+
+    CompletableFuture<JobPostingTaskResult> future = poller.track("task-1");
+    clock.advance(1000);
+    poller.poll();
+    assertFalse(future.isDone());
+    clock.advance(2000);
+    poller.poll();
+
+    assertEquals(future.get().getStatus(), JobTaskStatus.SUCCEEDED);
+  }
+
+  @Test
+  public void testCloseFailsOutstandingTasks() {
+    CompletableFuture<JobPostingTaskResult> future = poller.track("task-1");
+
+    poller.close();
+
+    assertTrue(future.isCompletedExceptionally());
+    assertTrue(poller.track("task-2").isCompletedExceptionally());
+    verify(scheduledFuture).cancel(false);
+  }
+
+  private void assertFailsWithoutPollingAgain(Exception error) throws Exception {
+    when(client.getTaskStatusAsync(anyList())).thenReturn(FutureUtil.failedFuture(new CompletionException(error)));
+
+    CompletableFuture<JobPostingTaskResult> future = poller.track("task-1");
+    clock.advance(1000);
+    poller.poll();
+
+    try {
+      future.get();
+      fail("Expected the request failure");
+    } catch (ExecutionException e) {
+      assertSame(e.getCause(), error);
+    }
+    assertEquals(poller.getOutstandingTasks(), 0);
+    assertEquals(delays, Arrays.asList(1000L));
+  }
+
+  private APIResponse<JobTaskStatusResponse> respond(List<String> taskIds) {
+    Map<String, JobPostingTaskResult> results = new HashMap<>();
+    for (String taskId : taskIds) {
+      List<JobTaskStatus> remaining = statuses.get(taskId);
+      JobTaskStatus status = remaining.get(0);
+      if (remaining.size() > 1) {
+        statuses.put(taskId, remaining.subList(1, remaining.size()));
+      }
+      results.put(taskId, JobPostingTaskResult.builder().id(taskId).status(status).build());
+    }
+    return APIResponse.<JobTaskStatusResponse>builder()
+        .body(JobTaskStatusResponse.builder().results(results).statuses(new HashMap<>()).errors(new HashMap<>()).build())
+        .build();
+  }
+
+  private static final class ManualClock extends Clock {
+    private long millis;
+
+    void advance(long delta) {
+      millis += delta;
+    }
+
+    @Override
+    public long millis() {
+      return millis;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
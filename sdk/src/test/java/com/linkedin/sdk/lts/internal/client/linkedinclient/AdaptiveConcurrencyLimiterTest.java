@@ -0,0 +1,149 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.ConcurrencyLimitExceededException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+  private ScheduledExecutorService scheduler;
+
+  @BeforeMethod
+  public void setUp() {
+    scheduler = new ScheduledThreadPoolExecutor(1);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void testLimitGrowsWhileSaturatedRequestsSucceed() {
+    AdaptiveConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(2));
+
+    assertTrue(limiter.acquire().isDone());
+    assertTrue(limiter.acquire().isDone());
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS, 0);
+
+    assertEquals(limiter.getStats().getLimit(), 3);
+    assertEquals(limiter.getStats().getInFlight(), 1);
+  }
+
+  @Test
+  public void testLimitDoesNotGrowWhileUnderused() {
+    AdaptiveConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(10));
+
+    limiter.acquire();
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS, 0);
+
+    assertEquals(limiter.getStats().getLimit(), 10);
+  }
+
+  @Test
+  public void testLimitBacksOffOnDroppedAndSlowRequests() {
+    AdaptiveConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+        .initialLimit(10)
+        .backoffRatio(0.5)
+        .latencyThresholdMillis(100));
+
+    limiter.acquire();
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.DROPPED, 0);
+    assertEquals(limiter.getStats().getLimit(), 5);
+
+    limiter.acquire();
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS, TimeUnit.MILLISECONDS.toNanos(200));
+    assertEquals(limiter.getStats().getLimit(), 2);
+
+    limiter.acquire();
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED, 0);
+    assertEquals(limiter.getStats().getLimit(), 2);
+  }
+
+  @Test
+  public void testLimitStaysWithinBounds() {
+    AdaptiveConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+        .initialLimit(2)
+        .minLimit(1)
+        .maxLimit(2)
+        .backoffRatio(0.1));
+
+    limiter.acquire();
+    limiter.acquire();
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS, 0);
+    assertEquals(limiter.getStats().getLimit(), 2);
+
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.DROPPED, 0);
+    assertEquals(limiter.getStats().getLimit(), 1);
+  }
+
+  @Test
+  public void testQueuedRequestIsGrantedOnRelease() {
+    AdaptiveConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder().initialLimit(1).maxLimit(1));
+
+    limiter.acquire();
+    CompletableFuture<Void> queued = limiter.acquire();
+    assertFalse(queued.isDone());
+    assertEquals(limiter.getStats().getQueued(), 1);
+
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS, 0);
+
+    assertTrue(queued.isDone());
+    assertEquals(limiter.getStats().getInFlight(), 1);
+    assertEquals(limiter.getStats().getQueued(), 0);
+  }
+
+  @Test
+  public void testRejectModeFailsFastOverLimit() throws Exception {
+    AdaptiveConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+        .initialLimit(1)
+        .overflow(ConcurrencyLimitOverflow.REJECT));
+
+    limiter.acquire();
+    CompletableFuture<Void> rejected = limiter.acquire();
+
+    assertTrue(rejected.isCompletedExceptionally());
+    assertEquals(limiter.getStats().getRejected(), 1);
+    try {
+      rejected.get();
+      fail("Expected the request to be rejected");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException);
+    }
+  }
+
+  @Test
+  public void testQueuedRequestTimesOut() throws Exception {
+    AdaptiveConcurrencyLimiter limiter = limiter(ConcurrencyLimitConfig.builder()
+        .initialLimit(1)
+        .maxQueueWaitMillis(50));
+
+    limiter.acquire();
+    CompletableFuture<Void> queued = limiter.acquire();
+
+    try {
+      queued.get(1, TimeUnit.SECONDS);
+      fail("Expected the queued request to time out");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException);
+    }
+    assertEquals(limiter.getStats().getQueued(), 0);
+    assertEquals(limiter.getStats().getRejected(), 1);
+
+    // The timed out request never held a slot, so the next release frees the only one
+    limiter.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED, 0);
+    assertEquals(limiter.getStats().getInFlight(), 0);
+  }
+
+  private AdaptiveConcurrencyLimiter limiter(ConcurrencyLimitConfig.ConcurrencyLimitConfigBuilder builder) {
+    return new AdaptiveConcurrencyLimiter(builder.enabled(true).build(), scheduler);
+  }
+}
@@ -0,0 +1,128 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class CircuitBreakerTest {
+
+  private static final String ENDPOINT = "api.linkedin.com/rest/simpleJobPostings";
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.SECONDS.toNanos(20);
+
+  private final AtomicLong now = new AtomicLong();
+  private final List<String> transitions = new ArrayList<>();
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeMethod
+  public void setUp() {
+    now.set(0);
+    transitions.clear();
+    circuitBreaker = new CircuitBreaker(ENDPOINT, CircuitBreakerConfig.builder()
+        .enabled(true)
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(4)
+        .permittedCallsInHalfOpenState(2)
+        .openStateDurationMillis(1000)
+        .listener((endpoint, from, to) -> transitions.add(from + "->" + to))
+        .build(), now::get);
+  }
+
+  @Test
+  public void testOpensWhenFailureRateReachesThreshold() {
+    call(false, FAST);
+    call(false, FAST);
+    call(true, FAST);
+    assertEquals(circuitBreaker.getStats().getState(), CircuitBreakerState.CLOSED, "too few calls to evaluate");
+    call(true, FAST);
+
+    CircuitBreakerStats stats = circuitBreaker.getStats();
+    assertEquals(stats.getState(), CircuitBreakerState.OPEN);
+    assertEquals(stats.getTimesOpened(), 1);
+    assertFalse(circuitBreaker.tryAcquirePermission());
+    assertEquals(circuitBreaker.getStats().getNotPermittedCalls(), 1);
+    assertEquals(transitions.size(), 1);
+    assertEquals(transitions.get(0), "CLOSED->OPEN");
+  }
+
+  @Test
+  public void testStaysClosedBelowFailureRateThreshold() {
+    call(false, FAST);
+    call(false, FAST);
+    call(false, FAST);
+    call(true, FAST);
+    call(false, FAST);
+
+    CircuitBreakerStats stats = circuitBreaker.getStats();
+    assertEquals(stats.getState(), CircuitBreakerState.CLOSED);
+    assertEquals(stats.getFailureRate(), 25f);
+  }
+
+  @Test
+  public void testOpensWhenAllCallsAreSlow() {
+    for (int i = 0; i < 4; i++) {
+      call(false, SLOW);
+    }
+
+    assertEquals(circuitBreaker.getStats().getState(), CircuitBreakerState.OPEN);
+  }
+
+  @Test
+  public void testHalfOpenClosesAfterSuccessfulTrialCalls() {
+    open();
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertFalse(circuitBreaker.tryAcquirePermission(), "only two trial calls are permitted");
+    assertEquals(circuitBreaker.getStats().getState(), CircuitBreakerState.HALF_OPEN);
+    circuitBreaker.onResult(false, FAST);
+    circuitBreaker.onResult(false, FAST);
+
+    assertEquals(circuitBreaker.getStats().getState(), CircuitBreakerState.CLOSED);
+    assertEquals(transitions.get(1), "OPEN->HALF_OPEN");
+    assertEquals(transitions.get(2), "HALF_OPEN->CLOSED");
+  }
+
+  @Test
+  public void testHalfOpenReopensWhenTrialCallsFail() {
+    open();
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+    call(true, FAST);
+    call(false, FAST);
+
+    CircuitBreakerStats stats = circuitBreaker.getStats();
+    assertEquals(stats.getState(), CircuitBreakerState.OPEN);
+    assertEquals(stats.getTimesOpened(), 2);
+  }
+
+  @Test
+  public void testReleasedPermissionCanBeReused() {
+    open();
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    circuitBreaker.releasePermission();
+
+    assertTrue(circuitBreaker.tryAcquirePermission());
+  }
+
+  private void open() {
+    for (int i = 0; i < 4; i++) {
+      call(true, FAST);
+    }
+    assertEquals(circuitBreaker.getStats().getState(), CircuitBreakerState.OPEN);
+  }
+
+  private void call(boolean failure, long durationNanos) {
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    circuitBreaker.onResult(failure, durationNanos);
+  }
+}
@@ -0,0 +1,131 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URL;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public class ConnectionPoolTest {
+
+  private static final String TEST_URL = "https://api.linkedin.com/rest/simpleJobPostings";
+  private static final String OTHER_HOST_URL = "https://www.linkedin.com/oauth/v2/accessToken";
+
+  private SSLSocketFactory baseSocketFactory;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    baseSocketFactory = mock(SSLSocketFactory.class);
+    when(baseSocketFactory.createSocket()).thenAnswer(invocation -> mock(SSLSocket.class));
+  }
+
+  @Test
+  public void testAcquireShouldTimeOutWhenHostLimitReached() throws Exception {
+    ConnectionPool pool = new ConnectionPool(ConnectionPoolConfig.builder()
+        .maxConnectionsPerHost(1)
+        .connectionAcquireTimeoutMillis(10)
+        .build(), baseSocketFactory);
+
+    ConnectionPool.Lease lease = pool.acquire(new URL(TEST_URL));
+    try {
+      pool.acquire(new URL(TEST_URL));
+      fail("Expected IOException when no connection is available");
+    } catch (IOException e) {
+      assertEquals(pool.getStats().getLeaseTimeouts(), 1);
+    }
+
+    // A different host has its own limit
+    pool.acquire(new URL(OTHER_HOST_URL)).release();
+
+    lease.release();
+    pool.acquire(new URL(TEST_URL)).release();
+    assertEquals(pool.getStats().getLeasedConnections(), 0);
+  }
+
+  @Test
+  public void testStatsShouldCountOpenedAndReusedConnections() throws Exception {
+    ConnectionPool pool = new ConnectionPool(ConnectionPoolConfig.builder().build(), baseSocketFactory);
+
+    SSLSocketFactory factory = leaseAndCaptureFactory(pool);
+    factory.createSocket();
+    leaseAndCaptureFactory(pool);
+    leaseAndCaptureFactory(pool);
+
+    ConnectionPoolStats stats = pool.getStats();
+    assertEquals(stats.getTotalLeases(), 3);
+    assertEquals(stats.getConnectionsOpened(), 1);
+    assertEquals(stats.getConnectionsReused(), 2);
+  }
+
+  @Test
+  public void testIdleHostShouldHaveConnectionsEvicted() throws Exception {
+    ConnectionPool pool = new ConnectionPool(ConnectionPoolConfig.builder().maxIdleMillis(0).build(),
+        baseSocketFactory);
+
+    SSLSocketFactory firstFactory = leaseAndCaptureFactory(pool);
+    Socket socket = firstFactory.createSocket();
+    Thread.sleep(5);
+
+    SSLSocketFactory secondFactory = leaseAndCaptureFactory(pool);
+
+    assertNotSame(firstFactory, secondFactory, "Idle host should get a fresh socket factory");
+    verify(socket).close();
+    assertEquals(pool.getStats().getConnectionsEvicted(), 1);
+  }
+
+  @Test
+  public void testBusyHostShouldNotHaveConnectionsEvicted() throws Exception {
+    ConnectionPool pool = new ConnectionPool(ConnectionPoolConfig.builder().maxIdleMillis(0).build(),
+        baseSocketFactory);
+
+    HttpsURLConnection connection = mock(HttpsURLConnection.class);
+    ConnectionPool.Lease lease = pool.acquire(new URL(TEST_URL));
+    lease.bind(connection);
+    Thread.sleep(5);
+
+    assertEquals(pool.evictIdleConnections(), 0);
+    lease.release();
+  }
+
+  @Test
+  public void testDefaultPoolSizeShouldMatchJdkKeepAliveCache() {
+    assertEquals(ConnectionPoolConfig.builder().build().getMaxConnectionsPerHost(),
+        ConnectionPool.DEFAULT_KEEP_ALIVE_CONNECTIONS);
+  }
+
+  @Test
+  public void testKeepAliveConnectionsShouldFollowSystemProperty() {
+    String previous = System.getProperty("http.maxConnections");
+    try {
+      System.setProperty("http.maxConnections", "20");
+      assertEquals(ConnectionPool.keepAliveConnections(), 20);
+      // The JDK falls back to its default for values that are not positive
+      System.setProperty("http.maxConnections", "0");
+      assertEquals(ConnectionPool.keepAliveConnections(), ConnectionPool.DEFAULT_KEEP_ALIVE_CONNECTIONS);
+    } finally {
+      if (previous == null) {
+        System.clearProperty("http.maxConnections");
+      } else {
+        System.setProperty("http.maxConnections", previous);
+      }
+    }
+  }
+
+  private SSLSocketFactory leaseAndCaptureFactory(ConnectionPool pool) throws IOException {
+    HttpsURLConnection connection = mock(HttpsURLConnection.class);
+    ConnectionPool.Lease lease = pool.acquire(new URL(TEST_URL));
+    lease.bind(connection);
+    lease.release();
+
+    ArgumentCaptor<SSLSocketFactory> captor = ArgumentCaptor.forClass(SSLSocketFactory.class);
+    verify(connection).setSSLSocketFactory(captor.capture());
+    return captor.getValue();
+  }
+}
@@ -0,0 +1,119 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.exception.TransientLinkedInApiException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+import static org.testng.Assert.*;
+
+public class DefaultRetryPolicyTest {
+
+  private static final Instant NOW = Instant.parse("2025-10-01T12:00:00Z");
+  private static final LinkedInApiException SERVER_ERROR = new TransientLinkedInApiException(503, new HashMap<>(), "");
+
+  @Test
+  public void testExponentialBackoffWithoutJitterStopsAfterMaxRetries() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder().maxBackoffMillis(3000).build());
+
+    assertEquals(policy.retryDelayMillis(1, 0, SERVER_ERROR), 1000);
+    assertEquals(policy.retryDelayMillis(2, 1000, SERVER_ERROR), 2000);
+    assertEquals(policy.retryDelayMillis(3, 2000, SERVER_ERROR), 3000);
+    assertTrue(policy.retryDelayMillis(4, 3000, SERVER_ERROR) < 0);
+  }
+
+  @Test
+  public void testFullJitterStaysBelowExponentialBackoff() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder().jitter(RetryJitter.FULL).build());
+
+    for (int i = 0; i < 100; i++) {
+      long delay = policy.backoffMillis(3, 0);
+      assertTrue(delay >= 0 && delay <= 4000, "delay " + delay);
+    }
+  }
+
+  @Test
+  public void testDecorrelatedJitterStaysWithinBounds() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder().jitter(RetryJitter.DECORRELATED).build());
+
+    for (int i = 0; i < 100; i++) {
+      long delay = policy.backoffMillis(2, 2000);
+      assertTrue(delay >= 1000 && delay <= 6000, "delay " + delay);
+    }
+    for (int i = 0; i < 100; i++) {
+      assertTrue(policy.backoffMillis(5, 9000) <= 10000);
+    }
+  }
+
+  @Test
+  public void testRetryAfterSecondsExtendsBackoff() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder().build());
+
+    assertEquals(policy.retryDelayMillis(1, 0, throttled("5")), 5000);
+  }
+
+  @Test
+  public void testRetryAfterHttpDate() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder().build(),
+        Clock.fixed(NOW, ZoneOffset.UTC));
+    String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(NOW.plusSeconds(30), ZoneOffset.UTC));
+
+    assertEquals(policy.retryDelayMillis(1, 0, throttled(date)), 30000);
+  }
+
+  @Test
+  public void testRetryAfterAboveMaximumIsNotRetried() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder().maxRetryAfterMillis(10000).build());
+
+    assertTrue(policy.retryDelayMillis(1, 0, throttled("120")) < 0);
+  }
+
+  @Test
+  public void testInvalidRetryAfterIsIgnored() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder().build());
+
+    assertEquals(policy.retryDelayMillis(1, 0, throttled("soon")), 1000);
+  }
+
+  @Test
+  public void testRetryBudgetLimitsRetriesToShareOfRequests() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder()
+        .retryBudgetEnabled(true)
+        .retryBudgetCapacity(2)
+        .retryBudgetRatio(0.5)
+        .build());
+
+    assertTrue(policy.retryDelayMillis(1, 0, SERVER_ERROR) >= 0);
+    assertTrue(policy.retryDelayMillis(1, 0, SERVER_ERROR) >= 0);
+    assertTrue(policy.retryDelayMillis(1, 0, SERVER_ERROR) < 0, "budget should be exhausted");
+
+    policy.onRequest();
+    assertTrue(policy.retryDelayMillis(1, 0, SERVER_ERROR) < 0, "half a token is not enough for a retry");
+    policy.onRequest();
+    assertTrue(policy.retryDelayMillis(1, 0, SERVER_ERROR) >= 0);
+  }
+
+  @Test
+  public void testRetryBudgetIsDisabledByDefault() {
+    DefaultRetryPolicy policy = new DefaultRetryPolicy(RetryConfig.builder()
+        .retryBudgetCapacity(0)
+        .build());
+
+    assertTrue(policy.retryDelayMillis(1, 0, SERVER_ERROR) >= 0);
+  }
+
+  private static LinkedInApiException throttled(String retryAfter) {
+    Map<String, List<String>> headers = new HashMap<>();
+    headers.put(RETRY_AFTER.toLowerCase(), Collections.singletonList(retryAfter));
+    return new TransientLinkedInApiException(LinkedInApiException.TOO_MANY_REQUESTS, headers, "");
+  }
+}
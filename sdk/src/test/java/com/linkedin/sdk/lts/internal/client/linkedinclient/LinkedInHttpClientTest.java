@@ -0,0 +1,657 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.CircuitBreakerOpenException;
+import com.linkedin.sdk.lts.api.exception.ConcurrencyLimitExceededException;
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.RateLimitExceededException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.provisioning.CreateApplicationResponse;
+import com.linkedin.sdk.lts.internal.client.TestingCommonConstants;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.mockito.MockitoAnnotations;
+
+import javax.net.ssl.HttpsURLConnection;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.linkedin.sdk.lts.internal.client.TestingResourceUtility.*;
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+import static com.linkedin.sdk.lts.internal.constants.LinkedInApiConstants.*;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public class LinkedInHttpClientTest {
+
+  private LinkedInHttpClient httpClient;
+
+  private HttpsURLConnection mockConnection;
+  private static final String TEST_URL = "https://api.linkedin.com/v2/test";
+  private static final String TEST_RESPONSE = readJsonFromFile("CreateApplicationSuccessResponse.json");
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this);
+    mockConnection = mock(HttpsURLConnection.class);
+    httpClient = spy(new LinkedInHttpClient(RetryConfig.builder().build()));
+  }
+
+  @Test
+  public void testExecuteGetRequestReturnsSuccessResponse() throws Exception {
+    // Arrange
+    Map<String, String> headers = new HashMap<>();
+    headers.put(CONTENT_TYPE, APPLICATION_JSON);
+
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(
+        TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)
+    );
+
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(inputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    // Act
+    APIResponse<CreateApplicationResponse> response = httpClient.executeRequest(TEST_URL, HttpMethod.GET, headers, null, CreateApplicationResponse.class);
+
+    // Assert
+    assertEquals(ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class), response.getBody());
+  }
+
+  @Test
+  public void testExecutePostRequestWithBodyReturnsSuccessResponse() throws Exception {
+    // Arrange
+    String requestBody = TEST_RESPONSE.toString();
+    Map<String, String> headers = new HashMap<>();
+    headers.put(CONTENT_TYPE, APPLICATION_JSON);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(
+        TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)
+    );
+
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(inputStream);
+    when(mockConnection.getOutputStream()).thenReturn(outputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.POST));
+
+    // Act
+    APIResponse<CreateApplicationResponse> response = httpClient.executeRequest(TEST_URL, HttpMethod.POST, headers, requestBody, CreateApplicationResponse.class);
+
+    // Assert
+    assertEquals(ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class), response.getBody());
+    assertEquals(requestBody, outputStream.toString(StandardCharsets.UTF_8.name()));
+    verify(mockConnection).setRequestProperty(CONTENT_LENGTH,
+        String.valueOf(requestBody.getBytes(StandardCharsets.UTF_8).length));
+  }
+
+  @Test(expectedExceptions = LinkedInApiException.class)
+  public void testExecuteGetRequestReturnsErrorResponse() throws Exception {
+    // Arrange
+    String errorResponse = "{\"error\":\"Bad Request\"}";
+    ByteArrayInputStream errorStream = new ByteArrayInputStream(
+        errorResponse.getBytes(StandardCharsets.UTF_8)
+    );
+
+    when(mockConnection.getResponseCode()).thenReturn(400);
+    when(mockConnection.getErrorStream()).thenReturn(errorStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    // Act
+    httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+  }
+
+  @Test
+  public void testExecuteGetRequestThrowsTransientException() throws Exception {
+    // Arrange
+    httpClient = spy(new LinkedInHttpClient(RetryConfig.builder().build()));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), any(HttpMethod.class));
+
+    // Setup mock to throw TransientLinkedInApiException
+    when(mockConnection.getResponseCode()).thenReturn(500); // Server error to trigger retry
+    when(mockConnection.getErrorStream()).thenReturn(
+        new ByteArrayInputStream("Server Error".getBytes(StandardCharsets.UTF_8))
+    );
+
+    // Act & Assert
+    try {
+      httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (LinkedInApiException e) {
+      // Verify createConnection was called 4 times (initial + 3 retries)
+      verify(httpClient, times(4)).createConnection(any(URL.class), any(HttpMethod.class));
+      assertEquals(500, e.getStatusCode());
+    }
+  }
+
+  @Test
+  public void testExecuteGetRequestRetriesThrottledRequest() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(RetryConfig.builder().initialBackoffMillis(10).build()));
+    when(mockConnection.getResponseCode()).thenReturn(429, 200);
+    when(mockConnection.getErrorStream()).thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    APIResponse<?> response = httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null,
+        CreateApplicationResponse.class);
+
+    assertEquals(response.getHttpStatusCode(), 200);
+    verify(httpClient, times(2)).createConnection(any(URL.class), eq(HttpMethod.GET));
+  }
+
+  @Test
+  public void testExecuteGetRequestUsesCustomRetryPolicy() throws Exception {
+    RetryPolicy retryPolicy = mock(RetryPolicy.class);
+    when(retryPolicy.retryDelayMillis(anyInt(), anyLong(), any(LinkedInApiException.class))).thenReturn(-1L);
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder().retryPolicy(retryPolicy).build()));
+    when(mockConnection.getResponseCode()).thenReturn(500);
+    when(mockConnection.getErrorStream()).thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (LinkedInApiException e) {
+      verify(retryPolicy).onRequest();
+      verify(retryPolicy).retryDelayMillis(eq(1), eq(0L), any(LinkedInApiException.class));
+      verify(httpClient, times(1)).createConnection(any(URL.class), eq(HttpMethod.GET));
+    }
+  }
+
+  @Test
+  public void testOpenCircuitBreakerFailsFastWithoutRetrying() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .retryConfig(RetryConfig.builder().initialBackoffMillis(1).build())
+        .circuitBreakerConfig(CircuitBreakerConfig.builder()
+            .enabled(true)
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .build())
+        .build()));
+    when(mockConnection.getResponseCode()).thenReturn(503);
+    when(mockConnection.getErrorStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      httpClient.executeRequest(TEST_URL + "/123?q=1", HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+      fail("Expected CircuitBreakerOpenException to be thrown");
+    } catch (CircuitBreakerOpenException e) {
+      assertEquals(e.getEndpoint(), "api.linkedin.com/v2/test");
+    }
+    verify(httpClient, times(2)).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+      fail("Expected CircuitBreakerOpenException to be thrown");
+    } catch (CircuitBreakerOpenException e) {
+      verify(httpClient, times(2)).createConnection(any(URL.class), eq(HttpMethod.GET));
+    }
+    CircuitBreakerStats stats = (CircuitBreakerStats) httpClient.getCircuitBreakerStats().get("api.linkedin.com/v2/test");
+    assertEquals(stats.getState(), CircuitBreakerState.OPEN);
+    assertEquals(stats.getNotPermittedCalls(), 2);
+  }
+
+  @Test
+  public void testClientErrorsDoNotOpenCircuitBreaker() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .circuitBreakerConfig(CircuitBreakerConfig.builder()
+            .enabled(true)
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .build())
+        .build()));
+    when(mockConnection.getResponseCode()).thenReturn(400);
+    when(mockConnection.getErrorStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    for (int i = 0; i < 3; i++) {
+      try {
+        httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+        fail("Expected LinkedInApiException to be thrown");
+      } catch (LinkedInApiException e) {
+        assertEquals(e.getStatusCode(), 400);
+      }
+    }
+    verify(httpClient, times(3)).createConnection(any(URL.class), eq(HttpMethod.GET));
+  }
+
+  @Test
+  public void testRateLimitIsEnforcedPerClientId() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .rateLimitConfig(RateLimitConfig.builder()
+            .enabled(true)
+            .permitsPerSecond(ApiFamily.OTHER, 0.001)
+            .mode(RateLimitMode.TRY_ACQUIRE)
+            .build())
+        .build()));
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+    Map<String, String> firstClient = Collections.singletonMap(X_EXTERNAL_USER, "client-1");
+    Map<String, String> secondClient = Collections.singletonMap(X_EXTERNAL_USER, "client-2");
+
+    httpClient.executeRequest(TEST_URL, HttpMethod.GET, firstClient, null, CreateApplicationResponse.class);
+    try {
+      httpClient.executeRequest(TEST_URL, HttpMethod.GET, firstClient, null, CreateApplicationResponse.class);
+      fail("Expected RateLimitExceededException to be thrown");
+    } catch (RateLimitExceededException e) {
+      assertEquals(e.getStatusCode(), 429);
+    }
+    httpClient.executeRequest(TEST_URL, HttpMethod.GET, secondClient, null, CreateApplicationResponse.class);
+
+    verify(httpClient, times(2)).createConnection(any(URL.class), eq(HttpMethod.GET));
+  }
+
+  @Test
+  public void testExecuteRequestAsyncWaitsForRateLimitPermit() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .rateLimitConfig(RateLimitConfig.builder()
+            .enabled(true)
+            .permitsPerSecond(ApiFamily.OTHER, 20.0)
+            .build())
+        .build()));
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    long start = System.nanoTime();
+    List<CompletableFuture<?>> futures = new ArrayList<>();
+    Map<String, String> headers = Collections.singletonMap(X_EXTERNAL_USER, "client-1");
+    for (int i = 0; i < 23; i++) {
+      futures.add(httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, headers, null,
+          CreateApplicationResponse.class));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+
+    // 20 permits are available as a burst, the remaining three wait 50 ms each
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(140));
+  }
+
+  @Test
+  public void testRequestRejectedByConcurrencyLimitKeepsRateLimitPermit() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .rateLimitConfig(RateLimitConfig.builder()
+            .enabled(true)
+            .permitsPerSecond(ApiFamily.OTHER, 0.001)
+            .mode(RateLimitMode.TRY_ACQUIRE)
+            .build())
+        .concurrencyLimitConfig(ConcurrencyLimitConfig.builder()
+            .enabled(true)
+            .initialLimit(1)
+            .maxLimit(1)
+            .overflow(ConcurrencyLimitOverflow.REJECT)
+            .build())
+        .build()));
+    CountDownLatch release = new CountDownLatch(1);
+    when(mockConnection.getResponseCode()).thenAnswer(invocation -> {
+      release.await(1, TimeUnit.SECONDS);
+      return 200;
+    });
+    when(mockConnection.getInputStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+    Map<String, String> firstClient = Collections.singletonMap(X_EXTERNAL_USER, "client-1");
+    Map<String, String> secondClient = Collections.singletonMap(X_EXTERNAL_USER, "client-2");
+
+    CompletableFuture<?> inFlight = httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, firstClient, null,
+        CreateApplicationResponse.class);
+    try {
+      httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, secondClient, null, CreateApplicationResponse.class)
+          .get(1, TimeUnit.SECONDS);
+      fail("Expected ConcurrencyLimitExceededException to be thrown");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException);
+    }
+    release.countDown();
+    inFlight.get(1, TimeUnit.SECONDS);
+
+    // The rejected request was never sent, so the second client still has its permit
+    httpClient.executeRequest(TEST_URL, HttpMethod.GET, secondClient, null, CreateApplicationResponse.class);
+  }
+
+  @Test
+  public void testConcurrencyLimitBacksOffOnTransientErrors() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .retryConfig(RetryConfig.builder().maxRetries(0).build())
+        .concurrencyLimitConfig(ConcurrencyLimitConfig.builder()
+            .enabled(true)
+            .initialLimit(10)
+            .backoffRatio(0.5)
+            .build())
+        .build()));
+    when(mockConnection.getResponseCode()).thenReturn(503);
+    when(mockConnection.getErrorStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (LinkedInApiException e) {
+      assertEquals(e.getStatusCode(), 503);
+    }
+
+    assertEquals(httpClient.getConcurrencyLimitStats().getLimit(), 5);
+    assertEquals(httpClient.getConcurrencyLimitStats().getInFlight(), 0);
+  }
+
+  @Test
+  public void testExecuteRequestAsyncQueuesOverConcurrencyLimit() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .concurrencyLimitConfig(ConcurrencyLimitConfig.builder()
+            .enabled(true)
+            .initialLimit(1)
+            .maxLimit(1)
+            .build())
+        .build()));
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    List<CompletableFuture<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      futures.add(httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, new HashMap<>(), null,
+          CreateApplicationResponse.class));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+    assertEquals(httpClient.getConcurrencyLimitStats().getInFlight(), 0);
+    assertEquals(httpClient.getConcurrencyLimitStats().getQueued(), 0);
+    assertNull(new LinkedInHttpClient(HttpClientConfig.builder().build()).getConcurrencyLimitStats());
+  }
+
+  @Test
+  public void testIdenticalAsyncGetRequestsAreCoalesced() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder().coalesceGetRequests(true).build()));
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenAnswer(invocation -> {
+      release.await(1, TimeUnit.SECONDS);
+      return new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8));
+    });
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+    Map<String, String> firstClient = Collections.singletonMap(AUTHORIZATION, "Bearer token-1");
+    Map<String, String> secondClient = Collections.singletonMap(AUTHORIZATION, "Bearer token-2");
+
+    CompletableFuture<APIResponse<CreateApplicationResponse>> first =
+        httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, firstClient, null, CreateApplicationResponse.class);
+    CompletableFuture<APIResponse<CreateApplicationResponse>> second =
+        httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, firstClient, null, CreateApplicationResponse.class);
+    CompletableFuture<APIResponse<CreateApplicationResponse>> otherPrincipal =
+        httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, secondClient, null, CreateApplicationResponse.class);
+    release.countDown();
+
+    assertSame(first.get(1, TimeUnit.SECONDS), second.get(1, TimeUnit.SECONDS));
+    assertNotSame(first.get(), otherPrincipal.get(1, TimeUnit.SECONDS));
+    assertEquals(httpClient.getCoalescedRequestCount(), 1);
+    verify(httpClient, times(2)).createConnection(any(URL.class), eq(HttpMethod.GET));
+  }
+
+  @Test
+  public void testExecuteGetRequestWithHeadersReturnsSuccessResponse() throws Exception {
+    // Arrange
+    Map<String, String> headers = new HashMap<>();
+    headers.put(CONTENT_TYPE, APPLICATION_JSON);
+    headers.put(AUTHORIZATION, TestingCommonConstants.TEST_TOKEN);
+    headers.put(LINKEDIN_VERSION, API_VERSION_2025_04);
+
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(
+        TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)
+    );
+
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(inputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    // Act
+    APIResponse<CreateApplicationResponse> response = httpClient.executeRequest(TEST_URL, HttpMethod.GET, headers, null, CreateApplicationResponse.class);
+
+    // Assert
+    verify(mockConnection).setRequestProperty(CONTENT_TYPE, APPLICATION_JSON);
+    verify(mockConnection).setRequestProperty(AUTHORIZATION, TestingCommonConstants.TEST_TOKEN);
+    verify(mockConnection).setRequestProperty(LINKEDIN_VERSION, API_VERSION_2025_04);
+  }
+
+  @Test(expectedExceptions = JsonDeserializationException.class)
+  public void testExecuteGetRequestReturnsEmptyResponse() throws Exception {
+    // Arrange
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[0]);
+
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(inputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    // Act
+    APIResponse<CreateApplicationResponse> response = httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+  }
+
+  @Test
+  public void testExecuteRequestAsyncReturnsSuccessResponse() throws Exception {
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    APIResponse<?> response = (APIResponse<?>) httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET,
+        new HashMap<>(), null, CreateApplicationResponse.class).get();
+
+    assertEquals(ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class), response.getBody());
+  }
+
+  @Test
+  public void testExecuteRequestAsyncCompletesExceptionallyOnErrorResponse() throws Exception {
+    when(mockConnection.getResponseCode()).thenReturn(400);
+    when(mockConnection.getErrorStream()).thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class).get();
+      fail("Expected the future to complete exceptionally");
+    } catch (ExecutionException e) {
+      assertEquals(((LinkedInApiException) e.getCause()).getStatusCode(), 400);
+    }
+  }
+
+  @Test
+  public void testExecuteRequestAsyncSchedulesRetryAfterTransientError() throws Exception {
+    ScheduledExecutorService retryScheduler = spy(new ScheduledThreadPoolExecutor(1));
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .retryConfig(RetryConfig.builder().initialBackoffMillis(50).build())
+        .retryScheduler(retryScheduler)
+        .build()));
+    when(mockConnection.getResponseCode()).thenReturn(503, 200);
+    when(mockConnection.getErrorStream()).thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      APIResponse<?> response = (APIResponse<?>) httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET,
+          new HashMap<>(), null, CreateApplicationResponse.class).get();
+
+      assertEquals(response.getHttpStatusCode(), 200);
+      verify(retryScheduler).schedule(any(Runnable.class), eq(50L), eq(TimeUnit.MILLISECONDS));
+      verify(httpClient, times(2)).createConnection(any(URL.class), eq(HttpMethod.GET));
+    } finally {
+      retryScheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecuteRequestAsyncCompletesExceptionallyWhenRetriesExhausted() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(RetryConfig.builder().maxRetries(2).initialBackoffMillis(10).build()));
+    when(mockConnection.getResponseCode()).thenReturn(500);
+    when(mockConnection.getErrorStream()).thenAnswer(
+        invocation -> new ByteArrayInputStream("Server Error".getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class).get();
+      fail("Expected the future to complete exceptionally");
+    } catch (ExecutionException e) {
+      assertEquals(((LinkedInApiException) e.getCause()).getStatusCode(), 500);
+      verify(httpClient, times(3)).createConnection(any(URL.class), eq(HttpMethod.GET));
+    }
+  }
+
+  @Test
+  public void testExecuteGetRequestPreservesNewlinesInErrorBody() throws Exception {
+    String errorResponse = "{\n  \"message\" : \"Bad Request\"\n}\n";
+    when(mockConnection.getResponseCode()).thenReturn(400);
+    when(mockConnection.getErrorStream()).thenReturn(new ByteArrayInputStream(errorResponse.getBytes(StandardCharsets.UTF_8)));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    try {
+      httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (LinkedInApiException e) {
+      assertEquals(e.getErrorBody(), errorResponse);
+    }
+  }
+
+  @Test
+  public void testExecuteGetRequestReadsResponseToEnd() throws Exception {
+    ByteArrayInputStream inputStream = new ByteArrayInputStream((TEST_RESPONSE + "\n\n").getBytes(StandardCharsets.UTF_8));
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(inputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+
+    assertEquals(inputStream.available(), 0, "Response should be drained so the connection can be reused");
+  }
+
+  @Test
+  public void testExecuteStreamingRequestWritesJsonBodyInChunks() throws Exception {
+    CreateApplicationResponse body = ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    when(mockConnection.getOutputStream()).thenReturn(outputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.POST));
+
+    httpClient.executeStreamingRequest(TEST_URL, HttpMethod.POST, new HashMap<>(), RequestBody.json(body),
+        CreateApplicationResponse.class);
+
+    assertEquals(outputStream.toString(StandardCharsets.UTF_8.name()), ObjectMapperUtil.toJson(body));
+    verify(mockConnection).setChunkedStreamingMode(0);
+    verify(mockConnection, never()).setRequestProperty(eq(CONTENT_LENGTH), anyString());
+  }
+
+  @Test
+  public void testExecutePostRequestCompressesBodyAboveThreshold() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .compressionConfig(CompressionConfig.builder().requestCompressionEnabled(true).build())
+        .build()));
+    StringBuilder requestBody = new StringBuilder();
+    while (requestBody.length() <= 4096) {
+      requestBody.append("<p>Senior Software Engineer</p>");
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    when(mockConnection.getOutputStream()).thenReturn(outputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.POST));
+
+    httpClient.executeRequest(TEST_URL, HttpMethod.POST, new HashMap<>(), requestBody.toString(),
+        CreateApplicationResponse.class);
+
+    verify(mockConnection).setRequestProperty(CONTENT_ENCODING, GZIP);
+    verify(mockConnection).setChunkedStreamingMode(0);
+    assertEquals(gunzip(outputStream.toByteArray()), requestBody.toString());
+    CompressionStats stats = httpClient.getCompressionStats();
+    assertEquals(stats.getRequestsCompressed(), 1);
+    assertEquals(stats.getRequestBytesUncompressed(), requestBody.length());
+    assertEquals(stats.getRequestBytesCompressed(), outputStream.size());
+    assertTrue(stats.getRequestCompressionRatio() > 1);
+  }
+
+  @Test
+  public void testExecuteStreamingRequestSendsSmallBodyUncompressed() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .compressionConfig(CompressionConfig.builder().requestCompressionEnabled(true).build())
+        .build()));
+    Map<String, String> requestBody = Collections.singletonMap("name", "test");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8)));
+    when(mockConnection.getOutputStream()).thenReturn(outputStream);
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.POST));
+
+    httpClient.executeStreamingRequest(TEST_URL, HttpMethod.POST, new HashMap<>(), RequestBody.json(requestBody),
+        CreateApplicationResponse.class);
+
+    String expected = ObjectMapperUtil.toJson(requestBody);
+    assertEquals(outputStream.toString(StandardCharsets.UTF_8.name()), expected);
+    verify(mockConnection).setFixedLengthStreamingMode((long) expected.length());
+    verify(mockConnection, never()).setRequestProperty(eq(CONTENT_ENCODING), anyString());
+    assertEquals(httpClient.getCompressionStats().getRequestsCompressed(), 0);
+  }
+
+  @Test
+  public void testExecuteGetRequestDecompressesGzipResponse() throws Exception {
+    httpClient = spy(new LinkedInHttpClient(HttpClientConfig.builder()
+        .compressionConfig(CompressionConfig.builder().responseCompressionEnabled(true).build())
+        .build()));
+    byte[] compressed = gzip(TEST_RESPONSE);
+    Map<String, List<String>> responseHeaders = new HashMap<>();
+    responseHeaders.put("content-encoding", Collections.singletonList(GZIP));
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getHeaderFields()).thenReturn(responseHeaders);
+    when(mockConnection.getInputStream()).thenReturn(new ByteArrayInputStream(compressed));
+    doReturn(mockConnection).when(httpClient).createConnection(any(URL.class), eq(HttpMethod.GET));
+
+    APIResponse<?> response = httpClient.executeRequest(TEST_URL, HttpMethod.GET, new HashMap<>(), null,
+        CreateApplicationResponse.class);
+
+    assertEquals(response.getBody(), ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class));
+    verify(mockConnection).setRequestProperty(ACCEPT_ENCODING, GZIP);
+    CompressionStats stats = httpClient.getCompressionStats();
+    assertEquals(stats.getResponsesDecompressed(), 1);
+    assertEquals(stats.getResponseBytesCompressed(), compressed.length);
+    assertEquals(stats.getResponseBytesDecompressed(), TEST_RESPONSE.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  private static byte[] gzip(String content) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+    return bytes.toByteArray();
+  }
+
+  private static String gunzip(byte[] content) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+      byte[] buffer = new byte[1024];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        bytes.write(buffer, 0, read);
+      }
+    }
+    return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
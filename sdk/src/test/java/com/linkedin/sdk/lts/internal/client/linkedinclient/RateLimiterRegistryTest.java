@@ -0,0 +1,69 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.RateLimitExceededException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+import static org.testng.Assert.*;
+
+public class RateLimiterRegistryTest {
+
+  private static final String TEST_URL = "https://api.linkedin.com/rest/simpleJobPostings";
+
+  private final AtomicLong now = new AtomicLong();
+  private RateLimiterRegistry registry;
+  private URL url;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    now.set(0);
+    registry = new RateLimiterRegistry(RateLimitConfig.builder()
+        .enabled(true)
+        .permitsPerSecond(ApiFamily.JOB_POSTINGS, 1.0)
+        .mode(RateLimitMode.TRY_ACQUIRE)
+        .build(), now::get);
+    url = new URL(TEST_URL);
+  }
+
+  @Test
+  public void testRequestWithoutClientIdIsNotLimited() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      assertEquals(registry.reserve(url, new HashMap<>()), 0);
+    }
+    assertEquals(registry.size(), 0);
+  }
+
+  @Test
+  public void testReleasedPermitIsGivenToNextRequest() throws Exception {
+    registry.reserve(url, client("client-1"));
+    assertThrows(RateLimitExceededException.class, () -> registry.reserve(url, client("client-1")));
+
+    registry.release(url, client("client-1"));
+
+    assertEquals(registry.reserve(url, client("client-1")), 0);
+  }
+
+  @Test
+  public void testIdleRateLimitersAreEvicted() throws Exception {
+    registry.reserve(url, client("client-1"));
+    registry.reserve(url, client("client-2"));
+    assertEquals(registry.size(), 2);
+
+    now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    registry.reserve(url, client("client-3"));
+
+    // The buckets of the first two clients have refilled, so only the new one is kept
+    assertEquals(registry.size(), 1);
+  }
+
+  private static Map<String, String> client(String clientId) {
+    return Collections.singletonMap(X_EXTERNAL_USER, clientId);
+  }
+}
@@ -0,0 +1,82 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class RateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  public void testBurstIsAllowedThenRefillsAtRate() {
+    RateLimiter rateLimiter = new RateLimiter(2, 1, now::get);
+
+    assertEquals(rateLimiter.reserve(0), 0);
+    assertEquals(rateLimiter.reserve(0), 0);
+    assertEquals(rateLimiter.reserve(0), -1);
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertEquals(rateLimiter.reserve(0), 0);
+    assertEquals(rateLimiter.reserve(0), -1);
+  }
+
+  @Test
+  public void testSavedPermitsAreCappedAtBurst() {
+    RateLimiter rateLimiter = new RateLimiter(1, 2, now::get);
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+    assertEquals(rateLimiter.reserve(0), 0);
+    assertEquals(rateLimiter.reserve(0), 0);
+    assertEquals(rateLimiter.reserve(0), -1);
+  }
+
+  @Test
+  public void testReservationsQueueInOrder() {
+    RateLimiter rateLimiter = new RateLimiter(10, 0, now::get);
+
+    assertEquals(rateLimiter.reserve(Long.MAX_VALUE), 0);
+    assertEquals(rateLimiter.reserve(Long.MAX_VALUE), TimeUnit.MILLISECONDS.toNanos(100));
+    assertEquals(rateLimiter.reserve(Long.MAX_VALUE), TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  public void testReservationBeyondMaxWaitIsRejectedWithoutConsumingPermit() {
+    RateLimiter rateLimiter = new RateLimiter(10, 0, now::get);
+    rateLimiter.reserve(Long.MAX_VALUE);
+
+    assertEquals(rateLimiter.reserve(TimeUnit.MILLISECONDS.toNanos(50)), -1);
+    assertEquals(rateLimiter.reserve(Long.MAX_VALUE), TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  public void testReleasedPermitIsReused() {
+    RateLimiter rateLimiter = new RateLimiter(10, 0, now::get);
+    rateLimiter.reserve(Long.MAX_VALUE);
+    rateLimiter.reserve(Long.MAX_VALUE);
+
+    rateLimiter.release();
+
+    assertEquals(rateLimiter.reserve(Long.MAX_VALUE), TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  public void testLimiterIsIdleOnceRefilled() {
+    RateLimiter rateLimiter = new RateLimiter(10, 1, now::get);
+    assertTrue(rateLimiter.isIdle());
+    rateLimiter.reserve(0);
+    assertFalse(rateLimiter.isIdle());
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+    assertTrue(rateLimiter.isIdle());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNonPositiveRateIsRejected() {
+    new RateLimiter(0, 1, now::get);
+  }
+}
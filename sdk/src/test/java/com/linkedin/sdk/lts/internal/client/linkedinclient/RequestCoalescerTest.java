@@ -0,0 +1,133 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class RequestCoalescerTest {
+
+  private RequestCoalescer<String> coalescer;
+  private ExecutorService executor;
+
+  @BeforeMethod
+  public void setUp() {
+    coalescer = new RequestCoalescer<>();
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testConcurrentIdenticalCallsShareOneCall() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RequestCoalescer.Call<String> call = () -> {
+      calls.incrementAndGet();
+      started.countDown();
+      awaitQuietly(release);
+      return "response";
+    };
+
+    Future<String> leader = executor.submit(() -> coalescer.execute("key", call));
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    Future<String> follower = executor.submit(() -> coalescer.execute("key", call));
+    awaitCoalescedCount(1);
+    release.countDown();
+
+    assertEquals(leader.get(1, TimeUnit.SECONDS), "response");
+    assertEquals(follower.get(1, TimeUnit.SECONDS), "response");
+    assertEquals(calls.get(), 1);
+  }
+
+  @Test
+  public void testFailureIsSharedWithWaitingCallers() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RequestCoalescer.Call<String> call = () -> {
+      started.countDown();
+      awaitQuietly(release);
+      throw new LinkedInApiException(404, new HashMap<>(), "not found");
+    };
+
+    Future<String> leader = executor.submit(() -> coalescer.execute("key", call));
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    Future<String> follower = executor.submit(() -> coalescer.execute("key", call));
+    awaitCoalescedCount(1);
+    release.countDown();
+
+    for (Future<String> future : new Future[] {leader, follower}) {
+      try {
+        future.get(1, TimeUnit.SECONDS);
+        fail("Expected LinkedInApiException to be thrown");
+      } catch (ExecutionException e) {
+        assertEquals(((LinkedInApiException) e.getCause()).getStatusCode(), 404);
+      }
+    }
+  }
+
+  @Test
+  public void testCompletedCallsAreNotCached() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+
+    coalescer.execute("key", () -> "first " + calls.incrementAndGet());
+    String second = coalescer.execute("key", () -> "second " + calls.incrementAndGet());
+
+    assertEquals(second, "second 2");
+    assertEquals(coalescer.getCoalescedCount(), 0);
+  }
+
+  @Test
+  public void testAsyncCallersGetIndependentFutures() throws Exception {
+    CompletableFuture<String> response = new CompletableFuture<>();
+    AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<String> first = coalescer.executeAsync("key", () -> {
+      calls.incrementAndGet();
+      return response;
+    });
+    CompletableFuture<String> second = coalescer.executeAsync("key", () -> {
+      calls.incrementAndGet();
+      return response;
+    });
+    CompletableFuture<String> other = coalescer.executeAsync("other", () -> CompletableFuture.completedFuture("other"));
+    first.cancel(false);
+    response.complete("response");
+
+    assertEquals(second.get(), "response");
+    assertEquals(other.get(), "other");
+    assertEquals(calls.get(), 1);
+    assertEquals(coalescer.getCoalescedCount(), 1);
+  }
+
+  private void awaitCoalescedCount(long expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (coalescer.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertEquals(coalescer.getCoalescedCount(), expected);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.AuthenticationException;
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public class TokenRecoveringHttpClientTest {
+
+  private static final String TEST_URL = "https://api.linkedin.com/rest/simpleJobPostings";
+  private static final String REVOKED_TOKEN = "revoked-token";
+  private static final String NEW_TOKEN = "new-token";
+
+  @Mock
+  private HttpClient<String> delegate;
+  @Mock
+  private TokenRecoveringHttpClient.TokenRefresher tokenRefresher;
+
+  private TokenRecoveringHttpClient<String> httpClient;
+  private final APIResponse<String> response = APIResponse.<String>builder().body("ok").httpStatusCode(200).build();
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this);
+    when(tokenRefresher.refresh(REVOKED_TOKEN)).thenReturn(NEW_TOKEN);
+    when(tokenRefresher.refreshAsync(REVOKED_TOKEN)).thenReturn(CompletableFuture.completedFuture(NEW_TOKEN));
+    httpClient = new TokenRecoveringHttpClient<>(delegate, tokenRefresher);
+  }
+
+  @Test
+  public void testUnauthorizedRequestIsReplayedWithNewToken() throws Exception {
+    doThrow(unauthorized()).when(delegate).executeRequest(eq(TEST_URL), eq(HttpMethod.GET),
+        argThat(headers -> headers.get(AUTHORIZATION).endsWith(REVOKED_TOKEN)), isNull(), any());
+    doReturn(response).when(delegate).executeRequest(eq(TEST_URL), eq(HttpMethod.GET),
+        argThat(headers -> headers.get(AUTHORIZATION).endsWith(NEW_TOKEN)), isNull(), any());
+
+    assertSame(httpClient.executeRequest(TEST_URL, HttpMethod.GET, headers(REVOKED_TOKEN), null, String.class), response);
+    verify(tokenRefresher, times(1)).refresh(REVOKED_TOKEN);
+  }
+
+  @Test
+  public void testStreamingRequestIsReplayedOnce() throws Exception {
+    doThrow(unauthorized()).when(delegate)
+        .executeStreamingRequest(eq(TEST_URL), eq(HttpMethod.POST), anyMap(), any(RequestBody.class), any());
+    RequestBody body = RequestBody.fromString("{}");
+
+    try {
+      httpClient.executeStreamingRequest(TEST_URL, HttpMethod.POST, headers(REVOKED_TOKEN), body, String.class);
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (LinkedInApiException e) {
+      assertEquals(e.getStatusCode(), 401);
+    }
+    verify(delegate, times(2))
+        .executeStreamingRequest(eq(TEST_URL), eq(HttpMethod.POST), anyMap(), eq(body), any());
+  }
+
+  @Test
+  public void testOtherErrorsAndRequestsWithoutTokenAreNotReplayed() throws Exception {
+    doThrow(new LinkedInApiException(403, new HashMap<>(), "forbidden")).when(delegate)
+        .executeRequest(eq(TEST_URL), eq(HttpMethod.GET), anyMap(), isNull(), any());
+    doThrow(unauthorized()).when(delegate)
+        .executeRequest(eq(TEST_URL), eq(HttpMethod.POST), anyMap(), anyString(), any());
+
+    assertThrows(LinkedInApiException.class,
+        () -> httpClient.executeRequest(TEST_URL, HttpMethod.GET, headers(REVOKED_TOKEN), null, String.class));
+    assertThrows(LinkedInApiException.class,
+        () -> httpClient.executeRequest(TEST_URL, HttpMethod.POST, new HashMap<>(), "grant_type", String.class));
+    verifyNoInteractions(tokenRefresher);
+  }
+
+  @Test
+  public void testFailedRefreshRethrowsUnauthorized() throws Exception {
+    when(tokenRefresher.refresh(REVOKED_TOKEN))
+        .thenThrow(new AuthenticationException("Authentication failed with status: 401"));
+    doThrow(unauthorized()).when(delegate).executeRequest(anyString(), any(), anyMap(), any(), any());
+
+    try {
+      httpClient.executeRequest(TEST_URL, HttpMethod.GET, headers(REVOKED_TOKEN), null, String.class);
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (LinkedInApiException e) {
+      assertEquals(e.getStatusCode(), 401);
+      assertTrue(e.getSuppressed()[0] instanceof AuthenticationException);
+    }
+    verify(delegate, times(1)).executeRequest(anyString(), any(), anyMap(), any(), any());
+  }
+
+  @Test
+  public void testUnauthorizedAsyncRequestIsReplayedWithNewToken() throws Exception {
+    CompletableFuture<APIResponse<String>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(unauthorized());
+    doReturn(failed).when(delegate).executeRequestAsync(eq(TEST_URL), eq(HttpMethod.GET),
+        argThat(headers -> headers.get(AUTHORIZATION).endsWith(REVOKED_TOKEN)), isNull(), any());
+    doReturn(CompletableFuture.completedFuture(response)).when(delegate).executeRequestAsync(eq(TEST_URL),
+        eq(HttpMethod.GET), argThat(headers -> headers.get(AUTHORIZATION).endsWith(NEW_TOKEN)), isNull(), any());
+
+    CompletableFuture<String> newToken = new CompletableFuture<>();
+    when(tokenRefresher.refreshAsync(REVOKED_TOKEN)).thenReturn(newToken);
+
+    CompletableFuture<APIResponse<String>> future =
+        httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, headers(REVOKED_TOKEN), null, String.class);
+    // The replay waits for the token request instead of a thread blocking on it
+    assertFalse(future.isDone());
+    newToken.complete(NEW_TOKEN);
+
+    assertSame(future.get(), response);
+    verify(tokenRefresher, times(1)).refreshAsync(REVOKED_TOKEN);
+    verify(tokenRefresher, never()).refresh(anyString());
+  }
+
+  @Test
+  public void testFailedAsyncRefreshCompletesWithUnauthorized() throws Exception {
+    CompletableFuture<APIResponse<String>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(unauthorized());
+    doReturn(failed).when(delegate).executeRequestAsync(anyString(), any(), anyMap(), any(), any());
+    CompletableFuture<String> refreshFailure = new CompletableFuture<>();
+    refreshFailure.completeExceptionally(new AuthenticationException("Authentication failed with status: 401"));
+    when(tokenRefresher.refreshAsync(REVOKED_TOKEN)).thenReturn(refreshFailure);
+
+    try {
+      httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, headers(REVOKED_TOKEN), null, String.class).get();
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (ExecutionException e) {
+      LinkedInApiException cause = (LinkedInApiException) e.getCause();
+      assertEquals(cause.getStatusCode(), 401);
+      assertTrue(cause.getSuppressed()[0] instanceof AuthenticationException);
+    }
+    verify(delegate, times(1)).executeRequestAsync(anyString(), any(), anyMap(), any(), any());
+  }
+
+  @Test
+  public void testAsyncFailureKeepsOriginalException() throws Exception {
+    CompletableFuture<APIResponse<String>> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new LinkedInApiException(500, new HashMap<>(), "error"));
+    doReturn(failed).when(delegate).executeRequestAsync(anyString(), any(), anyMap(), any(), any());
+
+    try {
+      httpClient.executeRequestAsync(TEST_URL, HttpMethod.GET, headers(REVOKED_TOKEN), null, String.class).get();
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (ExecutionException e) {
+      assertEquals(((LinkedInApiException) e.getCause()).getStatusCode(), 500);
+    }
+  }
+
+  private static LinkedInApiException unauthorized() {
+    return new LinkedInApiException(401, new HashMap<>(), "{\"message\":\"Invalid access token\"}");
+  }
+
+  private static Map<String, String> headers(String accessToken) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(AUTHORIZATION, BEARER + SPACE_SEPARATOR + accessToken);
+    return headers;
+  }
+}
@@ -0,0 +1,99 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResponse;
+import com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResult;
+import com.linkedin.sdk.lts.api.model.response.jobpostingstatus.JobPostingStatusResponse;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PBudgetReportResponse;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PProvisionCustomerHiringContractsResponse;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PReportResponseByDate;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PReportResponseByIds;
+import com.linkedin.sdk.lts.api.model.response.provisioning.CreateApplicationResponse;
+import com.linkedin.sdk.lts.api.model.response.provisioning.Credentials;
+import com.linkedin.sdk.lts.api.model.response.provisioning.GetApplicationResponse;
+import com.linkedin.sdk.lts.internal.client.TestingResourceUtility;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class JsonCodecModuleTest {
+
+  private ObjectMapper codecMapper;
+  private ObjectMapper jacksonMapper;
+
+  @BeforeMethod
+  public void setUp() {
+    jacksonMapper = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    codecMapper = jacksonMapper.copy().registerModule(new JsonCodecModule());
+  }
+
+  @Test
+  public void testGeneratedCodecsMatchJacksonForEveryResponse() throws Exception {
+    assertSameAsJackson("JobPostingSuccessResponse.json", JobPostingResponse.class);
+    assertSameAsJackson("MultipleTaskStatusSuccessResponse.json", JobTaskStatusResponse.class);
+    assertSameAsJackson("MultipleJobPostingStatusSuccessResponse.json", JobPostingStatusResponse.class);
+    assertSameAsJackson("P4PJobPerformanceReportsByDateSuccessResponse.json", P4PReportResponseByDate.class);
+    assertSameAsJackson("P4PJobPerformanceReportsByIdsSuccessResponse.json", P4PReportResponseByIds.class);
+    assertSameAsJackson("P4PPartnerBudgetReportResponse.json", P4PBudgetReportResponse.class);
+    assertSameAsJackson("P4PProvisionCustomerHiringContractsSuccessResponse.json",
+        P4PProvisionCustomerHiringContractsResponse.class);
+    assertSameAsJackson("CreateApplicationSuccessResponse.json", CreateApplicationResponse.class);
+    assertSameAsJackson("GetApplicationSuccessResponse.json", GetApplicationResponse.class);
+  }
+
+  @Test
+  public void testAnnotatedModelsUseGeneratedCodecs() throws Exception {
+    JsonSerializer<Object> serializer = codecMapper.getSerializerProviderInstance().findValueSerializer(JobPostingResult.class);
+
+    assertTrue(serializer.getClass().getName().startsWith(
+        "com.linkedin.sdk.lts.api.model.response.jobposting.JobPostingResultJsonCodec"));
+    assertEquals(JsonCodecModule.codecClassName(P4PProvisionCustomerHiringContractsResponse.Value.class),
+        "com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PProvisionCustomerHiringContractsResponse_ValueJsonCodec");
+  }
+
+  @Test
+  public void testModelsWithoutCodecFallBackToJackson() throws Exception {
+    JsonSerializer<Object> serializer = codecMapper.getSerializerProviderInstance().findValueSerializer(JobPosting.class);
+
+    assertTrue(serializer instanceof BeanSerializer);
+  }
+
+  @Test
+  public void testGeneratedCodecHonoursPropertyNamesAndSkipsUnknownProperties() throws Exception {
+    Credentials credentials = codecMapper.readValue(
+        "{\"client_id\":\"id\",\"unknown\":{\"nested\":[1,2]},\"client_secret\":\"secret\"}", Credentials.class);
+
+    assertEquals(credentials.getClientId(), "id");
+    assertEquals(credentials.getClientSecret(), "secret");
+    assertEquals(codecMapper.writeValueAsString(credentials), "{\"client_id\":\"id\",\"client_secret\":\"secret\"}");
+  }
+
+  @Test
+  public void testGeneratedCodecOmitsNullProperties() throws Exception {
+    JobPostingResult result = JobPostingResult.builder().id("123").status(201).build();
+
+    assertEquals(codecMapper.writeValueAsString(result), jacksonMapper.writeValueAsString(result));
+    assertEquals(codecMapper.writeValueAsString(result), "{\"id\":\"123\",\"status\":201}");
+  }
+
+  private <T> void assertSameAsJackson(String resource, Class<T> type) throws Exception {
+    String json = TestingResourceUtility.readJsonFromFile(resource);
+
+    T decoded = codecMapper.readValue(json, type);
+    T expected = jacksonMapper.readValue(json, type);
+
+    assertEquals(decoded, expected, resource);
+    assertEquals(codecMapper.readTree(codecMapper.writeValueAsString(decoded)),
+        jacksonMapper.readTree(jacksonMapper.writeValueAsString(expected)), resource);
+  }
+}
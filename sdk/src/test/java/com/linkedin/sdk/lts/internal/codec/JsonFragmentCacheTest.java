@@ -0,0 +1,99 @@
+package com.linkedin.sdk.lts.internal.codec;
+
+import com.linkedin.sdk.lts.api.model.request.applyconnect.applyConfiguration.OnsiteApplyConfiguration;
+import com.linkedin.sdk.lts.api.model.request.applyconnect.applyConfiguration.SimpleTalentQuestions;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingOperationType;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.common.Date;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import java.util.Arrays;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class JsonFragmentCacheTest {
+
+  private static final String WEBHOOK_URL = "https://ats.example.com/applications";
+
+  @AfterMethod
+  public void tearDown() {
+    JsonFragmentCache.clear();
+  }
+
+  @Test
+  public void testRegisteredTemplateIsWrittenAsBefore() throws Exception {
+    OnsiteApplyConfiguration template = createTemplate();
+    JobPostingRequest request = createRequest(template, template);
+    String expected = ObjectMapperUtil.toJson(request);
+
+    JsonFragmentCache.register(template);
+
+    assertEquals(ObjectMapperUtil.toJson(request), expected);
+    assertEquals(JsonFragmentCache.size(), 1);
+  }
+
+  @Test
+  public void testRegisteredTemplateIsSplicedInsteadOfSerialized() throws Exception {
+    OnsiteApplyConfiguration template = JsonFragmentCache.register(createTemplate());
+
+    template.setJobApplicationWebhookUrl("https://ats.example.com/changed");
+
+    assertTrue(ObjectMapperUtil.toJson(createRequest(template)).contains(WEBHOOK_URL),
+        "The JSON registered with the template is reused");
+    JsonFragmentCache.register(template);
+    assertTrue(ObjectMapperUtil.toJson(createRequest(template)).contains("https://ats.example.com/changed"),
+        "Registering the template again refreshes its JSON");
+  }
+
+  @Test
+  public void testTemplatesAreMatchedByReference() throws Exception {
+    OnsiteApplyConfiguration template = JsonFragmentCache.register(createTemplate());
+    OnsiteApplyConfiguration copy = createTemplate();
+    copy.setJobApplicationWebhookUrl("https://ats.example.com/copy");
+
+    String json = ObjectMapperUtil.toJson(createRequest(template, copy));
+
+    assertTrue(json.contains(WEBHOOK_URL));
+    assertTrue(json.contains("https://ats.example.com/copy"));
+  }
+
+  @Test
+  public void testUnregisteredTemplateIsSerializedAgain() throws Exception {
+    OnsiteApplyConfiguration template = JsonFragmentCache.register(createTemplate());
+    template.setJobApplicationWebhookUrl("https://ats.example.com/changed");
+
+    JsonFragmentCache.unregister(template);
+
+    assertTrue(ObjectMapperUtil.toJson(createRequest(template)).contains("https://ats.example.com/changed"));
+    assertEquals(JsonFragmentCache.size(), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testTypesWithoutJsonFragmentCannotBeRegistered() throws Exception {
+    JsonFragmentCache.register(Date.builder().day(1).month(1).year(2025).build());
+  }
+
+  private static OnsiteApplyConfiguration createTemplate() {
+    return OnsiteApplyConfiguration.builder()
+        .jobApplicationWebhookUrl(WEBHOOK_URL)
+        .questions(SimpleTalentQuestions.builder().build())
+        .build();
+  }
+
+  private static JobPostingRequest createRequest(OnsiteApplyConfiguration... configurations) {
+    JobPosting[] jobPostings = new JobPosting[configurations.length];
+    for (int i = 0; i < configurations.length; i++) {
+      jobPostings[i] = JobPosting.builder()
+          .externalJobPostingId("job-" + i)
+          .jobPostingOperationType(JobPostingOperationType.CREATE)
+          .title("Software Engineer")
+          .description("Job description")
+          .onsiteApplyConfiguration(configurations[i])
+          .build();
+    }
+    return JobPostingRequest.builder().elements(Arrays.asList(jobPostings)).build();
+  }
+}
@@ -0,0 +1,103 @@
+package com.linkedin.sdk.lts.internal.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPosting;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingOperationType;
+import com.linkedin.sdk.lts.api.model.request.jobposting.JobPostingRequest;
+import com.linkedin.sdk.lts.api.model.response.jobpostingstatus.JobPostingStatusResponse;
+import com.linkedin.sdk.lts.api.model.response.jobtaskstatus.JobTaskStatusResponse;
+import com.linkedin.sdk.lts.api.model.response.p4pjobposting.P4PReportResponseByDate;
+import com.linkedin.sdk.lts.internal.client.TestingResourceUtility;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the cost of one serialization or deserialization of the request and response models
+ * through {@link ObjectMapper#readValue} and {@link ObjectMapper#writeValueAsString}, as every call
+ * used to, next to the readers and writers cached by {@link ObjectMapperUtil}. Not run as part of
+ * the test suite, run its main method from the test classpath:
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.linkedin.sdk.lts.internal.util.ObjectMapperBenchmark
+ * </pre>
+ */
+public class ObjectMapperBenchmark {
+
+  private static final long WARMUP_MILLIS = 1000;
+  private static final long MEASUREMENT_MILLIS = 2000;
+  private static final int JOB_POSTINGS_PER_REQUEST = 50;
+
+  /**
+   * One serialization or deserialization being measured.
+   */
+  private interface Operation {
+    Object run() throws Exception;
+  }
+
+  public static void main(String[] args) throws Exception {
+    ObjectMapper mapper = ObjectMapperUtil.getObjectMapper();
+    String taskStatusJson = TestingResourceUtility.readJsonFromFile("MultipleTaskStatusSuccessResponse.json");
+    String jobPostingStatusJson = TestingResourceUtility.readJsonFromFile("MultipleJobPostingStatusSuccessResponse.json");
+    String reportJson = TestingResourceUtility.readJsonFromFile("P4PJobPerformanceReportsByDateSuccessResponse.json");
+    JobPostingRequest request = createJobPostingRequest();
+
+    System.out.printf("%-28s %18s %18s%n", "model", "mapper ns/op", "cached ns/op");
+    compare("JobTaskStatusResponse",
+        () -> mapper.readValue(taskStatusJson, JobTaskStatusResponse.class),
+        () -> ObjectMapperUtil.fromJson(taskStatusJson, JobTaskStatusResponse.class));
+    compare("JobPostingStatusResponse",
+        () -> mapper.readValue(jobPostingStatusJson, JobPostingStatusResponse.class),
+        () -> ObjectMapperUtil.fromJson(jobPostingStatusJson, JobPostingStatusResponse.class));
+    compare("P4PReportResponseByDate",
+        () -> mapper.readValue(reportJson, P4PReportResponseByDate.class),
+        () -> ObjectMapperUtil.fromJson(reportJson, P4PReportResponseByDate.class));
+    compare("JobPostingRequest",
+        () -> mapper.writeValueAsString(request),
+        () -> ObjectMapperUtil.toJson(request));
+  }
+
+  private static void compare(String model, Operation mapper, Operation cached) throws Exception {
+    run(mapper, WARMUP_MILLIS);
+    run(cached, WARMUP_MILLIS);
+    System.out.printf("%-28s %,18d %,18d%n", model, run(mapper, MEASUREMENT_MILLIS), run(cached, MEASUREMENT_MILLIS));
+  }
+
+  /**
+   * @return the average time of one operation in nanoseconds
+   */
+  private static long run(Operation operation, long durationMillis) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+    long start = System.nanoTime();
+    long count = 0;
+    Object sink = null;
+    while (System.nanoTime() < deadline) {
+      for (int i = 0; i < 100; i++) {
+        sink = operation.run();
+      }
+      count += 100;
+    }
+    if (sink == null) {
+      throw new IllegalStateException("Nothing was produced");
+    }
+    return (System.nanoTime() - start) / count;
+  }
+
+  private static JobPostingRequest createJobPostingRequest() {
+    List<JobPosting> jobPostings = new ArrayList<>();
+    for (int i = 0; i < JOB_POSTINGS_PER_REQUEST; i++) {
+      JobPosting jobPosting = JobPosting.builder()
+          .externalJobPostingId("benchmark-job-" + i)
+          .jobPostingOperationType(JobPostingOperationType.CREATE)
+          .title("Software Engineer")
+          .description("Designs, builds and operates the services behind the product.")
+          .build();
+      jobPosting.setCompanyId("12345");
+      jobPostings.add(jobPosting);
+    }
+    return JobPostingRequest.builder().elements(jobPostings).build();
+  }
+}
@@ -0,0 +1,71 @@
+package com.linkedin.sdk.lts.internal.util;
+
+import com.linkedin.sdk.lts.internal.auth.TokenInfo;
+import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
+import com.linkedin.sdk.lts.api.exception.JsonSerializationException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+public class ObjectMapperUtilTest {
+
+    @Test
+    public void testToJsonValidObjectShouldReturnJsonString() throws JsonSerializationException {
+      TokenInfo tokenInfo = new TokenInfo("abc123", new Long(3600));
+      String json = ObjectMapperUtil.toJson(tokenInfo);
+      assertNotNull(json);
+      assertTrue(json.contains("abc123"));
+      assertTrue(json.contains("expires_in"));
+    }
+
+    @Test
+    public void testFromJsonWithValidJsonShouldReturnsObject() throws JsonDeserializationException {
+      String json = "{\"access_token\":\"xyz789\",\"expires_in\":1800}";
+      TokenInfo tokenInfo = ObjectMapperUtil.fromJson(json, TokenInfo.class);
+      assertNotNull(tokenInfo);
+      assertEquals("xyz789", tokenInfo.getAccessToken());
+      assertEquals(new Long(1800), tokenInfo.getExpiresIn());
+    }
+
+    @Test(expectedExceptions = JsonDeserializationException.class)
+    public void testFromJsonWithInvalidJsonShouldThrowsException() throws JsonDeserializationException {
+      String invalidJson = "{access_token:}";
+      ObjectMapperUtil.fromJson(invalidJson, TokenInfo.class);
+    }
+
+    @Test
+    public void testFromJsonWithStreamShouldReturnObjectAndLeaveStreamOpen() throws IOException, JsonDeserializationException {
+      String json = "{\n  \"access_token\" : \"xyz789\",\n  \"expires_in\" : 1800\n}";
+      boolean[] closed = new boolean[1];
+      ByteArrayInputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+        @Override
+        public void close() {
+          closed[0] = true;
+        }
+      };
+
+      TokenInfo tokenInfo = ObjectMapperUtil.fromJson(stream, TokenInfo.class);
+
+      assertEquals("xyz789", tokenInfo.getAccessToken());
+      assertFalse(closed[0], "The caller owns the stream");
+    }
+
+    @Test
+    public void testWarmUpShouldPrebuildReusedReadersAndWriters() throws JsonSerializationException {
+      ObjectMapperUtil.warmUp(Collections.singletonList(TokenInfo.class), Collections.singletonList(TokenInfo.class));
+
+      ObjectReader reader = ObjectMapperUtil.readerFor(TokenInfo.class);
+      ObjectWriter writer = ObjectMapperUtil.writerFor(TokenInfo.class);
+      ObjectMapperUtil.toJson(new TokenInfo("abc123", 3600L));
+
+      assertSame(ObjectMapperUtil.readerFor(TokenInfo.class), reader);
+      assertSame(ObjectMapperUtil.writerFor(TokenInfo.class), writer);
+    }
+}
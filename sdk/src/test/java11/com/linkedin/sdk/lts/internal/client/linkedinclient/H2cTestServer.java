@@ -0,0 +1,179 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Minimal cleartext HTTP/2 server for tests. Connections are upgraded from HTTP/1.1 with
+ * {@code Upgrade: h2c}, as the JDK client does for {@code http} URLs, and every request is
+ * answered with status 200 and the same body. Request headers are not decoded.
+ *
+ * <p>Responses can be held back until a number of requests are in flight on a connection, which
+ * only succeeds if the client multiplexes them as streams of that connection.</p>
+ */
+class H2cTestServer implements Closeable {
+
+  private static final byte[] CLIENT_PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+  private static final int DATA = 0x0;
+  private static final int HEADERS = 0x1;
+  private static final int SETTINGS = 0x4;
+  private static final int PING = 0x6;
+  private static final int GOAWAY = 0x7;
+  private static final int FLAG_END_STREAM = 0x1;
+  private static final int FLAG_ACK = 0x1;
+  private static final int FLAG_END_HEADERS = 0x4;
+  /** HPACK indexed field 8 of the static table, {@code :status: 200}. */
+  private static final byte STATUS_200 = (byte) 0x88;
+
+  private final ServerSocket serverSocket;
+  private final byte[] responseBody;
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicInteger maxConcurrentStreams = new AtomicInteger();
+  private volatile int holdResponsesUntil = 1;
+
+  H2cTestServer(String responseBody) throws IOException {
+    this.responseBody = responseBody.getBytes(StandardCharsets.UTF_8);
+    this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::accept, "h2c-test-server");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * @return the number of connections accepted
+   */
+  int getConnectionCount() {
+    return connections.get();
+  }
+
+  /**
+   * @return the largest number of requests in flight at the same time on one connection
+   */
+  int getMaxConcurrentStreams() {
+    return maxConcurrentStreams.get();
+  }
+
+  /**
+   * Holds the responses of a connection back until the given number of requests are waiting.
+   */
+  void holdResponsesUntil(int requests) {
+    holdResponsesUntil = requests;
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+  }
+
+  private void accept() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        connections.incrementAndGet();
+        Thread connection = new Thread(() -> serve(socket), "h2c-test-connection");
+        connection.setDaemon(true);
+        connection.start();
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (Socket s = socket) {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+      OutputStream out = s.getOutputStream();
+      String upgradeRequest = readHttp1Head(in);
+      if (!upgradeRequest.toLowerCase().contains("upgrade: h2c")) {
+        throw new IOException("Expected an h2c upgrade request: " + upgradeRequest);
+      }
+      out.write(("HTTP/1.1 101 Switching Protocols\r\nConnection: Upgrade\r\nUpgrade: h2c\r\n\r\n")
+          .getBytes(StandardCharsets.US_ASCII));
+      writeFrame(out, SETTINGS, 0, 0, new byte[0]);
+
+      byte[] preface = new byte[CLIENT_PREFACE.length];
+      in.readFully(preface);
+      // The upgrade request is stream 1, already half-closed by the client
+      List<Integer> pending = new ArrayList<>();
+      pending.add(1);
+      respondIfEnough(out, pending);
+
+      while (true) {
+        int length = (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+        int type = in.readUnsignedByte();
+        int flags = in.readUnsignedByte();
+        int streamId = in.readInt() & 0x7fffffff;
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+
+        if (type == SETTINGS && (flags & FLAG_ACK) == 0) {
+          writeFrame(out, SETTINGS, FLAG_ACK, 0, new byte[0]);
+        } else if (type == PING && (flags & FLAG_ACK) == 0) {
+          writeFrame(out, PING, FLAG_ACK, 0, payload);
+        } else if (type == GOAWAY) {
+          return;
+        } else if ((type == HEADERS || type == DATA) && (flags & FLAG_END_STREAM) != 0) {
+          pending.add(streamId);
+          respondIfEnough(out, pending);
+        }
+      }
+    } catch (IOException e) {
+      // The client or the test closed the connection
+    }
+  }
+
+  private void respondIfEnough(OutputStream out, List<Integer> pending) throws IOException {
+    maxConcurrentStreams.accumulateAndGet(pending.size(), Math::max);
+    if (pending.size() < holdResponsesUntil) {
+      return;
+    }
+    for (int streamId : pending) {
+      writeFrame(out, HEADERS, FLAG_END_HEADERS, streamId, new byte[]{STATUS_200});
+      writeFrame(out, DATA, FLAG_END_STREAM, streamId, responseBody);
+    }
+    out.flush();
+    pending.clear();
+  }
+
+  private static String readHttp1Head(InputStream in) throws IOException {
+    ByteArrayOutputStream head = new ByteArrayOutputStream();
+    int matched = 0;
+    while (matched < 4) {
+      int b = in.read();
+      if (b == -1) {
+        throw new IOException("Connection closed before the request head");
+      }
+      head.write(b);
+      matched = (b == '\r' && matched % 2 == 0) || (b == '\n' && matched % 2 == 1) ? matched + 1 : 0;
+    }
+    return new String(head.toByteArray(), StandardCharsets.US_ASCII);
+  }
+
+  private static void writeFrame(OutputStream out, int type, int flags, int streamId, byte[] payload)
+      throws IOException {
+    byte[] header = new byte[]{
+        (byte) (payload.length >>> 16), (byte) (payload.length >>> 8), (byte) payload.length,
+        (byte) type, (byte) flags,
+        (byte) (streamId >>> 24), (byte) (streamId >>> 16), (byte) (streamId >>> 8), (byte) streamId};
+    out.write(header);
+    out.write(payload);
+    out.flush();
+  }
+}
@@ -0,0 +1,188 @@
+package com.linkedin.sdk.lts.internal.client.linkedinclient;
+
+import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
+import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
+import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
+import com.linkedin.sdk.lts.api.model.response.provisioning.CreateApplicationResponse;
+import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.sdk.lts.internal.client.TestingResourceUtility.*;
+import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
+import static org.testng.Assert.*;
+
+public class Http2LinkedInHttpClientTest {
+
+  private static final String TEST_RESPONSE = readJsonFromFile("CreateApplicationSuccessResponse.json");
+
+  private HttpServer server;
+  private String baseUrl;
+  private final Map<String, String> receivedBodies = new ConcurrentHashMap<>();
+  private final Map<String, String> receivedAppHeaders = new ConcurrentHashMap<>();
+  private Http2LinkedInHttpClient<CreateApplicationResponse> httpClient;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/ok", exchange -> {
+      receivedBodies.put(exchange.getRequestURI().toString(),
+          new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+      receivedAppHeaders.put(exchange.getRequestURI().toString(), exchange.getRequestHeaders().getFirst(X_EXTERNAL_APP));
+      respond(exchange, 200, TEST_RESPONSE);
+    });
+    server.createContext("/gzip", exchange -> {
+      receivedBodies.put(exchange.getRequestURI().toString(), new String(
+          new GZIPInputStream(exchange.getRequestBody()).readAllBytes(), StandardCharsets.UTF_8));
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+        gzip.write(TEST_RESPONSE.getBytes(StandardCharsets.UTF_8));
+      }
+      exchange.getResponseHeaders().set(CONTENT_ENCODING, GZIP);
+      exchange.sendResponseHeaders(200, compressed.size());
+      try (OutputStream os = exchange.getResponseBody()) {
+        compressed.writeTo(os);
+      }
+    });
+    server.createContext("/bad", exchange -> respond(exchange, 400, "{\"message\":\"Bad Request\"}"));
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+    httpClient = new Http2LinkedInHttpClient<>(HttpClientConfig.builder()
+        .transport(HttpTransport.HTTP_2)
+        .retryConfig(RetryConfig.builder().maxRetries(0).build())
+        .build());
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testConcurrentRequestsShouldAllSucceed() throws Exception {
+    List<CompletableFuture<APIResponse<CreateApplicationResponse>>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(httpClient.executeRequestAsync(baseUrl + "/ok?id=" + i, HttpMethod.GET, new HashMap<>(), null,
+          CreateApplicationResponse.class));
+    }
+
+    CreateApplicationResponse expected = ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class);
+    for (CompletableFuture<APIResponse<CreateApplicationResponse>> future : futures) {
+      APIResponse<CreateApplicationResponse> response = future.get();
+      assertEquals(response.getHttpStatusCode(), 200);
+      assertEquals(response.getBody(), expected);
+    }
+    assertEquals(receivedAppHeaders.get("/ok?id=0"), SDK_USER_NAME);
+    // Requests bypass the keep-alive pool of the HTTP/1.1 transport
+    assertEquals(httpClient.getConnectionPoolStats().getTotalLeases(), 0);
+  }
+
+  @Test
+  public void testConcurrentAsyncRequestsShouldShareOneConnectionWithoutExecutorThreads() throws Exception {
+    AtomicInteger executorTasks = new AtomicInteger();
+    Http2LinkedInHttpClient<CreateApplicationResponse> asyncClient = new Http2LinkedInHttpClient<>(
+        HttpClientConfig.builder()
+            .transport(HttpTransport.HTTP_2)
+            .retryConfig(RetryConfig.builder().maxRetries(0).build())
+            .asyncExecutor(command -> {
+              executorTasks.incrementAndGet();
+              command.run();
+            })
+            .build());
+
+    try (H2cTestServer h2cServer = new H2cTestServer(TEST_RESPONSE)) {
+      String url = "http://localhost:" + h2cServer.getPort() + "/ok?id=";
+      // The first request upgrades the connection to HTTP/2
+      asyncClient.executeRequestAsync(url + "upgrade", HttpMethod.GET, new HashMap<>(), null,
+          CreateApplicationResponse.class).get(10, TimeUnit.SECONDS);
+
+      // Answered only once all 10 requests are open as streams of the same connection
+      h2cServer.holdResponsesUntil(10);
+      List<CompletableFuture<APIResponse<CreateApplicationResponse>>> futures = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        futures.add(asyncClient.executeRequestAsync(url + i, HttpMethod.GET, new HashMap<>(), null,
+            CreateApplicationResponse.class));
+      }
+
+      CreateApplicationResponse expected = ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class);
+      for (CompletableFuture<APIResponse<CreateApplicationResponse>> future : futures) {
+        APIResponse<CreateApplicationResponse> response = future.get(10, TimeUnit.SECONDS);
+        assertEquals(response.getHttpStatusCode(), 200);
+        assertEquals(response.getBody(), expected);
+      }
+      assertEquals(h2cServer.getConnectionCount(), 1);
+      assertEquals(h2cServer.getMaxConcurrentStreams(), 10);
+      assertEquals(executorTasks.get(), 0);
+    }
+  }
+
+  @Test
+  public void testPostRequestShouldSendBody() throws Exception {
+    String body = "{\"name\":\"test\"}";
+    Map<String, String> headers = new HashMap<>();
+    headers.put(CONTENT_TYPE, APPLICATION_JSON);
+
+    httpClient.executeRequest(baseUrl + "/ok", HttpMethod.POST, headers, body, null);
+
+    assertEquals(receivedBodies.get("/ok"), body);
+  }
+
+  @Test
+  public void testErrorResponseShouldThrowLinkedInApiException() throws Exception {
+    try {
+      httpClient.executeRequest(baseUrl + "/bad", HttpMethod.GET, new HashMap<>(), null, CreateApplicationResponse.class);
+      fail("Expected LinkedInApiException to be thrown");
+    } catch (LinkedInApiException e) {
+      assertEquals(e.getStatusCode(), 400);
+    }
+  }
+
+  @Test
+  public void testCompressedRequestAndResponseShouldRoundTrip() throws Exception {
+    Http2LinkedInHttpClient<CreateApplicationResponse> compressingClient = new Http2LinkedInHttpClient<>(
+        HttpClientConfig.builder()
+            .transport(HttpTransport.HTTP_2)
+            .compressionConfig(CompressionConfig.builder()
+                .requestCompressionEnabled(true)
+                .requestCompressionThresholdBytes(16)
+                .responseCompressionEnabled(true)
+                .build())
+            .build());
+    String body = "{\"description\":\"" + "Senior Software Engineer ".repeat(20) + "\"}";
+
+    APIResponse<CreateApplicationResponse> response = compressingClient.executeRequest(baseUrl + "/gzip",
+        HttpMethod.POST, new HashMap<>(), body, CreateApplicationResponse.class);
+
+    assertEquals(receivedBodies.get("/gzip"), body);
+    assertEquals(response.getBody(), ObjectMapperUtil.fromJson(TEST_RESPONSE, CreateApplicationResponse.class));
+    CompressionStats stats = compressingClient.getCompressionStats();
+    assertEquals(stats.getRequestsCompressed(), 1);
+    assertEquals(stats.getResponsesDecompressed(), 1);
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+}
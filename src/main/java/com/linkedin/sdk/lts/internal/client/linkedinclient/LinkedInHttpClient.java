@@ -1,227 +0,0 @@
-package com.linkedin.sdk.lts.internal.client.linkedinclient;
-
-import com.linkedin.sdk.lts.api.exception.JsonDeserializationException;
-import com.linkedin.sdk.lts.api.exception.LinkedInApiException;
-import com.linkedin.sdk.lts.api.exception.TransientLinkedInApiException;
-import com.linkedin.sdk.lts.api.model.response.common.APIResponse;
-import com.linkedin.sdk.lts.api.model.response.common.HttpMethod;
-import com.linkedin.sdk.lts.api.model.response.common.HttpStatusCategory;
-
-import com.linkedin.sdk.lts.internal.util.LogRedactor;
-import com.linkedin.sdk.lts.internal.util.ObjectMapperUtil;
-import java.net.URLEncoder;
-import java.util.HashMap;
-import java.util.List;
-import javax.net.ssl.HttpsURLConnection;
-import java.io.*;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.logging.Logger;
-import lombok.NonNull;
-
-import static com.linkedin.sdk.lts.internal.constants.HttpConstants.*;
-
-/**
- * LinkedInHttpClient is an implementation of HttpClient that handles HTTP requests
- * to LinkedIn's API endpoints. It supports various HTTP methods and manages headers,
- * request bodies, and response handling.
- */
-public class LinkedInHttpClient<T> implements HttpClient<T> {
-  private static final Logger LOGGER = Logger.getLogger(LinkedInHttpClient.class.getName());
-  private static final int DEFAULT_CONNECT_TIMEOUT = 30000;
-  private static final int DEFAULT_READ_TIMEOUT = 30000;
-
-  private final RetryConfig retryConfig;
-
-  public LinkedInHttpClient(RetryConfig retryConfig) {
-    this.retryConfig = retryConfig;
-  }
-
-  /**
-   * Executes an HTTP request to the specified URL using the given method, headers, and body.
-   *
-   * @param url     the URL to send the request to
-   * @param method  the HTTP method to use (e.g., GET, POST)
-   * @param headers the HTTP headers to include in the request
-   * @param body    the request body (optional, can be null for GET requests)
-   * @param responseType the class type to deserialize the response body into
-   * @return the response body as a string
-   * @throws IOException           if an I/O error occurs during the request
-   * @throws LinkedInApiException if the API returns an error response
-   * @throws JsonDeserializationException if there is an error deserializing the response
-   */
-  @Override
-  public APIResponse<T> executeRequest(@NonNull String url, @NonNull HttpMethod method,
-      Map<String, String> headers, String body, Class<T> responseType)
-      throws IOException, LinkedInApiException, JsonDeserializationException {
-    long backoff = retryConfig.getInitialBackoffMillis();
-    LinkedInApiException lastException = null;
-
-    for (int attempt = 0; attempt <= retryConfig.getMaxRetries(); attempt++) {
-      try {
-        return executeWithErrorHandling(url, method, headers, body, responseType);
-      } catch (TransientLinkedInApiException e) {
-        lastException = e;
-
-        // If this was our last attempt, don't sleep
-        if (attempt == retryConfig.getMaxRetries()) {
-          LOGGER.severe(String.format("Max retries reached (%d). Last error: %s",
-              retryConfig.getMaxRetries(), e.getMessage()));
-          throw e;
-        }
-
-        try {
-          LOGGER.warning(String.format("Transient error occurred (attempt %d/%d). Retrying in %d ms. Error: %s",
-              attempt + 1, retryConfig.getMaxRetries(), backoff, e.getMessage()));
-          Thread.sleep(backoff);
-        } catch (InterruptedException ie) {
-          Thread.currentThread().interrupt();
-          throw e;
-        }
-
-        backoff = Math.min(
-            (long) (backoff * retryConfig.getBackoffMultiplier()),
-            retryConfig.getMaxBackoffMillis()
-        );
-      }
-    }
-
-    // This should never happen due to the throw in the loop, but adding for completeness
-    throw lastException;
-  }
-
-  /**
-   * @param url     the URL to send the request to
-   * @param method  the HTTP method to use (e.g., GET, POST)
-   * @param headers the HTTP headers to include in the request
-   * @param body    the request body (optional, can be null for GET requests)
-   * @param responseType the class type to deserialize the response body into
-   * @return the response body as a string
-   * @throws IOException           if an I/O error occurs during the request
-   * @throws LinkedInApiException if the API returns an error response
-   * @throws TransientLinkedInApiException if a transient error occurs
-   * @throws JsonDeserializationException if there is an error deserializing the response
-   */
-  private APIResponse<T> executeWithErrorHandling(@NonNull String url, @NonNull HttpMethod method,
-      Map<String, String> headers, String body, Class<T> responseType)
-      throws LinkedInApiException, JsonDeserializationException {
-    try {
-      LOGGER.info(LogRedactor.redact(String.format("Sending %s request to %s with body %s", method, url, body)));
-
-      HttpsURLConnection connection = createConnection(new URL(url), method);
-      setHeaders(connection, headers);
-
-      if (body != null && !(method.equals(HttpMethod.GET) || method.equals(HttpMethod.DELETE))) {
-        writeRequestBody(connection, body);
-      }
-
-      return getResponseBody(connection, responseType);
-    } catch (IOException e) {
-      throw new TransientLinkedInApiException(500, new HashMap<>(), e.getMessage());
-    }
-  }
-
-  /**
-   * Creates an HttpsURLConnection for the specified URL and HTTP method.
-   *
-   * @param url    the URL to connect to
-   * @param method the HTTP method to use
-   * @return a configured HttpsURLConnection instance
-   * @throws IOException if an I/O error occurs while opening the connection
-   */
-  protected HttpsURLConnection createConnection(URL url, HttpMethod method) throws IOException {
-    HttpsURLConnection connection = (HttpsURLConnection) url.openConnection();
-    connection.setRequestMethod(method.getValue());
-    connection.setConnectTimeout(DEFAULT_CONNECT_TIMEOUT);
-    connection.setReadTimeout(DEFAULT_READ_TIMEOUT);
-    connection.setDoInput(true);
-    connection.setDoOutput(!method.equals(HttpMethod.GET));
-    connection.setInstanceFollowRedirects(false);
-    return connection;
-  }
-
-  /**
-   * Sets the HTTP headers for the connection.
-   *
-   * @param connection the HttpsURLConnection to set headers on
-   * @param headers    a map of header names and values
-   */
-  private void setHeaders(HttpsURLConnection connection, Map<String, String> headers) {
-    connection.setRequestProperty(X_EXTERNAL_APP, SDK_USER_NAME);
-    if (headers != null) {
-      headers.forEach(connection::setRequestProperty);
-    }
-  }
-
-  /**
-   * Writes the request body to the connection's output stream.
-   *
-   * @param connection the HttpsURLConnection to write the body to
-   * @param body       the request body as a string
-   * @throws IOException if an I/O error occurs while writing the body
-   */
-  private void writeRequestBody(HttpsURLConnection connection, String body) throws IOException {
-    byte[] requestBodyBytes = body.getBytes(StandardCharsets.UTF_8);
-    connection.setRequestProperty(CONTENT_LENGTH, String.valueOf(requestBodyBytes.length));
-
-    try (OutputStream os = connection.getOutputStream()) {
-      os.write(requestBodyBytes);
-      os.flush();
-    }
-  }
-
-  /**
-   * Reads the response body from the connection and handles errors if the response code indicates failure.
-   *
-   * @param connection the HttpsURLConnection to read the response from
-   * @param responseType the class type to deserialize the response body into
-   * @return the response body as a string
-   * @throws IOException           if an I/O error occurs while reading the response
-   * @throws LinkedInApiException if the API returns an error response
-   * @throws JsonDeserializationException if there is an error deserializing the response
-   */
-  private APIResponse<T> getResponseBody(HttpsURLConnection connection, Class<T> responseType)
-      throws IOException, LinkedInApiException, JsonDeserializationException {
-    int responseCode = connection.getResponseCode();
-    InputStream inputStream = HttpStatusCategory.SUCCESS.matches(responseCode)
-        ? connection.getInputStream()
-        : connection.getErrorStream();
-
-    String response = readStream(inputStream);
-    Map<String, List<String>> headers = connection.getHeaderFields();
-    LOGGER.info(LogRedactor.redact(String.format("Response headers: %s, \n Response body: %s", headers, response)));
-
-    if (LinkedInApiException.isTransient(responseCode)) {
-      String errorMessage = "HTTP error " + responseCode;
-      LOGGER.severe(errorMessage);
-      throw new TransientLinkedInApiException(responseCode, headers, response);
-    } else if(!HttpStatusCategory.SUCCESS.matches(responseCode)) {
-      String errorMessage = "HTTP error " + responseCode + ": " + response;
-      LOGGER.severe(errorMessage);
-      throw new LinkedInApiException(responseCode, headers, response);
-    }
-
-    return APIResponse.<T>builder()
-        .body(responseType != null ? ObjectMapperUtil.fromJson(response, responseType) : null)
-        .httpStatusCode(responseCode)
-        .httpStatusCategory(HttpStatusCategory.fromCode(responseCode))
-        .responseHeaders(headers)
-        .build();
-  }
-
-  /**
-   * Reads the content of an InputStream and returns it as a String.
-   *
-   * @param inputStream the InputStream to read from
-   * @return the content of the InputStream as a String
-   * @throws IOException if an I/O error occurs while reading the stream
-   */
-  private String readStream(InputStream inputStream) throws IOException {
-    if (inputStream == null) return "";
-
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-      return reader.lines().collect(java.util.stream.Collectors.joining());
-    }
-  }
-}
\ No newline at end of file